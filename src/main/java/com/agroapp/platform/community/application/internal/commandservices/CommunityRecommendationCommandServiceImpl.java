@@ -4,8 +4,11 @@ import com.agroapp.platform.community.application.internal.outboundservices.acl.
 import com.agroapp.platform.community.domain.model.aggregates.CommunityRecommendation;
 import com.agroapp.platform.community.domain.model.commands.CreateCommunityRecommendationCommand;
 import com.agroapp.platform.community.domain.model.commands.UpdateCommunityRecommendationCommand;
+import com.agroapp.platform.community.domain.model.events.CommunityRecommendationSavedEvent;
+import com.agroapp.platform.community.domain.model.valueobjects.RegionKey;
 import com.agroapp.platform.community.domain.services.CommunityRecommendationCommandService;
 import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -20,17 +23,21 @@ public class CommunityRecommendationCommandServiceImpl implements CommunityRecom
 
     private final CommunityRecommendationRepository communityRecommendationRepository;
     private final ExternalUserService externalUserService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CommunityRecommendationCommandServiceImpl(
             CommunityRecommendationRepository communityRecommendationRepository,
-            ExternalUserService externalUserService) {
+            ExternalUserService externalUserService,
+            ApplicationEventPublisher eventPublisher) {
         this.communityRecommendationRepository = communityRecommendationRepository;
         this.externalUserService = externalUserService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * Creates a new CommunityRecommendation.
-     * userName is obtained from the IAM context via ACL using the provided userId.
+     * userName is obtained from the IAM context via ACL using the provided userId, and so is the region,
+     * unless the user keeps their location private.
      * id and commentDate are auto-generated.
      *
      * @param command CreateCommunityRecommendationCommand with userId and comment
@@ -52,13 +59,21 @@ public class CommunityRecommendationCommandServiceImpl implements CommunityRecom
             throw new RuntimeException("User with ID " + command.userId() + " not found");
         }
 
+        RegionKey region = externalUserService.getPublicLocationById(command.userId())
+                .flatMap(RegionKey::fromLocation)
+                .orElse(null);
+
         CommunityRecommendation recommendation = new CommunityRecommendation(
                 command.userId(),
                 userName,
-                command.comment()
+                command.comment(),
+                region
         );
 
         CommunityRecommendation savedRecommendation = communityRecommendationRepository.save(recommendation);
+
+        // Publish event so in-memory read models (feed snapshot) pick up the new recommendation
+        eventPublisher.publishEvent(new CommunityRecommendationSavedEvent(this, savedRecommendation.toFeedItem(), true));
         return Optional.of(savedRecommendation);
     }
 
@@ -71,8 +86,9 @@ public class CommunityRecommendationCommandServiceImpl implements CommunityRecom
         }
 
         CommunityRecommendation recommendation = recommendationOptional.get();
-        recommendation.update(command.userName(), command.comment());
+        recommendation.update(command.comment());
         CommunityRecommendation updatedRecommendation = communityRecommendationRepository.save(recommendation);
+        eventPublisher.publishEvent(new CommunityRecommendationSavedEvent(this, updatedRecommendation.toFeedItem(), false));
         return Optional.of(updatedRecommendation);
     }
 }
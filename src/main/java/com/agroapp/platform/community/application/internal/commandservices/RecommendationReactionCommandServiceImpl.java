@@ -0,0 +1,67 @@
+package com.agroapp.platform.community.application.internal.commandservices;
+
+import com.agroapp.platform.community.application.internal.outboundservices.acl.ExternalUserService;
+import com.agroapp.platform.community.application.internal.reactions.ReactionCounters;
+import com.agroapp.platform.community.application.internal.trending.TrendingScoreBoard;
+import com.agroapp.platform.community.domain.model.commands.AddUsefulReactionCommand;
+import com.agroapp.platform.community.domain.model.commands.RemoveUsefulReactionCommand;
+import com.agroapp.platform.community.domain.model.valueobjects.EngagementKind;
+import com.agroapp.platform.community.domain.model.valueobjects.ReactionSummary;
+import com.agroapp.platform.community.domain.services.RecommendationReactionCommandService;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Implementation of RecommendationReactionCommandService.
+ * Reactions are applied to in-memory counters and saved in batches (see ReactionCounters).
+ * Uses ACL (ExternalUserService) to check that the reacting user exists.
+ */
+@Service
+public class RecommendationReactionCommandServiceImpl implements RecommendationReactionCommandService {
+
+    private final ReactionCounters reactionCounters;
+    private final TrendingScoreBoard trendingScoreBoard;
+    private final ExternalUserService externalUserService;
+
+    public RecommendationReactionCommandServiceImpl(ReactionCounters reactionCounters,
+                                                    TrendingScoreBoard trendingScoreBoard,
+                                                    ExternalUserService externalUserService) {
+        this.reactionCounters = reactionCounters;
+        this.trendingScoreBoard = trendingScoreBoard;
+        this.externalUserService = externalUserService;
+    }
+
+    /**
+     * Marks a recommendation as useful. A first reaction also counts as engagement for trending.
+     *
+     * @throws IllegalArgumentException if the user does not exist
+     */
+    @Override
+    public Optional<ReactionSummary> handle(AddUsefulReactionCommand command) {
+        requireUser(command.userId());
+        var added = reactionCounters.add(command.recommendationId(), command.userId());
+        if (added.isEmpty()) {
+            return Optional.empty();
+        }
+        if (added.get()) {
+            trendingScoreBoard.record(command.recommendationId(), EngagementKind.MarkedUseful, Instant.now());
+        }
+        return reactionCounters.summary(command.recommendationId(), command.userId());
+    }
+
+    @Override
+    public Optional<ReactionSummary> handle(RemoveUsefulReactionCommand command) {
+        if (reactionCounters.remove(command.recommendationId(), command.userId()).isEmpty()) {
+            return Optional.empty();
+        }
+        return reactionCounters.summary(command.recommendationId(), command.userId());
+    }
+
+    private void requireUser(Long userId) {
+        if ("Anonymous".equals(externalUserService.getUserNameById(userId))) {
+            throw new IllegalArgumentException("User with ID " + userId + " not found");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.agroapp.platform.community.application.internal.commandservices;
+
+import com.agroapp.platform.community.application.internal.outboundservices.acl.ExternalUserService;
+import com.agroapp.platform.community.domain.model.commands.CreateReplyCommand;
+import com.agroapp.platform.community.domain.model.entities.CommunityRecommendationReply;
+import com.agroapp.platform.community.domain.model.valueobjects.ReplyPath;
+import com.agroapp.platform.community.domain.services.RecommendationReplyCommandService;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationReplyRepository;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Implementation of RecommendationReplyCommandService.
+ * Uses ACL (ExternalUserService) to resolve the replying user's name.
+ */
+@Service
+public class RecommendationReplyCommandServiceImpl implements RecommendationReplyCommandService {
+
+    private final CommunityRecommendationRepository communityRecommendationRepository;
+    private final CommunityRecommendationReplyRepository replyRepository;
+    private final ExternalUserService externalUserService;
+
+    public RecommendationReplyCommandServiceImpl(CommunityRecommendationRepository communityRecommendationRepository,
+                                                 CommunityRecommendationReplyRepository replyRepository,
+                                                 ExternalUserService externalUserService) {
+        this.communityRecommendationRepository = communityRecommendationRepository;
+        this.replyRepository = replyRepository;
+        this.externalUserService = externalUserService;
+    }
+
+    /**
+     * Adds a reply to a recommendation's thread.
+     * The thread's reply count is incremented in the same transaction and its new value numbers the reply,
+     * so the count never drifts and concurrent replies never get the same path.
+     *
+     * @return the saved reply, or empty when the recommendation does not exist
+     * @throws IllegalArgumentException if the user or the parent reply does not exist, or the thread is too deep
+     */
+    @Override
+    @Transactional
+    public Optional<CommunityRecommendationReply> handle(CreateReplyCommand command) {
+        String userName = externalUserService.getUserNameById(command.userId());
+        if ("Anonymous".equals(userName)) {
+            throw new IllegalArgumentException("User with ID " + command.userId() + " not found");
+        }
+
+        ReplyPath parentPath = null;
+        if (command.parentReplyId() != null) {
+            var parent = replyRepository.findByIdAndRecommendationId(command.parentReplyId(), command.recommendationId())
+                    .orElseThrow(() -> new IllegalArgumentException("Reply " + command.parentReplyId() + " not found in this thread"));
+            parentPath = new ReplyPath(parent.getPath());
+        }
+
+        if (communityRecommendationRepository.incrementReplyCount(command.recommendationId()) == 0) {
+            return Optional.empty();
+        }
+        int sequence = communityRecommendationRepository.findReplyCountById(command.recommendationId()).orElseThrow();
+        var reply = new CommunityRecommendationReply(command.recommendationId(), command.parentReplyId(),
+                ReplyPath.of(parentPath, sequence), command.userId(), userName, command.comment());
+        return Optional.of(replyRepository.save(reply));
+    }
+}
@@ -0,0 +1,41 @@
+package com.agroapp.platform.community.application.internal.eventhandlers;
+
+import com.agroapp.platform.community.application.internal.feed.CommunityFeedSnapshot;
+import com.agroapp.platform.community.domain.model.events.CommunityRecommendationSavedEvent;
+import com.agroapp.platform.iam.domain.model.events.UserProfileUpdatedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Event handler that keeps the in-memory feed snapshot in step with the database.
+ * Runs after commit so the snapshot never shows a change that is later rolled back.
+ */
+@Component
+public class CommunityFeedEventHandler {
+
+    private final CommunityFeedSnapshot communityFeedSnapshot;
+
+    public CommunityFeedEventHandler(CommunityFeedSnapshot communityFeedSnapshot) {
+        this.communityFeedSnapshot = communityFeedSnapshot;
+    }
+
+    /**
+     * Handles CommunityRecommendationSavedEvent.
+     *
+     * @param event the CommunityRecommendationSavedEvent containing the saved recommendation
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(CommunityRecommendationSavedEvent event) {
+        communityFeedSnapshot.apply(event.getRecommendation());
+    }
+
+    /**
+     * Handles UserProfileUpdatedEvent from IAM context.
+     *
+     * @param event the UserProfileUpdatedEvent containing userId and new userName
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(UserProfileUpdatedEvent event) {
+        communityFeedSnapshot.renameUser(event.getUserId(), event.getNewUserName());
+    }
+}
@@ -0,0 +1,30 @@
+package com.agroapp.platform.community.application.internal.eventhandlers;
+
+import com.agroapp.platform.community.application.internal.stream.CommunityFeedStream;
+import com.agroapp.platform.community.domain.model.events.CommunityRecommendationSavedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Event handler that pushes saved recommendations to live feed subscribers.
+ * Runs after commit so subscribers never see a change that is later rolled back.
+ */
+@Component
+public class CommunityFeedStreamEventHandler {
+
+    private final CommunityFeedStream communityFeedStream;
+
+    public CommunityFeedStreamEventHandler(CommunityFeedStream communityFeedStream) {
+        this.communityFeedStream = communityFeedStream;
+    }
+
+    /**
+     * Handles CommunityRecommendationSavedEvent.
+     *
+     * @param event the CommunityRecommendationSavedEvent containing the saved recommendation
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(CommunityRecommendationSavedEvent event) {
+        communityFeedStream.publish(event.getRecommendation(), event.isCreated());
+    }
+}
@@ -0,0 +1,30 @@
+package com.agroapp.platform.community.application.internal.eventhandlers;
+
+import com.agroapp.platform.community.application.internal.search.CommunitySearchIndex;
+import com.agroapp.platform.community.domain.model.events.CommunityRecommendationSavedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Event handler that keeps the comment search index in step with the database.
+ * Runs after commit so the index never matches a change that is later rolled back.
+ */
+@Component
+public class CommunitySearchEventHandler {
+
+    private final CommunitySearchIndex communitySearchIndex;
+
+    public CommunitySearchEventHandler(CommunitySearchIndex communitySearchIndex) {
+        this.communitySearchIndex = communitySearchIndex;
+    }
+
+    /**
+     * Handles CommunityRecommendationSavedEvent.
+     *
+     * @param event the CommunityRecommendationSavedEvent containing the saved recommendation
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(CommunityRecommendationSavedEvent event) {
+        communitySearchIndex.apply(event.getRecommendation());
+    }
+}
@@ -1,35 +1,36 @@
 package com.agroapp.platform.community.application.internal.eventhandlers;
 
-import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
+import com.agroapp.platform.community.application.internal.propagation.AuthorProfilePropagator;
+import com.agroapp.platform.community.domain.model.valueobjects.RegionKey;
 import com.agroapp.platform.iam.domain.model.events.UserProfileUpdatedEvent;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Event handler for user-related events from the IAM bounded context.
- * Listens to user profile updates and synchronizes the userName in community recommendations.
+ * Listens to user profile updates and synchronizes the userName and region in community recommendations.
+ * Runs after commit and only hands the change to the background propagator, so profile updates
+ * never wait on (or lock) the user's recommendations.
  */
 @Component
 public class CommunityUserEventHandler {
 
-    private final CommunityRecommendationRepository communityRecommendationRepository;
+    private final AuthorProfilePropagator authorProfilePropagator;
 
-    public CommunityUserEventHandler(CommunityRecommendationRepository communityRecommendationRepository) {
-        this.communityRecommendationRepository = communityRecommendationRepository;
+    public CommunityUserEventHandler(AuthorProfilePropagator authorProfilePropagator) {
+        this.authorProfilePropagator = authorProfilePropagator;
     }
 
     /**
      * Handles UserProfileUpdatedEvent from IAM context.
-     * Updates the userName in all recommendations created by the user.
+     * Queues the new userName and region for all recommendations created by the user.
+     * A private location clears the region, so the user's recommendations leave the regional feeds.
      *
-     * @param event the UserProfileUpdatedEvent containing userId and new userName
+     * @param event the UserProfileUpdatedEvent containing userId, new userName and public location
      */
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(fallbackExecution = true)
     public void on(UserProfileUpdatedEvent event) {
-        // Update all recommendations from this user with the new userName
-        communityRecommendationRepository.updateUserNameByUserId(event.getUserId(), event.getNewUserName());
+        String region = RegionKey.fromLocation(event.getPublicLocation()).map(RegionKey::value).orElse(null);
+        authorProfilePropagator.submit(event.getUserId(), event.getNewUserName(), region);
     }
 }
-
@@ -0,0 +1,45 @@
+package com.agroapp.platform.community.application.internal.eventhandlers;
+
+import com.agroapp.platform.community.application.internal.outboundservices.acl.ExternalCropFieldService;
+import com.agroapp.platform.community.application.internal.relevance.InterestProfiles;
+import com.agroapp.platform.plants.domain.model.events.CropFieldDeletedEvent;
+import com.agroapp.platform.plants.domain.model.events.CropFieldSavedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Event handler that drops a user's cached interest profile when one of their crop fields changes
+ * in the Plants bounded context. Runs after commit so the next profile is built from the new data.
+ */
+@Component
+public class InterestProfileEventHandler {
+
+    private final InterestProfiles interestProfiles;
+    private final ExternalCropFieldService externalCropFieldService;
+
+    public InterestProfileEventHandler(InterestProfiles interestProfiles,
+                                       ExternalCropFieldService externalCropFieldService) {
+        this.interestProfiles = interestProfiles;
+        this.externalCropFieldService = externalCropFieldService;
+    }
+
+    /**
+     * Handles CropFieldSavedEvent from Plants context.
+     *
+     * @param event the CropFieldSavedEvent containing the cropFieldId and fieldId
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(CropFieldSavedEvent event) {
+        externalCropFieldService.getFieldOwnerId(event.getFieldId()).ifPresent(interestProfiles::evict);
+    }
+
+    /**
+     * Handles CropFieldDeletedEvent from Plants context.
+     *
+     * @param event the CropFieldDeletedEvent containing the cropFieldId and fieldId
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(CropFieldDeletedEvent event) {
+        externalCropFieldService.getFieldOwnerId(event.getFieldId()).ifPresent(interestProfiles::evict);
+    }
+}
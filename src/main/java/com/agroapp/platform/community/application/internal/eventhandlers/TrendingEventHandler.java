@@ -0,0 +1,35 @@
+package com.agroapp.platform.community.application.internal.eventhandlers;
+
+import com.agroapp.platform.community.application.internal.trending.TrendingScoreBoard;
+import com.agroapp.platform.community.domain.model.events.CommunityRecommendationSavedEvent;
+import com.agroapp.platform.community.domain.model.valueobjects.EngagementKind;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+
+/**
+ * Event handler that seeds the trending score of new recommendations.
+ * Runs after commit so a rolled back recommendation never starts trending.
+ */
+@Component
+public class TrendingEventHandler {
+
+    private final TrendingScoreBoard trendingScoreBoard;
+
+    public TrendingEventHandler(TrendingScoreBoard trendingScoreBoard) {
+        this.trendingScoreBoard = trendingScoreBoard;
+    }
+
+    /**
+     * Handles CommunityRecommendationSavedEvent. Edits are not engagement, so only creations count.
+     *
+     * @param event the CommunityRecommendationSavedEvent containing the saved recommendation
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(CommunityRecommendationSavedEvent event) {
+        if (event.isCreated()) {
+            trendingScoreBoard.record(event.getRecommendation().id(), EngagementKind.Created, Instant.now());
+        }
+    }
+}
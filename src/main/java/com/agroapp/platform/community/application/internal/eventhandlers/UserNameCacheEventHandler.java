@@ -0,0 +1,41 @@
+package com.agroapp.platform.community.application.internal.eventhandlers;
+
+import com.agroapp.platform.community.application.internal.outboundservices.acl.ExternalUserService;
+import com.agroapp.platform.iam.domain.model.events.UserDeletedEvent;
+import com.agroapp.platform.iam.domain.model.events.UserProfileUpdatedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Event handler that invalidates cached user names and locations when users change in the IAM bounded context.
+ * Runs after commit so a concurrent lookup cannot re-cache the old name.
+ */
+@Component
+public class UserNameCacheEventHandler {
+
+    private final ExternalUserService externalUserService;
+
+    public UserNameCacheEventHandler(ExternalUserService externalUserService) {
+        this.externalUserService = externalUserService;
+    }
+
+    /**
+     * Handles UserProfileUpdatedEvent from IAM context.
+     *
+     * @param event the UserProfileUpdatedEvent containing userId and new userName
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(UserProfileUpdatedEvent event) {
+        externalUserService.evictUser(event.getUserId());
+    }
+
+    /**
+     * Handles UserDeletedEvent from IAM context.
+     *
+     * @param event the UserDeletedEvent containing userId
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(UserDeletedEvent event) {
+        externalUserService.evictUser(event.getUserId());
+    }
+}
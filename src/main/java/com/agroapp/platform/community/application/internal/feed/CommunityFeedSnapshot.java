@@ -0,0 +1,241 @@
+package com.agroapp.platform.community.application.internal.feed;
+
+import com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem;
+import com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedPage;
+import com.agroapp.platform.community.domain.model.valueobjects.FeedCursor;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory snapshot of the newest community recommendations.
+ * Holds the head of the global feed as an immutable list, replaced copy-on-write when recommendations are
+ * created, updated, renamed or deleted, so feed reads covered by the snapshot never reach the database.
+ * Each region also gets its own partition with the head of that region's feed, loaded on the first read of the
+ * region with a query on the region index, so reading one region never scans the others. Partitions are
+ * bounded in number; regions beyond {@link #MAX_REGIONS} are served from the database.
+ * Loaded lazily on the first read; writes and the loads are serialized so no committed change is lost
+ * while the snapshot is being built.
+ */
+@Component
+public class CommunityFeedSnapshot {
+
+    static final int CAPACITY = 200;
+    static final int REGION_CAPACITY = 100;
+    static final int MAX_REGIONS = 512;
+
+    static final Comparator<CommunityFeedItem> NEWEST_FIRST = Comparator
+            .comparing(CommunityFeedItem::commentDate)
+            .thenComparing(CommunityFeedItem::id)
+            .reversed();
+
+    /**
+     * @param items the newest recommendations, newest first
+     * @param complete true when items holds every recommendation
+     */
+    private record State(List<CommunityFeedItem> items, boolean complete) {
+    }
+
+    private final CommunityRecommendationRepository communityRecommendationRepository;
+    private volatile State state;
+    private final Map<String, State> regionStates = new ConcurrentHashMap<>();
+
+    public CommunityFeedSnapshot(CommunityRecommendationRepository communityRecommendationRepository) {
+        this.communityRecommendationRepository = communityRecommendationRepository;
+    }
+
+    /**
+     * Serves a page of the global feed from memory when the snapshot covers it.
+     *
+     * @param cursor the position after which the page starts (null for the first page)
+     * @param limit the page size
+     * @return the page, or empty when it reaches beyond the snapshot
+     */
+    public Optional<CommunityFeedPage> page(FeedCursor cursor, int limit) {
+        return page(state != null ? state : load(), cursor, limit);
+    }
+
+    /**
+     * Serves a page of a region's feed from memory when the region's partition covers it.
+     *
+     * @param region the region key
+     * @param cursor the position after which the page starts (null for the first page)
+     * @param limit the page size
+     * @return the page, or empty when it reaches beyond the partition or the region has no partition
+     */
+    public Optional<CommunityFeedPage> page(String region, FeedCursor cursor, int limit) {
+        var current = regionStates.get(region);
+        if (current == null) {
+            current = loadRegion(region);
+        }
+        return current == null ? Optional.empty() : page(current, cursor, limit);
+    }
+
+    /**
+     * Applies a created or updated recommendation. Must only be called once the change is committed.
+     *
+     * @param item the saved recommendation
+     */
+    public synchronized void apply(CommunityFeedItem item) {
+        // Not loaded yet: the load will read the committed row
+        if (state != null) {
+            state = apply(state, item, CAPACITY);
+        }
+        if (item.region() != null) {
+            regionStates.computeIfPresent(item.region(), (region, current) -> apply(current, item, REGION_CAPACITY));
+        }
+    }
+
+    /**
+     * Applies a new user name to the user's recommendations held in the snapshot.
+     *
+     * @param userId the renamed user
+     * @param userName the new user name
+     */
+    public synchronized void renameUser(Long userId, String userName) {
+        if (state != null) {
+            state = map(state, userId, item -> item.withUserName(userName));
+        }
+        regionStates.replaceAll((region, current) -> map(current, userId, item -> item.withUserName(userName)));
+    }
+
+    /**
+     * Applies a new region to a user's recommendations once it has been written to them.
+     * The partitions that held the user's recommendations and the partition of the new region are dropped
+     * and reloaded on their next read, since the user's recommendations move between them.
+     *
+     * @param userId the relocated user
+     * @param region the new region key, or null when the user's location is no longer public
+     */
+    public synchronized void relocateUser(Long userId, String region) {
+        if (state != null) {
+            state = map(state, userId, item -> item.withRegion(region));
+        }
+        regionStates.entrySet().removeIf(entry -> entry.getKey().equals(region)
+                || entry.getValue().items().stream().anyMatch(item -> Objects.equals(item.userId(), userId)));
+    }
+
+    /**
+     * Drops deleted recommendations. Must only be called once the deletion is committed.
+     * Pages beyond what is left are served from the database.
+     *
+     * @param recommendationIds the deleted recommendations
+     */
+    public synchronized void remove(Collection<Long> recommendationIds) {
+        var removed = Set.copyOf(recommendationIds);
+        if (state != null) {
+            state = remove(state, removed);
+        }
+        regionStates.replaceAll((region, current) -> remove(current, removed));
+    }
+
+    private synchronized State load() {
+        if (state == null) {
+            var newest = communityRecommendationRepository.findFeedFirstPage(PageRequest.of(0, CAPACITY + 1));
+            state = initial(newest, CAPACITY);
+        }
+        return state;
+    }
+
+    private synchronized State loadRegion(String region) {
+        var current = regionStates.get(region);
+        if (current != null || regionStates.size() >= MAX_REGIONS) {
+            return current;
+        }
+        var newest = communityRecommendationRepository.findRegionFeedFirstPage(region, PageRequest.of(0, REGION_CAPACITY + 1));
+        current = initial(newest, REGION_CAPACITY);
+        // Unknown regions get no partition, so made-up region keys cannot use up the partitions
+        if (!newest.isEmpty()) {
+            regionStates.put(region, current);
+        }
+        return current;
+    }
+
+    private static State initial(List<CommunityFeedItem> newest, int capacity) {
+        boolean complete = newest.size() <= capacity;
+        return new State(List.copyOf(complete ? newest : newest.subList(0, capacity)), complete);
+    }
+
+    private static Optional<CommunityFeedPage> page(State current, FeedCursor cursor, int limit) {
+        var items = current.items();
+        int start = cursor == null ? 0 : firstIndexAfter(items, cursor);
+        int available = items.size() - start;
+
+        if (available > limit || (available == limit && !current.complete())) {
+            var page = items.subList(start, start + limit);
+            return Optional.of(new CommunityFeedPage(page, page.getLast().cursor()));
+        }
+        if (current.complete()) {
+            return Optional.of(new CommunityFeedPage(items.subList(start, items.size()), null));
+        }
+        return Optional.empty();
+    }
+
+    private static State apply(State current, CommunityFeedItem item, int capacity) {
+        var items = new ArrayList<>(current.items());
+        items.removeIf(existing -> Objects.equals(existing.id(), item.id()));
+
+        int position = insertionPoint(items, item);
+        boolean complete = current.complete();
+        if (position < items.size() || complete) {
+            items.add(position, item);
+        }
+        if (items.size() > capacity) {
+            items.subList(capacity, items.size()).clear();
+            complete = false;
+        }
+        return new State(List.copyOf(items), complete);
+    }
+
+    private static State remove(State current, Set<Long> recommendationIds) {
+        var items = current.items().stream().filter(item -> !recommendationIds.contains(item.id())).toList();
+        return items.size() == current.items().size() ? current : new State(items, current.complete());
+    }
+
+    private static State map(State current, Long userId, UnaryOperator<CommunityFeedItem> change) {
+        var items = current.items().stream()
+                .map(item -> Objects.equals(item.userId(), userId) ? change.apply(item) : item)
+                .toList();
+        return new State(items, current.complete());
+    }
+
+    private static int firstIndexAfter(List<CommunityFeedItem> items, FeedCursor cursor) {
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            var item = items.get(middle);
+            if (cursor.precedes(item.commentDate(), item.id())) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private static int insertionPoint(List<CommunityFeedItem> items, CommunityFeedItem item) {
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (NEWEST_FIRST.compare(items.get(middle), item) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
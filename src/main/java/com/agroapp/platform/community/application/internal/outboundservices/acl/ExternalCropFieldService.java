@@ -0,0 +1,55 @@
+package com.agroapp.platform.community.application.internal.outboundservices.acl;
+
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.CropFieldRepository;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.FieldRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Anti-Corruption Layer (ACL) service to communicate with Plants context.
+ * Provides what users grow, and on which soil, to rank community recommendations for them.
+ */
+@Service
+public class ExternalCropFieldService {
+
+    /**
+     * What a user grows on one crop field.
+     *
+     * @param crop the crop name (may be null)
+     * @param soilType the soil type (may be null)
+     */
+    public record GrownCrop(String crop, String soilType) {
+    }
+
+    private final CropFieldRepository cropFieldRepository;
+    private final FieldRepository fieldRepository;
+
+    public ExternalCropFieldService(CropFieldRepository cropFieldRepository, FieldRepository fieldRepository) {
+        this.cropFieldRepository = cropFieldRepository;
+        this.fieldRepository = fieldRepository;
+    }
+
+    /**
+     * Gets the crops and soil types of a user's crop fields.
+     *
+     * @param userId The user ID
+     * @return one entry per crop field of the user
+     */
+    public List<GrownCrop> getGrownCropsByUserId(Long userId) {
+        return cropFieldRepository.findByOwnerUserId(userId).stream()
+                .map(cropField -> new GrownCrop(cropField.getCrop(), cropField.getSoilType()))
+                .toList();
+    }
+
+    /**
+     * Gets the owner of a field.
+     *
+     * @param fieldId The field ID
+     * @return the owner's user ID, if the field exists
+     */
+    public Optional<Long> getFieldOwnerId(Long fieldId) {
+        return fieldRepository.findUserIdById(fieldId);
+    }
+}
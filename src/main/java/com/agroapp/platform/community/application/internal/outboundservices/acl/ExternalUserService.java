@@ -1,23 +1,49 @@
 package com.agroapp.platform.community.application.internal.outboundservices.acl;
 
 import com.agroapp.platform.iam.domain.model.aggregates.User;
+import com.agroapp.platform.iam.domain.model.valueobjects.UserPublicProfile;
 import com.agroapp.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Anti-Corruption Layer (ACL) service to communicate with IAM context.
  * Provides user information to Community context without creating direct dependencies.
  * Follows DDD principle: bounded contexts should not directly access each other's repositories.
+ * User names and public locations are kept together in a bounded near-cache (published as the
+ * "community.user-names" cache metrics), so writing a recommendation does not reach IAM at all;
+ * unknown users are cached briefly too, so repeated lookups of a missing user do not reach IAM.
+ * User ids are assigned in increasing order, so only ids below the highest id seen to exist are cached as
+ * missing; a higher id may belong to a user who signs up or is provisioned a moment later.
  */
 @Service
 public class ExternalUserService {
 
+    private static final long USER_NAME_CACHE_SIZE = 10_000;
+    private static final Duration USER_NAME_TTL = Duration.ofMinutes(10);
+    private static final Duration MISSING_USER_TTL = Duration.ofSeconds(30);
+
     private final UserRepository userRepository;
+    private final LoadingCache<Long, Optional<UserPublicProfile>> userProfiles;
+    private final AtomicLong highestExistingUserId = new AtomicLong();
 
-    public ExternalUserService(UserRepository userRepository) {
+    public ExternalUserService(UserRepository userRepository, MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
+        this.userProfiles = Caffeine.newBuilder()
+                .maximumSize(USER_NAME_CACHE_SIZE)
+                .expireAfter(Expiry.creating((Long userId, Optional<UserPublicProfile> profile) ->
+                        profile.isPresent() ? USER_NAME_TTL : MISSING_USER_TTL))
+                .recordStats()
+                .build(this::loadProfile);
+        CaffeineCacheMetrics.monitor(meterRegistry, userProfiles, "community.user-names");
     }
 
     /**
@@ -44,15 +70,59 @@ public class ExternalUserService {
 
     /**
      * Gets the username (full name) by user ID.
-     * Convenience method for quick lookups.
+     * Served from the near-cache; a miss fetches only the name and public location from IAM.
      *
      * @param userId The user ID
      * @return The user's full name, or "Anonymous" if not found
      */
     public String getUserNameById(Long userId) {
-        return userRepository.findById(userId)
-                .map(User::getUserName)
-                .orElse("Anonymous");
+        if (userId == null) {
+            return "Anonymous";
+        }
+        return profileOf(userId).map(UserPublicProfile::userName).orElse("Anonymous");
+    }
+
+    /**
+     * Gets the location of a user as other users may see it.
+     * Served from the near-cache, next to the user's name.
+     *
+     * @param userId The user ID
+     * @return The user's location, or empty if not found or the user keeps it private
+     */
+    public Optional<String> getPublicLocationById(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return profileOf(userId).map(UserPublicProfile::publicLocation);
+    }
+
+    /**
+     * Drops the cached name and location of a user.
+     * Called when the user's profile changes or the user is deleted.
+     *
+     * @param userId The user ID
+     */
+    public void evictUser(Long userId) {
+        if (userId != null) {
+            userProfiles.invalidate(userId);
+        }
+    }
+
+    private Optional<UserPublicProfile> profileOf(Long userId) {
+        var profile = userProfiles.get(userId);
+        return profile != null ? profile : Optional.empty();
     }
-}
 
+    /**
+     * @return the user's profile, or null (not cached) when the user is missing but may still be created
+     */
+    private Optional<UserPublicProfile> loadProfile(Long userId) {
+        var profile = userRepository.findPublicProfileById(userId);
+        if (profile.isPresent()) {
+            highestExistingUserId.accumulateAndGet(userId, Math::max);
+        } else if (userId > highestExistingUserId.get()) {
+            return null;
+        }
+        return profile;
+    }
+}
@@ -0,0 +1,171 @@
+package com.agroapp.platform.community.application.internal.propagation;
+
+import com.agroapp.platform.community.application.internal.feed.CommunityFeedSnapshot;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationReplyRepository;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Background worker that copies a user's userName and region onto their community recommendations,
+ * and the userName onto their replies.
+ * Profile changes are coalesced per user for a short window, so only the latest one is written, and are
+ * applied in bounded id-range chunks, each in its own short transaction, so a prolific user never
+ * locks all of their rows at once. A single virtual thread applies the changes in submission order.
+ */
+@Component
+public class AuthorProfilePropagator {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthorProfilePropagator.class);
+
+    static final Duration COALESCING_WINDOW = Duration.ofSeconds(2);
+    static final int CHUNK_SIZE = 500;
+
+    /**
+     * @param userName the author's userName
+     * @param region the author's region key, or null when their location is private
+     */
+    private record AuthorProfile(String userName, String region) {
+    }
+
+    private final CommunityRecommendationRepository communityRecommendationRepository;
+    private final CommunityRecommendationReplyRepository replyRepository;
+    private final CommunityFeedSnapshot communityFeedSnapshot;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, AuthorProfile> pendingProfiles = new ConcurrentHashMap<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("community-author-profile-propagation").factory());
+
+    public AuthorProfilePropagator(CommunityRecommendationRepository communityRecommendationRepository,
+                                   CommunityRecommendationReplyRepository replyRepository,
+                                   CommunityFeedSnapshot communityFeedSnapshot,
+                                   PlatformTransactionManager transactionManager) {
+        this.communityRecommendationRepository = communityRecommendationRepository;
+        this.replyRepository = replyRepository;
+        this.communityFeedSnapshot = communityFeedSnapshot;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Queues a profile change. A later change of the same user before the queue is drained replaces this one.
+     *
+     * @param userId the user whose profile changed
+     * @param userName the new userName
+     * @param region the new region key, or null when the user's location is private
+     */
+    public void submit(Long userId, String userName, String region) {
+        pendingProfiles.put(userId, new AuthorProfile(userName, region));
+        if (drainScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::drain, COALESCING_WINDOW.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Applies every pending profile change. Changes submitted while draining schedule another run.
+     */
+    void drain() {
+        drainScheduled.set(false);
+        for (Long userId : pendingProfiles.keySet()) {
+            AuthorProfile profile = pendingProfiles.remove(userId);
+            if (profile == null) continue;
+            try {
+                apply(userId, profile.userName(), profile.region());
+                propagateToReplies(userId, profile.userName());
+            } catch (RuntimeException e) {
+                logger.warn("Could not propagate profile of user {} to community recommendations", userId, e);
+            }
+        }
+    }
+
+    /**
+     * Rewrites a user's recommendations right away, and moves them in the feed snapshot if any changed.
+     *
+     * @param userId the user whose profile changed
+     * @param userName the new userName
+     * @param region the new region key, or null when the user's location is private
+     * @return the number of updated recommendations
+     */
+    int apply(Long userId, String userName, String region) {
+        int updated = propagate(userId, userName, region);
+        if (updated > 0) {
+            communityFeedSnapshot.relocateUser(userId, region);
+        }
+        return updated;
+    }
+
+    /**
+     * Rewrites the userName and region of a user's recommendations chunk by chunk.
+     *
+     * @param userId the user whose profile changed
+     * @param userName the new userName
+     * @param region the new region key, or null when the user's location is private
+     * @return the number of updated recommendations
+     */
+    int propagate(Long userId, String userName, String region) {
+        int updated = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = communityRecommendationRepository.findIdsByUserIdAfter(
+                    userId, afterId, PageRequest.of(0, CHUNK_SIZE));
+            if (ids.isEmpty()) break;
+            long fromId = afterId;
+            long toId = ids.getLast();
+            Integer chunkUpdated = transactionTemplate.execute(status -> communityRecommendationRepository
+                    .updateAuthorByUserIdInRange(userId, userName, region, fromId, toId, new Date()));
+            updated += chunkUpdated == null ? 0 : chunkUpdated;
+            if (ids.size() < CHUNK_SIZE) break;
+            afterId = toId;
+        }
+        logger.debug("Propagated profile of user {} to {} community recommendations", userId, updated);
+        return updated;
+    }
+
+    /**
+     * Rewrites the userName of a user's replies chunk by chunk.
+     *
+     * @param userId the user whose profile changed
+     * @param userName the new userName
+     * @return the number of updated replies
+     */
+    int propagateToReplies(Long userId, String userName) {
+        int updated = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = replyRepository.findIdsByUserIdAfter(userId, afterId, PageRequest.of(0, CHUNK_SIZE));
+            if (ids.isEmpty()) break;
+            long fromId = afterId;
+            long toId = ids.getLast();
+            Integer chunkUpdated = transactionTemplate.execute(status -> replyRepository
+                    .updateUserNameByUserIdInRange(userId, userName, fromId, toId));
+            updated += chunkUpdated == null ? 0 : chunkUpdated;
+            if (ids.size() < CHUNK_SIZE) break;
+            afterId = toId;
+        }
+        return updated;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(COALESCING_WINDOW.toMillis() * 2, TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+        if (!pendingProfiles.isEmpty()) drain();
+    }
+}
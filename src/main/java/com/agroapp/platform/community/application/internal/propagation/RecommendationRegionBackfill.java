@@ -0,0 +1,68 @@
+package com.agroapp.platform.community.application.internal.propagation;
+
+import com.agroapp.platform.community.application.internal.outboundservices.acl.ExternalUserService;
+import com.agroapp.platform.community.domain.model.valueobjects.RegionKey;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
+import com.agroapp.platform.shared.domain.model.entities.CompletedBackfill;
+import com.agroapp.platform.shared.infrastructure.persistence.jpa.repositories.CompletedBackfillRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tags recommendations written before regions existed with their author's region.
+ * Runs once in the background after startup and has the {@link AuthorProfilePropagator} update the rows of each
+ * author with a public location, in the same bounded chunks as profile changes. Once every author is done, the
+ * backfill is marked completed and never runs again: newer recommendations get their region when written, and
+ * an author who makes their location public later is moved by the profile change itself.
+ */
+@Component
+public class RecommendationRegionBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecommendationRegionBackfill.class);
+
+    static final String NAME = "community-recommendation-regions";
+
+    private final CommunityRecommendationRepository communityRecommendationRepository;
+    private final ExternalUserService externalUserService;
+    private final AuthorProfilePropagator authorProfilePropagator;
+    private final CompletedBackfillRepository completedBackfillRepository;
+
+    public RecommendationRegionBackfill(CommunityRecommendationRepository communityRecommendationRepository,
+                                        ExternalUserService externalUserService,
+                                        AuthorProfilePropagator authorProfilePropagator,
+                                        CompletedBackfillRepository completedBackfillRepository) {
+        this.communityRecommendationRepository = communityRecommendationRepository;
+        this.externalUserService = externalUserService;
+        this.authorProfilePropagator = authorProfilePropagator;
+        this.completedBackfillRepository = completedBackfillRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread.ofVirtual().name("community-region-backfill").start(this::backfill);
+    }
+
+    void backfill() {
+        int updated = 0;
+        try {
+            if (completedBackfillRepository.existsById(NAME)) {
+                return;
+            }
+            for (Long userId : communityRecommendationRepository.findUserIdsWithoutRegion()) {
+                var region = externalUserService.getPublicLocationById(userId).flatMap(RegionKey::fromLocation);
+                String userName = externalUserService.getUserNameById(userId);
+                if (region.isPresent() && !"Anonymous".equals(userName)) {
+                    updated += authorProfilePropagator.apply(userId, userName, region.get().value());
+                }
+            }
+            completedBackfillRepository.save(new CompletedBackfill(NAME));
+        } catch (RuntimeException e) {
+            logger.warn("Could not backfill regions of community recommendations, retrying on the next startup", e);
+            return;
+        }
+        logger.info("Backfilled the region of {} community recommendations", updated);
+    }
+}
@@ -0,0 +1,102 @@
+package com.agroapp.platform.community.application.internal.purge;
+
+import com.agroapp.platform.community.application.internal.feed.CommunityFeedSnapshot;
+import com.agroapp.platform.community.application.internal.reactions.ReactionCounters;
+import com.agroapp.platform.community.application.internal.search.CommunitySearchIndex;
+import com.agroapp.platform.community.application.internal.trending.TrendingScoreBoard;
+import com.agroapp.platform.community.domain.model.events.CommunityRecommendationsPurgedEvent;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationReactionRepository;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationReplyRepository;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationScoreRepository;
+import com.agroapp.platform.shared.application.internal.purge.UserDataPurger;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Removes a deleted user's community recommendations with their replies, reactions and trending scores.
+ * Each chunk deletes at most {@link #CHUNK_SIZE} rows with set-based statements, children first: replies, then
+ * reactions, then the recommendations with their trending scores, so a popular recommendation never makes a
+ * chunk unbounded. A recommendations chunk publishes a {@link CommunityRecommendationsPurgedEvent} in its
+ * transaction, so offline clients are told about the deletions; once committed, the feed snapshot, the search
+ * index, the reaction counters and the trending board drop the recommendations too.
+ * The user's replies and reactions on other users' recommendations stay, as they are part of those threads.
+ */
+@Component
+public class CommunityUserDataPurger implements UserDataPurger {
+
+    public static final String SCOPE = "community";
+    static final int CHUNK_SIZE = 500;
+
+    private final CommunityRecommendationRepository communityRecommendationRepository;
+    private final CommunityRecommendationReplyRepository replyRepository;
+    private final CommunityRecommendationReactionRepository reactionRepository;
+    private final CommunityRecommendationScoreRepository scoreRepository;
+    private final CommunityFeedSnapshot communityFeedSnapshot;
+    private final CommunitySearchIndex communitySearchIndex;
+    private final ReactionCounters reactionCounters;
+    private final TrendingScoreBoard trendingScoreBoard;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CommunityUserDataPurger(CommunityRecommendationRepository communityRecommendationRepository,
+                                   CommunityRecommendationReplyRepository replyRepository,
+                                   CommunityRecommendationReactionRepository reactionRepository,
+                                   CommunityRecommendationScoreRepository scoreRepository,
+                                   CommunityFeedSnapshot communityFeedSnapshot,
+                                   CommunitySearchIndex communitySearchIndex,
+                                   ReactionCounters reactionCounters,
+                                   TrendingScoreBoard trendingScoreBoard,
+                                   ApplicationEventPublisher eventPublisher) {
+        this.communityRecommendationRepository = communityRecommendationRepository;
+        this.replyRepository = replyRepository;
+        this.reactionRepository = reactionRepository;
+        this.scoreRepository = scoreRepository;
+        this.communityFeedSnapshot = communityFeedSnapshot;
+        this.communitySearchIndex = communitySearchIndex;
+        this.reactionCounters = reactionCounters;
+        this.trendingScoreBoard = trendingScoreBoard;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public String scope() {
+        return SCOPE;
+    }
+
+    @Override
+    public int purgeChunk(Long userId) {
+        var chunk = PageRequest.of(0, CHUNK_SIZE);
+        List<Long> replyIds = replyRepository.findIdsByRecommendationOwner(userId, chunk);
+        if (!replyIds.isEmpty()) {
+            return replyRepository.deleteByIds(replyIds);
+        }
+        List<Long> reactionIds = reactionRepository.findIdsByRecommendationOwner(userId, chunk);
+        if (!reactionIds.isEmpty()) {
+            return reactionRepository.deleteByIds(reactionIds);
+        }
+        List<Long> ids = communityRecommendationRepository.findIdsByUserIdAfter(userId, 0L, chunk);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted = scoreRepository.deleteByRecommendationIds(ids)
+                + communityRecommendationRepository.deleteByIds(ids);
+        eventPublisher.publishEvent(new CommunityRecommendationsPurgedEvent(this, ids));
+
+        // A read model updated before the commit could reload the rows from the database
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                communityFeedSnapshot.remove(ids);
+                communitySearchIndex.remove(ids);
+                reactionCounters.forget(ids);
+                trendingScoreBoard.forget(ids);
+            }
+        });
+        return deleted;
+    }
+}
@@ -1,23 +1,53 @@
 package com.agroapp.platform.community.application.internal.queryservices;
 
+import com.agroapp.platform.community.application.internal.feed.CommunityFeedSnapshot;
+import com.agroapp.platform.community.application.internal.relevance.InterestProfiles;
+import com.agroapp.platform.community.application.internal.search.CommunitySearchIndex;
+import com.agroapp.platform.community.application.internal.search.ScoredRecommendation;
+import com.agroapp.platform.community.application.internal.trending.TrendingScoreBoard;
 import com.agroapp.platform.community.domain.model.aggregates.CommunityRecommendation;
 import com.agroapp.platform.community.domain.model.queries.*;
 import com.agroapp.platform.community.domain.model.queries.GetAllCommunityRecommendationsQuery;
 import com.agroapp.platform.community.domain.model.queries.GetCommunityRecommendationByIdQuery;
+import com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem;
+import com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedPage;
+import com.agroapp.platform.community.domain.model.valueobjects.CommunitySearchHit;
+import com.agroapp.platform.community.domain.model.valueobjects.CommunitySearchPage;
+import com.agroapp.platform.community.domain.model.valueobjects.SearchCursor;
+import com.agroapp.platform.community.domain.model.valueobjects.TrendingRecommendation;
 import com.agroapp.platform.community.domain.services.CommunityRecommendationQueryService;
 import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class CommunityRecommendationQueryServiceImpl implements CommunityRecommendationQueryService {
 
+    /** Extra hits ranked for "for you", so leaving out the user's own recommendations rarely shortens the list. */
+    private static final int OWN_RECOMMENDATIONS_ALLOWANCE = 10;
+
     private final CommunityRecommendationRepository communityRecommendationRepository;
+    private final CommunityFeedSnapshot communityFeedSnapshot;
+    private final CommunitySearchIndex communitySearchIndex;
+    private final TrendingScoreBoard trendingScoreBoard;
+    private final InterestProfiles interestProfiles;
 
-    public CommunityRecommendationQueryServiceImpl(CommunityRecommendationRepository communityRecommendationRepository) {
+    public CommunityRecommendationQueryServiceImpl(CommunityRecommendationRepository communityRecommendationRepository,
+                                                   CommunityFeedSnapshot communityFeedSnapshot,
+                                                   CommunitySearchIndex communitySearchIndex,
+                                                   TrendingScoreBoard trendingScoreBoard,
+                                                   InterestProfiles interestProfiles) {
         this.communityRecommendationRepository = communityRecommendationRepository;
+        this.communityFeedSnapshot = communityFeedSnapshot;
+        this.communitySearchIndex = communitySearchIndex;
+        this.trendingScoreBoard = trendingScoreBoard;
+        this.interestProfiles = interestProfiles;
     }
 
     @Override
@@ -29,5 +59,120 @@ public class CommunityRecommendationQueryServiceImpl implements CommunityRecomme
     public Optional<CommunityRecommendation> handle(GetCommunityRecommendationByIdQuery query) {
         return communityRecommendationRepository.findById(query.recommendationId());
     }
-}
 
+    /**
+     * Gets a page of the newest-first feed.
+     * Global and regional pages covered by the in-memory snapshot are served from memory; other pages use a
+     * keyset query on (commentDate, id), fetching one extra row to know whether a next page exists.
+     */
+    @Override
+    public CommunityFeedPage handle(GetCommunityFeedQuery query) {
+        if (query.userId() == null) {
+            var cached = query.region() == null
+                    ? communityFeedSnapshot.page(query.cursor(), query.limit())
+                    : communityFeedSnapshot.page(query.region(), query.cursor(), query.limit());
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
+        var pageable = PageRequest.of(0, query.limit() + 1);
+        var cursor = query.cursor();
+        List<CommunityFeedItem> items;
+        if (query.region() != null) {
+            items = cursor == null
+                    ? communityRecommendationRepository.findRegionFeedFirstPage(query.region(), pageable)
+                    : communityRecommendationRepository.findRegionFeedPageBefore(query.region(), cursor.commentDate(), cursor.id(), pageable);
+        } else if (query.userId() == null) {
+            items = cursor == null
+                    ? communityRecommendationRepository.findFeedFirstPage(pageable)
+                    : communityRecommendationRepository.findFeedPageBefore(cursor.commentDate(), cursor.id(), pageable);
+        } else {
+            items = cursor == null
+                    ? communityRecommendationRepository.findUserFeedFirstPage(query.userId(), pageable)
+                    : communityRecommendationRepository.findUserFeedPageBefore(query.userId(), cursor.commentDate(), cursor.id(), pageable);
+        }
+
+        if (items.size() <= query.limit()) {
+            return new CommunityFeedPage(items, null);
+        }
+        var page = items.subList(0, query.limit());
+        return new CommunityFeedPage(List.copyOf(page), page.getLast().cursor());
+    }
+
+    /**
+     * Searches recommendation comments.
+     * Ranking runs entirely on the in-memory index, asking for one extra hit to know whether a next page
+     * exists; only the hits of the page are then loaded, in a single query by id.
+     */
+    @Override
+    public CommunitySearchPage handle(SearchCommunityRecommendationsQuery query) {
+        var ranked = communitySearchIndex.search(query.text(), query.cursor(), query.limit() + 1);
+        var page = ranked.size() > query.limit() ? ranked.subList(0, query.limit()) : ranked;
+        if (page.isEmpty()) {
+            return new CommunitySearchPage(List.of(), null);
+        }
+
+        var itemsById = communityRecommendationRepository
+                .findFeedItemsByIds(page.stream().map(ScoredRecommendation::recommendationId).toList())
+                .stream()
+                .collect(Collectors.toMap(CommunityFeedItem::id, Function.identity()));
+        var hits = page.stream()
+                .filter(scored -> itemsById.containsKey(scored.recommendationId()))
+                .map(scored -> new CommunitySearchHit(itemsById.get(scored.recommendationId()), scored.score()))
+                .toList();
+
+        // The cursor follows the ranking, so a hit deleted since it was indexed never stalls pagination
+        var last = page.getLast();
+        var nextCursor = ranked.size() > query.limit() ? new SearchCursor(last.score(), last.recommendationId()) : null;
+        return new CommunitySearchPage(hits, nextCursor);
+    }
+
+    /**
+     * Gets the trending recommendations.
+     * The ranking is read from memory in O(limit); only the listed recommendations are loaded, in one query by id.
+     */
+    @Override
+    public List<TrendingRecommendation> handle(GetTrendingCommunityRecommendationsQuery query) {
+        var hottest = trendingScoreBoard.hottest(query.limit());
+        if (hottest.isEmpty()) {
+            return List.of();
+        }
+        var itemsById = communityRecommendationRepository
+                .findFeedItemsByIds(hottest.stream().map(TrendingScoreBoard.Entry::recommendationId).toList())
+                .stream()
+                .collect(Collectors.toMap(CommunityFeedItem::id, Function.identity()));
+        var now = Instant.now();
+        return hottest.stream()
+                .filter(entry -> itemsById.containsKey(entry.recommendationId()))
+                .map(entry -> new TrendingRecommendation(itemsById.get(entry.recommendationId()), entry.scoreAt(now)))
+                .toList();
+    }
+
+    /**
+     * Gets the recommendations most relevant to what the user grows.
+     * The user's cached interest profile is ranked against the in-memory search index as a weighted BM25 query;
+     * only the best hits are then loaded, in one query by id. The user's own recommendations are left out.
+     */
+    @Override
+    public List<CommunitySearchHit> handle(GetRecommendationsForUserQuery query) {
+        var profile = interestProfiles.get(query.userId());
+        if (profile.isEmpty()) {
+            return List.of();
+        }
+        var ranked = communitySearchIndex.search(profile.terms(), profile.weights(), query.limit() + OWN_RECOMMENDATIONS_ALLOWANCE);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        var itemsById = communityRecommendationRepository
+                .findFeedItemsByIds(ranked.stream().map(ScoredRecommendation::recommendationId).toList())
+                .stream()
+                .collect(Collectors.toMap(CommunityFeedItem::id, Function.identity()));
+        return ranked.stream()
+                .filter(scored -> itemsById.containsKey(scored.recommendationId()))
+                .map(scored -> new CommunitySearchHit(itemsById.get(scored.recommendationId()), scored.score()))
+                .filter(hit -> !query.userId().equals(hit.recommendation().userId()))
+                .limit(query.limit())
+                .toList();
+    }
+}
@@ -0,0 +1,28 @@
+package com.agroapp.platform.community.application.internal.queryservices;
+
+import com.agroapp.platform.community.application.internal.reactions.ReactionCounters;
+import com.agroapp.platform.community.domain.model.queries.GetUsefulReactionsQuery;
+import com.agroapp.platform.community.domain.model.valueobjects.ReactionSummary;
+import com.agroapp.platform.community.domain.services.RecommendationReactionQueryService;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Implementation of RecommendationReactionQueryService.
+ * Counts are served from memory and include reactions not saved yet.
+ */
+@Service
+public class RecommendationReactionQueryServiceImpl implements RecommendationReactionQueryService {
+
+    private final ReactionCounters reactionCounters;
+
+    public RecommendationReactionQueryServiceImpl(ReactionCounters reactionCounters) {
+        this.reactionCounters = reactionCounters;
+    }
+
+    @Override
+    public Optional<ReactionSummary> handle(GetUsefulReactionsQuery query) {
+        return reactionCounters.summary(query.recommendationId(), query.userId());
+    }
+}
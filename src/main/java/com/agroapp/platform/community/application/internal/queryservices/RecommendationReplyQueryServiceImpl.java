@@ -0,0 +1,55 @@
+package com.agroapp.platform.community.application.internal.queryservices;
+
+import com.agroapp.platform.community.domain.model.entities.CommunityRecommendationReply;
+import com.agroapp.platform.community.domain.model.queries.GetReplyThreadQuery;
+import com.agroapp.platform.community.domain.model.valueobjects.ReplyPath;
+import com.agroapp.platform.community.domain.model.valueobjects.ReplyThread;
+import com.agroapp.platform.community.domain.services.RecommendationReplyQueryService;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationReplyRepository;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementation of RecommendationReplyQueryService.
+ * A thread or subtree is read with one ordered range query on the materialized paths; the replies carry
+ * their author's name, so rendering them needs no further lookups.
+ */
+@Service
+public class RecommendationReplyQueryServiceImpl implements RecommendationReplyQueryService {
+
+    private final CommunityRecommendationRepository communityRecommendationRepository;
+    private final CommunityRecommendationReplyRepository replyRepository;
+
+    public RecommendationReplyQueryServiceImpl(CommunityRecommendationRepository communityRecommendationRepository,
+                                               CommunityRecommendationReplyRepository replyRepository) {
+        this.communityRecommendationRepository = communityRecommendationRepository;
+        this.replyRepository = replyRepository;
+    }
+
+    /**
+     * @return the thread, or empty when the recommendation (or the subtree's root reply) does not exist
+     */
+    @Override
+    public Optional<ReplyThread> handle(GetReplyThreadQuery query) {
+        var replyCount = communityRecommendationRepository.findReplyCountById(query.recommendationId());
+        if (replyCount.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<CommunityRecommendationReply> replies;
+        if (query.replyId() == null) {
+            replies = replyRepository.findByRecommendationIdOrderByPath(query.recommendationId());
+        } else {
+            var root = replyRepository.findByIdAndRecommendationId(query.replyId(), query.recommendationId());
+            if (root.isEmpty()) {
+                return Optional.empty();
+            }
+            var path = new ReplyPath(root.get().getPath());
+            replies = replyRepository.findByPathRange(query.recommendationId(), path.value(), path.subtreeEnd());
+        }
+        return Optional.of(new ReplyThread(query.recommendationId(), replyCount.get(), replies));
+    }
+}
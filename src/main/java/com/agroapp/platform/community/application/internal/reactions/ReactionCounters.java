@@ -0,0 +1,259 @@
+package com.agroapp.platform.community.application.internal.reactions;
+
+import com.agroapp.platform.community.domain.model.valueobjects.ReactionSummary;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationReactionRepository;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Useful-reaction counts with write-behind reactions.
+ * The reactions table is the source of truth. A recommendation's reacting users are its rows plus this node's
+ * queued changes, loaded once into a concurrent set whose size is the count, in a cache bounded by the number of
+ * users it holds (published as the "community.reaction-counts" cache metrics). Sets are reloaded after a short
+ * TTL, which also picks up the reactions saved by other nodes.
+ * Whether a user reacted is answered from the set, so neither reacting nor reading a summary queries the table
+ * per user, and reacting stays idempotent per user. Changes are queued per (recommendation, user) and written in
+ * batches every flush interval (and on shutdown) as row inserts and deletes, so each flush only adds this node's
+ * changes to what the table holds; no count is ever written, and the recommendation row itself is never touched.
+ * Durability window: a crash loses the reactions of at most the last flush interval.
+ */
+@Component
+public class ReactionCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactionCounters.class);
+
+    static final int FLUSH_CHUNK_SIZE = 500;
+    /** The most reacting users held across all cached recommendations. */
+    private static final long CACHE_WEIGHT = 500_000;
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final String INSERT_REACTION =
+            "INSERT INTO community_recommendation_reactions (recommendation_id, user_id, reacted_at) " +
+            "SELECT ?, ?, ? FROM (SELECT 1) AS one WHERE NOT EXISTS (SELECT 1 FROM community_recommendation_reactions " +
+            "WHERE recommendation_id = ? AND user_id = ?)";
+    private static final String DELETE_REACTION =
+            "DELETE FROM community_recommendation_reactions WHERE recommendation_id = ? AND user_id = ?";
+
+    private record ReactionKey(long recommendationId, long userId) {
+    }
+
+    /**
+     * @param present true for a reaction to insert, false for one to delete
+     * @param at when the reaction was made
+     */
+    private record PendingChange(boolean present, long at) {
+    }
+
+    /**
+     * The users who reacted to a recommendation: its rows plus this node's queued changes.
+     */
+    private record Reactions(Set<Long> users) {
+    }
+
+    private final CommunityRecommendationRepository communityRecommendationRepository;
+    private final CommunityRecommendationReactionRepository reactionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Long, Reactions> reactions;
+    private final Map<ReactionKey, PendingChange> unsaved = new ConcurrentHashMap<>();
+    /** Keeps users from loading between a flush's commit and the removal of the changes it wrote. */
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+    @Autowired
+    public ReactionCounters(CommunityRecommendationRepository communityRecommendationRepository,
+                            CommunityRecommendationReactionRepository reactionRepository,
+                            JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this(communityRecommendationRepository, reactionRepository, jdbcTemplate, transactionManager, meterRegistry,
+                Ticker.systemTicker());
+    }
+
+    ReactionCounters(CommunityRecommendationRepository communityRecommendationRepository,
+                     CommunityRecommendationReactionRepository reactionRepository,
+                     JdbcTemplate jdbcTemplate,
+                     PlatformTransactionManager transactionManager,
+                     MeterRegistry meterRegistry,
+                     Ticker ticker) {
+        this.communityRecommendationRepository = communityRecommendationRepository;
+        this.reactionRepository = reactionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reactions = Caffeine.newBuilder()
+                .maximumWeight(CACHE_WEIGHT)
+                .<Long, Reactions>weigher((recommendationId, loaded) -> 1 + loaded.users().size())
+                .expireAfterWrite(TTL)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, reactions, "community.reaction-counts");
+    }
+
+    /**
+     * Marks a recommendation as useful for a user.
+     *
+     * @param recommendationId the recommendation
+     * @param userId the user
+     * @return true if the user had not reacted yet, false if the reaction already existed;
+     * empty when the recommendation does not exist
+     */
+    public Optional<Boolean> add(long recommendationId, long userId) {
+        return reactions(recommendationId).map(loaded -> change(recommendationId, userId, loaded, true));
+    }
+
+    /**
+     * Withdraws a user's useful reaction.
+     *
+     * @param recommendationId the recommendation
+     * @param userId the user
+     * @return true if the user had reacted, false otherwise; empty when the recommendation does not exist
+     */
+    public Optional<Boolean> remove(long recommendationId, long userId) {
+        return reactions(recommendationId).map(loaded -> change(recommendationId, userId, loaded, false));
+    }
+
+    /**
+     * @param recommendationId the recommendation
+     * @param userId the user asking, or null
+     * @return the reactions, or empty when the recommendation does not exist
+     */
+    public Optional<ReactionSummary> summary(long recommendationId, Long userId) {
+        return reactions(recommendationId).map(loaded -> new ReactionSummary(
+                recommendationId, loaded.users().size(), userId != null && loaded.users().contains(userId)));
+    }
+
+    /**
+     * Drops the counters and queued reactions of deleted recommendations.
+     * Must only be called once the deletion is committed.
+     *
+     * @param recommendationIds the deleted recommendations
+     */
+    public void forget(Collection<Long> recommendationIds) {
+        var forgotten = Set.copyOf(recommendationIds);
+        reactions.invalidateAll(forgotten);
+        unsaved.keySet().removeIf(key -> forgotten.contains(key.recommendationId()));
+    }
+
+    /**
+     * Writes the queued reactions in batches, one transaction per chunk.
+     * A change stays queued until its chunk is committed, and is then dropped unless a newer change for the
+     * same reaction replaced it; chunks that fail are retried on the next flush.
+     */
+    @Scheduled(fixedDelayString = "${community.reactions.flush-interval-ms:10000}",
+            initialDelayString = "${community.reactions.flush-interval-ms:10000}")
+    public void flush() {
+        var changes = Map.copyOf(unsaved);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        var keys = new ArrayList<>(changes.keySet());
+        for (int from = 0; from < keys.size(); from += FLUSH_CHUNK_SIZE) {
+            var chunk = keys.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, keys.size()));
+            flushLock.writeLock().lock();
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(chunk, changes));
+                chunk.forEach(key -> unsaved.remove(key, changes.get(key)));
+            } catch (RuntimeException e) {
+                logger.warn("Could not save {} reactions, retrying on the next flush", chunk.size(), e);
+            } finally {
+                flushLock.writeLock().unlock();
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private void write(List<ReactionKey> keys, Map<ReactionKey, PendingChange> changes) {
+        var inserts = new ArrayList<Object[]>();
+        var deletes = new ArrayList<Object[]>();
+        for (var key : keys) {
+            var change = changes.get(key);
+            if (change.present()) {
+                inserts.add(new Object[]{key.recommendationId(), key.userId(), new Timestamp(change.at()),
+                        key.recommendationId(), key.userId()});
+            } else {
+                deletes.add(new Object[]{key.recommendationId(), key.userId()});
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_REACTION, inserts);
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_REACTION, deletes);
+        }
+    }
+
+    /**
+     * Applies a change atomically per (recommendation, user), so the reacting users and the queued change always
+     * agree even when the same user reacts and withdraws concurrently. Only in-memory state is touched here; the
+     * table was read when the recommendation's users were loaded.
+     */
+    private boolean change(long recommendationId, long userId, Reactions loaded, boolean present) {
+        var changed = new boolean[1];
+        unsaved.compute(new ReactionKey(recommendationId, userId), (key, pending) -> {
+            changed[0] = present ? loaded.users().add(userId) : loaded.users().remove(userId);
+            return changed[0] ? new PendingChange(present, System.currentTimeMillis()) : pending;
+        });
+        return changed[0];
+    }
+
+    private Optional<Reactions> reactions(long recommendationId) {
+        return Optional.ofNullable(reactions.get(recommendationId, this::load));
+    }
+
+    /**
+     * Loads a recommendation's reacting users and applies this node's queued changes to them.
+     *
+     * @return the reactions, or null when the recommendation does not exist
+     */
+    private Reactions load(long recommendationId) {
+        if (!communityRecommendationRepository.existsById(recommendationId)) {
+            return null;
+        }
+        Set<Long> users = ConcurrentHashMap.newKeySet();
+        flushLock.readLock().lock();
+        try {
+            users.addAll(reactionRepository.findUserIdsByRecommendationId(recommendationId));
+            unsaved.forEach((key, change) -> {
+                if (key.recommendationId() == recommendationId) {
+                    if (change.present()) {
+                        users.add(key.userId());
+                    } else {
+                        users.remove(key.userId());
+                    }
+                }
+            });
+        } finally {
+            flushLock.readLock().unlock();
+        }
+        return new Reactions(users);
+    }
+}
@@ -0,0 +1,105 @@
+package com.agroapp.platform.community.application.internal.relevance;
+
+import com.agroapp.platform.community.application.internal.outboundservices.acl.ExternalCropFieldService;
+import com.agroapp.platform.community.application.internal.search.SpanishAnalyzer;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * Interest profiles of users: the analyzed terms of the crops they grow and the soils they grow them on,
+ * weighted for ranking recommendations with BM25.
+ * A crop counts fully and a soil type half for every crop field it appears on; the square root of the sum is
+ * the term's weight, so a farmer with ten coffee fields leans towards coffee without ignoring everything else.
+ * Profiles are kept in a bounded cache (published as the "community.interest-profiles" cache metrics) and
+ * dropped when one of the user's crop fields changes.
+ */
+@Component
+public class InterestProfiles {
+
+    static final float CROP_WEIGHT = 1f;
+    static final float SOIL_TYPE_WEIGHT = 0.5f;
+    private static final long CACHE_SIZE = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    /**
+     * A user's interest profile as parallel primitive arrays, ready to be used as a weighted query.
+     *
+     * @param terms the distinct analyzed terms
+     * @param weights the weight of each term
+     */
+    public record InterestProfile(String[] terms, float[] weights) {
+
+        public boolean isEmpty() {
+            return terms.length == 0;
+        }
+    }
+
+    private final ExternalCropFieldService externalCropFieldService;
+    private final LoadingCache<Long, InterestProfile> profiles;
+
+    public InterestProfiles(ExternalCropFieldService externalCropFieldService, MeterRegistry meterRegistry) {
+        this.externalCropFieldService = externalCropFieldService;
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(CACHE_SIZE)
+                .expireAfterWrite(TTL)
+                .recordStats()
+                .build(this::build);
+        CaffeineCacheMetrics.monitor(meterRegistry, profiles, "community.interest-profiles");
+    }
+
+    /**
+     * @param userId the user
+     * @return the user's profile, empty when the user grows nothing yet
+     */
+    public InterestProfile get(Long userId) {
+        return profiles.get(userId);
+    }
+
+    /**
+     * Drops the cached profile of a user.
+     *
+     * @param userId the user
+     */
+    public void evict(Long userId) {
+        profiles.invalidate(userId);
+    }
+
+    private InterestProfile build(Long userId) {
+        var sums = new LinkedHashMap<String, Float>();
+        for (var grown : externalCropFieldService.getGrownCropsByUserId(userId)) {
+            add(sums, grown.crop(), CROP_WEIGHT);
+            add(sums, grown.soilType(), SOIL_TYPE_WEIGHT);
+        }
+        return toProfile(sums);
+    }
+
+    static InterestProfile toProfile(Map<String, Float> sums) {
+        var terms = new String[sums.size()];
+        var weights = new float[sums.size()];
+        int i = 0;
+        for (var entry : sums.entrySet()) {
+            terms[i] = entry.getKey();
+            weights[i] = (float) Math.sqrt(entry.getValue());
+            i++;
+        }
+        return new InterestProfile(terms, weights);
+    }
+
+    static void add(Map<String, Float> sums, String text, float weight) {
+        if (text == null) {
+            return;
+        }
+        // Each term counts once per field, even if the name repeats it
+        for (String term : new LinkedHashSet<>(SpanishAnalyzer.analyze(text))) {
+            sums.merge(term, weight, Float::sum);
+        }
+    }
+}
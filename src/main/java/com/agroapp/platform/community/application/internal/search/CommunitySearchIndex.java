@@ -0,0 +1,285 @@
+package com.agroapp.platform.community.application.internal.search;
+
+import com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem;
+import com.agroapp.platform.community.domain.model.valueobjects.SearchCursor;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process full-text index over community recommendation comments.
+ * Built on startup from the latest disk snapshot plus the recommendations changed since it was taken
+ * (or from the whole table when there is no usable snapshot), then kept current by applying every
+ * committed save. Searches share a read lock; saves take the write lock for the duration of one put.
+ * The index is written back to disk periodically and on shutdown.
+ */
+@Component
+public class CommunitySearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommunitySearchIndex.class);
+
+    static final int LOAD_CHUNK_SIZE = 1000;
+    private static final int SNAPSHOT_MAGIC = 0x43534958;
+    private static final int SNAPSHOT_VERSION = 1;
+    /** Re-read rows saved shortly before the snapshot, whose events may not have been applied yet. */
+    private static final Duration SNAPSHOT_CATCH_UP_MARGIN = Duration.ofMinutes(1);
+
+    private record Snapshot(InvertedIndex index, long takenAt) {
+    }
+
+    private final CommunityRecommendationRepository communityRecommendationRepository;
+    private final Path snapshotPath;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    /** Saves committed while the index is loading, applied once it is ready. Guarded by the write lock. */
+    private final List<CommunityFeedItem> pendingSaves = new ArrayList<>();
+    /** Deletions committed while the index is loading, applied once it is ready. Guarded by the write lock. */
+    private final List<Long> pendingRemovals = new ArrayList<>();
+    private volatile InvertedIndex index;
+    private volatile boolean dirty;
+
+    public CommunitySearchIndex(CommunityRecommendationRepository communityRecommendationRepository,
+                                @Value("${community.search.snapshot-path:data/community-search.idx}") String snapshotPath) {
+        this.communityRecommendationRepository = communityRecommendationRepository;
+        this.snapshotPath = Path.of(snapshotPath);
+    }
+
+    /**
+     * Loads the index in the background once the application is up, so the first search does not pay for it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Thread.ofVirtual().name("community-search-index-load").start(this::load);
+    }
+
+    /**
+     * Searches the comments.
+     *
+     * @param text the search text
+     * @param after only hits ranked after this cursor (null for the best hits)
+     * @param count the maximum number of hits
+     * @return up to count hits, best first; empty when the text has no searchable terms
+     */
+    public List<ScoredRecommendation> search(String text, SearchCursor after, int count) {
+        var terms = SpanishAnalyzer.analyze(text);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        var current = index != null ? index : load();
+        lock.readLock().lock();
+        try {
+            return current.search(terms, after, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks the comments against a weighted set of already analyzed terms, such as a user's interest profile.
+     *
+     * @param terms the distinct analyzed terms
+     * @param weights the weight of each term, same length as terms
+     * @param count the maximum number of hits
+     * @return up to count hits, best first
+     */
+    public List<ScoredRecommendation> search(String[] terms, float[] weights, int count) {
+        if (terms.length == 0) {
+            return List.of();
+        }
+        var current = index != null ? index : load();
+        lock.readLock().lock();
+        try {
+            return current.search(terms, weights, null, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a created or updated recommendation. Must only be called once the change is committed.
+     *
+     * @param item the saved recommendation
+     */
+    public void apply(CommunityFeedItem item) {
+        var terms = SpanishAnalyzer.analyze(item.comment());
+        lock.writeLock().lock();
+        try {
+            if (index == null) {
+                pendingSaves.add(item);
+                return;
+            }
+            index.put(item.id(), terms);
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes deleted recommendations. Must only be called once the deletion is committed.
+     * Recommendations deleted while the application is down stay in an older disk snapshot; searches skip
+     * them, since hits are resolved against the database.
+     *
+     * @param recommendationIds the deleted recommendations
+     */
+    public void remove(Collection<Long> recommendationIds) {
+        lock.writeLock().lock();
+        try {
+            if (index == null) {
+                pendingRemovals.addAll(recommendationIds);
+                return;
+            }
+            recommendationIds.forEach(index::remove);
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the index to disk if it changed since the last snapshot.
+     * Written to a temporary file first and moved into place, so a crash never leaves a truncated snapshot.
+     */
+    @Scheduled(fixedDelayString = "${community.search.snapshot-interval-ms:300000}",
+            initialDelayString = "${community.search.snapshot-interval-ms:300000}")
+    public void writeSnapshot() {
+        var current = index;
+        if (current == null || !dirty) {
+            return;
+        }
+        Path temporary = null;
+        try {
+            Path directory = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            temporary = Files.createTempFile(directory, "community-search", ".tmp");
+            lock.readLock().lock();
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16))) {
+                dirty = false;
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeLong(System.currentTimeMillis());
+                current.writeTo(out);
+            } finally {
+                lock.readLock().unlock();
+            }
+            Files.move(temporary, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Wrote community search index snapshot to {}", snapshotPath);
+        } catch (IOException e) {
+            dirty = true;
+            logger.warn("Could not write community search index snapshot to {}", snapshotPath, e);
+            if (temporary != null) {
+                temporary.toFile().delete();
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        writeSnapshot();
+    }
+
+    private synchronized InvertedIndex load() {
+        if (index != null) {
+            return index;
+        }
+        long started = System.nanoTime();
+        var snapshot = readSnapshot();
+        InvertedIndex loaded;
+        int read;
+        if (snapshot != null) {
+            loaded = snapshot.index();
+            read = catchUp(loaded, new Date(snapshot.takenAt() - SNAPSHOT_CATCH_UP_MARGIN.toMillis()));
+        } else {
+            loaded = new InvertedIndex();
+            read = build(loaded);
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (var item : pendingSaves) {
+                loaded.put(item.id(), SpanishAnalyzer.analyze(item.comment()));
+            }
+            pendingRemovals.forEach(loaded::remove);
+            dirty = read > 0 || !pendingSaves.isEmpty() || !pendingRemovals.isEmpty();
+            pendingSaves.clear();
+            pendingRemovals.clear();
+            index = loaded;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Community search index ready: {} recommendations ({} read from the database, snapshot {}) in {} ms",
+                loaded.size(), read, snapshot != null ? "used" : "not used", (System.nanoTime() - started) / 1_000_000);
+        return loaded;
+    }
+
+    private int build(InvertedIndex target) {
+        int read = 0;
+        long afterId = 0;
+        while (true) {
+            var chunk = communityRecommendationRepository.findFeedItemsAfterId(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (var item : chunk) {
+                target.put(item.id(), SpanishAnalyzer.analyze(item.comment()));
+            }
+            read += chunk.size();
+            if (chunk.size() < LOAD_CHUNK_SIZE) {
+                return read;
+            }
+            afterId = chunk.getLast().id();
+        }
+    }
+
+    private int catchUp(InvertedIndex target, Date since) {
+        int read = 0;
+        long lastId = 0;
+        while (true) {
+            var chunk = communityRecommendationRepository.findChangedSince(since, lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (var recommendation : chunk) {
+                target.put(recommendation.getId(), SpanishAnalyzer.analyze(recommendation.getComment()));
+            }
+            read += chunk.size();
+            if (chunk.size() < LOAD_CHUNK_SIZE) {
+                return read;
+            }
+            since = chunk.getLast().getUpdatedAt();
+            lastId = chunk.getLast().getId();
+        }
+    }
+
+    private Snapshot readSnapshot() {
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath), 1 << 16))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                logger.warn("Ignoring community search index snapshot {} with an unknown format", snapshotPath);
+                return null;
+            }
+            long takenAt = in.readLong();
+            return new Snapshot(InvertedIndex.readFrom(in), takenAt);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable community search index snapshot {}", snapshotPath, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package com.agroapp.platform.community.application.internal.search;
+
+import com.agroapp.platform.community.domain.model.valueobjects.SearchCursor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Inverted index over analyzed comments with BM25 ranking.
+ * Documents get dense internal numbers in insertion order, so every posting list is sorted and append-only;
+ * an updated or removed document is only marked deleted, and the index compacts itself once a quarter of
+ * the numbers are dead. Per-document data lives in primitive arrays indexed by document number.
+ * Not thread-safe: {@link CommunitySearchIndex} guards it with a read-write lock. Searches may run
+ * concurrently with each other.
+ */
+final class InvertedIndex {
+
+    static final float K1 = 1.2f;
+    static final float B = 0.75f;
+    static final int COMPACTION_MIN_DELETED = 1024;
+
+    private static final class Postings {
+        int[] documents = new int[2];
+        int[] frequencies = new int[2];
+        int size;
+
+        void add(int document, int frequency) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            documents[size] = document;
+            frequencies[size] = frequency;
+            size++;
+        }
+    }
+
+    /** Per-thread score accumulator, reused across searches and cleared after each one. */
+    private static final class Scratch {
+        float[] scores = new float[0];
+        int[] touched = new int[0];
+
+        void ensureCapacity(int documents) {
+            if (scores.length < documents) {
+                scores = new float[documents + (documents >> 2)];
+                touched = new int[scores.length];
+            }
+        }
+    }
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> documentsByRecommendationId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+    private long[] recommendationIds = new long[16];
+    private int[] lengths = new int[16];
+    private int documentCount;
+    private int deletedCount;
+    private long liveLength;
+
+    /**
+     * @return the number of indexed (live) recommendations
+     */
+    int size() {
+        return documentCount - deletedCount;
+    }
+
+    /**
+     * Indexes a recommendation, replacing its previous version if any.
+     *
+     * @param recommendationId the recommendation id
+     * @param terms the analyzed comment
+     */
+    void put(long recommendationId, List<String> terms) {
+        remove(recommendationId);
+        if (terms.isEmpty()) {
+            return;
+        }
+        var termFrequencies = new HashMap<String, Integer>();
+        for (String term : terms) {
+            termFrequencies.merge(term, 1, Integer::sum);
+        }
+
+        int document = documentCount++;
+        if (document == recommendationIds.length) {
+            recommendationIds = Arrays.copyOf(recommendationIds, document * 2);
+            lengths = Arrays.copyOf(lengths, document * 2);
+        }
+        recommendationIds[document] = recommendationId;
+        lengths[document] = terms.size();
+        liveLength += terms.size();
+        documentsByRecommendationId.put(recommendationId, document);
+        termFrequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, ignored -> new Postings()).add(document, frequency));
+    }
+
+    /**
+     * Removes a recommendation from the index.
+     *
+     * @param recommendationId the recommendation id
+     */
+    void remove(long recommendationId) {
+        Integer document = documentsByRecommendationId.remove(recommendationId);
+        if (document == null) {
+            return;
+        }
+        deleted.set(document);
+        deletedCount++;
+        liveLength -= lengths[document];
+        if (deletedCount >= COMPACTION_MIN_DELETED && deletedCount * 4L > documentCount) {
+            compact();
+        }
+    }
+
+    /**
+     * Ranks the recommendations matching any of the terms with BM25.
+     *
+     * @param terms the analyzed query
+     * @param after only hits ranked after this cursor (null for the best hits)
+     * @param count the maximum number of hits
+     * @return up to count hits, best first
+     */
+    List<ScoredRecommendation> search(List<String> terms, SearchCursor after, int count) {
+        var distinct = new LinkedHashSet<>(terms).toArray(String[]::new);
+        var weights = new float[distinct.length];
+        Arrays.fill(weights, 1f);
+        return search(distinct, weights, after, count);
+    }
+
+    /**
+     * Ranks the recommendations matching any of the terms with BM25, each term's contribution scaled by its weight.
+     *
+     * @param terms the distinct analyzed query terms
+     * @param weights the weight of each term, same length as terms
+     * @param after only hits ranked after this cursor (null for the best hits)
+     * @param count the maximum number of hits
+     * @return up to count hits, best first
+     */
+    List<ScoredRecommendation> search(String[] terms, float[] weights, SearchCursor after, int count) {
+        int live = size();
+        if (live == 0 || count < 1) {
+            return List.of();
+        }
+        float averageLength = (float) liveLength / live;
+        var accumulator = scratch.get();
+        accumulator.ensureCapacity(documentCount);
+        float[] scores = accumulator.scores;
+        int[] touched = accumulator.touched;
+        int touchedCount = 0;
+
+        try {
+            for (int t = 0; t < terms.length; t++) {
+                var termPostings = postings.get(terms[t]);
+                if (termPostings == null) {
+                    continue;
+                }
+                boolean anyDeleted = deletedCount > 0;
+                int documentFrequency = anyDeleted ? 0 : termPostings.size;
+                for (int i = 0; anyDeleted && i < termPostings.size; i++) {
+                    if (!deleted.get(termPostings.documents[i])) {
+                        documentFrequency++;
+                    }
+                }
+                if (documentFrequency == 0) {
+                    continue;
+                }
+                float idf = weights[t] * (float) Math.log(1 + (live - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                for (int i = 0; i < termPostings.size; i++) {
+                    int document = termPostings.documents[i];
+                    if (anyDeleted && deleted.get(document)) {
+                        continue;
+                    }
+                    float frequency = termPostings.frequencies[i];
+                    float norm = K1 * (1 - B + B * lengths[document] / averageLength);
+                    if (scores[document] == 0) {
+                        touched[touchedCount++] = document;
+                    }
+                    scores[document] += idf * frequency * (K1 + 1) / (frequency + norm);
+                }
+            }
+
+            // Bounded heap whose head is the worst of the best hits kept so far
+            var best = new PriorityQueue<ScoredRecommendation>(count + 1, ScoredRecommendation.RANKING.reversed());
+            for (int i = 0; i < touchedCount; i++) {
+                int document = touched[i];
+                float score = scores[document];
+                long recommendationId = recommendationIds[document];
+                if (after != null && !after.precedes(score, recommendationId)) {
+                    continue;
+                }
+                if (best.size() == count) {
+                    var worst = best.peek();
+                    if (score < worst.score() || (score == worst.score() && recommendationId < worst.recommendationId())) {
+                        continue;
+                    }
+                    best.poll();
+                }
+                best.add(new ScoredRecommendation(recommendationId, score));
+            }
+            var ranked = new ArrayList<>(best);
+            ranked.sort(ScoredRecommendation.RANKING);
+            return ranked;
+        } finally {
+            for (int i = 0; i < touchedCount; i++) {
+                scores[touched[i]] = 0;
+            }
+        }
+    }
+
+    /**
+     * Renumbers the live documents densely and drops the deleted ones from every posting list.
+     */
+    void compact() {
+        int[] renumbered = new int[documentCount];
+        int next = 0;
+        for (int document = 0; document < documentCount; document++) {
+            if (deleted.get(document)) {
+                renumbered[document] = -1;
+                continue;
+            }
+            renumbered[document] = next;
+            recommendationIds[next] = recommendationIds[document];
+            lengths[next] = lengths[document];
+            next++;
+        }
+
+        Iterator<Postings> iterator = postings.values().iterator();
+        while (iterator.hasNext()) {
+            var termPostings = iterator.next();
+            int kept = 0;
+            for (int i = 0; i < termPostings.size; i++) {
+                int document = renumbered[termPostings.documents[i]];
+                if (document >= 0) {
+                    termPostings.documents[kept] = document;
+                    termPostings.frequencies[kept] = termPostings.frequencies[i];
+                    kept++;
+                }
+            }
+            termPostings.size = kept;
+            if (kept == 0) {
+                iterator.remove();
+            }
+        }
+        documentsByRecommendationId.replaceAll((recommendationId, document) -> renumbered[document]);
+        deleted.clear();
+        deletedCount = 0;
+        documentCount = next;
+    }
+
+    /**
+     * Writes the live documents in a compact binary form, renumbered densely. Does not modify the index,
+     * so it may run concurrently with searches.
+     *
+     * @param out the destination
+     * @throws IOException if writing fails
+     */
+    void writeTo(DataOutput out) throws IOException {
+        int[] renumbered = new int[documentCount];
+        int next = 0;
+        for (int document = 0; document < documentCount; document++) {
+            renumbered[document] = deleted.get(document) ? -1 : next++;
+        }
+        out.writeInt(next);
+        for (int document = 0; document < documentCount; document++) {
+            if (renumbered[document] >= 0) {
+                out.writeLong(recommendationIds[document]);
+                out.writeInt(lengths[document]);
+            }
+        }
+
+        var terms = new ArrayList<Map.Entry<String, Postings>>(postings.size());
+        var liveCounts = new ArrayList<Integer>(postings.size());
+        for (var entry : postings.entrySet()) {
+            var termPostings = entry.getValue();
+            int live = 0;
+            for (int i = 0; i < termPostings.size; i++) {
+                if (renumbered[termPostings.documents[i]] >= 0) {
+                    live++;
+                }
+            }
+            if (live > 0) {
+                terms.add(entry);
+                liveCounts.add(live);
+            }
+        }
+        out.writeInt(terms.size());
+        for (int t = 0; t < terms.size(); t++) {
+            var termPostings = terms.get(t).getValue();
+            out.writeUTF(terms.get(t).getKey());
+            out.writeInt(liveCounts.get(t));
+            for (int i = 0; i < termPostings.size; i++) {
+                int document = renumbered[termPostings.documents[i]];
+                if (document >= 0) {
+                    out.writeInt(document);
+                    out.writeInt(termPostings.frequencies[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads an index written by {@link #writeTo(DataOutput)}.
+     *
+     * @param in the source
+     * @return the index
+     * @throws IOException if reading fails or the data is inconsistent
+     */
+    static InvertedIndex readFrom(DataInput in) throws IOException {
+        var index = new InvertedIndex();
+        int documentCount = in.readInt();
+        if (documentCount < 0) {
+            throw new IOException("Corrupt search index snapshot");
+        }
+        index.recommendationIds = new long[Math.max(16, documentCount)];
+        index.lengths = new int[index.recommendationIds.length];
+        for (int document = 0; document < documentCount; document++) {
+            index.recommendationIds[document] = in.readLong();
+            index.lengths[document] = in.readInt();
+            index.liveLength += index.lengths[document];
+            index.documentsByRecommendationId.put(index.recommendationIds[document], document);
+        }
+        index.documentCount = documentCount;
+
+        int termCount = in.readInt();
+        for (int t = 0; t < termCount; t++) {
+            String term = in.readUTF();
+            int size = in.readInt();
+            var termPostings = new Postings();
+            termPostings.documents = new int[Math.max(2, size)];
+            termPostings.frequencies = new int[termPostings.documents.length];
+            for (int i = 0; i < size; i++) {
+                int document = in.readInt();
+                if (document < 0 || document >= documentCount) {
+                    throw new IOException("Corrupt search index snapshot");
+                }
+                termPostings.documents[i] = document;
+                termPostings.frequencies[i] = in.readInt();
+            }
+            termPostings.size = size;
+            index.postings.put(term, termPostings);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,18 @@
+package com.agroapp.platform.community.application.internal.search;
+
+import java.util.Comparator;
+
+/**
+ * A search match: a recommendation id and its BM25 score.
+ *
+ * @param recommendationId the matching recommendation
+ * @param score the BM25 score, higher is better
+ */
+public record ScoredRecommendation(long recommendationId, float score) {
+
+    /** Best first: by score descending, then by id descending (newest first among ties). */
+    static final Comparator<ScoredRecommendation> RANKING = Comparator
+            .comparingDouble(ScoredRecommendation::score)
+            .thenComparingLong(ScoredRecommendation::recommendationId)
+            .reversed();
+}
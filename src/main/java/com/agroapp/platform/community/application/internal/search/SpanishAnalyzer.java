@@ -0,0 +1,91 @@
+package com.agroapp.platform.community.application.internal.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Turns Spanish text into index terms: lowercases, folds accents ("café" → "cafe"), drops stop words and
+ * applies a light plural/gender stemmer, so "cafés", "cafe" and "Café" all index as the same term.
+ * The same analysis runs on comments and on queries.
+ */
+public final class SpanishAnalyzer {
+
+    static final int MAX_TERM_LENGTH = 40;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "al", "algo", "ante", "antes", "como", "con", "contra", "cual", "cuando", "de", "del", "desde",
+            "donde", "durante", "e", "el", "ella", "ellos", "en", "entre", "era", "es", "esa", "ese", "eso", "esta",
+            "estas", "este", "esto", "estos", "fue", "ha", "hay", "la", "las", "le", "les", "lo", "los", "mas", "me",
+            "mi", "muy", "ni", "no", "nos", "o", "otra", "otro", "para", "pero", "poco", "por", "porque", "que",
+            "quien", "se", "ser", "si", "sin", "sobre", "son", "su", "sus", "tambien", "te", "tu", "un", "una", "uno",
+            "unos", "y", "ya", "yo");
+
+    private SpanishAnalyzer() {
+    }
+
+    /**
+     * Analyzes a text.
+     *
+     * @param text the text (may be null)
+     * @return the terms in text order, repeated terms included
+     */
+    public static List<String> analyze(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT);
+
+        var terms = new ArrayList<String>();
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addTerm(terms, folded.substring(start, Math.min(i, start + MAX_TERM_LENGTH)));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static void addTerm(List<String> terms, String token) {
+        if (token.length() < 2 || STOP_WORDS.contains(token)) {
+            return;
+        }
+        terms.add(stem(token));
+    }
+
+    /**
+     * Light Spanish stemmer (after Savoy): strips plural endings and the final gender vowel.
+     * Expects lowercase, accent-folded input.
+     */
+    static String stem(String term) {
+        int length = term.length();
+        if (length < 4 || !Character.isLetter(term.charAt(length - 1))) {
+            return term;
+        }
+        char last = term.charAt(length - 1);
+        if (last == 'o' || last == 'a' || last == 'e') {
+            return term.substring(0, length - 1);
+        }
+        if (last == 's' && length >= 5) {
+            char beforeS = term.charAt(length - 2);
+            if (term.endsWith("eses")) {
+                return term.substring(0, length - 2);
+            }
+            if (term.endsWith("ces")) {
+                return term.substring(0, length - 3) + "z";
+            }
+            if (beforeS == 'o' || beforeS == 'a' || beforeS == 'e') {
+                return term.substring(0, length - 2);
+            }
+        }
+        return term;
+    }
+}
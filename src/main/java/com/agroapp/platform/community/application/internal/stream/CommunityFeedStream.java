@@ -0,0 +1,152 @@
+package com.agroapp.platform.community.application.internal.stream;
+
+import com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Live feed of created and updated community recommendations.
+ * Saves are published into a ring buffer by a single writer; each subscriber reads it at its own pace from
+ * its own virtual thread, which parks while there is nothing new, so idle connections hold no platform thread.
+ * A subscriber that falls a full ring behind is told to resync and dropped, so a slow client never holds
+ * back the writer or the other subscribers.
+ * Event ids carry a random epoch picked at startup, so a client resuming with an id from before a restart,
+ * or from another instance, is told to resync instead of silently skipping or repeating events.
+ */
+@Component
+public class CommunityFeedStream {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommunityFeedStream.class);
+
+    static final int RING_CAPACITY = 1024;
+    static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+    private static final long RESYNC = -1;
+
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final FeedEventRingBuffer ringBuffer = new FeedEventRingBuffer(RING_CAPACITY, epoch);
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private final Condition published = publishLock.newCondition();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final int maxSubscribers;
+
+    public CommunityFeedStream(@Value("${community.stream.max-subscribers:10000}") int maxSubscribers) {
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    /**
+     * Publishes a saved recommendation to every subscriber. Must only be called once the change is committed.
+     *
+     * @param recommendation the saved recommendation
+     * @param created true for a new recommendation
+     */
+    public void publish(CommunityFeedItem recommendation, boolean created) {
+        publishLock.lock();
+        try {
+            ringBuffer.publish(recommendation, created);
+            published.signalAll();
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    /**
+     * Starts delivering events to a subscriber on a new virtual thread.
+     *
+     * @param lastEventId the {@link FeedStreamEvent#id() id} of the last event the client received before
+     *                    reconnecting, or null to receive only events published from now on
+     * @param subscriber the receiving end
+     * @return false when the subscriber limit is reached and the subscription was not started
+     */
+    public boolean subscribe(String lastEventId, FeedStreamSubscriber subscriber) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return false;
+        }
+        long current = ringBuffer.published();
+        long next = lastEventId == null ? current : resumePoint(lastEventId, current);
+        Thread.ofVirtual().name("community-feed-subscriber").start(() -> deliver(next, subscriber));
+        return true;
+    }
+
+    /**
+     * @return the number of open subscriptions
+     */
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * @return the sequence after the given event, or {@link #RESYNC} when the id was not issued by this stream
+     */
+    private long resumePoint(String lastEventId, long published) {
+        int separator = lastEventId.indexOf(FeedStreamEvent.EPOCH_SEPARATOR);
+        if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+            return RESYNC;
+        }
+        try {
+            long sequence = Long.parseLong(lastEventId.substring(separator + 1));
+            return sequence >= 0 && sequence < published ? sequence + 1 : RESYNC;
+        } catch (NumberFormatException e) {
+            return RESYNC;
+        }
+    }
+
+    private void deliver(long next, FeedStreamSubscriber subscriber) {
+        try {
+            if (next == RESYNC) {
+                subscriber.onResync();
+                return;
+            }
+            while (!subscriber.isClosed()) {
+                if (next < ringBuffer.published()) {
+                    var event = ringBuffer.get(next);
+                    if (event == null) {
+                        subscriber.onResync();
+                        return;
+                    }
+                    subscriber.onEvent(event);
+                    next++;
+                } else if (!awaitPublished(next)) {
+                    subscriber.onHeartbeat();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Community feed subscriber disconnected: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            subscriberCount.decrementAndGet();
+            subscriber.onClose();
+        }
+    }
+
+    /**
+     * Parks until the given sequence is published or the heartbeat interval elapses.
+     *
+     * @return true if the sequence was published
+     */
+    private boolean awaitPublished(long sequence) throws InterruptedException {
+        publishLock.lock();
+        try {
+            long remaining = HEARTBEAT_INTERVAL.toNanos();
+            while (ringBuffer.published() <= sequence) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = published.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            publishLock.unlock();
+        }
+    }
+}
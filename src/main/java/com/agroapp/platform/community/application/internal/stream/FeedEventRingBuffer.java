@@ -0,0 +1,67 @@
+package com.agroapp.platform.community.application.internal.stream;
+
+import com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size ring of the latest feed events, written by a single writer and read without locks.
+ * Each slot holds an event that carries its own sequence, so a reader that fell a full lap behind sees a
+ * newer sequence in the slot it expected and knows it has been overrun, instead of reading a wrong event.
+ */
+final class FeedEventRingBuffer {
+
+    private final AtomicReferenceArray<FeedStreamEvent> slots;
+    private final int mask;
+    private final String epoch;
+    private final AtomicLong published = new AtomicLong();
+
+    /**
+     * @param capacity number of events kept, rounded up to a power of two
+     * @param epoch the stream instance the events belong to
+     */
+    FeedEventRingBuffer(int capacity, String epoch) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.epoch = epoch;
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * @return the sequence the next published event will get; every lower sequence is readable unless overrun
+     */
+    long published() {
+        return published.get();
+    }
+
+    /**
+     * Appends an event. Must only be called by one thread at a time.
+     *
+     * @param recommendation the saved recommendation
+     * @param created true for a new recommendation
+     * @return the published event
+     */
+    FeedStreamEvent publish(CommunityFeedItem recommendation, boolean created) {
+        long sequence = published.get();
+        var event = new FeedStreamEvent(epoch, sequence, recommendation, created);
+        slots.set((int) (sequence & mask), event);
+        published.set(sequence + 1);
+        return event;
+    }
+
+    /**
+     * Reads a published event.
+     *
+     * @param sequence the event sequence, lower than {@link #published()}
+     * @return the event, or null when it has already been overwritten
+     */
+    FeedStreamEvent get(long sequence) {
+        var event = slots.get((int) (sequence & mask));
+        return event != null && event.sequence() == sequence ? event : null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.agroapp.platform.community.application.internal.stream;
+
+import com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem;
+
+/**
+ * A recommendation change published to the live feed.
+ *
+ * @param epoch identifies the stream instance, which changes on every restart
+ * @param sequence position in the stream, increasing by one per event and restarting at 0 with a new epoch
+ * @param recommendation the saved recommendation
+ * @param created true for a new recommendation, false for an update
+ */
+public record FeedStreamEvent(String epoch, long sequence, CommunityFeedItem recommendation, boolean created) {
+
+    static final char EPOCH_SEPARATOR = '-';
+
+    /**
+     * @return the event id clients send back to resume, unique across restarts; used as the SSE event id
+     */
+    public String id() {
+        return epoch + EPOCH_SEPARATOR + sequence;
+    }
+}
@@ -0,0 +1,34 @@
+package com.agroapp.platform.community.application.internal.stream;
+
+import java.io.IOException;
+
+/**
+ * Receiving end of a live feed subscription, implemented by the transport (e.g. Server-Sent Events).
+ * All callbacks of one subscriber run on the same thread, in stream order.
+ */
+public interface FeedStreamSubscriber {
+
+    void onEvent(FeedStreamEvent event) throws IOException;
+
+    /**
+     * Called when nothing was published for a while, so idle connections can be kept alive and dead ones detected.
+     */
+    void onHeartbeat() throws IOException;
+
+    /**
+     * Called when the subscriber fell too far behind and missed events, or resumed from an event id this stream
+     * cannot continue from, e.g. one issued before a restart. The subscription ends right after; the client
+     * should reload the feed and subscribe again.
+     */
+    void onResync() throws IOException;
+
+    /**
+     * Called once when the subscription ends, for any reason.
+     */
+    void onClose();
+
+    /**
+     * @return true once the client is gone, to stop the subscription
+     */
+    boolean isClosed();
+}
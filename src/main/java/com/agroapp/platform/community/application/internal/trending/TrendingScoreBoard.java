@@ -0,0 +1,334 @@
+package com.agroapp.platform.community.application.internal.trending;
+
+import com.agroapp.platform.community.domain.model.entities.CommunityRecommendationScore;
+import com.agroapp.platform.community.domain.model.valueobjects.EngagementKind;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationScoreRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Time-decayed engagement scores of community recommendations, with the hottest ones kept ranked.
+ * An interaction of weight w at time t adds w * 2^((t - origin) / halfLife); the current score is that sum
+ * times 2^(-(now - origin) / halfLife), so every score halves each half-life without ever being touched.
+ * Because the decay factor is the same for everyone, the ranking only changes when a recommendation gets
+ * an interaction, and the top {@link #CAPACITY} can be maintained incrementally in a bounded skip list.
+ * Sums are kept in log2 form so they never overflow.
+ * Recording is lock-free across recommendations: a score is updated atomically per recommendation in a
+ * concurrent map, which also moves it in the ranking, so only interactions with the same recommendation wait
+ * for each other. Views count once per viewer and recommendation within {@link #VIEW_WINDOW}, tracked in a
+ * bounded cache (published as the "community.trending-views" cache metrics), so reloading a page does not
+ * push a recommendation up.
+ * Only scores near the top are tracked: every flush drops the ones more than {@link #PRUNE_MARGIN} halvings below
+ * the lowest ranked score, and the lowest beyond {@link #MAX_TRACKED}, from memory and from the table. Such a
+ * recommendation needs about as much fresh engagement to rank as a new one, so it starts over if it gets any.
+ * Scores are written to the database every flush interval (and on shutdown); a crash loses at most the
+ * interactions of the last interval.
+ */
+@Component
+public class TrendingScoreBoard {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrendingScoreBoard.class);
+
+    public static final int CAPACITY = 100;
+    static final Instant DECAY_ORIGIN = Instant.parse("2026-01-01T00:00:00Z");
+    static final Duration HALF_LIFE = Duration.ofHours(24);
+    static final int CHUNK_SIZE = 500;
+    static final double PRUNE_MARGIN = 10;
+    static final int MAX_TRACKED = 10_000;
+    static final Duration VIEW_WINDOW = Duration.ofMinutes(30);
+    private static final long RECENT_VIEWS_CACHE_SIZE = 100_000;
+
+    /**
+     * A recommendation and its log2 score relative to {@link #DECAY_ORIGIN}.
+     */
+    public record Entry(long recommendationId, double logScore) {
+
+        /**
+         * @param now the current time
+         * @return the decayed engagement score at that time
+         */
+        public double scoreAt(Instant now) {
+            return Math.pow(2, logScore - halfLivesSinceOrigin(now));
+        }
+    }
+
+    private record View(long viewerId, long recommendationId) {
+    }
+
+    private static final Comparator<Entry> HOTTEST_FIRST = Comparator
+            .comparingDouble(Entry::logScore)
+            .thenComparingLong(Entry::recommendationId)
+            .reversed();
+
+    private final CommunityRecommendationScoreRepository scoreRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, Double> logScores = new ConcurrentHashMap<>();
+    private final Map<Long, Double> unsaved = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Entry> hottest = new ConcurrentSkipListSet<>(HOTTEST_FIRST);
+    private final Cache<View, Boolean> recentViews;
+    private volatile boolean loaded;
+
+    @Autowired
+    public TrendingScoreBoard(CommunityRecommendationScoreRepository scoreRepository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this(scoreRepository, transactionManager, meterRegistry, Ticker.systemTicker());
+    }
+
+    TrendingScoreBoard(CommunityRecommendationScoreRepository scoreRepository,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       Ticker ticker) {
+        this.scoreRepository = scoreRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.recentViews = Caffeine.newBuilder()
+                .maximumSize(RECENT_VIEWS_CACHE_SIZE)
+                .expireAfterWrite(VIEW_WINDOW)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, recentViews, "community.trending-views");
+    }
+
+    /**
+     * Records an interaction with a recommendation.
+     *
+     * @param recommendationId the recommendation
+     * @param kind the kind of interaction
+     * @param at when it happened
+     */
+    public void record(long recommendationId, EngagementKind kind, Instant at) {
+        if (!loaded) {
+            load();
+        }
+        double contribution = Math.log(kind.weight()) / Math.log(2) + halfLivesSinceOrigin(at);
+        double updated = logScores.compute(recommendationId, (id, previous) -> {
+            double sum = previous == null ? contribution : logSum(previous, contribution);
+            rank(id, previous, sum);
+            return sum;
+        });
+        // Scores only grow, so the highest one is the latest
+        unsaved.merge(recommendationId, updated, Math::max);
+    }
+
+    /**
+     * Records a view of a recommendation, unless the same viewer already viewed it within {@link #VIEW_WINDOW}.
+     *
+     * @param recommendationId the recommendation
+     * @param viewerId the viewing user
+     * @param at when it happened
+     */
+    public void recordView(long recommendationId, long viewerId, Instant at) {
+        if (recentViews.asMap().putIfAbsent(new View(viewerId, recommendationId), Boolean.TRUE) == null) {
+            record(recommendationId, EngagementKind.Viewed, at);
+        }
+    }
+
+    /**
+     * Returns the hottest recommendations. Lock-free; runs in O(limit).
+     *
+     * @param limit the maximum number of entries, at most {@link #CAPACITY}
+     * @return the entries, hottest first
+     */
+    public List<Entry> hottest(int limit) {
+        if (!loaded) {
+            load();
+        }
+        var entries = new ArrayList<Entry>(Math.min(limit, CAPACITY));
+        for (var entry : hottest) {
+            if (entries.size() == limit) {
+                break;
+            }
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * Drops deleted recommendations from the ranking, letting the next tracked one move up.
+     * Must only be called once the deletion, including that of the stored scores, is committed.
+     *
+     * @param recommendationIds the deleted recommendations
+     */
+    public synchronized void forget(Collection<Long> recommendationIds) {
+        boolean ranked = false;
+        for (Long recommendationId : recommendationIds) {
+            Double logScore = logScores.remove(recommendationId);
+            unsaved.remove(recommendationId);
+            ranked |= logScore != null && hottest.remove(new Entry(recommendationId, logScore));
+        }
+        if (ranked) {
+            // Entries already ranked compare equal to themselves, so only the best of the others move up
+            for (Long recommendationId : logScores.keySet()) {
+                logScores.computeIfPresent(recommendationId, (id, logScore) -> {
+                    rank(id, null, logScore);
+                    return logScore;
+                });
+            }
+        }
+    }
+
+    /**
+     * Prunes the scores that fell too far below the ranking, then writes the scores changed since the last
+     * flush, in chunks of one transaction each.
+     * Chunks that fail are kept for the next flush unless a newer score replaced them in the meantime.
+     */
+    @Scheduled(fixedDelayString = "${community.trending.flush-interval-ms:60000}",
+            initialDelayString = "${community.trending.flush-interval-ms:60000}")
+    public void flush() {
+        Map<Long, Double> changes;
+        Double floor;
+        synchronized (this) {
+            floor = prune();
+            changes = new HashMap<>(unsaved);
+            // Keeps the scores that changed again since they were taken
+            changes.forEach(unsaved::remove);
+        }
+        if (floor != null) {
+            try {
+                int pruned = transactionTemplate.execute(status -> scoreRepository.deleteByLogScoreBelow(floor));
+                logger.debug("Pruned {} stored trending scores", pruned);
+            } catch (RuntimeException e) {
+                logger.warn("Could not prune trending scores, retrying on the next flush", e);
+            }
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        var ids = new ArrayList<>(changes.keySet());
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            var chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> save(chunk, changes));
+            } catch (RuntimeException e) {
+                logger.warn("Could not save {} trending scores, retrying on the next flush", chunk.size(), e);
+                chunk.forEach(id -> unsaved.putIfAbsent(id, changes.get(id)));
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    /**
+     * Drops the scores below the pruning floor from memory. Must hold the monitor, which keeps flushes and
+     * deletions apart; a concurrent interaction keeps its score, since entries are only removed while they
+     * still hold the pruned value.
+     *
+     * @return the floor, or null while fewer scores than the ranking holds are tracked
+     */
+    private Double prune() {
+        if (hottest.size() < CAPACITY) {
+            return null;
+        }
+        double floor = hottest.last().logScore() - PRUNE_MARGIN;
+        if (logScores.size() >= MAX_TRACKED) {
+            double lowestKept = logScores.values().stream()
+                    .sorted(Comparator.reverseOrder())
+                    .skip(MAX_TRACKED - 1)
+                    .findFirst()
+                    .orElseThrow();
+            floor = Math.max(floor, lowestKept);
+        }
+        double pruneBelow = floor;
+        logScores.values().removeIf(logScore -> logScore < pruneBelow);
+        unsaved.values().removeIf(logScore -> logScore < pruneBelow);
+        return floor;
+    }
+
+    private void save(List<Long> chunk, Map<Long, Double> changes) {
+        // Scores forgotten or pruned since the changes were taken must not come back
+        List<Long> ids = chunk.stream().filter(logScores::containsKey).toList();
+        var existing = new HashSet<Long>();
+        for (var score : scoreRepository.findAllById(ids)) {
+            score.updateLogScore(changes.get(score.getRecommendationId()));
+            existing.add(score.getRecommendationId());
+        }
+        var created = ids.stream()
+                .filter(id -> !existing.contains(id))
+                .map(id -> new CommunityRecommendationScore(id, changes.get(id)))
+                .toList();
+        scoreRepository.saveAll(created);
+    }
+
+    /**
+     * Loads the highest stored scores, at most {@link #MAX_TRACKED}; the rest are pruned by the next flush.
+     */
+    private synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        for (int page = 0; page * CHUNK_SIZE < MAX_TRACKED; page++) {
+            var chunk = scoreRepository.findByOrderByLogScoreDescRecommendationIdDesc(PageRequest.of(page, CHUNK_SIZE));
+            for (var score : chunk) {
+                logScores.put(score.getRecommendationId(), score.getLogScore());
+                rank(score.getRecommendationId(), null, score.getLogScore());
+            }
+            if (chunk.size() < CHUNK_SIZE) {
+                break;
+            }
+        }
+        loaded = true;
+        logger.info("Loaded {} trending scores", logScores.size());
+    }
+
+    /**
+     * Moves a recommendation to its new place in the bounded ranking. Must be called while its score is being
+     * computed in {@link #logScores}, so each recommendation is only ever moved by one thread at a time.
+     * A concurrent reader may briefly miss an entry that is being moved.
+     */
+    private void rank(long recommendationId, Double previous, double updated) {
+        var candidate = new Entry(recommendationId, updated);
+        if (previous != null && hottest.remove(new Entry(recommendationId, previous))) {
+            hottest.add(candidate);
+            return;
+        }
+        if (hottest.size() < CAPACITY || HOTTEST_FIRST.compare(candidate, hottest.last()) < 0) {
+            hottest.add(candidate);
+            // Recommendations ranked concurrently may both have taken the last place
+            while (hottest.size() > CAPACITY) {
+                hottest.pollLast();
+            }
+        }
+    }
+
+    /**
+     * @return log2(2^a + 2^b), computed without overflow
+     */
+    static double logSum(double a, double b) {
+        double high = Math.max(a, b);
+        double low = Math.min(a, b);
+        return high + Math.log1p(Math.pow(2, low - high)) / Math.log(2);
+    }
+
+    static double halfLivesSinceOrigin(Instant at) {
+        return (double) Duration.between(DECAY_ORIGIN, at).toMillis() / HALF_LIFE.toMillis();
+    }
+}
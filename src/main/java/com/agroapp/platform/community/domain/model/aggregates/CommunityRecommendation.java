@@ -1,42 +1,77 @@
 package com.agroapp.platform.community.domain.model.aggregates;
 
+import com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem;
+import com.agroapp.platform.community.domain.model.valueobjects.RegionKey;
 import com.agroapp.platform.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
 import jakarta.persistence.*;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * CommunityRecommendation Aggregate Root
+ * region is the normalized region key of the author, set when the recommendation is written and only while the
+ * author's location is public, so a private location never places a recommendation in a regional feed.
+ * replyCount is the number of replies in the recommendation's thread. It is only changed by an atomic
+ * increment in the database, which also numbers the replies (see ReplyPath).
+ * userName, region and replyCount are left out of entity updates: they are only changed by bulk updates
+ * (author profile propagation and reply numbering), so saving an entity loaded before one of those
+ * never writes the stale value back.
+ * commentDate is truncated to microseconds, the precision the database keeps, so feed cursors taken
+ * from a freshly saved recommendation match the stored row.
  */
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_community_recommendations_updated_at", columnList = "updatedAt, id"),
+        @Index(name = "idx_community_recommendations_user_id", columnList = "userId"),
+        @Index(name = "idx_community_recommendations_comment_date", columnList = "commentDate, id"),
+        @Index(name = "idx_community_recommendations_user_id_comment_date", columnList = "userId, commentDate, id"),
+        @Index(name = "idx_community_recommendations_region_comment_date", columnList = "region, commentDate, id")
+})
 public class CommunityRecommendation extends AuditableAbstractAggregateRoot<CommunityRecommendation> {
 
     private Long userId;
+    @Column(updatable = false)
     private String userName;
     private LocalDateTime commentDate;
     private String comment;
 
+    @Column(length = RegionKey.MAX_LENGTH, updatable = false)
+    private String region;
+
+    @Column(nullable = false, updatable = false)
+    private int replyCount;
+
     public CommunityRecommendation() {
-        this.commentDate = LocalDateTime.now();
+        this.commentDate = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     public CommunityRecommendation(Long userId, String userName, String comment) {
+        this(userId, userName, comment, null);
+    }
+
+    public CommunityRecommendation(Long userId, String userName, String comment, RegionKey region) {
         this.userId = userId;
         this.userName = userName;
-        this.commentDate = LocalDateTime.now();
+        this.commentDate = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
         this.comment = comment;
+        this.region = region != null ? region.value() : null;
     }
 
-    public CommunityRecommendation update(String userName, String comment) {
-        this.userName = userName;
+    public CommunityRecommendation update(String comment) {
         this.comment = comment;
         return this;
     }
 
-    public void updateUserName(String userName) {
-        this.userName = userName;
+    /**
+     * Creates an immutable feed view of this recommendation.
+     *
+     * @return the feed item
+     */
+    public CommunityFeedItem toFeedItem() {
+        return new CommunityFeedItem(getId(), userId, userName, commentDate, comment, region);
     }
 }
 
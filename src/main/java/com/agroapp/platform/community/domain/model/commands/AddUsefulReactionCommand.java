@@ -0,0 +1,15 @@
+package com.agroapp.platform.community.domain.model.commands;
+
+/**
+ * Command to mark a recommendation as useful. Idempotent per user.
+ *
+ * @param recommendationId the recommendation
+ * @param userId the reacting user
+ */
+public record AddUsefulReactionCommand(Long recommendationId, Long userId) {
+    public AddUsefulReactionCommand {
+        if (recommendationId == null || userId == null) {
+            throw new IllegalArgumentException("Recommendation ID and user ID are required to react");
+        }
+    }
+}
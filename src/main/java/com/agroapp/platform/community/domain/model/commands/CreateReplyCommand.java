@@ -0,0 +1,20 @@
+package com.agroapp.platform.community.domain.model.commands;
+
+/**
+ * Command to reply to a recommendation, or to another reply in its thread.
+ *
+ * @param recommendationId the recommendation whose thread gets the reply
+ * @param parentReplyId the reply being answered (null to answer the recommendation itself)
+ * @param userId the replying user
+ * @param comment the reply text
+ */
+public record CreateReplyCommand(Long recommendationId, Long parentReplyId, Long userId, String comment) {
+    public CreateReplyCommand {
+        if (recommendationId == null || userId == null) {
+            throw new IllegalArgumentException("Recommendation ID and user ID are required to reply");
+        }
+        if (comment == null || comment.isBlank()) {
+            throw new IllegalArgumentException("Reply comment must not be blank");
+        }
+    }
+}
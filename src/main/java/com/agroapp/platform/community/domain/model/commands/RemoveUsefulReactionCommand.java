@@ -0,0 +1,15 @@
+package com.agroapp.platform.community.domain.model.commands;
+
+/**
+ * Command to withdraw a useful reaction. Idempotent per user.
+ *
+ * @param recommendationId the recommendation
+ * @param userId the user withdrawing the reaction
+ */
+public record RemoveUsefulReactionCommand(Long recommendationId, Long userId) {
+    public RemoveUsefulReactionCommand {
+        if (recommendationId == null || userId == null) {
+            throw new IllegalArgumentException("Recommendation ID and user ID are required to remove a reaction");
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.agroapp.platform.community.domain.model.commands;
 
 public record UpdateCommunityRecommendationCommand(
         Long recommendationId,
-        String userName,
         String comment
 ) {
 }
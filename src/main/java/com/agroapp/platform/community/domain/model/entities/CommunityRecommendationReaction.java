@@ -0,0 +1,39 @@
+package com.agroapp.platform.community.domain.model.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * CommunityRecommendationReaction Entity
+ * A user marking a recommendation as useful. A user reacts at most once per recommendation.
+ * Rows are written in batches by ReactionCounters rather than one by one through JPA.
+ */
+@Entity
+@Getter
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_community_recommendation_reactions_recommendation_user",
+                columnNames = {"recommendation_id", "user_id"})
+})
+public class CommunityRecommendationReaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recommendation_id", nullable = false)
+    private Long recommendationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "reacted_at", nullable = false)
+    private Date reactedAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public CommunityRecommendationReaction() {
+    }
+}
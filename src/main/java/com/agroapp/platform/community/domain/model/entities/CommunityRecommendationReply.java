@@ -0,0 +1,74 @@
+package com.agroapp.platform.community.domain.model.entities;
+
+import com.agroapp.platform.community.domain.model.valueobjects.ReplyPath;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * CommunityRecommendationReply Entity
+ * A reply to a recommendation or to another reply of the same thread.
+ * The reply's position in the thread is stored as a materialized path (see {@link ReplyPath}); the unique
+ * (recommendation_id, path) index serves whole threads and subtrees as a single ordered range scan.
+ * userName is copied from the author, like on recommendations, so a thread renders without user lookups.
+ */
+@Entity
+@Getter
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_community_recommendation_replies_recommendation_path",
+                columnNames = {"recommendation_id", "path"})
+}, indexes = {
+        @Index(name = "idx_community_recommendation_replies_user_id", columnList = "user_id")
+})
+public class CommunityRecommendationReply {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recommendation_id", nullable = false)
+    private Long recommendationId;
+
+    @Column(name = "parent_reply_id")
+    private Long parentReplyId;
+
+    @Column(name = "path", nullable = false, length = ReplyPath.MAX_LENGTH)
+    private String path;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    private String userName;
+
+    @Column(nullable = false, length = 2000)
+    private String comment;
+
+    @Column(nullable = false)
+    private LocalDateTime replyDate;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public CommunityRecommendationReply() {
+    }
+
+    public CommunityRecommendationReply(Long recommendationId, Long parentReplyId, ReplyPath path,
+                                        Long userId, String userName, String comment) {
+        this.recommendationId = recommendationId;
+        this.parentReplyId = parentReplyId;
+        this.path = path.value();
+        this.userId = userId;
+        this.userName = userName;
+        this.comment = comment;
+        this.replyDate = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    /**
+     * @return the reply's depth in the thread, 1 for a direct reply to the recommendation
+     */
+    public int getDepth() {
+        return new ReplyPath(path).depth();
+    }
+}
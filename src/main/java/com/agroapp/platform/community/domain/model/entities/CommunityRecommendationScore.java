@@ -0,0 +1,60 @@
+package com.agroapp.platform.community.domain.model.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * CommunityRecommendationScore Entity
+ * Persisted trending score of a recommendation, so rankings survive restarts.
+ * The score is kept as log2 of the engagement decayed to a fixed origin (see TrendingScoreBoard), which
+ * only grows and never needs re-decaying. The id is the recommendation id, assigned rather than generated.
+ */
+@Entity
+@Getter
+public class CommunityRecommendationScore implements Persistable<Long> {
+
+    @Id
+    private Long recommendationId;
+
+    @Column(nullable = false)
+    private double logScore;
+
+    @Transient
+    private boolean newEntity;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public CommunityRecommendationScore() {
+    }
+
+    public CommunityRecommendationScore(Long recommendationId, double logScore) {
+        this.recommendationId = recommendationId;
+        this.logScore = logScore;
+        this.newEntity = true;
+    }
+
+    public void updateLogScore(double logScore) {
+        this.logScore = logScore;
+    }
+
+    @Override
+    public Long getId() {
+        return recommendationId;
+    }
+
+    /**
+     * Lets save() insert directly instead of first selecting the row, since the id is assigned.
+     */
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -0,0 +1,22 @@
+package com.agroapp.platform.community.domain.model.events;
+
+import com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event triggered when a community recommendation is created or updated.
+ * Carries an immutable view of the saved recommendation so read models can apply it without reloading.
+ */
+@Getter
+public class CommunityRecommendationSavedEvent extends ApplicationEvent {
+
+    private final CommunityFeedItem recommendation;
+    private final boolean created;
+
+    public CommunityRecommendationSavedEvent(Object source, CommunityFeedItem recommendation, boolean created) {
+        super(source);
+        this.recommendation = recommendation;
+        this.created = created;
+    }
+}
@@ -0,0 +1,21 @@
+package com.agroapp.platform.community.domain.model.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * Event triggered when a chunk of a deleted user's community recommendations is purged.
+ * Contains the recommendation ids so other bounded contexts can record the deletions.
+ */
+@Getter
+public class CommunityRecommendationsPurgedEvent extends ApplicationEvent {
+
+    private final List<Long> recommendationIds;
+
+    public CommunityRecommendationsPurgedEvent(Object source, List<Long> recommendationIds) {
+        super(source);
+        this.recommendationIds = List.copyOf(recommendationIds);
+    }
+}
@@ -0,0 +1,22 @@
+package com.agroapp.platform.community.domain.model.queries;
+
+import com.agroapp.platform.community.domain.model.valueobjects.FeedCursor;
+
+/**
+ * Query for one page of the newest-first community feed.
+ *
+ * @param userId only recommendations of this author (null for all authors)
+ * @param region only recommendations from this region key (null for all regions); not combinable with userId
+ * @param cursor position after which the page starts (null for the first page)
+ * @param limit maximum number of items
+ */
+public record GetCommunityFeedQuery(Long userId, String region, FeedCursor cursor, int limit) {
+    public GetCommunityFeedQuery {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Feed page limit must be positive");
+        }
+        if (userId != null && region != null) {
+            throw new IllegalArgumentException("Feed can be filtered by user or by region, not both");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.agroapp.platform.community.domain.model.queries;
+
+/**
+ * Query for the recommendations most relevant to what a user grows, best first.
+ *
+ * @param userId the user the recommendations are for
+ * @param limit maximum number of recommendations
+ */
+public record GetRecommendationsForUserQuery(Long userId, int limit) {
+    public GetRecommendationsForUserQuery {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID is required");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+    }
+}
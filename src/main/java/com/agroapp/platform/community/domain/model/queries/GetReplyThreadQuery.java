@@ -0,0 +1,15 @@
+package com.agroapp.platform.community.domain.model.queries;
+
+/**
+ * Query for the replies of a recommendation, or for one reply and the replies below it.
+ *
+ * @param recommendationId the recommendation the thread belongs to
+ * @param replyId the root of the subtree to load (null for the whole thread)
+ */
+public record GetReplyThreadQuery(Long recommendationId, Long replyId) {
+    public GetReplyThreadQuery {
+        if (recommendationId == null) {
+            throw new IllegalArgumentException("Recommendation ID is required");
+        }
+    }
+}
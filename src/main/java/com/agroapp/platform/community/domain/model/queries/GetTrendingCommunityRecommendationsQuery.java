@@ -0,0 +1,14 @@
+package com.agroapp.platform.community.domain.model.queries;
+
+/**
+ * Query for the recommendations with the highest time-decayed engagement score, hottest first.
+ *
+ * @param limit maximum number of recommendations
+ */
+public record GetTrendingCommunityRecommendationsQuery(int limit) {
+    public GetTrendingCommunityRecommendationsQuery {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Trending limit must be positive");
+        }
+    }
+}
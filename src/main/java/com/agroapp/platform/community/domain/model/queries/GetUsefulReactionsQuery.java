@@ -0,0 +1,15 @@
+package com.agroapp.platform.community.domain.model.queries;
+
+/**
+ * Query for the useful reactions of a recommendation.
+ *
+ * @param recommendationId the recommendation
+ * @param userId the user asking, to tell whether they reacted (null when not needed)
+ */
+public record GetUsefulReactionsQuery(Long recommendationId, Long userId) {
+    public GetUsefulReactionsQuery {
+        if (recommendationId == null) {
+            throw new IllegalArgumentException("Recommendation ID is required");
+        }
+    }
+}
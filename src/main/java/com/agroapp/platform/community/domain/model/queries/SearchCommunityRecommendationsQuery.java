@@ -0,0 +1,21 @@
+package com.agroapp.platform.community.domain.model.queries;
+
+import com.agroapp.platform.community.domain.model.valueobjects.SearchCursor;
+
+/**
+ * Query for one page of recommendations whose comment matches a free-text search, best match first.
+ *
+ * @param text the search text
+ * @param cursor position after which the page starts (null for the first page)
+ * @param limit maximum number of hits
+ */
+public record SearchCommunityRecommendationsQuery(String text, SearchCursor cursor, int limit) {
+    public SearchCommunityRecommendationsQuery {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Search text is required");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Search page limit must be positive");
+        }
+    }
+}
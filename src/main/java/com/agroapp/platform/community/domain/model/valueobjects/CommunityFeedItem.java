@@ -0,0 +1,31 @@
+package com.agroapp.platform.community.domain.model.valueobjects;
+
+import java.time.LocalDateTime;
+
+/**
+ * CommunityFeedItem Value Object
+ * Immutable view of a community recommendation as shown in the feed.
+ * Safe to share between threads, unlike the managed aggregate.
+ * region is the author's region key, or null when the author's location is private.
+ */
+public record CommunityFeedItem(
+        Long id,
+        Long userId,
+        String userName,
+        LocalDateTime commentDate,
+        String comment,
+        String region
+) {
+
+    public FeedCursor cursor() {
+        return new FeedCursor(commentDate, id);
+    }
+
+    public CommunityFeedItem withUserName(String newUserName) {
+        return new CommunityFeedItem(id, userId, newUserName, commentDate, comment, region);
+    }
+
+    public CommunityFeedItem withRegion(String newRegion) {
+        return new CommunityFeedItem(id, userId, userName, commentDate, comment, newRegion);
+    }
+}
@@ -0,0 +1,13 @@
+package com.agroapp.platform.community.domain.model.valueobjects;
+
+import java.util.List;
+
+/**
+ * CommunityFeedPage Value Object
+ * One page of the newest-first community feed.
+ *
+ * @param items the page items, newest first
+ * @param nextCursor the cursor of the next page, or null when this is the last page
+ */
+public record CommunityFeedPage(List<CommunityFeedItem> items, FeedCursor nextCursor) {
+}
@@ -0,0 +1,12 @@
+package com.agroapp.platform.community.domain.model.valueobjects;
+
+/**
+ * CommunitySearchHit Value Object
+ * A recommendation matching a search, with its relevance score.
+ */
+public record CommunitySearchHit(CommunityFeedItem recommendation, double score) {
+
+    public SearchCursor cursor() {
+        return new SearchCursor(score, recommendation.id());
+    }
+}
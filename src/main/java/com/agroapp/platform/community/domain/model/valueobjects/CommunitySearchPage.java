@@ -0,0 +1,13 @@
+package com.agroapp.platform.community.domain.model.valueobjects;
+
+import java.util.List;
+
+/**
+ * CommunitySearchPage Value Object
+ * One page of search hits, best first.
+ *
+ * @param hits the hits of this page
+ * @param nextCursor the cursor of the next page, or null if this is the last page
+ */
+public record CommunitySearchPage(List<CommunitySearchHit> hits, SearchCursor nextCursor) {
+}
@@ -0,0 +1,21 @@
+package com.agroapp.platform.community.domain.model.valueobjects;
+
+/**
+ * EngagementKind Value Object
+ * Interactions that make a recommendation trend, with their weight in the trending score.
+ */
+public enum EngagementKind {
+    Created(1.0),
+    Viewed(0.25),
+    MarkedUseful(3.0);
+
+    private final double weight;
+
+    EngagementKind(double weight) {
+        this.weight = weight;
+    }
+
+    public double weight() {
+        return weight;
+    }
+}
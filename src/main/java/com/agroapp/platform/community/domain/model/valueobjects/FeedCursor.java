@@ -0,0 +1,58 @@
+package com.agroapp.platform.community.domain.model.valueobjects;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * FeedCursor Value Object
+ * Position in the newest-first community feed: the (commentDate, id) of the last item already delivered.
+ * The next page holds the items strictly older than this position; id breaks ties between equal dates.
+ * Serialized as URL-safe Base64 so it can travel as a query parameter.
+ */
+public record FeedCursor(LocalDateTime commentDate, Long id) {
+
+    public FeedCursor {
+        if (commentDate == null || id == null) {
+            throw new IllegalArgumentException("Feed cursor requires a comment date and an id");
+        }
+    }
+
+    /**
+     * Tells whether an item lies after this cursor in feed order, i.e. is older than it.
+     *
+     * @param itemCommentDate the item's comment date
+     * @param itemId the item's id
+     * @return true if the item belongs to a page after this cursor
+     */
+    public boolean precedes(LocalDateTime itemCommentDate, Long itemId) {
+        int byDate = itemCommentDate.compareTo(commentDate);
+        return byDate < 0 || (byDate == 0 && itemId < id);
+    }
+
+    public String encode() {
+        String raw = commentDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Parses a cursor produced by {@link #encode()}.
+     *
+     * @param cursor the encoded cursor
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static FeedCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int separator = raw.lastIndexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Missing separator");
+            }
+            return new FeedCursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid feed cursor: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.agroapp.platform.community.domain.model.valueobjects;
+
+/**
+ * ReactionSummary Value Object
+ * Useful reactions of a recommendation.
+ *
+ * @param recommendationId the recommendation
+ * @param usefulCount number of users who marked it as useful
+ * @param reactedByUser whether the asking user is one of them
+ */
+public record ReactionSummary(Long recommendationId, long usefulCount, boolean reactedByUser) {
+}
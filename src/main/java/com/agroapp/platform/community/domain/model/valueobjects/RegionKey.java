@@ -0,0 +1,48 @@
+package com.agroapp.platform.community.domain.model.valueobjects;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * RegionKey Value Object
+ * Normalized form of a "Region, Country" location, used to group recommendations by the author's region.
+ * Case, accents and spacing are ignored, so "Cusco,  Perú" and "cusco, peru" give the same key.
+ */
+public record RegionKey(String value) {
+
+    public static final int MAX_LENGTH = 100;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public RegionKey {
+        if (value == null || value.isBlank() || value.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Region key must be between 1 and " + MAX_LENGTH + " characters");
+        }
+    }
+
+    /**
+     * Derives the region key of a location.
+     *
+     * @param location a location such as "Lima, Peru" (may be null)
+     * @return the key, or empty when the location has no usable text
+     */
+    public static Optional<RegionKey> fromLocation(String location) {
+        if (location == null) {
+            return Optional.empty();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(location, Normalizer.Form.NFD)).replaceAll("");
+        String key = Arrays.stream(folded.toLowerCase(Locale.ROOT).split(","))
+                .map(part -> WHITESPACE.matcher(part.trim()).replaceAll(" "))
+                .filter(part -> !part.isEmpty())
+                .collect(Collectors.joining(", "));
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new RegionKey(key.length() > MAX_LENGTH ? key.substring(0, MAX_LENGTH).trim() : key));
+    }
+}
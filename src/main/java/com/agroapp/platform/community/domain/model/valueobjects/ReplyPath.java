@@ -0,0 +1,60 @@
+package com.agroapp.platform.community.domain.model.valueobjects;
+
+/**
+ * ReplyPath Value Object
+ * Materialized path of a reply within its thread: the path of its parent followed by one fixed-width
+ * base-36 segment holding the reply's sequence number in the thread. Because segments are fixed-width and
+ * sequence numbers grow, sorting by path lists a thread depth-first with siblings oldest first, and the
+ * replies below a reply are exactly the paths from its own up to the path its next sibling would get.
+ * Paths only use digits and lowercase letters, which sort the same in every collation.
+ */
+public record ReplyPath(String value) {
+
+    public static final int SEGMENT_LENGTH = 6;
+    public static final int MAX_DEPTH = 32;
+    public static final int MAX_LENGTH = SEGMENT_LENGTH * MAX_DEPTH;
+    /** The largest segment is kept free so every subtree has an upper bound. */
+    private static final long MAX_SEQUENCE = (long) Math.pow(36, SEGMENT_LENGTH) - 2;
+
+    public ReplyPath {
+        if (value == null || value.isEmpty() || value.length() > MAX_LENGTH || value.length() % SEGMENT_LENGTH != 0) {
+            throw new IllegalArgumentException("Invalid reply path");
+        }
+    }
+
+    /**
+     * @param parent the path of the parent reply, or null for a reply to the recommendation itself
+     * @param sequence the reply's sequence number in the thread, starting at 1
+     * @return the path of the reply
+     * @throws IllegalArgumentException if the thread is too deep or has too many replies
+     */
+    public static ReplyPath of(ReplyPath parent, long sequence) {
+        if (sequence < 1 || sequence > MAX_SEQUENCE) {
+            throw new IllegalArgumentException("Thread has too many replies");
+        }
+        if (parent != null && parent.depth() >= MAX_DEPTH) {
+            throw new IllegalArgumentException("Replies cannot be nested more than " + MAX_DEPTH + " levels deep");
+        }
+        return new ReplyPath(parent == null ? segment(sequence) : parent.value() + segment(sequence));
+    }
+
+    /**
+     * @return 1 for a reply to the recommendation, 2 for a reply to such a reply, and so on
+     */
+    public int depth() {
+        return value.length() / SEGMENT_LENGTH;
+    }
+
+    /**
+     * @return the exclusive upper bound of the paths of this reply and its descendants
+     */
+    public String subtreeEnd() {
+        int last = value.length() - SEGMENT_LENGTH;
+        return value.substring(0, last) + segment(Long.parseLong(value.substring(last), 36) + 1);
+    }
+
+    private static String segment(long sequence) {
+        String digits = Long.toString(sequence, 36);
+        return "0".repeat(SEGMENT_LENGTH - digits.length()) + digits;
+    }
+}
@@ -0,0 +1,16 @@
+package com.agroapp.platform.community.domain.model.valueobjects;
+
+import com.agroapp.platform.community.domain.model.entities.CommunityRecommendationReply;
+
+import java.util.List;
+
+/**
+ * ReplyThread Value Object
+ * Replies of a recommendation's thread, or of a subtree of it.
+ *
+ * @param recommendationId the recommendation the thread belongs to
+ * @param replyCount number of replies in the whole thread
+ * @param replies the loaded replies, depth-first with siblings oldest first
+ */
+public record ReplyThread(Long recommendationId, int replyCount, List<CommunityRecommendationReply> replies) {
+}
@@ -0,0 +1,56 @@
+package com.agroapp.platform.community.domain.model.valueobjects;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * SearchCursor Value Object
+ * Position in a ranked search result: the (score, id) of the last hit already delivered.
+ * The next page holds the hits ranked strictly below this position; id breaks ties between equal scores.
+ * Scores depend on corpus statistics, so a page may shift slightly if the corpus changes between requests.
+ * Serialized as URL-safe Base64 so it can travel as a query parameter.
+ */
+public record SearchCursor(double score, Long id) {
+
+    public SearchCursor {
+        if (id == null || !Double.isFinite(score)) {
+            throw new IllegalArgumentException("Search cursor requires a finite score and an id");
+        }
+    }
+
+    /**
+     * Tells whether a hit lies after this cursor in ranking order, i.e. ranks below it.
+     *
+     * @param hitScore the hit's score
+     * @param hitId the hit's id
+     * @return true if the hit belongs to a page after this cursor
+     */
+    public boolean precedes(double hitScore, long hitId) {
+        return hitScore < score || (hitScore == score && hitId < id);
+    }
+
+    public String encode() {
+        String raw = score + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Parses a cursor produced by {@link #encode()}.
+     *
+     * @param cursor the encoded cursor
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static SearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int separator = raw.lastIndexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Missing separator");
+            }
+            return new SearchCursor(Double.parseDouble(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid search cursor: " + e.getMessage(), e);
+        }
+    }
+}
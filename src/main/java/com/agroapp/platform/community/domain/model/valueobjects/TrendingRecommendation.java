@@ -0,0 +1,8 @@
+package com.agroapp.platform.community.domain.model.valueobjects;
+
+/**
+ * TrendingRecommendation Value Object
+ * A recommendation with its current time-decayed engagement score.
+ */
+public record TrendingRecommendation(CommunityFeedItem recommendation, double score) {
+}
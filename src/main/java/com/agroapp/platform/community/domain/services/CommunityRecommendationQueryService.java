@@ -4,6 +4,10 @@ import com.agroapp.platform.community.domain.model.aggregates.CommunityRecommend
 import com.agroapp.platform.community.domain.model.queries.*;
 import com.agroapp.platform.community.domain.model.queries.GetAllCommunityRecommendationsQuery;
 import com.agroapp.platform.community.domain.model.queries.GetCommunityRecommendationByIdQuery;
+import com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedPage;
+import com.agroapp.platform.community.domain.model.valueobjects.CommunitySearchHit;
+import com.agroapp.platform.community.domain.model.valueobjects.CommunitySearchPage;
+import com.agroapp.platform.community.domain.model.valueobjects.TrendingRecommendation;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,5 +15,9 @@ import java.util.Optional;
 public interface CommunityRecommendationQueryService {
     List<CommunityRecommendation> handle(GetAllCommunityRecommendationsQuery query);
     Optional<CommunityRecommendation> handle(GetCommunityRecommendationByIdQuery query);
+    CommunityFeedPage handle(GetCommunityFeedQuery query);
+    CommunitySearchPage handle(SearchCommunityRecommendationsQuery query);
+    List<TrendingRecommendation> handle(GetTrendingCommunityRecommendationsQuery query);
+    List<CommunitySearchHit> handle(GetRecommendationsForUserQuery query);
 }
 
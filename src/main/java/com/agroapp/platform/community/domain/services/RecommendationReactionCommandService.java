@@ -0,0 +1,16 @@
+package com.agroapp.platform.community.domain.services;
+
+import com.agroapp.platform.community.domain.model.commands.AddUsefulReactionCommand;
+import com.agroapp.platform.community.domain.model.commands.RemoveUsefulReactionCommand;
+import com.agroapp.platform.community.domain.model.valueobjects.ReactionSummary;
+
+import java.util.Optional;
+
+/**
+ * Command Service interface for reactions to community recommendations.
+ * Each command returns the reactions after the change, or empty when the recommendation does not exist.
+ */
+public interface RecommendationReactionCommandService {
+    Optional<ReactionSummary> handle(AddUsefulReactionCommand command);
+    Optional<ReactionSummary> handle(RemoveUsefulReactionCommand command);
+}
@@ -0,0 +1,13 @@
+package com.agroapp.platform.community.domain.services;
+
+import com.agroapp.platform.community.domain.model.queries.GetUsefulReactionsQuery;
+import com.agroapp.platform.community.domain.model.valueobjects.ReactionSummary;
+
+import java.util.Optional;
+
+/**
+ * Query Service interface for reactions to community recommendations.
+ */
+public interface RecommendationReactionQueryService {
+    Optional<ReactionSummary> handle(GetUsefulReactionsQuery query);
+}
@@ -0,0 +1,13 @@
+package com.agroapp.platform.community.domain.services;
+
+import com.agroapp.platform.community.domain.model.commands.CreateReplyCommand;
+import com.agroapp.platform.community.domain.model.entities.CommunityRecommendationReply;
+
+import java.util.Optional;
+
+/**
+ * Command Service interface for replies to community recommendations.
+ */
+public interface RecommendationReplyCommandService {
+    Optional<CommunityRecommendationReply> handle(CreateReplyCommand command);
+}
@@ -0,0 +1,13 @@
+package com.agroapp.platform.community.domain.services;
+
+import com.agroapp.platform.community.domain.model.queries.GetReplyThreadQuery;
+import com.agroapp.platform.community.domain.model.valueobjects.ReplyThread;
+
+import java.util.Optional;
+
+/**
+ * Query Service interface for replies to community recommendations.
+ */
+public interface RecommendationReplyQueryService {
+    Optional<ReplyThread> handle(GetReplyThreadQuery query);
+}
@@ -0,0 +1,33 @@
+package com.agroapp.platform.community.infrastructure.persistence.jpa.repositories;
+
+import com.agroapp.platform.community.domain.model.entities.CommunityRecommendationReaction;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CommunityRecommendationReactionRepository extends JpaRepository<CommunityRecommendationReaction, Long> {
+
+    @Query("SELECT r.userId FROM CommunityRecommendationReaction r WHERE r.recommendationId = :recommendationId")
+    List<Long> findUserIdsByRecommendationId(@Param("recommendationId") Long recommendationId);
+
+    /**
+     * Finds the next reactions to a user's recommendations, to purge them in bounded chunks.
+     *
+     * @param userId the owner
+     * @param pageable the chunk size (always the first page)
+     * @return the ids in id order
+     */
+    @Query("SELECT r.id FROM CommunityRecommendationReaction r WHERE r.recommendationId IN (SELECT c.id FROM CommunityRecommendation c WHERE c.userId = :userId) ORDER BY r.id")
+    List<Long> findIdsByRecommendationOwner(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM CommunityRecommendationReaction r WHERE r.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,77 @@
+package com.agroapp.platform.community.infrastructure.persistence.jpa.repositories;
+
+import com.agroapp.platform.community.domain.model.entities.CommunityRecommendationReply;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CommunityRecommendationReplyRepository extends JpaRepository<CommunityRecommendationReply, Long> {
+
+    /**
+     * Finds the replies of a thread in path order.
+     * Served by a range scan of the unique (recommendation_id, path) index.
+     *
+     * @param recommendationId the recommendation the thread belongs to
+     * @return the replies, depth-first with siblings oldest first
+     */
+    List<CommunityRecommendationReply> findByRecommendationIdOrderByPath(Long recommendationId);
+
+    /**
+     * Finds the replies of a thread whose paths fall in [fromPath, toPath), in path order.
+     * With a reply's path and {@code ReplyPath.subtreeEnd()} this is that reply and everything below it.
+     * Served by a range scan of the unique (recommendation_id, path) index.
+     *
+     * @param recommendationId the recommendation the thread belongs to
+     * @param fromPath the inclusive lower bound
+     * @param toPath the exclusive upper bound
+     * @return the replies, depth-first with siblings oldest first
+     */
+    @Query("SELECT r FROM CommunityRecommendationReply r WHERE r.recommendationId = :recommendationId " +
+            "AND r.path >= :fromPath AND r.path < :toPath ORDER BY r.path")
+    List<CommunityRecommendationReply> findByPathRange(@Param("recommendationId") Long recommendationId,
+                                                       @Param("fromPath") String fromPath,
+                                                       @Param("toPath") String toPath);
+
+    Optional<CommunityRecommendationReply> findByIdAndRecommendationId(Long id, Long recommendationId);
+
+    /**
+     * Finds the ids of a user's replies after a given id, in id order.
+     * Used to update a user's replies in bounded chunks.
+     */
+    @Query("SELECT r.id FROM CommunityRecommendationReply r WHERE r.userId = :userId AND r.id > :afterId ORDER BY r.id")
+    List<Long> findIdsByUserIdAfter(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Updates the userName of a user's replies within an id range. Rows already up to date are skipped.
+     *
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE CommunityRecommendationReply r SET r.userName = :userName " +
+            "WHERE r.userId = :userId AND r.id > :afterId AND r.id <= :toId " +
+            "AND (r.userName IS NULL OR r.userName <> :userName)")
+    int updateUserNameByUserIdInRange(@Param("userId") Long userId, @Param("userName") String userName,
+                                      @Param("afterId") Long afterId, @Param("toId") Long toId);
+
+    /**
+     * Finds the next replies to a user's recommendations, to purge them in bounded chunks.
+     *
+     * @param userId the owner
+     * @param pageable the chunk size (always the first page)
+     * @return the ids in id order
+     */
+    @Query("SELECT r.id FROM CommunityRecommendationReply r WHERE r.recommendationId IN (SELECT c.id FROM CommunityRecommendation c WHERE c.userId = :userId) ORDER BY r.id")
+    List<Long> findIdsByRecommendationOwner(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM CommunityRecommendationReply r WHERE r.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -1,24 +1,206 @@
 package com.agroapp.platform.community.infrastructure.persistence.jpa.repositories;
 
 import com.agroapp.platform.community.domain.model.aggregates.CommunityRecommendation;
+import com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface CommunityRecommendationRepository extends JpaRepository<CommunityRecommendation, Long> {
 
     /**
-     * Updates the userName for all recommendations created by the specified user.
-     * This method is used to synchronize userName when a user profile is updated.
+     * Finds the ids of a user's recommendations after the given id, in id order.
+     * Used to split bulk updates of a user's recommendations into bounded id ranges.
      *
-     * @param userId the ID of the user whose name needs to be updated
+     * @param userId the author
+     * @param afterId the last id already processed (exclusive)
+     * @param pageable the chunk size (always the first page)
+     * @return the next ids of the user's recommendations
+     */
+    @Query("SELECT c.id FROM CommunityRecommendation c WHERE c.userId = :userId AND c.id > :afterId ORDER BY c.id")
+    List<Long> findIdsByUserIdAfter(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Updates the author userName and region of a user's recommendations within an id range.
+     * This method is used to synchronize them when a user profile is updated; updatedAt is bumped
+     * so offline clients pick up the change on their next sync. Rows already up to date are skipped.
+     *
+     * @param userId the ID of the user whose recommendations need to be updated
      * @param userName the new userName to set
+     * @param region the new region key, or null when the author's location is private
+     * @param afterId lower bound of the range (exclusive)
+     * @param toId upper bound of the range (inclusive)
+     * @param updatedAt the new updatedAt of the changed rows
+     * @return the number of updated rows
      */
     @Modifying
-    @Query("UPDATE CommunityRecommendation c SET c.userName = :userName WHERE c.userId = :userId")
-    void updateUserNameByUserId(@Param("userId") Long userId, @Param("userName") String userName);
-}
+    @Query("UPDATE CommunityRecommendation c SET c.userName = :userName, c.region = :region, c.updatedAt = :updatedAt " +
+            "WHERE c.userId = :userId AND c.id > :afterId AND c.id <= :toId " +
+            "AND (c.userName IS NULL OR c.userName <> :userName OR COALESCE(c.region, '') <> COALESCE(:region, ''))")
+    int updateAuthorByUserIdInRange(@Param("userId") Long userId, @Param("userName") String userName,
+                                    @Param("region") String region, @Param("afterId") Long afterId,
+                                    @Param("toId") Long toId, @Param("updatedAt") Date updatedAt);
+
+    /**
+     * Finds the authors of recommendations without a region, to backfill it where their location is public.
+     *
+     * @return the distinct author ids
+     */
+    @Query("SELECT DISTINCT c.userId FROM CommunityRecommendation c WHERE c.region IS NULL AND c.userId IS NOT NULL")
+    List<Long> findUserIdsWithoutRegion();
+
+    /**
+     * Finds the recommendations changed after the given (updatedAt, id) watermark.
+     * Keyset-ordered by (updatedAt, id) so it can be paginated without offsets.
+     *
+     * @param since the updatedAt of the last row already delivered
+     * @param lastId the id of the last row already delivered
+     * @param pageable the page size (always the first page)
+     * @return the changed recommendations in watermark order
+     */
+    @Query("SELECT c FROM CommunityRecommendation c " +
+            "WHERE c.updatedAt > :since OR (c.updatedAt = :since AND c.id > :lastId) " +
+            "ORDER BY c.updatedAt, c.id")
+    List<CommunityRecommendation> findChangedSince(@Param("since") Date since, @Param("lastId") Long lastId,
+                                                   Pageable pageable);
+
+    /**
+     * Finds the newest recommendations.
+     *
+     * @param pageable the page size (always the first page)
+     * @return feed items ordered by (commentDate, id) descending
+     */
+    @Query("SELECT new com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem(" +
+            "c.id, c.userId, c.userName, c.commentDate, c.comment, c.region) FROM CommunityRecommendation c " +
+            "ORDER BY c.commentDate DESC, c.id DESC")
+    List<CommunityFeedItem> findFeedFirstPage(Pageable pageable);
+
+    /**
+     * Finds the recommendations older than the given (commentDate, id) cursor.
+     *
+     * @param commentDate the commentDate of the last item already delivered
+     * @param lastId the id of the last item already delivered
+     * @param pageable the page size (always the first page)
+     * @return feed items ordered by (commentDate, id) descending
+     */
+    @Query("SELECT new com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem(" +
+            "c.id, c.userId, c.userName, c.commentDate, c.comment, c.region) FROM CommunityRecommendation c " +
+            "WHERE c.commentDate < :commentDate OR (c.commentDate = :commentDate AND c.id < :lastId) " +
+            "ORDER BY c.commentDate DESC, c.id DESC")
+    List<CommunityFeedItem> findFeedPageBefore(@Param("commentDate") LocalDateTime commentDate,
+                                               @Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * Finds the newest recommendations of a user.
+     *
+     * @param userId the author
+     * @param pageable the page size (always the first page)
+     * @return feed items ordered by (commentDate, id) descending
+     */
+    @Query("SELECT new com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem(" +
+            "c.id, c.userId, c.userName, c.commentDate, c.comment, c.region) FROM CommunityRecommendation c " +
+            "WHERE c.userId = :userId ORDER BY c.commentDate DESC, c.id DESC")
+    List<CommunityFeedItem> findUserFeedFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Finds the recommendations of a user older than the given (commentDate, id) cursor.
+     *
+     * @param userId the author
+     * @param commentDate the commentDate of the last item already delivered
+     * @param lastId the id of the last item already delivered
+     * @param pageable the page size (always the first page)
+     * @return feed items ordered by (commentDate, id) descending
+     */
+    @Query("SELECT new com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem(" +
+            "c.id, c.userId, c.userName, c.commentDate, c.comment, c.region) FROM CommunityRecommendation c " +
+            "WHERE c.userId = :userId AND (c.commentDate < :commentDate OR (c.commentDate = :commentDate AND c.id < :lastId)) " +
+            "ORDER BY c.commentDate DESC, c.id DESC")
+    List<CommunityFeedItem> findUserFeedPageBefore(@Param("userId") Long userId,
+                                                   @Param("commentDate") LocalDateTime commentDate,
+                                                   @Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * Finds recommendations after the given id, in id order.
+     * Used to page through every recommendation when building in-memory indexes.
+     *
+     * @param afterId the id of the last item already read
+     * @param pageable the page size (always the first page)
+     * @return feed items ordered by id
+     */
+    @Query("SELECT new com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem(" +
+            "c.id, c.userId, c.userName, c.commentDate, c.comment, c.region) FROM CommunityRecommendation c " +
+            "WHERE c.id > :afterId ORDER BY c.id")
+    List<CommunityFeedItem> findFeedItemsAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Finds the recommendations with the given ids.
+     *
+     * @param ids the recommendation ids
+     * @return feed items in no particular order; unknown ids are skipped
+     */
+    @Query("SELECT new com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem(" +
+            "c.id, c.userId, c.userName, c.commentDate, c.comment, c.region) FROM CommunityRecommendation c " +
+            "WHERE c.id IN :ids")
+    List<CommunityFeedItem> findFeedItemsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds the newest recommendations of a region.
+     *
+     * @param region the region key
+     * @param pageable the page size (always the first page)
+     * @return feed items ordered by (commentDate, id) descending
+     */
+    @Query("SELECT new com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem(" +
+            "c.id, c.userId, c.userName, c.commentDate, c.comment, c.region) FROM CommunityRecommendation c " +
+            "WHERE c.region = :region ORDER BY c.commentDate DESC, c.id DESC")
+    List<CommunityFeedItem> findRegionFeedFirstPage(@Param("region") String region, Pageable pageable);
 
+    /**
+     * Finds the recommendations of a region older than the given (commentDate, id) cursor.
+     *
+     * @param region the region key
+     * @param commentDate the commentDate of the last item already delivered
+     * @param lastId the id of the last item already delivered
+     * @param pageable the page size (always the first page)
+     * @return feed items ordered by (commentDate, id) descending
+     */
+    @Query("SELECT new com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem(" +
+            "c.id, c.userId, c.userName, c.commentDate, c.comment, c.region) FROM CommunityRecommendation c " +
+            "WHERE c.region = :region AND (c.commentDate < :commentDate OR (c.commentDate = :commentDate AND c.id < :lastId)) " +
+            "ORDER BY c.commentDate DESC, c.id DESC")
+    List<CommunityFeedItem> findRegionFeedPageBefore(@Param("region") String region,
+                                                     @Param("commentDate") LocalDateTime commentDate,
+                                                     @Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * Adds one to the reply count of a recommendation. The row stays locked until the transaction ends,
+     * so the count read back afterwards is the new reply's unique sequence number in the thread.
+     *
+     * @param id the recommendation id
+     * @return 1 if the recommendation exists, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE CommunityRecommendation c SET c.replyCount = c.replyCount + 1 WHERE c.id = :id")
+    int incrementReplyCount(@Param("id") Long id);
+
+    /**
+     * @param id the recommendation id
+     * @return the number of replies in the recommendation's thread, if the recommendation exists
+     */
+    @Query("SELECT c.replyCount FROM CommunityRecommendation c WHERE c.id = :id")
+    Optional<Integer> findReplyCountById(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM CommunityRecommendation c WHERE c.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
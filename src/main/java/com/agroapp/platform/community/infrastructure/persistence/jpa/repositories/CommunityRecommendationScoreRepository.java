@@ -0,0 +1,32 @@
+package com.agroapp.platform.community.infrastructure.persistence.jpa.repositories;
+
+import com.agroapp.platform.community.domain.model.entities.CommunityRecommendationScore;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CommunityRecommendationScoreRepository extends JpaRepository<CommunityRecommendationScore, Long> {
+
+    /**
+     * Finds the highest scores first, to load the ones near the top in chunks.
+     *
+     * @param pageable the chunk
+     * @return the scores of the chunk
+     */
+    List<CommunityRecommendationScore> findByOrderByLogScoreDescRecommendationIdDesc(Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM CommunityRecommendationScore s WHERE s.logScore < :floor")
+    int deleteByLogScoreBelow(@Param("floor") double floor);
+
+    @Modifying
+    @Query("DELETE FROM CommunityRecommendationScore s WHERE s.recommendationId IN :recommendationIds")
+    int deleteByRecommendationIds(@Param("recommendationIds") Collection<Long> recommendationIds);
+}
@@ -0,0 +1,58 @@
+package com.agroapp.platform.community.interfaces.rest;
+
+import com.agroapp.platform.community.application.internal.stream.FeedStreamEvent;
+import com.agroapp.platform.community.application.internal.stream.FeedStreamSubscriber;
+import com.agroapp.platform.community.interfaces.rest.transform.CommunityFeedResourceFromPageAssembler;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * Delivers live feed events to one client as Server-Sent Events.
+ * Events are named "created" or "updated", carry the recommendation as JSON and use the stream event id,
+ * so a reconnecting client resumes from its Last-Event-ID. A "resync" event tells the client it missed events.
+ */
+class CommunityFeedSseSubscriber implements FeedStreamSubscriber {
+
+    private final SseEmitter emitter;
+    private volatile boolean closed;
+
+    CommunityFeedSseSubscriber(SseEmitter emitter) {
+        this.emitter = emitter;
+        emitter.onCompletion(() -> closed = true);
+        emitter.onTimeout(() -> closed = true);
+        emitter.onError(error -> closed = true);
+    }
+
+    @Override
+    public void onEvent(FeedStreamEvent event) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(event.id())
+                .name(event.created() ? "created" : "updated")
+                .data(CommunityFeedResourceFromPageAssembler.toResourceFromItem(event.recommendation()), MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void onHeartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment("keep-alive"));
+    }
+
+    @Override
+    public void onResync() throws IOException {
+        emitter.send(SseEmitter.event().name("resync").data("Missed events; reload the feed and reconnect"));
+    }
+
+    @Override
+    public void onClose() {
+        if (!closed) {
+            closed = true;
+            emitter.complete();
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+}
@@ -1,6 +1,11 @@
 package com.agroapp.platform.community.interfaces.rest;
 
+import com.agroapp.platform.community.application.internal.stream.CommunityFeedStream;
+import com.agroapp.platform.community.application.internal.trending.TrendingScoreBoard;
 import com.agroapp.platform.community.domain.model.queries.*;
+import com.agroapp.platform.community.domain.model.valueobjects.FeedCursor;
+import com.agroapp.platform.community.domain.model.valueobjects.RegionKey;
+import com.agroapp.platform.community.domain.model.valueobjects.SearchCursor;
 import com.agroapp.platform.community.domain.services.*;
 import com.agroapp.platform.community.interfaces.rest.resources.*;
 import com.agroapp.platform.community.interfaces.rest.transform.*;
@@ -11,9 +16,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,18 +36,28 @@ import java.util.stream.Collectors;
 @Tag(name = "CommunityRecommendation", description = "Community Recommendation Endpoints")
 public class CommunityRecommendationController {
 
+    private static final int DEFAULT_FEED_LIMIT = 20;
+    private static final int MAX_FEED_LIMIT = 100;
+    private static final long STREAM_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
     private final CommunityRecommendationCommandService communityRecommendationCommandService;
     private final CommunityRecommendationQueryService communityRecommendationQueryService;
+    private final CommunityFeedStream communityFeedStream;
+    private final TrendingScoreBoard trendingScoreBoard;
 
     public CommunityRecommendationController(CommunityRecommendationCommandService communityRecommendationCommandService,
-                                             CommunityRecommendationQueryService communityRecommendationQueryService) {
+                                             CommunityRecommendationQueryService communityRecommendationQueryService,
+                                             CommunityFeedStream communityFeedStream,
+                                             TrendingScoreBoard trendingScoreBoard) {
         this.communityRecommendationCommandService = communityRecommendationCommandService;
         this.communityRecommendationQueryService = communityRecommendationQueryService;
+        this.communityFeedStream = communityFeedStream;
+        this.trendingScoreBoard = trendingScoreBoard;
     }
 
     /**
      * Creates a new CommunityRecommendation.
-     * Requires userId (of the logged-in user) and comment content.
+     * The author is the authenticated user; a userId naming anyone else is refused.
      * userName is automatically resolved from userId via ACL to IAM context.
      * commentDate is auto-generated with current timestamp.
      * POST /api/v1/CommunityRecommendation
@@ -46,7 +65,7 @@ public class CommunityRecommendationController {
     @Operation(
             summary = "Create a new community recommendation",
             description = "Creates a recommendation with the authenticated user as author. " +
-                    "Requires userId (must exist in the system) and comment content. " +
+                    "Requires comment content. 'userId' may be omitted and may not name anyone else. " +
                     "The userName is automatically retrieved from the user profile via ACL. " +
                     "The commentDate is auto-generated with current timestamp."
     )
@@ -60,15 +79,24 @@ public class CommunityRecommendationController {
                     responseCode = "400",
                     description = "Invalid input - userId is required"
             ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "userId is not the authenticated user"
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "User not found - The provided userId does not exist in the system"
             )
     })
     @PostMapping
-    public ResponseEntity<CommunityRecommendationResource> createCommunityRecommendation(@RequestBody CreateCommunityRecommendationResource resource) {
+    public ResponseEntity<CommunityRecommendationResource> createCommunityRecommendation(@RequestBody CreateCommunityRecommendationResource resource,
+                                                                                         @AuthenticationPrincipal(expression = "userId()") Long authenticatedUserId) {
+        if (resource.userId() != null && !resource.userId().equals(authenticatedUserId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
         // Transform Resource to Command using Assembler
-        var command = CreateCommunityRecommendationCommandFromResourceAssembler.toCommandFromResource(resource);
+        var command = CreateCommunityRecommendationCommandFromResourceAssembler.toCommandFromResource(authenticatedUserId, resource);
 
         // Execute command through service (uses ACL to get userName)
         var recommendation = communityRecommendationCommandService.handle(command);
@@ -82,17 +110,197 @@ public class CommunityRecommendationController {
     }
 
     /**
-     * Gets a CommunityRecommendation by its ID.
+     * Gets a page of the newest-first feed.
+     * GET /api/v1/community-recommendations/feed?userId={userId}&region={region}&cursor={cursor}&limit={limit}
+     */
+    @Operation(
+            summary = "Get the community feed",
+            description = "Returns recommendations newest first, paginated by cursor. " +
+                    "Omit 'cursor' for the first page and pass the returned 'nextCursor' to get the next one; " +
+                    "'nextCursor' is null on the last page. 'userId' restricts the feed to the authenticated user's own " +
+                    "recommendations and may not name anyone else. " +
+                    "'region' (e.g. 'Cusco, Peru', case and accents ignored) restricts it to authors from that region " +
+                    "who share their location; it cannot be combined with 'userId'. " +
+                    "'limit' defaults to " + DEFAULT_FEED_LIMIT + " and is capped at " + MAX_FEED_LIMIT + "."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Feed page",
+                    content = @Content(schema = @Schema(implementation = CommunityFeedResource.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor or region, or both userId and region given"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "userId is not the authenticated user"
+            )
+    })
+    @GetMapping("/feed")
+    public ResponseEntity<CommunityFeedResource> getCommunityFeed(@RequestParam(required = false) Long userId,
+                                                                  @RequestParam(required = false) String region,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(defaultValue = "" + DEFAULT_FEED_LIMIT) int limit,
+                                                                  @AuthenticationPrincipal(expression = "userId()") Long authenticatedUserId) {
+        if (userId != null && !userId.equals(authenticatedUserId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        GetCommunityFeedQuery query;
+        try {
+            var feedCursor = cursor == null || cursor.isBlank() ? null : FeedCursor.decode(cursor);
+            String regionKey = null;
+            if (region != null) {
+                regionKey = RegionKey.fromLocation(region)
+                        .orElseThrow(() -> new IllegalArgumentException("Region must not be blank"))
+                        .value();
+            }
+            query = new GetCommunityFeedQuery(userId, regionKey, feedCursor, Math.clamp(limit, 1, MAX_FEED_LIMIT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        var page = communityRecommendationQueryService.handle(query);
+        return ResponseEntity.ok(CommunityFeedResourceFromPageAssembler.toResourceFromPage(page));
+    }
+
+    /**
+     * Streams created and updated recommendations as Server-Sent Events.
+     * GET /api/v1/community-recommendations/stream
+     */
+    @Operation(
+            summary = "Stream community recommendations live",
+            description = "Server-Sent Events stream of recommendations as they are created ('created' events) or " +
+                    "edited ('updated' events), each carrying the recommendation as JSON. Send the Last-Event-ID " +
+                    "header when reconnecting to resume where the stream left off. A 'resync' event means events " +
+                    "were missed, or the Last-Event-ID is unknown (e.g. issued before a server restart): reload the " +
+                    "feed and reconnect without it. Connections close after 30 minutes."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream"),
+            @ApiResponse(responseCode = "503", description = "Too many open streams, retry later")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamCommunityRecommendations(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        String resumeAfter = lastEventId == null || lastEventId.isBlank() ? null : lastEventId.trim();
+        var emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        if (!communityFeedStream.subscribe(resumeAfter, new CommunityFeedSseSubscriber(emitter))) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
+    /**
+     * Searches recommendation comments, best match first.
+     * GET /api/v1/community-recommendations/search?q={text}&cursor={cursor}&limit={limit}
+     */
+    @Operation(
+            summary = "Search community recommendations",
+            description = "Full-text search over recommendation comments, ranked by relevance (BM25). " +
+                    "Matching ignores case and accents and treats singular and plural forms alike. " +
+                    "Omit 'cursor' for the first page and pass the returned 'nextCursor' to get the next one; " +
+                    "'nextCursor' is null on the last page. " +
+                    "'limit' defaults to " + DEFAULT_FEED_LIMIT + " and is capped at " + MAX_FEED_LIMIT + "."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Search page",
+                    content = @Content(schema = @Schema(implementation = CommunitySearchResource.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Missing search text or invalid cursor"
+            )
+    })
+    @GetMapping("/search")
+    public ResponseEntity<CommunitySearchResource> searchCommunityRecommendations(@RequestParam(name = "q", required = false) String text,
+                                                                                  @RequestParam(required = false) String cursor,
+                                                                                  @RequestParam(defaultValue = "" + DEFAULT_FEED_LIMIT) int limit) {
+        SearchCommunityRecommendationsQuery query;
+        try {
+            var searchCursor = cursor == null || cursor.isBlank() ? null : SearchCursor.decode(cursor);
+            query = new SearchCommunityRecommendationsQuery(text, searchCursor, Math.clamp(limit, 1, MAX_FEED_LIMIT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        var page = communityRecommendationQueryService.handle(query);
+        return ResponseEntity.ok(CommunitySearchResourceFromPageAssembler.toResourceFromPage(page));
+    }
+
+    /**
+     * Gets the trending recommendations.
+     * GET /api/v1/community-recommendations/trending?limit={limit}
+     */
+    @Operation(
+            summary = "Get trending community recommendations",
+            description = "Returns the recommendations with the highest engagement score, hottest first. " +
+                    "Creating, viewing and marking a recommendation as useful add to its score, and every score " +
+                    "halves each day, so recent engagement outweighs old engagement. " +
+                    "'limit' defaults to " + DEFAULT_FEED_LIMIT + " and is capped at " + TrendingScoreBoard.CAPACITY + "."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Trending recommendations")
+    })
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingRecommendationResource>> getTrendingCommunityRecommendations(
+            @RequestParam(defaultValue = "" + DEFAULT_FEED_LIMIT) int limit) {
+        var query = new GetTrendingCommunityRecommendationsQuery(Math.clamp(limit, 1, TrendingScoreBoard.CAPACITY));
+        var trending = communityRecommendationQueryService.handle(query);
+        return ResponseEntity.ok(trending.stream()
+                .map(TrendingRecommendationResourceFromValueAssembler::toResourceFromValue)
+                .toList());
+    }
+
+    /**
+     * Gets the recommendations most relevant to the authenticated user's crops.
+     * GET /api/v1/community-recommendations/for-you?limit={limit}
+     */
+    @Operation(
+            summary = "Get community recommendations for the authenticated user",
+            description = "Returns the recommendations whose comments best match the crops and soil types of the " +
+                    "user's crop fields, best first, leaving out the user's own recommendations. Empty when the user " +
+                    "has no crop fields yet. 'userId' may be omitted and may not name anyone else. " +
+                    "'limit' defaults to " + DEFAULT_FEED_LIMIT + " and is capped at " + MAX_FEED_LIMIT + "."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recommendations for the user"),
+            @ApiResponse(responseCode = "403", description = "userId is not the authenticated user")
+    })
+    @GetMapping("/for-you")
+    public ResponseEntity<List<CommunitySearchHitResource>> getCommunityRecommendationsForUser(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(defaultValue = "" + DEFAULT_FEED_LIMIT) int limit,
+            @AuthenticationPrincipal(expression = "userId()") Long authenticatedUserId) {
+        if (userId != null && !userId.equals(authenticatedUserId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        var query = new GetRecommendationsForUserQuery(authenticatedUserId, Math.clamp(limit, 1, MAX_FEED_LIMIT));
+        var hits = communityRecommendationQueryService.handle(query);
+        return ResponseEntity.ok(hits.stream()
+                .map(CommunitySearchResourceFromPageAssembler::toResourceFromHit)
+                .toList());
+    }
+
+    /**
+     * Gets a CommunityRecommendation by its ID. Opening a recommendation counts as a view for trending,
+     * once per user within the trending view window.
      * GET /api/v1/CommunityRecommendation/{recommendationId}
      */
     @GetMapping("/{recommendationId}")
-    public ResponseEntity<CommunityRecommendationResource> getCommunityRecommendationById(@PathVariable Long recommendationId) {
+    public ResponseEntity<CommunityRecommendationResource> getCommunityRecommendationById(@PathVariable Long recommendationId,
+                                                                                          @AuthenticationPrincipal(expression = "userId()") Long authenticatedUserId) {
         var query = new GetCommunityRecommendationByIdQuery(recommendationId);
         var recommendation = communityRecommendationQueryService.handle(query);
 
         if (recommendation.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
+        trendingScoreBoard.recordView(recommendationId, authenticatedUserId, Instant.now());
 
         var recommendationResource = CommunityRecommendationResourceFromEntityAssembler.toResourceFromEntity(recommendation.get());
         return ResponseEntity.ok(recommendationResource);
@@ -102,6 +310,10 @@ public class CommunityRecommendationController {
      * Gets all CommunityRecommendations.
      * GET /api/v1/community-recommendations
      */
+    @Operation(
+            summary = "Get all community recommendations",
+            description = "Returns every recommendation in a single response. Prefer the paginated /feed endpoint."
+    )
     @GetMapping
     public ResponseEntity<List<CommunityRecommendationResource>> getAllCommunityRecommendations() {
         var query = new GetAllCommunityRecommendationsQuery();
@@ -115,11 +327,20 @@ public class CommunityRecommendationController {
     }
 
     /**
-     * Updates a CommunityRecommendation.
+     * Updates a CommunityRecommendation. Only its author may update it.
      * PUT /api/v1/community-recommendations/{id}
      */
     @PutMapping("/{id}")
-    public ResponseEntity<CommunityRecommendationResource> updateCommunityRecommendation(@PathVariable Long id, @RequestBody UpdateCommunityRecommendationResource resource) {
+    public ResponseEntity<CommunityRecommendationResource> updateCommunityRecommendation(@PathVariable Long id, @RequestBody UpdateCommunityRecommendationResource resource,
+                                                                                         @AuthenticationPrincipal(expression = "userId()") Long authenticatedUserId) {
+        var existing = communityRecommendationQueryService.handle(new GetCommunityRecommendationByIdQuery(id));
+        if (existing.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!existing.get().getUserId().equals(authenticatedUserId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
         var command = UpdateCommunityRecommendationCommandFromResourceAssembler.toCommandFromResource(id, resource);
         var recommendation = communityRecommendationCommandService.handle(command);
 
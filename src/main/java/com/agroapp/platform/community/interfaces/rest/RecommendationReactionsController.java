@@ -0,0 +1,132 @@
+package com.agroapp.platform.community.interfaces.rest;
+
+import com.agroapp.platform.community.domain.model.commands.AddUsefulReactionCommand;
+import com.agroapp.platform.community.domain.model.commands.RemoveUsefulReactionCommand;
+import com.agroapp.platform.community.domain.model.queries.GetUsefulReactionsQuery;
+import com.agroapp.platform.community.domain.services.RecommendationReactionCommandService;
+import com.agroapp.platform.community.domain.services.RecommendationReactionQueryService;
+import com.agroapp.platform.community.interfaces.rest.resources.ReactionSummaryResource;
+import com.agroapp.platform.community.interfaces.rest.transform.ReactionSummaryResourceFromValueAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for reactions to community recommendations.
+ * Counts are served from memory and saved to the database in batches every few seconds.
+ * Reactions are always those of the authenticated user; a 'userId' naming anyone else is refused.
+ */
+@RestController
+@RequestMapping("/api/v1/community-recommendations/{recommendationId}/reactions/useful")
+@Tag(name = "CommunityRecommendation", description = "Community Recommendation Endpoints")
+public class RecommendationReactionsController {
+
+    private final RecommendationReactionCommandService recommendationReactionCommandService;
+    private final RecommendationReactionQueryService recommendationReactionQueryService;
+
+    public RecommendationReactionsController(RecommendationReactionCommandService recommendationReactionCommandService,
+                                             RecommendationReactionQueryService recommendationReactionQueryService) {
+        this.recommendationReactionCommandService = recommendationReactionCommandService;
+        this.recommendationReactionQueryService = recommendationReactionQueryService;
+    }
+
+    /**
+     * Gets the useful reactions of a recommendation.
+     * GET /api/v1/community-recommendations/{recommendationId}/reactions/useful
+     */
+    @Operation(
+            summary = "Get useful reactions",
+            description = "Returns how many users marked the recommendation as useful and whether the " +
+                    "authenticated user is one of them."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Reactions",
+                    content = @Content(schema = @Schema(implementation = ReactionSummaryResource.class))
+            ),
+            @ApiResponse(responseCode = "403", description = "userId is not the authenticated user"),
+            @ApiResponse(responseCode = "404", description = "Recommendation not found")
+    })
+    @GetMapping
+    public ResponseEntity<ReactionSummaryResource> getUsefulReactions(@PathVariable Long recommendationId,
+                                                                      @RequestParam(required = false) Long userId,
+                                                                      @AuthenticationPrincipal(expression = "userId()") Long authenticatedUserId) {
+        if (userId != null && !userId.equals(authenticatedUserId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        var summary = recommendationReactionQueryService.handle(new GetUsefulReactionsQuery(recommendationId, authenticatedUserId));
+        return summary.map(value -> ResponseEntity.ok(ReactionSummaryResourceFromValueAssembler.toResourceFromValue(value)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Marks a recommendation as useful.
+     * PUT /api/v1/community-recommendations/{recommendationId}/reactions/useful
+     */
+    @Operation(
+            summary = "Mark a recommendation as useful",
+            description = "Adds the user's useful reaction. Idempotent: reacting twice counts once."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Reactions after the change",
+                    content = @Content(schema = @Schema(implementation = ReactionSummaryResource.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "User not found"),
+            @ApiResponse(responseCode = "403", description = "userId is not the authenticated user"),
+            @ApiResponse(responseCode = "404", description = "Recommendation not found")
+    })
+    @PutMapping
+    public ResponseEntity<ReactionSummaryResource> addUsefulReaction(@PathVariable Long recommendationId,
+                                                                     @RequestParam(required = false) Long userId,
+                                                                     @AuthenticationPrincipal(expression = "userId()") Long authenticatedUserId) {
+        if (userId != null && !userId.equals(authenticatedUserId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            var summary = recommendationReactionCommandService.handle(new AddUsefulReactionCommand(recommendationId, authenticatedUserId));
+            return summary.map(value -> ResponseEntity.ok(ReactionSummaryResourceFromValueAssembler.toResourceFromValue(value)))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Withdraws a useful reaction.
+     * DELETE /api/v1/community-recommendations/{recommendationId}/reactions/useful
+     */
+    @Operation(
+            summary = "Withdraw a useful reaction",
+            description = "Removes the user's useful reaction. Idempotent: withdrawing a missing reaction does nothing."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Reactions after the change",
+                    content = @Content(schema = @Schema(implementation = ReactionSummaryResource.class))
+            ),
+            @ApiResponse(responseCode = "403", description = "userId is not the authenticated user"),
+            @ApiResponse(responseCode = "404", description = "Recommendation not found")
+    })
+    @DeleteMapping
+    public ResponseEntity<ReactionSummaryResource> removeUsefulReaction(@PathVariable Long recommendationId,
+                                                                        @RequestParam(required = false) Long userId,
+                                                                        @AuthenticationPrincipal(expression = "userId()") Long authenticatedUserId) {
+        if (userId != null && !userId.equals(authenticatedUserId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        var summary = recommendationReactionCommandService.handle(new RemoveUsefulReactionCommand(recommendationId, authenticatedUserId));
+        return summary.map(value -> ResponseEntity.ok(ReactionSummaryResourceFromValueAssembler.toResourceFromValue(value)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,124 @@
+package com.agroapp.platform.community.interfaces.rest;
+
+import com.agroapp.platform.community.domain.model.queries.GetReplyThreadQuery;
+import com.agroapp.platform.community.domain.services.RecommendationReplyCommandService;
+import com.agroapp.platform.community.domain.services.RecommendationReplyQueryService;
+import com.agroapp.platform.community.interfaces.rest.resources.CreateReplyResource;
+import com.agroapp.platform.community.interfaces.rest.resources.ReplyResource;
+import com.agroapp.platform.community.interfaces.rest.resources.ReplyThreadResource;
+import com.agroapp.platform.community.interfaces.rest.transform.CreateReplyCommandFromResourceAssembler;
+import com.agroapp.platform.community.interfaces.rest.transform.ReplyResourceFromEntityAssembler;
+import com.agroapp.platform.community.interfaces.rest.transform.ReplyThreadResourceFromValueAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for threaded replies to community recommendations.
+ * Threads are returned in display order and each reply carries its depth, so clients can indent
+ * replies without rebuilding the tree.
+ */
+@RestController
+@RequestMapping("/api/v1/community-recommendations/{recommendationId}/replies")
+@Tag(name = "CommunityRecommendation", description = "Community Recommendation Endpoints")
+public class RecommendationRepliesController {
+
+    private final RecommendationReplyCommandService recommendationReplyCommandService;
+    private final RecommendationReplyQueryService recommendationReplyQueryService;
+
+    public RecommendationRepliesController(RecommendationReplyCommandService recommendationReplyCommandService,
+                                           RecommendationReplyQueryService recommendationReplyQueryService) {
+        this.recommendationReplyCommandService = recommendationReplyCommandService;
+        this.recommendationReplyQueryService = recommendationReplyQueryService;
+    }
+
+    /**
+     * Gets the whole reply thread of a recommendation.
+     * GET /api/v1/community-recommendations/{recommendationId}/replies
+     */
+    @Operation(
+            summary = "Get the replies of a recommendation",
+            description = "Returns every reply of the thread depth-first, siblings oldest first, with the thread's reply count."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Thread",
+                    content = @Content(schema = @Schema(implementation = ReplyThreadResource.class))
+            ),
+            @ApiResponse(responseCode = "404", description = "Recommendation not found")
+    })
+    @GetMapping
+    public ResponseEntity<ReplyThreadResource> getThread(@PathVariable Long recommendationId) {
+        var thread = recommendationReplyQueryService.handle(new GetReplyThreadQuery(recommendationId, null));
+        return thread.map(value -> ResponseEntity.ok(ReplyThreadResourceFromValueAssembler.toResourceFromValue(value)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Gets one reply and every reply below it.
+     * GET /api/v1/community-recommendations/{recommendationId}/replies/{replyId}
+     */
+    @Operation(
+            summary = "Get a reply and its sub-thread",
+            description = "Returns the reply followed by all of its descendants, depth-first, siblings oldest first."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Sub-thread",
+                    content = @Content(schema = @Schema(implementation = ReplyThreadResource.class))
+            ),
+            @ApiResponse(responseCode = "404", description = "Recommendation or reply not found")
+    })
+    @GetMapping("/{replyId}")
+    public ResponseEntity<ReplyThreadResource> getSubThread(@PathVariable Long recommendationId,
+                                                            @PathVariable Long replyId) {
+        var thread = recommendationReplyQueryService.handle(new GetReplyThreadQuery(recommendationId, replyId));
+        return thread.map(value -> ResponseEntity.ok(ReplyThreadResourceFromValueAssembler.toResourceFromValue(value)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Replies to a recommendation or to one of its replies.
+     * POST /api/v1/community-recommendations/{recommendationId}/replies
+     */
+    @Operation(
+            summary = "Reply in a recommendation's thread",
+            description = "Adds a reply by the authenticated user; 'userId' may be omitted and may not name anyone else. " +
+                    "Give 'parentReplyId' to answer a reply of the same thread, or omit it to answer the recommendation itself."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Reply created",
+                    content = @Content(schema = @Schema(implementation = ReplyResource.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid input, unknown user or parent reply, or thread too deep"),
+            @ApiResponse(responseCode = "403", description = "userId is not the authenticated user"),
+            @ApiResponse(responseCode = "404", description = "Recommendation not found")
+    })
+    @PostMapping
+    public ResponseEntity<ReplyResource> createReply(@PathVariable Long recommendationId,
+                                                     @RequestBody CreateReplyResource resource,
+                                                     @AuthenticationPrincipal(expression = "userId()") Long authenticatedUserId) {
+        if (resource.userId() != null && !resource.userId().equals(authenticatedUserId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            var command = CreateReplyCommandFromResourceAssembler.toCommandFromResource(recommendationId, authenticatedUserId, resource);
+            var reply = recommendationReplyCommandService.handle(command);
+            return reply.map(value -> new ResponseEntity<>(ReplyResourceFromEntityAssembler.toResourceFromEntity(value), HttpStatus.CREATED))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.agroapp.platform.community.interfaces.rest.resources;
+
+import java.util.List;
+
+public record CommunityFeedResource(
+        List<CommunityRecommendationResource> items,
+        String nextCursor
+) {
+}
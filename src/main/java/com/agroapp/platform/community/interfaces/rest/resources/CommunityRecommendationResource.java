@@ -6,7 +6,8 @@ public record CommunityRecommendationResource(
         Long id,
         String userName,
         LocalDateTime commentDate,
-        String comment
+        String comment,
+        String region
 ) {
 }
 
@@ -0,0 +1,12 @@
+package com.agroapp.platform.community.interfaces.rest.resources;
+
+import java.time.LocalDateTime;
+
+public record CommunitySearchHitResource(
+        Long id,
+        String userName,
+        LocalDateTime commentDate,
+        String comment,
+        double score
+) {
+}
@@ -0,0 +1,9 @@
+package com.agroapp.platform.community.interfaces.rest.resources;
+
+import java.util.List;
+
+public record CommunitySearchResource(
+        List<CommunitySearchHitResource> hits,
+        String nextCursor
+) {
+}
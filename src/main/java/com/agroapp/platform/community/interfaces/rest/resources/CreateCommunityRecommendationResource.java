@@ -2,7 +2,7 @@ package com.agroapp.platform.community.interfaces.rest.resources;
 
 /**
  * Resource for creating a CommunityRecommendation.
- * Requires userId (of the logged-in user) and comment content.
+ * userId is optional and must be the authenticated user's; comment content is required.
  * userName is resolved from userId via ACL to IAM context.
  * id and commentDate are auto-generated.
  */
@@ -0,0 +1,13 @@
+package com.agroapp.platform.community.interfaces.rest.resources;
+
+/**
+ * Resource for replying in a recommendation's thread.
+ * parentReplyId is the reply being answered; omit it to answer the recommendation itself.
+ * userId is optional and must be the authenticated user's.
+ */
+public record CreateReplyResource(
+        Long userId,
+        Long parentReplyId,
+        String comment
+) {
+}
@@ -0,0 +1,8 @@
+package com.agroapp.platform.community.interfaces.rest.resources;
+
+public record ReactionSummaryResource(
+        Long recommendationId,
+        long usefulCount,
+        boolean reactedByUser
+) {
+}
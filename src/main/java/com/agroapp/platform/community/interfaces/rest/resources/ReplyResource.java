@@ -0,0 +1,17 @@
+package com.agroapp.platform.community.interfaces.rest.resources;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resource for a reply in a recommendation's thread.
+ * parentReplyId is null for direct replies to the recommendation; depth is 1 for those.
+ */
+public record ReplyResource(
+        Long id,
+        Long parentReplyId,
+        int depth,
+        String userName,
+        LocalDateTime replyDate,
+        String comment
+) {
+}
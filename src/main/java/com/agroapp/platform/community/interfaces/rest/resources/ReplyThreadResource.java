@@ -0,0 +1,14 @@
+package com.agroapp.platform.community.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Resource for the replies of a recommendation's thread, or of a subtree of it.
+ * replies are in display order: depth-first, siblings oldest first.
+ */
+public record ReplyThreadResource(
+        Long recommendationId,
+        int replyCount,
+        List<ReplyResource> replies
+) {
+}
@@ -1,7 +1,6 @@
 package com.agroapp.platform.community.interfaces.rest.resources;
 
 public record UpdateCommunityRecommendationResource(
-        String userName,
         String comment
 ) {
 }
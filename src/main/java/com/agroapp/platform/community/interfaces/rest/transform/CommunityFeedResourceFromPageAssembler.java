@@ -0,0 +1,27 @@
+package com.agroapp.platform.community.interfaces.rest.transform;
+
+import com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem;
+import com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedPage;
+import com.agroapp.platform.community.interfaces.rest.resources.CommunityFeedResource;
+import com.agroapp.platform.community.interfaces.rest.resources.CommunityRecommendationResource;
+
+public class CommunityFeedResourceFromPageAssembler {
+    public static CommunityFeedResource toResourceFromPage(CommunityFeedPage page) {
+        return new CommunityFeedResource(
+                page.items().stream()
+                        .map(CommunityFeedResourceFromPageAssembler::toResourceFromItem)
+                        .toList(),
+                page.nextCursor() != null ? page.nextCursor().encode() : null
+        );
+    }
+
+    public static CommunityRecommendationResource toResourceFromItem(CommunityFeedItem item) {
+        return new CommunityRecommendationResource(
+                item.id(),
+                item.userName(),
+                item.commentDate(),
+                item.comment(),
+                item.region()
+        );
+    }
+}
@@ -9,7 +9,8 @@ public class CommunityRecommendationResourceFromEntityAssembler {
                 recommendation.getId(),
                 recommendation.getUserName(),
                 recommendation.getCommentDate(),
-                recommendation.getComment()
+                recommendation.getComment(),
+                recommendation.getRegion()
         );
     }
 }
@@ -0,0 +1,28 @@
+package com.agroapp.platform.community.interfaces.rest.transform;
+
+import com.agroapp.platform.community.domain.model.valueobjects.CommunitySearchHit;
+import com.agroapp.platform.community.domain.model.valueobjects.CommunitySearchPage;
+import com.agroapp.platform.community.interfaces.rest.resources.CommunitySearchHitResource;
+import com.agroapp.platform.community.interfaces.rest.resources.CommunitySearchResource;
+
+public class CommunitySearchResourceFromPageAssembler {
+    public static CommunitySearchResource toResourceFromPage(CommunitySearchPage page) {
+        return new CommunitySearchResource(
+                page.hits().stream()
+                        .map(CommunitySearchResourceFromPageAssembler::toResourceFromHit)
+                        .toList(),
+                page.nextCursor() != null ? page.nextCursor().encode() : null
+        );
+    }
+
+    public static CommunitySearchHitResource toResourceFromHit(CommunitySearchHit hit) {
+        var item = hit.recommendation();
+        return new CommunitySearchHitResource(
+                item.id(),
+                item.userName(),
+                item.commentDate(),
+                item.comment(),
+                hit.score()
+        );
+    }
+}
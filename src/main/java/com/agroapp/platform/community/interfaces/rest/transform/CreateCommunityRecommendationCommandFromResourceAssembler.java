@@ -12,12 +12,13 @@ public class CreateCommunityRecommendationCommandFromResourceAssembler {
     /**
      * Transforms a CreateCommunityRecommendationResource into a CreateCommunityRecommendationCommand.
      *
-     * @param resource The incoming REST resource with userId and comment
+     * @param userId The authenticated author
+     * @param resource The incoming REST resource with the comment
      * @return CreateCommunityRecommendationCommand to be processed by the domain layer
      */
-    public static CreateCommunityRecommendationCommand toCommandFromResource(CreateCommunityRecommendationResource resource) {
+    public static CreateCommunityRecommendationCommand toCommandFromResource(Long userId, CreateCommunityRecommendationResource resource) {
         return new CreateCommunityRecommendationCommand(
-                resource.userId(),
+                userId,
                 resource.comment()
         );
     }
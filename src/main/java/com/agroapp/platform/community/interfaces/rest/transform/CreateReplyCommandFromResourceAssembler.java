@@ -0,0 +1,26 @@
+package com.agroapp.platform.community.interfaces.rest.transform;
+
+import com.agroapp.platform.community.domain.model.commands.CreateReplyCommand;
+import com.agroapp.platform.community.interfaces.rest.resources.CreateReplyResource;
+
+/**
+ * Assembler to transform CreateReplyResource to CreateReplyCommand.
+ * Pure transformation, no business logic.
+ */
+public class CreateReplyCommandFromResourceAssembler {
+
+    /**
+     * @param recommendationId the recommendation from the request path
+     * @param userId the authenticated author
+     * @param resource the incoming REST resource
+     * @return CreateReplyCommand to be processed by the domain layer
+     */
+    public static CreateReplyCommand toCommandFromResource(Long recommendationId, Long userId, CreateReplyResource resource) {
+        return new CreateReplyCommand(
+                recommendationId,
+                resource.parentReplyId(),
+                userId,
+                resource.comment()
+        );
+    }
+}
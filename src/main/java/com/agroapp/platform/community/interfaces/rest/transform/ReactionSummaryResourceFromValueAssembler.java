@@ -0,0 +1,14 @@
+package com.agroapp.platform.community.interfaces.rest.transform;
+
+import com.agroapp.platform.community.domain.model.valueobjects.ReactionSummary;
+import com.agroapp.platform.community.interfaces.rest.resources.ReactionSummaryResource;
+
+public class ReactionSummaryResourceFromValueAssembler {
+    public static ReactionSummaryResource toResourceFromValue(ReactionSummary summary) {
+        return new ReactionSummaryResource(
+                summary.recommendationId(),
+                summary.usefulCount(),
+                summary.reactedByUser()
+        );
+    }
+}
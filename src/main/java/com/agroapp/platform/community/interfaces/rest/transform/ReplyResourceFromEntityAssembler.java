@@ -0,0 +1,17 @@
+package com.agroapp.platform.community.interfaces.rest.transform;
+
+import com.agroapp.platform.community.domain.model.entities.CommunityRecommendationReply;
+import com.agroapp.platform.community.interfaces.rest.resources.ReplyResource;
+
+public class ReplyResourceFromEntityAssembler {
+    public static ReplyResource toResourceFromEntity(CommunityRecommendationReply reply) {
+        return new ReplyResource(
+                reply.getId(),
+                reply.getParentReplyId(),
+                reply.getDepth(),
+                reply.getUserName(),
+                reply.getReplyDate(),
+                reply.getComment()
+        );
+    }
+}
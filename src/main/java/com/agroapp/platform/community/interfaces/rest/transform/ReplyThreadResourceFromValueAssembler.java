@@ -0,0 +1,14 @@
+package com.agroapp.platform.community.interfaces.rest.transform;
+
+import com.agroapp.platform.community.domain.model.valueobjects.ReplyThread;
+import com.agroapp.platform.community.interfaces.rest.resources.ReplyThreadResource;
+
+public class ReplyThreadResourceFromValueAssembler {
+    public static ReplyThreadResource toResourceFromValue(ReplyThread thread) {
+        return new ReplyThreadResource(
+                thread.recommendationId(),
+                thread.replyCount(),
+                thread.replies().stream().map(ReplyResourceFromEntityAssembler::toResourceFromEntity).toList()
+        );
+    }
+}
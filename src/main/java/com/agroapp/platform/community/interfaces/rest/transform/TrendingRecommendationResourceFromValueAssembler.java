@@ -0,0 +1,17 @@
+package com.agroapp.platform.community.interfaces.rest.transform;
+
+import com.agroapp.platform.community.domain.model.valueobjects.TrendingRecommendation;
+import com.agroapp.platform.community.interfaces.rest.resources.TrendingRecommendationResource;
+
+public class TrendingRecommendationResourceFromValueAssembler {
+    public static TrendingRecommendationResource toResourceFromValue(TrendingRecommendation trending) {
+        var item = trending.recommendation();
+        return new TrendingRecommendationResource(
+                item.id(),
+                item.userName(),
+                item.commentDate(),
+                item.comment(),
+                trending.score()
+        );
+    }
+}
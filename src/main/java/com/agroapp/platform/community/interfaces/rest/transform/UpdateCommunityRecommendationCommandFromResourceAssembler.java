@@ -7,7 +7,6 @@ public class UpdateCommunityRecommendationCommandFromResourceAssembler {
     public static UpdateCommunityRecommendationCommand toCommandFromResource(Long recommendationId, UpdateCommunityRecommendationResource resource) {
         return new UpdateCommunityRecommendationCommand(
                 recommendationId,
-                resource.userName(),
                 resource.comment()
         );
     }
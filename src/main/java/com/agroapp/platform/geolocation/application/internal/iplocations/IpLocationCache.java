@@ -0,0 +1,101 @@
+package com.agroapp.platform.geolocation.application.internal.iplocations;
+
+import com.agroapp.platform.geolocation.infrastructure.external.IpApiService;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded cache of IP geolocation lookups (published as the "geolocation.ip-locations" cache metrics).
+ * Resolved locations are kept for the positive TTL; addresses ip-api.com could not resolve, including
+ * failed and rate-limited requests, are kept for the shorter negative TTL so a burst of sign-ups does not
+ * retry them. Concurrent lookups of the same key share one outbound request.
+ * With prefix keys enabled, IPv4 addresses are keyed by their /24 network, so neighbours share one lookup.
+ * Anything that is not an IP address literal is never sent to ip-api.com.
+ */
+@Component
+public class IpLocationCache {
+
+    private static final long IP_LOCATION_CACHE_SIZE = 50_000;
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9A-Fa-f.:]{2,45}");
+    private static final Pattern IPV4 = Pattern.compile("(\\d{1,3}\\.\\d{1,3}\\.\\d{1,3})\\.\\d{1,3}");
+
+    private final IpApiService ipApiService;
+    private final boolean prefixKeys;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("geolocation-ip-lookup-", 0).factory());
+    private final AsyncCache<String, Optional<String>> locations;
+
+    @Autowired
+    public IpLocationCache(IpApiService ipApiService, MeterRegistry meterRegistry,
+                           @Value("${geolocation.cache.positive-ttl-minutes:1440}") long positiveTtlMinutes,
+                           @Value("${geolocation.cache.negative-ttl-seconds:300}") long negativeTtlSeconds,
+                           @Value("${geolocation.cache.prefix-keys:false}") boolean prefixKeys) {
+        this(ipApiService, meterRegistry, Duration.ofMinutes(positiveTtlMinutes),
+                Duration.ofSeconds(negativeTtlSeconds), prefixKeys, Ticker.systemTicker());
+    }
+
+    IpLocationCache(IpApiService ipApiService, MeterRegistry meterRegistry, Duration positiveTtl,
+                    Duration negativeTtl, boolean prefixKeys, Ticker ticker) {
+        this.ipApiService = ipApiService;
+        this.prefixKeys = prefixKeys;
+        this.locations = Caffeine.newBuilder()
+                .maximumSize(IP_LOCATION_CACHE_SIZE)
+                .expireAfter(Expiry.<String, Optional<String>>creating((key, location) ->
+                        location.isPresent() ? positiveTtl : negativeTtl))
+                .executor(executor)
+                .ticker(ticker)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, locations.synchronous(), "geolocation.ip-locations");
+    }
+
+    /**
+     * Gets the location of an IP address, looking it up only when it is not cached.
+     *
+     * @param ipAddress the IP address to geolocate
+     * @return the location, or empty if it could not be resolved
+     */
+    public Optional<String> getLocation(String ipAddress) {
+        if (IpApiService.isLocal(ipAddress)) {
+            return Optional.empty();
+        }
+        String ip = ipAddress.trim();
+        if (!IP_LITERAL.matcher(ip).matches()) {
+            return Optional.empty();
+        }
+        return locations.get(keyOf(ip), key -> ipApiService.lookUpLocation(ip)).join();
+    }
+
+    /**
+     * @return the address itself, or its /24 network when prefix keys are enabled and it is IPv4
+     */
+    String keyOf(String ip) {
+        if (prefixKeys) {
+            var ipv4 = IPV4.matcher(ip);
+            if (ipv4.matches()) {
+                return ipv4.group(1) + ".0/24";
+            }
+        }
+        return ip.toLowerCase(Locale.ROOT);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
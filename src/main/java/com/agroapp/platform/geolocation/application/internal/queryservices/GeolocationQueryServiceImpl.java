@@ -1,5 +1,6 @@
 package com.agroapp.platform.geolocation.application.internal.queryservices;
 
+import com.agroapp.platform.geolocation.application.internal.iplocations.IpLocationCache;
 import com.agroapp.platform.geolocation.domain.services.LocationService;
 import com.agroapp.platform.geolocation.infrastructure.external.IpApiService;
 import org.springframework.stereotype.Service;
@@ -7,25 +8,26 @@ import org.springframework.stereotype.Service;
 /**
  * Application service that orchestrates geolocation queries.
  * Implements the domain service interface and delegates to infrastructure services.
+ * Lookups go through the IP location cache, so repeated addresses do not reach the external API.
  */
 @Service
 public class GeolocationQueryServiceImpl implements LocationService {
 
-    private final IpApiService ipApiService;
+    private final IpLocationCache ipLocationCache;
 
-    public GeolocationQueryServiceImpl(IpApiService ipApiService) {
-        this.ipApiService = ipApiService;
+    public GeolocationQueryServiceImpl(IpLocationCache ipLocationCache) {
+        this.ipLocationCache = ipLocationCache;
     }
 
     /**
-     * Resolves location from IP address by delegating to the external API service.
+     * Resolves location from IP address through the cached external API service.
      *
      * @param ipAddress The IP address to resolve
-     * @return A formatted location string
+     * @return A formatted location string, or the default location if it could not be resolved
      */
     @Override
     public String resolveLocationFromIp(String ipAddress) {
-        return ipApiService.getLocationByIp(ipAddress);
+        return ipLocationCache.getLocation(ipAddress).orElse(IpApiService.DEFAULT_LOCATION);
     }
 }
 
@@ -10,18 +10,28 @@ import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.util.Optional;
 
 @Service
 public class IpApiService {
 
     private static final Logger logger = LoggerFactory.getLogger(IpApiService.class);
-    private static final String DEFAULT_LOCATION = "Lima, Peru";
+    public static final String DEFAULT_LOCATION = "Lima, Peru";
 
     public String getLocationByIp(String ipAddress) {
+        return lookUpLocation(ipAddress).orElse(DEFAULT_LOCATION);
+    }
+
+    /**
+     * Looks up the location of an IP address with one request to ip-api.com.
+     *
+     * @param ipAddress the IP address to geolocate
+     * @return the location, or empty if it could not be resolved, localhost included
+     */
+    public Optional<String> lookUpLocation(String ipAddress) {
         // Validamos si es localhost para no gastar peticiones
-        if (ipAddress == null || ipAddress.trim().isEmpty() ||
-                ipAddress.equals("127.0.0.1") || ipAddress.equals("0:0:0:0:0:0:0:1")) {
-            return DEFAULT_LOCATION;
+        if (isLocal(ipAddress)) {
+            return Optional.empty();
         }
 
         try {
@@ -37,7 +47,7 @@ public class IpApiService {
             int status = connection.getResponseCode();
             if (status != 200) {
                 logger.error("Error API HTTP: {}", status);
-                return DEFAULT_LOCATION;
+                return Optional.empty();
             }
 
             BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream()));
@@ -53,25 +63,30 @@ public class IpApiService {
             // ip-api.com usa "status": "fail" cuando falla
             if (root.has("status") && "fail".equals(root.get("status").asText())) {
                 logger.warn("API Error: {}", root.has("message") ? root.get("message").asText() : "Unknown");
-                return DEFAULT_LOCATION;
+                return Optional.empty();
             }
 
             // CAMBIO: Nombres de campos específicos de ip-api.com
             String region = root.has("regionName") ? root.get("regionName").asText() : "";
             String country = root.has("country") ? root.get("country").asText() : "";
 
-            if (region.isEmpty() && country.isEmpty()) return DEFAULT_LOCATION;
+            if (region.isEmpty() && country.isEmpty()) return Optional.empty();
 
             String location = region.isEmpty() ? country :
                     country.isEmpty() ? region :
                             region + ", " + country;
 
             logger.info("Location resolved: {}", location);
-            return location;
+            return Optional.of(location);
 
         } catch (Exception e) {
             logger.error("Excepción al obtener ubicación: {}", e.getMessage());
-            return DEFAULT_LOCATION;
+            return Optional.empty();
         }
     }
-}
\ No newline at end of file
+
+    public static boolean isLocal(String ipAddress) {
+        return ipAddress == null || ipAddress.trim().isEmpty() ||
+                ipAddress.equals("127.0.0.1") || ipAddress.equals("0:0:0:0:0:0:0:1");
+    }
+}
@@ -1,16 +1,28 @@
 package com.agroapp.platform.iam.application.internal.commandservices;
 
+import com.agroapp.platform.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
 import com.agroapp.platform.iam.application.internal.outboundservices.hashing.HashingService;
 import com.agroapp.platform.iam.application.internal.outboundservices.tokens.TokenService;
+import com.agroapp.platform.iam.application.internal.profiles.UserProfileCache;
+import com.agroapp.platform.iam.application.internal.provisioning.UserProvisioner;
+import com.agroapp.platform.iam.application.internal.signin.SignInThrottle;
+import com.agroapp.platform.iam.application.internal.signup.KnownSignUpKeys;
 import com.agroapp.platform.iam.domain.model.aggregates.User;
 import com.agroapp.platform.iam.domain.model.commands.*;
-import com.agroapp.platform.iam.domain.model.commands.*;
+import com.agroapp.platform.iam.domain.model.events.UserDeletedEvent;
 import com.agroapp.platform.iam.domain.model.events.UserProfileUpdatedEvent;
+import com.agroapp.platform.iam.domain.model.events.UserSignedInEvent;
+import com.agroapp.platform.iam.domain.model.valueobjects.AuthenticatedUser;
+import com.agroapp.platform.iam.domain.model.valueobjects.UserProfile;
+import com.agroapp.platform.iam.domain.model.valueobjects.UserProvisioningResult;
 import com.agroapp.platform.iam.domain.services.UserCommandService;
 import com.agroapp.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Service
@@ -20,27 +32,39 @@ public class UserCommandServiceImpl implements UserCommandService {
     private final HashingService hashingService;
     private final TokenService tokenService;
     private final ApplicationEventPublisher eventPublisher;
+    private final SignInThrottle signInThrottle;
+    private final KnownSignUpKeys knownSignUpKeys;
+    private final UserProfileCache userProfileCache;
+    private final UserProvisioner userProvisioner;
 
     public UserCommandServiceImpl(UserRepository userRepository, HashingService hashingService,
-                                 TokenService tokenService, ApplicationEventPublisher eventPublisher) {
+                                 TokenService tokenService, ApplicationEventPublisher eventPublisher,
+                                 SignInThrottle signInThrottle, KnownSignUpKeys knownSignUpKeys,
+                                 UserProfileCache userProfileCache, UserProvisioner userProvisioner) {
         this.userRepository = userRepository;
         this.hashingService = hashingService;
         this.tokenService = tokenService;
         this.eventPublisher = eventPublisher;
+        this.signInThrottle = signInThrottle;
+        this.knownSignUpKeys = knownSignUpKeys;
+        this.userProfileCache = userProfileCache;
+        this.userProvisioner = userProvisioner;
     }
 
     @Override
     public Optional<User> handle(SignUpCommand command) {
-        if (userRepository.existsByEmail(command.email())) {
+        // Validate raw password before hashing
+        User.validateRawPassword(command.password());
+
+        // Keys the filters have never seen are free; only look up the others before paying for a hash
+        if (knownSignUpKeys.mayHaveEmail(command.email()) && userRepository.existsByEmail(command.email())) {
             throw new RuntimeException("Email already exists");
         }
-        if (userRepository.existsByIdentificator(command.identificator())) {
+        if (knownSignUpKeys.mayHaveIdentificator(command.identificator())
+                && userRepository.existsByIdentificator(command.identificator())) {
             throw new RuntimeException("DNI (identificator) already exists");
         }
 
-        // Validate raw password before hashing
-        User.validateRawPassword(command.password());
-
         String hashedPassword = hashingService.encode(command.password());
         User user = new User(
                 command.userName(),
@@ -51,25 +75,89 @@ public class UserCommandServiceImpl implements UserCommandService {
                 command.location()
         );
 
-        User savedUser = userRepository.save(user);
+        // The unique constraints decide; a concurrent sign-up with the same keys fails here
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateKeyError(e, user);
+        }
+        knownSignUpKeys.add(savedUser.getEmail(), savedUser.getIdentificator());
         return Optional.of(savedUser);
     }
 
     @Override
-    public Optional<String> handle(SignInCommand command) {
+    public List<UserProvisioningResult> handle(ProvisionUsersCommand command) {
+        return userProvisioner.provision(command);
+    }
+
+    /**
+     * Translates a unique-constraint violation of a new user into the sign-up error messages.
+     * Constraints created before they were named are told apart by looking the keys up.
+     */
+    private RuntimeException duplicateKeyError(DataIntegrityViolationException e, User user) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+        if (message.contains(User.EMAIL_CONSTRAINT)) {
+            return new RuntimeException("Email already exists");
+        }
+        if (message.contains(User.IDENTIFICATOR_CONSTRAINT)) {
+            return new RuntimeException("DNI (identificator) already exists");
+        }
+        if (userRepository.existsByEmail(user.getEmail())) {
+            return new RuntimeException("Email already exists");
+        }
+        if (userRepository.existsByIdentificator(user.getIdentificator())) {
+            return new RuntimeException("DNI (identificator) already exists");
+        }
+        return e;
+    }
+
+    @Override
+    public Optional<AuthenticatedUser> handle(SignInCommand command) {
+        // Refuse abusive attempts before spending any hashing work on them
+        signInThrottle.checkAllowed(command.email(), command.clientAddress());
+
         Optional<User> userOptional = userRepository.findByEmail(command.email());
 
         if (userOptional.isEmpty()) {
+            signInThrottle.recordFailure(command.email(), command.clientAddress());
             throw new RuntimeException("Invalid email or password");
         }
 
         User user = userOptional.get();
         if (!hashingService.matches(command.password(), user.getPassword())) {
+            signInThrottle.recordFailure(command.email(), command.clientAddress());
             throw new RuntimeException("Invalid email or password");
         }
+        signInThrottle.recordSuccess(command.email());
+
+        // Move the stored hash to the current algorithm and cost while the raw password is at hand;
+        // when hashing is saturated the upgrade waits for a later sign-in
+        if (hashingService.upgradeEncoding(user.getPassword())) {
+            try {
+                user.updatePassword(hashingService.encode(command.password()));
+                user = userRepository.save(user);
+            } catch (HashingCapacityExceededException e) {
+                // Keep the current hash
+            }
+        }
+
+        // The user is only read once; the caller gets the profile from the same row as the token
+        String token = tokenService.generateToken(user.getId(), user.getEmail());
 
-        String token = tokenService.generateToken(user.getEmail());
-        return Optional.of(token);
+        // Publish event so other bounded contexts can warm up the user's first requests
+        eventPublisher.publishEvent(new UserSignedInEvent(this, user.getId()));
+        return Optional.of(new AuthenticatedUser(UserProfile.of(user), token));
+    }
+
+    @Override
+    public void handle(SignOutCommand command) {
+        tokenService.revoke(command.tokenId(), command.tokenExpiresAt());
+    }
+
+    @Override
+    public void handle(SignOutEverywhereCommand command) {
+        tokenService.revokeAll(command.userId());
     }
 
     @Override
@@ -83,9 +171,12 @@ public class UserCommandServiceImpl implements UserCommandService {
         User user = userOptional.get();
         user.updateProfile(command.userName(), command.email(), command.phoneNumber(), command.isLocationPublic());
         User updatedUser = userRepository.save(user);
+        userProfileCache.invalidate(updatedUser.getId());
+        knownSignUpKeys.add(updatedUser.getEmail(), null);
 
         // Publish event to notify other bounded contexts about the user profile update
-        eventPublisher.publishEvent(new UserProfileUpdatedEvent(this, updatedUser.getId(), updatedUser.getUserName()));
+        eventPublisher.publishEvent(new UserProfileUpdatedEvent(this, updatedUser.getId(), updatedUser.getUserName(),
+                updatedUser.isLocationPublic() ? updatedUser.getLocation() : null));
 
         return Optional.of(updatedUser);
     }
@@ -106,6 +197,7 @@ public class UserCommandServiceImpl implements UserCommandService {
         String hashedPassword = hashingService.encode(command.newPassword());
         user.updatePassword(hashedPassword);
         User updatedUser = userRepository.save(user);
+        userProfileCache.invalidate(updatedUser.getId());
         return Optional.of(updatedUser);
     }
 
@@ -115,6 +207,11 @@ public class UserCommandServiceImpl implements UserCommandService {
             throw new RuntimeException("User not found");
         }
         userRepository.deleteById(command.userId());
+        userProfileCache.invalidate(command.userId());
+        tokenService.revokeAll(command.userId());
+
+        // Publish event so other bounded contexts drop what they cached for this user
+        eventPublisher.publishEvent(new UserDeletedEvent(this, command.userId()));
     }
 }
 
@@ -0,0 +1,12 @@
+package com.agroapp.platform.iam.application.internal.outboundservices.hashing;
+
+/**
+ * Thrown when every password hashing worker is busy and the wait queue is full.
+ * The request should be retried later rather than queued without bound.
+ */
+public class HashingCapacityExceededException extends RuntimeException {
+
+    public HashingCapacityExceededException() {
+        super("Password hashing capacity exceeded, retry later");
+    }
+}
@@ -1,7 +1,23 @@
 package com.agroapp.platform.iam.application.internal.outboundservices.hashing;
 
+import java.util.List;
+
 public interface HashingService {
     String encode(CharSequence rawPassword);
     boolean matches(CharSequence rawPassword, String encodedPassword);
-}
 
+    /**
+     * @param encodedPassword a stored hash
+     * @return true if the hash was made with another algorithm or cost than new hashes get, so it should
+     * be replaced by re-encoding the raw password the next time it is known
+     */
+    boolean upgradeEncoding(String encodedPassword);
+
+    /**
+     * Hashes many passwords in parallel, for bulk provisioning.
+     *
+     * @param rawPasswords the passwords to hash
+     * @return the hashes, in the order of the passwords
+     */
+    List<String> encodeAll(List<? extends CharSequence> rawPasswords);
+}
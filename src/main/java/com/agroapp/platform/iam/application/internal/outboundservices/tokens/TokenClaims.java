@@ -0,0 +1,16 @@
+package com.agroapp.platform.iam.application.internal.outboundservices.tokens;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Verified claims of an access token.
+ *
+ * @param userId the authenticated user's ID
+ * @param email the authenticated user's email (the token subject)
+ * @param tokenId the token's unique ID (jti), used to revoke it
+ * @param issuedAt when the token was issued
+ * @param expiresAt when the token stops being valid
+ */
+public record TokenClaims(Long userId, String email, UUID tokenId, Instant issuedAt, Instant expiresAt) {
+}
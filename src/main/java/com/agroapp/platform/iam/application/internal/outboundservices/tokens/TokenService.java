@@ -1,8 +1,34 @@
 package com.agroapp.platform.iam.application.internal.outboundservices.tokens;
 
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
 public interface TokenService {
-    String generateToken(String username);
+    String generateToken(Long userId, String username);
     String getUsernameFromToken(String token);
     boolean validateToken(String token);
-}
 
+    /**
+     * Verifies a token and returns its claims.
+     *
+     * @param token the compact token
+     * @return the claims, or empty if the token is malformed, forged, expired or revoked
+     */
+    Optional<TokenClaims> verify(String token);
+
+    /**
+     * Revokes one token until it expires.
+     *
+     * @param tokenId the token's ID
+     * @param expiresAt when the token expires
+     */
+    void revoke(UUID tokenId, Instant expiresAt);
+
+    /**
+     * Revokes every token issued to a user so far.
+     *
+     * @param userId the user
+     */
+    void revokeAll(Long userId);
+}
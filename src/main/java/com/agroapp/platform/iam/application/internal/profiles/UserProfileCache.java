@@ -0,0 +1,102 @@
+package com.agroapp.platform.iam.application.internal.profiles;
+
+import com.agroapp.platform.iam.domain.model.valueobjects.UserProfile;
+import com.agroapp.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Bounded per-node near-cache of user profiles, keyed by id, with a second index from normalized email to id
+ * (published as the "iam.user-profiles" and "iam.user-profile-emails" cache metrics).
+ * Only {@link UserProfile} read views are cached, never the password hash. The user commands invalidate a
+ * user's profile once their change is saved; changes made on other nodes show up when the entry expires.
+ * An email entry is only trusted when the profile it points to still has that email, so a changed email
+ * never resolves to its former owner. Missing users are not cached, so a new sign-up is found right away.
+ */
+@Component
+public class UserProfileCache {
+
+    private static final long PROFILE_CACHE_SIZE = 10_000;
+    private static final Duration PROFILE_TTL = Duration.ofMinutes(10);
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserProfile> profiles;
+    private final Cache<String, Long> idsByEmail;
+
+    public UserProfileCache(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(PROFILE_CACHE_SIZE)
+                .expireAfterWrite(PROFILE_TTL)
+                .recordStats()
+                .build();
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumSize(PROFILE_CACHE_SIZE)
+                .expireAfterWrite(PROFILE_TTL)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, profiles, "iam.user-profiles");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsByEmail, "iam.user-profile-emails");
+    }
+
+    /**
+     * @param userId the user ID
+     * @return the user's profile, loaded on a miss
+     */
+    public Optional<UserProfile> getById(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        // An invalidation waits for a load of the same user in progress, so a stale load never outlives it
+        return Optional.ofNullable(profiles.get(userId,
+                id -> userRepository.findProfileById(id).orElse(null)));
+    }
+
+    /**
+     * @param email the user's email, in any case
+     * @return the profile of the user with that email, loaded on a miss
+     */
+    public Optional<UserProfile> getByEmail(String email) {
+        String key = normalize(email);
+        if (key == null) {
+            return Optional.empty();
+        }
+        Long userId = idsByEmail.getIfPresent(key);
+        if (userId != null) {
+            var profile = getById(userId);
+            if (profile.isPresent() && key.equals(normalize(profile.get().email()))) {
+                return profile;
+            }
+            idsByEmail.invalidate(key);
+        }
+        userId = userRepository.findIdByEmail(email).orElse(null);
+        if (userId == null) {
+            return Optional.empty();
+        }
+        idsByEmail.put(key, userId);
+        return getById(userId);
+    }
+
+    /**
+     * Drops the cached profile of a user.
+     * Called after the user's profile or password changed, or the user was deleted.
+     *
+     * @param userId the user ID
+     */
+    public void invalidate(Long userId) {
+        if (userId != null) {
+            profiles.invalidate(userId);
+        }
+    }
+
+    private static String normalize(String email) {
+        return email == null || email.isBlank() ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
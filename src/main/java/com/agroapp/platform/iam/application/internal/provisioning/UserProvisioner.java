@@ -0,0 +1,256 @@
+package com.agroapp.platform.iam.application.internal.provisioning;
+
+import com.agroapp.platform.iam.application.internal.outboundservices.hashing.HashingService;
+import com.agroapp.platform.iam.application.internal.signup.KnownSignUpKeys;
+import com.agroapp.platform.iam.domain.model.aggregates.User;
+import com.agroapp.platform.iam.domain.model.commands.ProvisionUsersCommand;
+import com.agroapp.platform.iam.domain.model.commands.SignUpCommand;
+import com.agroapp.platform.iam.domain.model.valueobjects.UserProvisioningResult;
+import com.agroapp.platform.iam.domain.model.valueobjects.UserProvisioningStatus;
+import com.agroapp.platform.iam.domain.model.valueobjects.UserSignUpKeys;
+import com.agroapp.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates many user accounts at once.
+ * Members are validated with the {@link User} rules and checked for taken emails and DNIs with a few
+ * set-based lookups instead of two queries each; the passwords of the remaining members are then hashed in
+ * parallel on the hashing workers, and the accounts are inserted in JDBC batches, one transaction per chunk.
+ * If a concurrent sign-up takes the keys of a member in the meantime, its chunk is rolled back and inserted
+ * again row by row, so only that member is reported as a duplicate. Every member gets a line in the report,
+ * in input order. Members created by an interrupted provisioning are reported as duplicates when it is run
+ * again, so it can simply be repeated.
+ */
+@Component
+public class UserProvisioner {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserProvisioner.class);
+
+    static final int CHUNK_SIZE = 500;
+    /** Length of the users' string columns. */
+    static final int MAX_COLUMN_LENGTH = 255;
+    /** BCrypt only hashes the first 72 bytes of a password and rejects longer ones. */
+    static final int MAX_PASSWORD_BYTES = 72;
+    private static final String INSERT_USER = "INSERT INTO users (user_name, email, password, phone_number, " +
+            "identificator, location, is_location_public, version, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    /**
+     * @param index the member's position in the command
+     * @param user the validated account, still holding the raw password
+     */
+    private record Candidate(int index, User user) {
+    }
+
+    private final UserRepository userRepository;
+    private final HashingService hashingService;
+    private final KnownSignUpKeys knownSignUpKeys;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserProvisioner(UserRepository userRepository, HashingService hashingService,
+                           KnownSignUpKeys knownSignUpKeys, JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.hashingService = hashingService;
+        this.knownSignUpKeys = knownSignUpKeys;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @param command the members to sign up
+     * @return one result per member, in input order
+     */
+    public List<UserProvisioningResult> provision(ProvisionUsersCommand command) {
+        List<SignUpCommand> members = command.members();
+        var results = new UserProvisioningResult[members.size()];
+        var candidates = validate(members, results);
+        candidates = withoutTakenKeys(candidates, members, results);
+
+        List<String> hashes = hashingService.encodeAll(candidates.stream().map(c -> c.user().getPassword()).toList());
+        for (int i = 0; i < candidates.size(); i++) {
+            candidates.get(i).user().updatePassword(hashes.get(i));
+        }
+
+        int created = 0;
+        for (int from = 0; from < candidates.size(); from += CHUNK_SIZE) {
+            var chunk = candidates.subList(from, Math.min(from + CHUNK_SIZE, candidates.size()));
+            created += resolve(insert(chunk, members, results), members, results);
+        }
+        logger.info("Provisioned {} of {} users", created, members.size());
+        return Arrays.asList(results);
+    }
+
+    private List<Candidate> validate(List<SignUpCommand> members, UserProvisioningResult[] results) {
+        var candidates = new ArrayList<Candidate>(members.size());
+        Set<String> emails = new HashSet<>();
+        Set<String> identificators = new HashSet<>();
+        for (int i = 0; i < members.size(); i++) {
+            SignUpCommand member = members.get(i);
+            User user;
+            try {
+                user = new User(member.userName(), member.email(), member.password(), member.phoneNumber(),
+                        member.identificator(), member.location());
+            } catch (IllegalArgumentException e) {
+                results[i] = rejected(i, member, UserProvisioningStatus.Invalid, e.getMessage());
+                continue;
+            }
+            String tooLong = tooLong(user);
+            if (tooLong != null) {
+                results[i] = rejected(i, member, UserProvisioningStatus.Invalid, tooLong);
+                continue;
+            }
+            if (emails.contains(user.getEmail())) {
+                results[i] = rejected(i, member, UserProvisioningStatus.Duplicate, "Email repeats an earlier member");
+            } else if (identificators.contains(user.getIdentificator())) {
+                results[i] = rejected(i, member, UserProvisioningStatus.Duplicate, "DNI (identificator) repeats an earlier member");
+            } else {
+                emails.add(user.getEmail());
+                identificators.add(user.getIdentificator());
+                candidates.add(new Candidate(i, user));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Checks what the {@link User} rules leave to the table, so no row fails the batch or gets truncated.
+     *
+     * @return the reason the account does not fit, or null if it does
+     */
+    private static String tooLong(User user) {
+        if (user.getUserName().length() > MAX_COLUMN_LENGTH) {
+            return "User name is too long (max " + MAX_COLUMN_LENGTH + " characters)";
+        }
+        if (user.getEmail().length() > MAX_COLUMN_LENGTH) {
+            return "Email is too long (max " + MAX_COLUMN_LENGTH + " characters)";
+        }
+        if (user.getPhoneNumber().length() > MAX_COLUMN_LENGTH) {
+            return "Phone number is too long (max " + MAX_COLUMN_LENGTH + " characters)";
+        }
+        if (user.getLocation() != null && user.getLocation().length() > MAX_COLUMN_LENGTH) {
+            return "Location is too long (max " + MAX_COLUMN_LENGTH + " characters)";
+        }
+        if (user.getPassword().getBytes(StandardCharsets.UTF_8).length > MAX_PASSWORD_BYTES) {
+            return "Password is too long (max " + MAX_PASSWORD_BYTES + " bytes)";
+        }
+        return null;
+    }
+
+    private List<Candidate> withoutTakenKeys(List<Candidate> candidates, List<SignUpCommand> members,
+                                             UserProvisioningResult[] results) {
+        Set<String> takenEmails = new HashSet<>();
+        Set<String> takenIdentificators = new HashSet<>();
+        for (int from = 0; from < candidates.size(); from += CHUNK_SIZE) {
+            var chunk = candidates.subList(from, Math.min(from + CHUNK_SIZE, candidates.size()));
+            userRepository.findSignUpKeysByEmails(chunk.stream().map(c -> c.user().getEmail()).toList())
+                    .forEach(keys -> takenEmails.add(keys.email().toLowerCase(Locale.ROOT)));
+            userRepository.findSignUpKeysByIdentificators(chunk.stream().map(c -> c.user().getIdentificator()).toList())
+                    .forEach(keys -> takenIdentificators.add(keys.identificator()));
+        }
+        var free = new ArrayList<Candidate>(candidates.size());
+        for (Candidate candidate : candidates) {
+            SignUpCommand member = members.get(candidate.index());
+            if (takenEmails.contains(candidate.user().getEmail())) {
+                results[candidate.index()] = rejected(candidate.index(), member, UserProvisioningStatus.Duplicate, "Email already exists");
+            } else if (takenIdentificators.contains(candidate.user().getIdentificator())) {
+                results[candidate.index()] = rejected(candidate.index(), member, UserProvisioningStatus.Duplicate, "DNI (identificator) already exists");
+            } else {
+                free.add(candidate);
+            }
+        }
+        return free;
+    }
+
+    /**
+     * Inserts a chunk in one transaction, or row by row if a key was taken since the lookup.
+     *
+     * @return the inserted members
+     */
+    private List<Candidate> insert(List<Candidate> chunk, List<SignUpCommand> members, UserProvisioningResult[] results) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> batchInsert(chunk));
+            return chunk;
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Provisioning chunk rolled back, inserting it row by row", e);
+        }
+        var inserted = new ArrayList<Candidate>(chunk.size());
+        for (Candidate candidate : chunk) {
+            SignUpCommand member = members.get(candidate.index());
+            try {
+                transactionTemplate.executeWithoutResult(status -> batchInsert(List.of(candidate)));
+                inserted.add(candidate);
+            } catch (DuplicateKeyException e) {
+                results[candidate.index()] = rejected(candidate.index(), member, UserProvisioningStatus.Duplicate,
+                        "Email or DNI (identificator) already exists");
+            } catch (DataIntegrityViolationException e) {
+                results[candidate.index()] = rejected(candidate.index(), member, UserProvisioningStatus.Invalid,
+                        "Rejected by the database");
+            }
+        }
+        return inserted;
+    }
+
+    private void batchInsert(List<Candidate> chunk) {
+        var now = new Timestamp(System.currentTimeMillis());
+        var rows = new ArrayList<Object[]>(chunk.size());
+        for (Candidate candidate : chunk) {
+            User user = candidate.user();
+            rows.add(new Object[]{user.getUserName(), user.getEmail(), user.getPassword(), user.getPhoneNumber(),
+                    user.getIdentificator(), user.getLocation(), user.isLocationPublic(), now, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER, rows);
+    }
+
+    /**
+     * Reports the inserted members of a chunk, looking up the ids of the created accounts.
+     *
+     * @return the number of created accounts
+     */
+    private int resolve(List<Candidate> chunk, List<SignUpCommand> members, UserProvisioningResult[] results) {
+        Map<String, UserSignUpKeys> keysByEmail = new HashMap<>();
+        userRepository.findSignUpKeysByEmails(chunk.stream().map(c -> c.user().getEmail()).toList())
+                .forEach(keys -> keysByEmail.put(keys.email().toLowerCase(Locale.ROOT), keys));
+        int created = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            Candidate candidate = chunk.get(i);
+            User user = candidate.user();
+            SignUpCommand member = members.get(candidate.index());
+            UserSignUpKeys keys = keysByEmail.get(user.getEmail());
+            if (keys == null || !user.getIdentificator().equals(keys.identificator())) {
+                results[candidate.index()] = rejected(candidate.index(), member, UserProvisioningStatus.Duplicate,
+                        "Email or DNI (identificator) already exists");
+                continue;
+            }
+            results[candidate.index()] = new UserProvisioningResult(candidate.index() + 1, member.email(),
+                    UserProvisioningStatus.Created, keys.id(), null);
+            knownSignUpKeys.add(keys.email(), keys.identificator());
+            created++;
+        }
+        return created;
+    }
+
+    private static UserProvisioningResult rejected(int index, SignUpCommand member, UserProvisioningStatus status,
+                                                   String error) {
+        return new UserProvisioningResult(index + 1, member.email(), status, null, error);
+    }
+}
@@ -1,32 +1,35 @@
 package com.agroapp.platform.iam.application.internal.queryservices;
 
-import com.agroapp.platform.iam.domain.model.aggregates.User;
+import com.agroapp.platform.iam.application.internal.profiles.UserProfileCache;
 import com.agroapp.platform.iam.domain.model.queries.*;
 import com.agroapp.platform.iam.domain.model.queries.GetUserByEmailQuery;
 import com.agroapp.platform.iam.domain.model.queries.GetUserByIdQuery;
+import com.agroapp.platform.iam.domain.model.valueobjects.UserProfile;
 import com.agroapp.platform.iam.domain.services.UserQueryService;
-import com.agroapp.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
 
+/**
+ * Serves user profiles from the per-node {@link UserProfileCache}.
+ */
 @Service
 public class UserQueryServiceImpl implements UserQueryService {
 
-    private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
 
-    public UserQueryServiceImpl(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public UserQueryServiceImpl(UserProfileCache userProfileCache) {
+        this.userProfileCache = userProfileCache;
     }
 
     @Override
-    public Optional<User> handle(GetUserByIdQuery query) {
-        return userRepository.findById(query.userId());
+    public Optional<UserProfile> handle(GetUserByIdQuery query) {
+        return userProfileCache.getById(query.userId());
     }
 
     @Override
-    public Optional<User> handle(GetUserByEmailQuery query) {
-        return userRepository.findByEmail(query.email());
+    public Optional<UserProfile> handle(GetUserByEmailQuery query) {
+        return userProfileCache.getByEmail(query.email());
     }
 }
 
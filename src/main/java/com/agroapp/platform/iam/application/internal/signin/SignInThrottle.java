@@ -0,0 +1,128 @@
+package com.agroapp.platform.iam.application.internal.signin;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Slows down failed sign-ins per account and refuses them per client address. Once an account has failed a few
+ * times, each further attempt has to wait a delay that doubles with every failure, up to a cap; an account is
+ * therefore never locked, so nobody can lock a victim out by guessing their password. An address that fails too
+ * often within a fixed window starting at its first failure is refused until the window ends. Checks happen
+ * before any password is hashed, so credential stuffing stops costing bcrypt cycles. Counters live in memory
+ * and are bounded; an account's failures are forgotten one window after its last one, or when it signs in.
+ */
+@Component
+public class SignInThrottle {
+
+    private static final long MAX_TRACKED_KEYS = 100_000;
+
+    /**
+     * @param count the failures so far
+     * @param lastFailureNanos ticker time of the last failure
+     */
+    private record AccountFailures(int count, long lastFailureNanos) {
+    }
+
+    private final int freeAccountFailures;
+    private final Duration accountBackoffBase;
+    private final Duration accountBackoffMax;
+    private final int maxAddressFailures;
+    private final Duration window;
+    private final Ticker ticker;
+    private final Cache<String, AccountFailures> accountFailures;
+    private final Cache<String, AtomicInteger> addressFailures;
+
+    @Autowired
+    public SignInThrottle(@Value("${authorization.sign-in.free-account-failures:5}") int freeAccountFailures,
+                          @Value("${authorization.sign-in.account-backoff-base-seconds:1}") long accountBackoffBaseSeconds,
+                          @Value("${authorization.sign-in.account-backoff-max-seconds:60}") long accountBackoffMaxSeconds,
+                          @Value("${authorization.sign-in.max-address-failures:100}") int maxAddressFailures,
+                          @Value("${authorization.sign-in.failure-window-minutes:15}") long windowMinutes) {
+        this(freeAccountFailures, Duration.ofSeconds(accountBackoffBaseSeconds),
+                Duration.ofSeconds(accountBackoffMaxSeconds), maxAddressFailures, Duration.ofMinutes(windowMinutes),
+                Ticker.systemTicker());
+    }
+
+    SignInThrottle(int freeAccountFailures, Duration accountBackoffBase, Duration accountBackoffMax,
+                   int maxAddressFailures, Duration window, Ticker ticker) {
+        this.freeAccountFailures = freeAccountFailures;
+        this.accountBackoffBase = accountBackoffBase;
+        this.accountBackoffMax = accountBackoffMax;
+        this.maxAddressFailures = maxAddressFailures;
+        this.window = window;
+        this.ticker = ticker;
+        // Account failures are replaced on every failure, so they expire one window after the last one;
+        // address counters are mutated in place, so they expire one window after the first
+        this.accountFailures = Caffeine.newBuilder().maximumSize(MAX_TRACKED_KEYS).expireAfterWrite(window)
+                .ticker(ticker).build();
+        this.addressFailures = Caffeine.newBuilder().maximumSize(MAX_TRACKED_KEYS).expireAfterWrite(window)
+                .ticker(ticker).build();
+    }
+
+    /**
+     * @param email the account signing in
+     * @param address the client address, or null when unknown
+     * @throws SignInThrottledException if the account has to wait, or the address has failed too often
+     */
+    public void checkAllowed(String email, String address) {
+        Duration wait = accountWait(accountKey(email));
+        if (!wait.isZero()) {
+            throw new SignInThrottledException(wait);
+        }
+        if (address != null) {
+            AtomicInteger count = addressFailures.getIfPresent(address);
+            if (count != null && count.get() >= maxAddressFailures) {
+                throw new SignInThrottledException(window);
+            }
+        }
+    }
+
+    public void recordFailure(String email, String address) {
+        String key = accountKey(email);
+        if (key != null) {
+            long now = ticker.read();
+            accountFailures.asMap().compute(key, (k, failures) ->
+                    new AccountFailures(failures == null ? 1 : failures.count() + 1, now));
+        }
+        if (address != null) addressFailures.get(address, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    public void recordSuccess(String email) {
+        String key = accountKey(email);
+        if (key != null) accountFailures.invalidate(key);
+    }
+
+    /**
+     * @return how long the account still has to wait, rounded up to whole seconds, or zero
+     */
+    private Duration accountWait(String key) {
+        AccountFailures failures = key == null ? null : accountFailures.getIfPresent(key);
+        if (failures == null || failures.count() < freeAccountFailures) {
+            return Duration.ZERO;
+        }
+        int doublings = failures.count() - freeAccountFailures;
+        long baseNanos = accountBackoffBase.toNanos();
+        long maxNanos = accountBackoffMax.toNanos();
+        // Shifting past the leading zeros would overflow, and is past the cap anyway
+        long backoffNanos = doublings >= Long.numberOfLeadingZeros(baseNanos) - 1
+                ? maxNanos
+                : Math.min(baseNanos << doublings, maxNanos);
+        long remainingNanos = backoffNanos - (ticker.read() - failures.lastFailureNanos());
+        if (remainingNanos <= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofSeconds(Math.ceilDiv(remainingNanos, Duration.ofSeconds(1).toNanos()));
+    }
+
+    private static String accountKey(String email) {
+        return email == null || email.isBlank() ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
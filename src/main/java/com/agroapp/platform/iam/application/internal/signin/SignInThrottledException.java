@@ -0,0 +1,20 @@
+package com.agroapp.platform.iam.application.internal.signin;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a sign-in is refused because its account has to wait after recent failures, or its client address
+ * failed too often.
+ */
+@Getter
+public class SignInThrottledException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public SignInThrottledException(Duration retryAfter) {
+        super("Too many failed sign-in attempts, retry later");
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,93 @@
+package com.agroapp.platform.iam.application.internal.signup;
+
+import com.agroapp.platform.iam.domain.model.valueobjects.UserSignUpKeys;
+import com.agroapp.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Bloom filters of the emails and identificators (DNI) already taken.
+ * A key the filter has never seen is certainly free, so sign-up can go straight to the insert; only keys
+ * that may be taken are checked against the database before spending a password hash on them. The unique
+ * constraints of the users table stay the source of truth, so a stale filter only costs a lookup.
+ * The filters are loaded in the background after startup and answer "may be taken" until then.
+ * Keys of deleted users are never removed and keep costing a lookup.
+ */
+@Component
+public class KnownSignUpKeys {
+
+    private static final Logger logger = LoggerFactory.getLogger(KnownSignUpKeys.class);
+
+    static final int LOAD_CHUNK_SIZE = 5_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final UserRepository userRepository;
+    private final BloomFilter emails;
+    private final BloomFilter identificators;
+    private volatile boolean loaded;
+
+    public KnownSignUpKeys(UserRepository userRepository,
+                           @Value("${iam.sign-up.expected-users:1000000}") long expectedUsers) {
+        this.userRepository = userRepository;
+        this.emails = new BloomFilter(expectedUsers, FALSE_POSITIVE_RATE);
+        this.identificators = new BloomFilter(expectedUsers, FALSE_POSITIVE_RATE);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread.ofVirtual().name("iam-sign-up-keys-load").start(this::load);
+    }
+
+    /**
+     * Adds the keys of every existing user in id-ordered chunks. Sign-ups meanwhile add their own keys.
+     */
+    void load() {
+        long users = 0;
+        long afterId = 0;
+        try {
+            while (true) {
+                List<UserSignUpKeys> chunk = userRepository.findSignUpKeysAfter(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                if (chunk.isEmpty()) break;
+                chunk.forEach(keys -> add(keys.email(), keys.identificator()));
+                users += chunk.size();
+                if (chunk.size() < LOAD_CHUNK_SIZE) break;
+                afterId = chunk.getLast().id();
+            }
+            loaded = true;
+            logger.info("Loaded the sign-up keys of {} users", users);
+        } catch (RuntimeException e) {
+            logger.warn("Could not load sign-up keys; every sign-up is checked against the database", e);
+        }
+    }
+
+    /**
+     * @return false only if no user has this email
+     */
+    public boolean mayHaveEmail(String email) {
+        return email != null && (!loaded || emails.mightContain(normalizeEmail(email)));
+    }
+
+    /**
+     * @return false only if no user has this identificator
+     */
+    public boolean mayHaveIdentificator(String identificator) {
+        return identificator != null && (!loaded || identificators.mightContain(identificator.trim()));
+    }
+
+    public void add(String email, String identificator) {
+        if (email != null) emails.put(normalizeEmail(email));
+        if (identificator != null) identificators.put(identificator.trim());
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -10,13 +10,20 @@ import lombok.Getter;
  * Domain-driven design: encapsulates user management business logic with validations.
  */
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = User.IDENTIFICATOR_CONSTRAINT, columnNames = "identificator")
+})
 @Getter
 public class User extends AuditableAbstractAggregateRoot<User> {
 
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
+    public static final String IDENTIFICATOR_CONSTRAINT = "uk_users_identificator";
+
     @Column(nullable = false)
     private String userName;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
@@ -25,7 +32,7 @@ public class User extends AuditableAbstractAggregateRoot<User> {
     @Column(nullable = false)
     private String phoneNumber;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String identificator;
 
     @Column
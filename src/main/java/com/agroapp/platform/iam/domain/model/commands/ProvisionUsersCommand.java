@@ -0,0 +1,24 @@
+package com.agroapp.platform.iam.domain.model.commands;
+
+import java.util.List;
+
+/**
+ * Command to create many user accounts at once, such as the members of a cooperative.
+ * Each member is validated and reported on its own; one invalid member does not stop the others.
+ *
+ * @param members the members to sign up, in the order they are reported
+ */
+public record ProvisionUsersCommand(List<SignUpCommand> members) {
+
+    public static final int MAX_MEMBERS = 5_000;
+
+    public ProvisionUsersCommand {
+        if (members == null || members.isEmpty()) {
+            throw new IllegalArgumentException("Provisioning must contain at least one member");
+        }
+        if (members.size() > MAX_MEMBERS) {
+            throw new IllegalArgumentException("Provisioning cannot contain more than " + MAX_MEMBERS + " members");
+        }
+        members = List.copyOf(members);
+    }
+}
@@ -1,8 +1,13 @@
 package com.agroapp.platform.iam.domain.model.commands;
 
+/**
+ * @param email the account signing in
+ * @param password the raw password
+ * @param clientAddress the client's address, used to throttle failed attempts; null when unknown
+ */
 public record SignInCommand(
         String email,
-        String password
+        String password,
+        String clientAddress
 ) {
 }
-
@@ -0,0 +1,16 @@
+package com.agroapp.platform.iam.domain.model.commands;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * @param tokenId the ID of the access token to revoke
+ * @param tokenExpiresAt when that token expires
+ */
+public record SignOutCommand(UUID tokenId, Instant tokenExpiresAt) {
+    public SignOutCommand {
+        if (tokenId == null || tokenExpiresAt == null) {
+            throw new IllegalArgumentException("Token ID and expiry are required");
+        }
+    }
+}
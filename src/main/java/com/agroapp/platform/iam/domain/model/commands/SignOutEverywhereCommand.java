@@ -0,0 +1,12 @@
+package com.agroapp.platform.iam.domain.model.commands;
+
+/**
+ * @param userId the user whose access tokens issued so far are all revoked
+ */
+public record SignOutEverywhereCommand(Long userId) {
+    public SignOutEverywhereCommand {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID is required");
+        }
+    }
+}
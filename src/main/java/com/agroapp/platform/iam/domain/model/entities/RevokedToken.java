@@ -0,0 +1,40 @@
+package com.agroapp.platform.iam.domain.model.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * RevokedToken Entity
+ * An access token signed out before it expired, identified by its token ID (jti).
+ * Kept only until the token would have expired anyway.
+ */
+@Entity
+@Getter
+@Table(indexes = {
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expiresAt")
+})
+public class RevokedToken {
+
+    @Id
+    @Column(length = 36)
+    private String tokenId;
+
+    @Column(nullable = false)
+    private Date expiresAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public RevokedToken() {
+    }
+
+    public RevokedToken(String tokenId, Date expiresAt) {
+        if (tokenId == null || expiresAt == null) {
+            throw new IllegalArgumentException("Revoked token requires tokenId and expiresAt");
+        }
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+    }
+}
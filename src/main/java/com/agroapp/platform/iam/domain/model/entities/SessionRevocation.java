@@ -0,0 +1,48 @@
+package com.agroapp.platform.iam.domain.model.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * SessionRevocation Entity
+ * Revokes every access token of a user issued before a point in time ("sign out everywhere").
+ * Kept only until the last token it covers would have expired anyway.
+ */
+@Entity
+@Getter
+@Table(indexes = {
+        @Index(name = "idx_session_revocations_expires_at", columnList = "expiresAt")
+})
+public class SessionRevocation {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private Date revokedBefore;
+
+    @Column(nullable = false)
+    private Date expiresAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public SessionRevocation() {
+    }
+
+    /**
+     * @param userId the user whose tokens are revoked
+     * @param revokedBefore tokens issued before this time are revoked (millisecond precision)
+     * @param expiresAt when every revoked token has expired
+     */
+    public SessionRevocation(Long userId, Date revokedBefore, Date expiresAt) {
+        if (userId == null || revokedBefore == null || expiresAt == null) {
+            throw new IllegalArgumentException("Session revocation requires userId, revokedBefore and expiresAt");
+        }
+        this.userId = userId;
+        this.revokedBefore = revokedBefore;
+        this.expiresAt = expiresAt;
+    }
+}
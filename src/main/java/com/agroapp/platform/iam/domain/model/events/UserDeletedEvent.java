@@ -0,0 +1,19 @@
+package com.agroapp.platform.iam.domain.model.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event triggered when a user is deleted.
+ * Contains the userId so other bounded contexts can drop or clean up what they hold for that user.
+ */
+@Getter
+public class UserDeletedEvent extends ApplicationEvent {
+
+    private final Long userId;
+
+    public UserDeletedEvent(Object source, Long userId) {
+        super(source);
+        this.userId = userId;
+    }
+}
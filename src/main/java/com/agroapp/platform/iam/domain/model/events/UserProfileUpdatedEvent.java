@@ -5,18 +5,23 @@ import org.springframework.context.ApplicationEvent;
 
 /**
  * Event triggered when a user profile is updated.
- * Contains the userId and the new userName to allow other bounded contexts to synchronize.
+ * Contains the userId, the new userName and the location as other users may see it, to allow other
+ * bounded contexts to synchronize.
  */
 @Getter
 public class UserProfileUpdatedEvent extends ApplicationEvent {
 
     private final Long userId;
     private final String newUserName;
+    /**
+     * The user's location, or null when the user keeps it private.
+     */
+    private final String publicLocation;
 
-    public UserProfileUpdatedEvent(Object source, Long userId, String newUserName) {
+    public UserProfileUpdatedEvent(Object source, Long userId, String newUserName, String publicLocation) {
         super(source);
         this.userId = userId;
         this.newUserName = newUserName;
+        this.publicLocation = publicLocation;
     }
 }
-
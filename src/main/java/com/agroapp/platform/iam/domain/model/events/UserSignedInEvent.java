@@ -0,0 +1,19 @@
+package com.agroapp.platform.iam.domain.model.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event triggered when a user signs in.
+ * Contains the userId so other bounded contexts can warm up what the user is about to request.
+ */
+@Getter
+public class UserSignedInEvent extends ApplicationEvent {
+
+    private final Long userId;
+
+    public UserSignedInEvent(Object source, Long userId) {
+        super(source);
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,8 @@
+package com.agroapp.platform.iam.domain.model.valueobjects;
+
+/**
+ * AuthenticatedUser Value Object
+ * Outcome of a successful sign-in: the signed-in user and their access token.
+ */
+public record AuthenticatedUser(UserProfile user, String token) {
+}
@@ -0,0 +1,23 @@
+package com.agroapp.platform.iam.domain.model.valueobjects;
+
+import com.agroapp.platform.iam.domain.model.aggregates.User;
+
+/**
+ * UserProfile Value Object
+ * Read view of a user: everything but the password hash, so it can be cached and handed out freely.
+ */
+public record UserProfile(
+        Long id,
+        String userName,
+        String email,
+        String phoneNumber,
+        String identificator,
+        String location,
+        boolean isLocationPublic
+) {
+
+    public static UserProfile of(User user) {
+        return new UserProfile(user.getId(), user.getUserName(), user.getEmail(), user.getPhoneNumber(),
+                user.getIdentificator(), user.getLocation(), user.isLocationPublic());
+    }
+}
@@ -0,0 +1,14 @@
+package com.agroapp.platform.iam.domain.model.valueobjects;
+
+/**
+ * UserProvisioningResult Value Object
+ * Report line of one provisioned member.
+ *
+ * @param row Position of the member in the provisioning, starting at 1
+ * @param email The member's email as given
+ * @param status Whether the account was created, and if not why
+ * @param userId The ID of the created user (nullable)
+ * @param error Why the member was not created (nullable)
+ */
+public record UserProvisioningResult(int row, String email, UserProvisioningStatus status, Long userId, String error) {
+}
@@ -0,0 +1,13 @@
+package com.agroapp.platform.iam.domain.model.valueobjects;
+
+/**
+ * UserProvisioningStatus Value Object
+ * Outcome of provisioning one member: Created, or why the account was not created.
+ * Invalid members break a user validation rule; Duplicate members reuse the email or DNI of an existing user
+ * or of an earlier member of the same provisioning.
+ */
+public enum UserProvisioningStatus {
+    Created,
+    Invalid,
+    Duplicate
+}
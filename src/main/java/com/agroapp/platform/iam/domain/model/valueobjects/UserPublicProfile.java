@@ -0,0 +1,11 @@
+package com.agroapp.platform.iam.domain.model.valueobjects;
+
+/**
+ * UserPublicProfile Value Object
+ * What other users may see of a user, read without loading the aggregate.
+ *
+ * @param userName the user's full name
+ * @param publicLocation the user's location, or null if they have none or keep it private
+ */
+public record UserPublicProfile(String userName, String publicLocation) {
+}
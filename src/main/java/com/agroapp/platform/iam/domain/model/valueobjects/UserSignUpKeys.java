@@ -0,0 +1,8 @@
+package com.agroapp.platform.iam.domain.model.valueobjects;
+
+/**
+ * UserSignUpKeys Value Object
+ * The unique keys of a user that a new sign-up must not reuse, read without loading the aggregate.
+ */
+public record UserSignUpKeys(Long id, String email, String identificator) {
+}
@@ -2,13 +2,18 @@ package com.agroapp.platform.iam.domain.services;
 
 import com.agroapp.platform.iam.domain.model.aggregates.User;
 import com.agroapp.platform.iam.domain.model.commands.*;
-import com.agroapp.platform.iam.domain.model.commands.*;
+import com.agroapp.platform.iam.domain.model.valueobjects.AuthenticatedUser;
+import com.agroapp.platform.iam.domain.model.valueobjects.UserProvisioningResult;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserCommandService {
     Optional<User> handle(SignUpCommand command);
-    Optional<String> handle(SignInCommand command);
+    List<UserProvisioningResult> handle(ProvisionUsersCommand command);
+    Optional<AuthenticatedUser> handle(SignInCommand command);
+    void handle(SignOutCommand command);
+    void handle(SignOutEverywhereCommand command);
     Optional<User> handle(UpdateUserProfileCommand command);
     Optional<User> handle(UpdateUserPasswordCommand command);
     void handle(DeleteUserCommand command);
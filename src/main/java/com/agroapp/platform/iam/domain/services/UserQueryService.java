@@ -1,14 +1,14 @@
 package com.agroapp.platform.iam.domain.services;
 
-import com.agroapp.platform.iam.domain.model.aggregates.User;
 import com.agroapp.platform.iam.domain.model.queries.*;
 import com.agroapp.platform.iam.domain.model.queries.GetUserByEmailQuery;
 import com.agroapp.platform.iam.domain.model.queries.GetUserByIdQuery;
+import com.agroapp.platform.iam.domain.model.valueobjects.UserProfile;
 
 import java.util.Optional;
 
 public interface UserQueryService {
-    Optional<User> handle(GetUserByIdQuery query);
-    Optional<User> handle(GetUserByEmailQuery query);
+    Optional<UserProfile> handle(GetUserByIdQuery query);
+    Optional<UserProfile> handle(GetUserByEmailQuery query);
 }
 
@@ -1,40 +1,61 @@
 package com.agroapp.platform.iam.infrastructure.authorization.sfs.configuration;
 
+import com.agroapp.platform.iam.application.internal.outboundservices.tokens.TokenService;
+import com.agroapp.platform.iam.infrastructure.authorization.sfs.pipeline.BearerAuthorizationRequestFilter;
+import com.agroapp.platform.iam.infrastructure.hashing.bcrypt.CalibratedBCryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.IpAddressAuthorizationManager;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Web Security Configuration
  * Configures Spring Security for the application.
  * Allows public access to authentication endpoints and Swagger/OpenAPI documentation.
- * Uses stateless JWT authentication.
+ * Uses stateless JWT authentication: every other request must carry a valid bearer token.
+ * Actuator endpoints other than health are only served to the configured monitoring addresses.
  */
 @Configuration
 @EnableWebSecurity
 public class WebSecurityConfiguration {
 
+    private static final String BCRYPT_ENCODING_ID = "bcrypt";
+
     /**
      * Configures the security filter chain.
      * Defines which endpoints are public and which require authentication.
      *
      * @param http HttpSecurity object to configure
+     * @param tokenService service verifying access tokens
+     * @param actuatorAddresses comma-separated addresses or CIDR ranges allowed to read actuator metrics
      * @return SecurityFilterChain configured
      * @throws Exception if configuration fails
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, TokenService tokenService,
+                                                   @Value("${authorization.actuator.allowed-addresses:127.0.0.1,::1}") String actuatorAddresses) throws Exception {
         http
             // Disable CSRF (not needed for stateless REST API with JWT)
             .csrf(AbstractHttpConfigurer::disable)
@@ -44,9 +65,14 @@ public class WebSecurityConfiguration {
 
             // Configure authorization rules
             .authorizeHttpRequests(auth -> auth
+                // Public endpoints - Welcome and error pages
+                .requestMatchers("/", "/error").permitAll()
+
                 // Public endpoints - Authentication
                 .requestMatchers("/api/v1/users/sign-up").permitAll()
                 .requestMatchers("/api/v1/users/sign-in").permitAll()
+                // Guarded by the provisioning key instead of a user token
+                .requestMatchers("/api/v1/users/provisioning").permitAll()
 
                 // Public endpoints - File Storage
                 .requestMatchers("/api/v1/storage/**").permitAll()
@@ -62,8 +88,17 @@ public class WebSecurityConfiguration {
                 // Public endpoints - Actuator (health checks)
                 .requestMatchers("/actuator/health").permitAll()
 
+                // Monitoring endpoints - Actuator metrics, by client address only
+                .requestMatchers("/actuator/**").access(anyAddressOf(actuatorAddresses))
+
                 // All other endpoints require authentication
-                .anyRequest().permitAll() // Temporalmente permitir todo para desarrollo
+                .anyRequest().authenticated()
+            )
+
+            // Authenticate requests from their bearer token; reject unauthenticated ones with 401
+            .addFilterBefore(new BearerAuthorizationRequestFilter(tokenService), UsernamePasswordAuthenticationFilter.class)
+            .exceptionHandling(exceptions ->
+                exceptions.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
             )
 
             // Stateless session management (JWT)
@@ -74,6 +109,24 @@ public class WebSecurityConfiguration {
         return http.build();
     }
 
+    /**
+     * Grants access to requests whose remote address matches one of the given addresses or CIDR ranges.
+     * The remote address only honours X-Forwarded-For from trusted proxies, so it cannot be forged.
+     *
+     * @param addresses comma-separated addresses or CIDR ranges
+     * @return the authorization manager
+     */
+    private static AuthorizationManager<RequestAuthorizationContext> anyAddressOf(String addresses) {
+        List<AuthorizationManager<RequestAuthorizationContext>> managers = Arrays.stream(addresses.split(","))
+                .map(String::trim)
+                .filter(address -> !address.isEmpty())
+                .<AuthorizationManager<RequestAuthorizationContext>>map(IpAddressAuthorizationManager::hasIpAddress)
+                .toList();
+        return managers.isEmpty()
+                ? (authentication, context) -> new AuthorizationDecision(false)
+                : AuthorizationManagers.anyOf(managers.toArray(AuthorizationManager[]::new));
+    }
+
     /**
      * Configures CORS (Cross-Origin Resource Sharing).
      * Allows requests from any origin (suitable for development).
@@ -109,13 +162,26 @@ public class WebSecurityConfiguration {
 
     /**
      * Password encoder bean.
-     * Uses BCrypt for secure password hashing.
+     * Encodes with BCrypt at a cost calibrated at startup to the hashing budget (or the fixed
+     * 'authorization.hashing.bcrypt-strength' when set), prefixing each hash with its algorithm ID.
+     * Hashes without a prefix, stored before calibration, are checked as plain BCrypt.
      *
+     * @param targetMillis latency budget of one hash, in milliseconds
+     * @param minStrength lowest acceptable BCrypt cost
+     * @param maxStrength highest BCrypt cost calibration may pick
+     * @param fixedStrength BCrypt cost to use without calibrating, or 0 to calibrate
      * @return PasswordEncoder instance
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${authorization.hashing.target-millis:250}") long targetMillis,
+                                           @Value("${authorization.hashing.min-strength:10}") int minStrength,
+                                           @Value("${authorization.hashing.max-strength:16}") int maxStrength,
+                                           @Value("${authorization.hashing.bcrypt-strength:0}") int fixedStrength) {
+        PasswordEncoder bcrypt = fixedStrength > 0
+                ? new CalibratedBCryptPasswordEncoder(fixedStrength)
+                : CalibratedBCryptPasswordEncoder.calibrate(Duration.ofMillis(targetMillis), minStrength, maxStrength);
+        var encoder = new DelegatingPasswordEncoder(BCRYPT_ENCODING_ID, Map.of(BCRYPT_ENCODING_ID, bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 }
-
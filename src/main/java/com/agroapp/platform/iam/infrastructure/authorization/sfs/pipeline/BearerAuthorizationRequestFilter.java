@@ -0,0 +1,64 @@
+package com.agroapp.platform.iam.infrastructure.authorization.sfs.pipeline;
+
+import com.agroapp.platform.iam.application.internal.outboundservices.tokens.TokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Bearer Authorization Request Filter
+ * Authenticates each request from the access token in its Authorization header. The principal is the
+ * token's verified TokenClaims, so no user lookup is made. Requests without a valid token go on
+ * unauthenticated and are turned away by the authorization rules unless their endpoint is public.
+ * Event stream requests may pass the token as the 'access_token' query parameter instead, since
+ * browsers cannot set headers on an EventSource.
+ */
+public class BearerAuthorizationRequestFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String ACCESS_TOKEN_PARAMETER = "access_token";
+
+    private final TokenService tokenService;
+
+    public BearerAuthorizationRequestFilter(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = resolveToken(request);
+        if (token != null) {
+            tokenService.verify(token).ifPresent(claims -> {
+                var authentication = new UsernamePasswordAuthenticationToken(claims, null, List.of());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            });
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return header.substring(BEARER_PREFIX.length()).trim();
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (HttpMethod.GET.matches(request.getMethod()) && accept != null
+                && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE)) {
+            return request.getParameter(ACCESS_TOKEN_PARAMETER);
+        }
+        return null;
+    }
+}
@@ -1,35 +1,130 @@
 package com.agroapp.platform.iam.infrastructure.hashing.bcrypt;
 
+import com.agroapp.platform.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
 import com.agroapp.platform.iam.application.internal.outboundservices.hashing.HashingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 /**
  * BCrypt implementation of HashingService.
  * Uses Spring Security's PasswordEncoder for secure password hashing.
+ * Hashing runs on a dedicated pool of platform threads sized to a fraction of the available cores, so a
+ * burst of sign-ins cannot take every core from the rest of the API. Callers wait for their hash; when all
+ * workers are busy and the bounded queue is full, the call fails fast with HashingCapacityExceededException.
+ * The pool is published as the "iam.password-hashing" executor metrics.
+ * Stored hashes whose algorithm or cost differs from the configured one report that they need an upgrade.
+ * Bulk hashing keeps at most one password per worker in the pool at a time, so it uses every worker while
+ * interactive sign-ins still find room in the queue.
  */
 @Service
 public class BCryptHashingService implements HashingService {
     private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
 
     /**
      * Constructor with dependency injection.
      * Uses the PasswordEncoder bean configured in WebSecurityConfiguration.
      *
      * @param passwordEncoder Spring Security PasswordEncoder
+     * @param coreRatio fraction of the available cores given to hashing
+     * @param queueCapacity how many hashes may wait for a worker
+     * @param meterRegistry registry the pool metrics are published to
      */
-    public BCryptHashingService(PasswordEncoder passwordEncoder) {
+    public BCryptHashingService(PasswordEncoder passwordEncoder,
+                                @Value("${authorization.hashing.core-ratio:0.5}") double coreRatio,
+                                @Value("${authorization.hashing.queue-capacity:64}") int queueCapacity,
+                                MeterRegistry meterRegistry) {
         this.passwordEncoder = passwordEncoder;
+        int workers = Math.max(1, (int) (Runtime.getRuntime().availableProcessors() * coreRatio));
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "iam.password-hashing", List.of());
     }
 
     @Override
     public String encode(CharSequence rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return submit(() -> passwordEncoder.encode(rawPassword));
     }
 
     @Override
     public boolean matches(CharSequence rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        var inFlight = new Semaphore(executor.getMaximumPoolSize());
+        var futures = new ArrayList<Future<String>>(rawPasswords.size());
+        try {
+            for (CharSequence rawPassword : rawPasswords) {
+                inFlight.acquire();
+                try {
+                    futures.add(executor.submit(() -> {
+                        try {
+                            return passwordEncoder.encode(rawPassword);
+                        } finally {
+                            inFlight.release();
+                        }
+                    }));
+                } catch (RejectedExecutionException e) {
+                    inFlight.release();
+                    throw new HashingCapacityExceededException();
+                }
+            }
+            var hashes = new ArrayList<String>(futures.size());
+            for (Future<String> future : futures) {
+                hashes.add(future.get());
+            }
+            return hashes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing passwords", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(false));
+        }
+    }
+
+    private <T> T submit(Callable<T> task) {
+        try {
+            return executor.submit(task).get();
+        } catch (RejectedExecutionException e) {
+            throw new HashingCapacityExceededException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException(e.getCause());
+        }
     }
-}
 
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,77 @@
+package com.agroapp.platform.iam.infrastructure.hashing.bcrypt;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt encoder whose work factor is calibrated to a latency budget on the hardware it runs on.
+ * Unlike BCryptPasswordEncoder, a stored hash asks for an upgrade whenever its cost differs from the
+ * configured one, in either direction, so lowering the cost also takes effect as users sign in.
+ */
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(CalibratedBCryptPasswordEncoder.class);
+
+    public static final int MIN_STRENGTH = 4;
+    public static final int MAX_STRENGTH = 31;
+    private static final int CALIBRATION_RUNS = 3;
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final int strength;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * Picks the highest cost whose hash is estimated to take at most the target time.
+     * Measures the fastest of a few hashes at the lowest allowed cost and doubles the estimate for each
+     * further cost step, as bcrypt does.
+     *
+     * @param target latency budget of one hash
+     * @param minStrength lowest acceptable cost, used even when it exceeds the budget
+     * @param maxStrength highest cost to consider
+     * @return the calibrated encoder
+     */
+    public static CalibratedBCryptPasswordEncoder calibrate(Duration target, int minStrength, int maxStrength) {
+        if (minStrength < MIN_STRENGTH || maxStrength > MAX_STRENGTH || minStrength > maxStrength) {
+            throw new IllegalArgumentException("BCrypt strength bounds must satisfy "
+                    + MIN_STRENGTH + " <= min <= max <= " + MAX_STRENGTH);
+        }
+        var probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode("calibration");
+        long fastestNanos = Long.MAX_VALUE;
+        for (int run = 0; run < CALIBRATION_RUNS; run++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            fastestNanos = Math.min(fastestNanos, System.nanoTime() - start);
+        }
+        int strength = minStrength;
+        double estimatedNanos = fastestNanos;
+        while (strength < maxStrength && estimatedNanos * 2 <= target.toNanos()) {
+            strength++;
+            estimatedNanos *= 2;
+        }
+        logger.info("Calibrated bcrypt cost {} (about {} ms per hash, budget {} ms)",
+                strength, Math.round(estimatedNanos / 1_000_000), target.toMillis());
+        return new CalibratedBCryptPasswordEncoder(strength);
+    }
+
+    @Override
+    protected boolean upgradeEncodingNonNull(String encodedPassword) {
+        var matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Encoded password does not look like BCrypt");
+        }
+        return Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
@@ -0,0 +1,26 @@
+package com.agroapp.platform.iam.infrastructure.persistence.jpa.repositories;
+
+import com.agroapp.platform.iam.domain.model.entities.SessionRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface SessionRevocationRepository extends JpaRepository<SessionRevocation, Long> {
+
+    List<SessionRevocation> findByExpiresAtAfter(Date now);
+
+    /**
+     * Deletes the revocations whose tokens have all expired anyway.
+     *
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM SessionRevocation s WHERE s.expiresAt <= :now")
+    int deleteExpired(@Param("now") Date now);
+}
@@ -1,9 +1,17 @@
 package com.agroapp.platform.iam.infrastructure.persistence.jpa.repositories;
 
 import com.agroapp.platform.iam.domain.model.aggregates.User;
+import com.agroapp.platform.iam.domain.model.valueobjects.UserProfile;
+import com.agroapp.platform.iam.domain.model.valueobjects.UserPublicProfile;
+import com.agroapp.platform.iam.domain.model.valueobjects.UserSignUpKeys;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,5 +19,57 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     boolean existsByIdentificator(String identificator);
-}
 
+    /**
+     * Resolves what other users may see of a user without loading the aggregate (and its password hash).
+     *
+     * @param userId the user ID
+     * @return the name and, if the user keeps it public, the location of the user if the user exists
+     */
+    @Query("SELECT new com.agroapp.platform.iam.domain.model.valueobjects.UserPublicProfile(u.userName, " +
+            "CASE WHEN u.isLocationPublic = true THEN u.location ELSE NULL END) FROM User u WHERE u.id = :userId")
+    Optional<UserPublicProfile> findPublicProfileById(@Param("userId") Long userId);
+
+    /**
+     * Reads the unique keys of the users after a given id, in id order.
+     * Used to load the sign-up key filters in bounded chunks.
+     */
+    @Query("SELECT new com.agroapp.platform.iam.domain.model.valueobjects.UserSignUpKeys(u.id, u.email, u.identificator) " +
+            "FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<UserSignUpKeys> findSignUpKeysAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Reads the profile of a user without loading the aggregate (and its password hash).
+     *
+     * @param userId the user ID
+     * @return the profile if the user exists
+     */
+    @Query("SELECT new com.agroapp.platform.iam.domain.model.valueobjects.UserProfile(u.id, u.userName, u.email, " +
+            "u.phoneNumber, u.identificator, u.location, u.isLocationPublic) FROM User u WHERE u.id = :userId")
+    Optional<UserProfile> findProfileById(@Param("userId") Long userId);
+
+    /**
+     * Resolves the id of the user with an email without loading the aggregate.
+     *
+     * @param email the user email
+     * @return the user ID if a user has that email
+     */
+    @Query("SELECT u.id FROM User u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    /**
+     * Reads the unique keys of the users holding any of the given emails.
+     * Used to check and resolve provisioned members in bulk.
+     */
+    @Query("SELECT new com.agroapp.platform.iam.domain.model.valueobjects.UserSignUpKeys(u.id, u.email, u.identificator) " +
+            "FROM User u WHERE u.email IN :emails")
+    List<UserSignUpKeys> findSignUpKeysByEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Reads the unique keys of the users holding any of the given DNIs.
+     * Used to check provisioned members in bulk.
+     */
+    @Query("SELECT new com.agroapp.platform.iam.domain.model.valueobjects.UserSignUpKeys(u.id, u.email, u.identificator) " +
+            "FROM User u WHERE u.identificator IN :identificators")
+    List<UserSignUpKeys> findSignUpKeysByIdentificators(@Param("identificators") Collection<String> identificators);
+}
@@ -1,64 +1,162 @@
 package com.agroapp.platform.iam.infrastructure.tokens.jwt;
 
+import com.agroapp.platform.iam.application.internal.outboundservices.tokens.TokenClaims;
 import com.agroapp.platform.iam.application.internal.outboundservices.tokens.TokenService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
+/**
+ * JWT implementation of TokenService (HMAC-SHA signed, stateless).
+ * The signing key and the parser are built once. Verified claims are kept in a bounded cache keyed by the
+ * SHA-256 of the token until the token expires (published as the "iam.verified-tokens" cache metrics), so a
+ * client repeating the same token pays for one hash instead of a signature check and a JSON parse.
+ * The user ID travels in the "userId" claim, so authenticating a request needs no user lookup.
+ * The issue time also travels in milliseconds in the "iatMillis" claim (the standard iat has second
+ * precision), so a token issued right after its user signed out everywhere is not caught by that revocation.
+ * Every token gets a random ID (jti) so it can be revoked; revocations are checked against the in-memory
+ * TokenDenylist on every verification, cached or not.
+ */
 @Service
 public class JwtTokenService implements TokenService {
 
-    @Value("${authorization.jwt.secret}")
-    private String secret;
+    static final String USER_ID_CLAIM = "userId";
+    static final String ISSUED_AT_MILLIS_CLAIM = "iatMillis";
+    private static final long VERIFIED_TOKENS_CACHE_SIZE = 50_000;
 
-    @Value("${authorization.jwt.expiration.days}")
-    private int expirationDays;
+    /**
+     * First 128 bits of the SHA-256 of a token; collisions are out of reach, and the cache never
+     * holds the token itself.
+     */
+    private record TokenHash(long high, long low) {
+    }
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Duration expiration;
+    private final Cache<TokenHash, TokenClaims> verifiedTokens;
+    private final TokenDenylist tokenDenylist;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtTokenService(@Value("${authorization.jwt.secret}") String secret,
+                           @Value("${authorization.jwt.expiration.days}") int expirationDays,
+                           MeterRegistry meterRegistry, TokenDenylist tokenDenylist) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.expiration = Duration.ofDays(expirationDays);
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(VERIFIED_TOKENS_CACHE_SIZE)
+                .expireAfter(Expiry.creating((TokenHash hash, TokenClaims claims) ->
+                        Duration.between(Instant.now(), claims.expiresAt())))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "iam.verified-tokens");
+        this.tokenDenylist = tokenDenylist;
     }
 
     @Override
-    public String generateToken(String username) {
+    public String generateToken(Long userId, String username) {
         Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + (expirationDays * 24 * 60 * 60 * 1000L));
+        Date expiryDate = new Date(now.getTime() + expiration.toMillis());
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(ISSUED_AT_MILLIS_CLAIM, now.getTime())
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     @Override
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.getSubject();
+        return verify(token).map(TokenClaims::email)
+                .orElseThrow(() -> new JwtException("Invalid or expired token"));
     }
 
     @Override
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    @Override
+    public Optional<TokenClaims> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        var hash = hash(token);
+        var claims = verifiedTokens.getIfPresent(hash);
+        if (claims == null) {
+            claims = parse(token).orElse(null);
+            if (claims == null) return Optional.empty();
+            verifiedTokens.put(hash, claims);
+        } else if (!claims.expiresAt().isAfter(Instant.now())) {
+            // The cache may keep an entry for a moment after it expires
+            return Optional.empty();
+        }
+        return tokenDenylist.isRevoked(claims) ? Optional.empty() : Optional.of(claims);
+    }
+
+    @Override
+    public void revoke(UUID tokenId, Instant expiresAt) {
+        tokenDenylist.revoke(tokenId, expiresAt);
+    }
+
+    @Override
+    public void revokeAll(Long userId) {
+        tokenDenylist.revokeAll(userId, Instant.now().plus(expiration));
+    }
+
+    /**
+     * Verifies the signature and expiry of a token, without the cache or the denylist.
+     */
+    Optional<TokenClaims> parse(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Long userId = claims.get(USER_ID_CLAIM, Long.class);
+            if (userId == null || claims.getId() == null || claims.getSubject() == null
+                    || claims.getIssuedAt() == null || claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+            Instant issuedAt = issuedAtMillis != null
+                    ? Instant.ofEpochMilli(issuedAtMillis)
+                    : claims.getIssuedAt().toInstant();
+            return Optional.of(new TokenClaims(userId, claims.getSubject(), UUID.fromString(claims.getId()),
+                    issuedAt, claims.getExpiration().toInstant()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
-}
 
+    private static TokenHash hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            var buffer = ByteBuffer.wrap(digest);
+            return new TokenHash(buffer.getLong(), buffer.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.agroapp.platform.iam.infrastructure.tokens.jwt;
+
+import com.agroapp.platform.iam.application.internal.outboundservices.tokens.TokenClaims;
+import com.agroapp.platform.iam.domain.model.entities.RevokedToken;
+import com.agroapp.platform.iam.domain.model.entities.SessionRevocation;
+import com.agroapp.platform.iam.infrastructure.persistence.jpa.repositories.RevokedTokenRepository;
+import com.agroapp.platform.iam.infrastructure.persistence.jpa.repositories.SessionRevocationRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked access tokens, checked on every authenticated request without a query.
+ * Signed-out tokens are held by token ID (a UUID, kept as two longs) and "sign out everywhere" as one
+ * issued-before instant per user, both in hash maps, so a check is two lookups. Revocations are written
+ * through to the database, reloaded at startup, and dropped from both once the tokens they cover have
+ * expired anyway, so the maps only ever hold revocations of still-valid tokens.
+ * Revocations made on another instance are only seen here after a restart.
+ */
+@Component
+public class TokenDenylist {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenDenylist.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final SessionRevocationRepository sessionRevocationRepository;
+    private final TransactionTemplate transactionTemplate;
+    /** Token ID -> expiry, in epoch seconds. */
+    private final Map<UUID, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<Long, RevokedSessions> revokedSessions = new ConcurrentHashMap<>();
+
+    /**
+     * @param revokedBefore tokens issued before this epoch millisecond are revoked
+     * @param expiresAt when the last revoked token expires, in epoch seconds
+     */
+    private record RevokedSessions(long revokedBefore, long expiresAt) {
+    }
+
+    public TokenDenylist(RevokedTokenRepository revokedTokenRepository,
+                         SessionRevocationRepository sessionRevocationRepository,
+                         PlatformTransactionManager transactionManager) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.sessionRevocationRepository = sessionRevocationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Loads the revocations of still-valid tokens before any request is served.
+     */
+    @PostConstruct
+    void load() {
+        var now = new Date();
+        for (RevokedToken revokedToken : revokedTokenRepository.findByExpiresAtAfter(now)) {
+            revokedTokens.put(UUID.fromString(revokedToken.getTokenId()), revokedToken.getExpiresAt().toInstant().getEpochSecond());
+        }
+        for (SessionRevocation revocation : sessionRevocationRepository.findByExpiresAtAfter(now)) {
+            revokedSessions.put(revocation.getUserId(), new RevokedSessions(
+                    revocation.getRevokedBefore().getTime(),
+                    revocation.getExpiresAt().toInstant().getEpochSecond()));
+        }
+        logger.info("Loaded {} revoked tokens and {} session revocations", revokedTokens.size(), revokedSessions.size());
+    }
+
+    /**
+     * @param claims the verified claims of a token
+     * @return true if the token was signed out, or its user signed out everywhere after it was issued
+     */
+    public boolean isRevoked(TokenClaims claims) {
+        if (revokedTokens.containsKey(claims.tokenId())) {
+            return true;
+        }
+        RevokedSessions sessions = revokedSessions.get(claims.userId());
+        return sessions != null && claims.issuedAt().toEpochMilli() < sessions.revokedBefore();
+    }
+
+    /**
+     * Revokes one token until it expires.
+     */
+    public void revoke(UUID tokenId, Instant expiresAt) {
+        if (!expiresAt.isAfter(Instant.now())) return;
+        revokedTokenRepository.save(new RevokedToken(tokenId.toString(), Date.from(expiresAt)));
+        revokedTokens.put(tokenId, expiresAt.getEpochSecond());
+    }
+
+    /**
+     * Revokes every token of a user issued before now, to the millisecond, so signing in again right
+     * afterwards yields a valid token.
+     *
+     * @param userId the user signing out everywhere
+     * @param lastExpiry when the last token issued up to now expires
+     */
+    public void revokeAll(Long userId, Instant lastExpiry) {
+        long revokedBefore = System.currentTimeMillis();
+        sessionRevocationRepository.save(new SessionRevocation(userId, new Date(revokedBefore), Date.from(lastExpiry)));
+        revokedSessions.put(userId, new RevokedSessions(revokedBefore, lastExpiry.getEpochSecond()));
+    }
+
+    /**
+     * Drops the revocations of tokens that have expired anyway.
+     */
+    @Scheduled(fixedDelayString = "${authorization.revocation.purge-interval-ms:600000}",
+            initialDelayString = "${authorization.revocation.purge-interval-ms:600000}")
+    void purge() {
+        long now = Instant.now().getEpochSecond();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        // Removes an entry only if it still holds the expired value, so a concurrent revocation survives
+        revokedSessions.values().removeIf(sessions -> sessions.expiresAt() <= now);
+        try {
+            var date = Date.from(Instant.ofEpochSecond(now));
+            transactionTemplate.executeWithoutResult(status -> {
+                revokedTokenRepository.deleteExpired(date);
+                sessionRevocationRepository.deleteExpired(date);
+            });
+        } catch (RuntimeException e) {
+            logger.warn("Could not purge expired token revocations", e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.agroapp.platform.iam.interfaces.rest;
+
+import com.agroapp.platform.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
+import com.agroapp.platform.iam.domain.model.commands.ProvisionUsersCommand;
+import com.agroapp.platform.iam.domain.services.UserCommandService;
+import com.agroapp.platform.iam.interfaces.rest.resources.UserProvisioningReportResource;
+import com.agroapp.platform.iam.interfaces.rest.transform.ProvisionUsersCommandFromRequestAssembler;
+import com.agroapp.platform.iam.interfaces.rest.transform.UserProvisioningReportResourceFromResultsAssembler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+/**
+ * REST Controller for bulk user provisioning, used to onboard the members of a cooperative at once.
+ * There are no user roles, so the endpoint is reserved to holders of the provisioning key sent in the
+ * X-Provisioning-Key header; it is disabled while no key is configured.
+ */
+@RestController
+@RequestMapping("/api/v1/users/provisioning")
+@Tag(name = "Users", description = "User Management Endpoints")
+public class UserProvisioningController {
+
+    static final String PROVISIONING_KEY_HEADER = "X-Provisioning-Key";
+    private static final long HASHING_RETRY_AFTER_SECONDS = 5;
+
+    private final UserCommandService userCommandService;
+    private final ObjectMapper objectMapper;
+    private final byte[] provisioningKey;
+
+    public UserProvisioningController(UserCommandService userCommandService, ObjectMapper objectMapper,
+                                      @Value("${iam.provisioning.api-key:}") String provisioningKey) {
+        this.userCommandService = userCommandService;
+        this.objectMapper = objectMapper;
+        this.provisioningKey = provisioningKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Operation(
+            summary = "Provision users from CSV",
+            description = "Creates an account per CSV row. The header names the columns userName, email, phoneNumber, " +
+                    "identificator, password and optionally location. Members are validated like sign-ups and " +
+                    "reported row by row; invalid or duplicate members do not stop the others."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Report with one result per row",
+                    content = @Content(schema = @Schema(implementation = UserProvisioningReportResource.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Unreadable CSV, or no or too many rows"),
+            @ApiResponse(responseCode = "403", description = "Missing or wrong provisioning key"),
+            @ApiResponse(responseCode = "404", description = "Provisioning is disabled"),
+            @ApiResponse(responseCode = "429", description = "Password hashing is saturated, retry later")
+    })
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<UserProvisioningReportResource> provisionFromCsv(
+            @RequestHeader(value = PROVISIONING_KEY_HEADER, required = false) String key,
+            @RequestBody String body) {
+        return provision(key, () -> ProvisionUsersCommandFromRequestAssembler.toCommandFromCsv(body));
+    }
+
+    @Operation(
+            summary = "Provision users from NDJSON",
+            description = "Creates an account per line, each a JSON object with userName, email, phoneNumber, " +
+                    "identificator, password and optionally location. Members are validated like sign-ups and " +
+                    "reported line by line; invalid or duplicate members do not stop the others."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Report with one result per line",
+                    content = @Content(schema = @Schema(implementation = UserProvisioningReportResource.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Unreadable line, or no or too many members"),
+            @ApiResponse(responseCode = "403", description = "Missing or wrong provisioning key"),
+            @ApiResponse(responseCode = "404", description = "Provisioning is disabled"),
+            @ApiResponse(responseCode = "429", description = "Password hashing is saturated, retry later")
+    })
+    @PostMapping(consumes = "application/x-ndjson")
+    public ResponseEntity<UserProvisioningReportResource> provisionFromNdjson(
+            @RequestHeader(value = PROVISIONING_KEY_HEADER, required = false) String key,
+            @RequestBody String body) {
+        return provision(key, () -> ProvisionUsersCommandFromRequestAssembler.toCommandFromNdjson(body, objectMapper));
+    }
+
+    private ResponseEntity<UserProvisioningReportResource> provision(String key, Supplier<ProvisionUsersCommand> command) {
+        if (provisioningKey.length == 0) {
+            return ResponseEntity.notFound().build();
+        }
+        if (key == null || !MessageDigest.isEqual(provisioningKey, key.getBytes(StandardCharsets.UTF_8))) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            var results = userCommandService.handle(command.get());
+            return ResponseEntity.ok(UserProvisioningReportResourceFromResultsAssembler.toResourceFromResults(results));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (HashingCapacityExceededException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(HASHING_RETRY_AFTER_SECONDS))
+                    .build();
+        }
+    }
+}
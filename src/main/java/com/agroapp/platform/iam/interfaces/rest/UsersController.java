@@ -1,8 +1,14 @@
 package com.agroapp.platform.iam.interfaces.rest;
 
+import com.agroapp.platform.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
+import com.agroapp.platform.iam.application.internal.outboundservices.tokens.TokenClaims;
+import com.agroapp.platform.iam.application.internal.signin.SignInThrottledException;
+import com.agroapp.platform.iam.domain.model.aggregates.User;
 import com.agroapp.platform.iam.domain.model.commands.DeleteUserCommand;
-import com.agroapp.platform.iam.domain.model.queries.GetUserByEmailQuery;
+import com.agroapp.platform.iam.domain.model.commands.SignOutCommand;
+import com.agroapp.platform.iam.domain.model.commands.SignOutEverywhereCommand;
 import com.agroapp.platform.iam.domain.model.queries.GetUserByIdQuery;
+import com.agroapp.platform.iam.domain.model.valueobjects.AuthenticatedUser;
 import com.agroapp.platform.geolocation.domain.services.LocationService;
 import com.agroapp.platform.iam.domain.services.UserCommandService;
 import com.agroapp.platform.iam.domain.services.UserQueryService;
@@ -15,15 +21,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+
 @RestController
 @RequestMapping("/api/v1/users")
 @Tag(name = "Users", description = "User Management Endpoints")
 public class UsersController {
 
+    private static final long HASHING_RETRY_AFTER_SECONDS = 1;
+
     private final UserCommandService userCommandService;
     private final UserQueryService userQueryService;
     private final LocationService locationService;
@@ -53,7 +65,8 @@ public class UsersController {
                     responseCode = "400",
                     description = "Invalid input - Check validations: " +
                             "DNI (8 digits), password (min 5 chars), phone (+prefix)"
-            )
+            ),
+            @ApiResponse(responseCode = "429", description = "Password hashing is saturated, retry later")
     })
     @PostMapping("/sign-up")
     public ResponseEntity<UserResource> signUp(@RequestBody SignUpUserResource resource,
@@ -66,7 +79,12 @@ public class UsersController {
 
         // Create command with location
         var command = SignUpCommandFromResourceAssembler.toCommandFromResource(resource, location);
-        var user = userCommandService.handle(command);
+        Optional<User> user;
+        try {
+            user = userCommandService.handle(command);
+        } catch (HashingCapacityExceededException e) {
+            return tooManyRequests(HASHING_RETRY_AFTER_SECONDS);
+        }
         if (user.isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
@@ -76,47 +94,77 @@ public class UsersController {
 
     /**
      * Extracts the client's public IP address from the HTTP request.
-     * Handles various proxy headers (X-Forwarded-For, X-Real-IP, etc.)
+     * X-Forwarded-For is resolved by the server from trusted proxies only (server.forward-headers-strategy),
+     * so the remote address is the client's, and a client cannot choose the location it is registered with.
      *
      * @param request The HTTP servlet request
      * @return The client's IP address
      */
     private String getClientIpAddress(HttpServletRequest request) {
-        String ipAddress = request.getHeader("X-Forwarded-For");
-        if (ipAddress == null || ipAddress.isEmpty() || "unknown".equalsIgnoreCase(ipAddress)) {
-            ipAddress = request.getHeader("X-Real-IP");
-        }
-        if (ipAddress == null || ipAddress.isEmpty() || "unknown".equalsIgnoreCase(ipAddress)) {
-            ipAddress = request.getHeader("Proxy-Client-IP");
-        }
-        if (ipAddress == null || ipAddress.isEmpty() || "unknown".equalsIgnoreCase(ipAddress)) {
-            ipAddress = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ipAddress == null || ipAddress.isEmpty() || "unknown".equalsIgnoreCase(ipAddress)) {
-            ipAddress = request.getRemoteAddr();
-        }
-        // If multiple IPs in X-Forwarded-For, take the first one
-        if (ipAddress != null && ipAddress.contains(",")) {
-            ipAddress = ipAddress.split(",")[0].trim();
-        }
-        return ipAddress;
+        return request.getRemoteAddr();
     }
 
+    @Operation(
+            summary = "Sign in",
+            description = "Returns an access token for the account. Repeated failures for one account or from one " +
+                    "address are refused for a while without checking the password."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Signed in",
+                    content = @Content(schema = @Schema(implementation = AuthenticatedUserResource.class))
+            ),
+            @ApiResponse(responseCode = "429", description = "Too many failed attempts, or password hashing is saturated; see Retry-After")
+    })
     @PostMapping("/sign-in")
-    public ResponseEntity<AuthenticatedUserResource> signIn(@RequestBody SignInUserResource resource) {
-        var command = SignInCommandFromResourceAssembler.toCommandFromResource(resource);
-        var token = userCommandService.handle(command);
-        if (token.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    public ResponseEntity<AuthenticatedUserResource> signIn(@RequestBody SignInUserResource resource,
+                                                            HttpServletRequest request) {
+        // The remote address only honours X-Forwarded-For from trusted proxies, so clients cannot pick the key
+        var command = SignInCommandFromResourceAssembler.toCommandFromResource(resource, request.getRemoteAddr());
+        Optional<AuthenticatedUser> authenticatedUser;
+        try {
+            authenticatedUser = userCommandService.handle(command);
+        } catch (SignInThrottledException e) {
+            return tooManyRequests(e.getRetryAfter().toSeconds());
+        } catch (HashingCapacityExceededException e) {
+            return tooManyRequests(HASHING_RETRY_AFTER_SECONDS);
         }
-        var user = userQueryService.handle(new GetUserByEmailQuery(resource.email()));
-        if (user.isEmpty()) {
+        if (authenticatedUser.isEmpty()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        var authenticatedUserResource = AuthenticatedUserResourceFromEntityAssembler.toResourceFromEntity(user.get(), token.get());
+        var authenticatedUserResource = AuthenticatedUserResourceFromValueAssembler.toResourceFromValue(authenticatedUser.get());
         return ResponseEntity.ok(authenticatedUserResource);
     }
 
+    @Operation(
+            summary = "Sign out",
+            description = "Revokes the access token sent with this request."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Signed out"),
+            @ApiResponse(responseCode = "401", description = "Missing, invalid or already revoked token")
+    })
+    @PostMapping("/sign-out")
+    public ResponseEntity<Void> signOut(@AuthenticationPrincipal TokenClaims claims) {
+        userCommandService.handle(new SignOutCommand(claims.tokenId(), claims.expiresAt()));
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+            summary = "Sign out everywhere",
+            description = "Revokes every access token issued to the authenticated user so far, including the one sent with this request."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Signed out of every session"),
+            @ApiResponse(responseCode = "401", description = "Missing, invalid or already revoked token")
+    })
+    @PostMapping("/sign-out-everywhere")
+    public ResponseEntity<Void> signOutEverywhere(@AuthenticationPrincipal TokenClaims claims) {
+        userCommandService.handle(new SignOutEverywhereCommand(claims.userId()));
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<UserResource> getUserById(@PathVariable Long id) {
         var query = new GetUserByIdQuery(id);
@@ -124,12 +172,16 @@ public class UsersController {
         if (user.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
-        var userResource = UserResourceFromEntityAssembler.toResourceFromEntity(user.get());
+        var userResource = UserResourceFromValueAssembler.toResourceFromValue(user.get());
         return ResponseEntity.ok(userResource);
     }
 
     @PutMapping("/{id}/profile")
-    public ResponseEntity<UserResource> updateUserProfile(@PathVariable Long id, @RequestBody UpdateUserProfileResource resource) {
+    public ResponseEntity<UserResource> updateUserProfile(@PathVariable Long id, @RequestBody UpdateUserProfileResource resource,
+                                                          @AuthenticationPrincipal(expression = "userId()") Long authenticatedUserId) {
+        if (!id.equals(authenticatedUserId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
         var command = UpdateUserProfileCommandFromResourceAssembler.toCommandFromResource(id, resource);
         var user = userCommandService.handle(command);
         if (user.isEmpty()) {
@@ -140,14 +192,32 @@ public class UsersController {
     }
 
     @PutMapping("/{id}/password")
-    public ResponseEntity<Void> updateUserPassword(@PathVariable Long id, @RequestBody UpdateUserPasswordResource resource) {
+    public ResponseEntity<Void> updateUserPassword(@PathVariable Long id, @RequestBody UpdateUserPasswordResource resource,
+                                                   @AuthenticationPrincipal(expression = "userId()") Long authenticatedUserId) {
+        if (!id.equals(authenticatedUserId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
         var command = UpdateUserPasswordCommandFromResourceAssembler.toCommandFromResource(id, resource);
-        userCommandService.handle(command);
+        try {
+            userCommandService.handle(command);
+        } catch (HashingCapacityExceededException e) {
+            return tooManyRequests(HASHING_RETRY_AFTER_SECONDS);
+        }
         return ResponseEntity.ok().build();
     }
 
+    private static <T> ResponseEntity<T> tooManyRequests(long retryAfterSeconds) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .build();
+    }
+
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteUser(@PathVariable Long id,
+                                           @AuthenticationPrincipal(expression = "userId()") Long authenticatedUserId) {
+        if (!id.equals(authenticatedUserId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
         var command = new DeleteUserCommand(id);
         userCommandService.handle(command);
         return ResponseEntity.noContent().build();
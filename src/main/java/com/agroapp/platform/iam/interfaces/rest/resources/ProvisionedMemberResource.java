@@ -0,0 +1,11 @@
+package com.agroapp.platform.iam.interfaces.rest.resources;
+
+public record ProvisionedMemberResource(
+        String userName,
+        String email,
+        String phoneNumber,
+        String identificator,
+        String password,
+        String location
+) {
+}
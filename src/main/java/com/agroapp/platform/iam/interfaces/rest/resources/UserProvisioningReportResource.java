@@ -0,0 +1,10 @@
+package com.agroapp.platform.iam.interfaces.rest.resources;
+
+import java.util.List;
+
+public record UserProvisioningReportResource(
+        int created,
+        int rejected,
+        List<UserProvisioningResultResource> results
+) {
+}
@@ -0,0 +1,10 @@
+package com.agroapp.platform.iam.interfaces.rest.resources;
+
+public record UserProvisioningResultResource(
+        int row,
+        String email,
+        String status,
+        Long userId,
+        String error
+) {
+}
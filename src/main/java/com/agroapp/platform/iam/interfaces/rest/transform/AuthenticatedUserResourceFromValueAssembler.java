@@ -0,0 +1,17 @@
+package com.agroapp.platform.iam.interfaces.rest.transform;
+
+import com.agroapp.platform.iam.domain.model.valueobjects.AuthenticatedUser;
+import com.agroapp.platform.iam.interfaces.rest.resources.AuthenticatedUserResource;
+
+public class AuthenticatedUserResourceFromValueAssembler {
+    public static AuthenticatedUserResource toResourceFromValue(AuthenticatedUser authenticatedUser) {
+        var user = authenticatedUser.user();
+        return new AuthenticatedUserResource(
+                user.id(),
+                user.userName(),
+                user.email(),
+                authenticatedUser.token(),
+                user.isLocationPublic()
+        );
+    }
+}
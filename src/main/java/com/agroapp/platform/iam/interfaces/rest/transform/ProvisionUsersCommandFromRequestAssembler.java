@@ -0,0 +1,131 @@
+package com.agroapp.platform.iam.interfaces.rest.transform;
+
+import com.agroapp.platform.iam.domain.model.commands.ProvisionUsersCommand;
+import com.agroapp.platform.iam.domain.model.commands.SignUpCommand;
+import com.agroapp.platform.iam.interfaces.rest.resources.ProvisionedMemberResource;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads the members of a provisioning request.
+ * CSV needs a header row naming the columns (userName, email, phoneNumber, identificator, password and
+ * optionally location, in any order and case); fields may be double-quoted, with "" for a quote.
+ * NDJSON holds one member object per line. Blank lines are skipped in both.
+ * A request that cannot be read throws IllegalArgumentException naming the line; members that can be read
+ * are validated later, one by one.
+ */
+public class ProvisionUsersCommandFromRequestAssembler {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("username", "email", "phonenumber", "identificator", "password");
+
+    public static ProvisionUsersCommand toCommandFromCsv(String body) {
+        String[] lines = lines(body);
+        int headerLine = firstNonBlank(lines);
+        if (headerLine < 0) {
+            throw new IllegalArgumentException("CSV is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = parseCsvLine(lines[headerLine], headerLine + 1);
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new IllegalArgumentException("CSV header misses column " + column);
+            }
+        }
+
+        List<SignUpCommand> members = new ArrayList<>();
+        for (int i = headerLine + 1; i < lines.length; i++) {
+            if (lines[i].isBlank()) continue;
+            List<String> fields = parseCsvLine(lines[i], i + 1);
+            if (fields.size() != header.size()) {
+                throw new IllegalArgumentException("Line " + (i + 1) + " has " + fields.size() + " fields, expected " + header.size());
+            }
+            members.add(new SignUpCommand(
+                    fields.get(columns.get("username")),
+                    fields.get(columns.get("email")),
+                    fields.get(columns.get("password")),
+                    fields.get(columns.get("phonenumber")),
+                    fields.get(columns.get("identificator")),
+                    columns.containsKey("location") ? emptyToNull(fields.get(columns.get("location"))) : null
+            ));
+        }
+        return new ProvisionUsersCommand(members);
+    }
+
+    public static ProvisionUsersCommand toCommandFromNdjson(String body, ObjectMapper objectMapper) {
+        String[] lines = lines(body);
+        List<SignUpCommand> members = new ArrayList<>();
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].isBlank()) continue;
+            ProvisionedMemberResource resource;
+            try {
+                resource = objectMapper.readValue(lines[i], ProvisionedMemberResource.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Line " + (i + 1) + " is not a member object");
+            }
+            members.add(new SignUpCommand(
+                    resource.userName(),
+                    resource.email(),
+                    resource.password(),
+                    resource.phoneNumber(),
+                    resource.identificator(),
+                    emptyToNull(resource.location())
+            ));
+        }
+        return new ProvisionUsersCommand(members);
+    }
+
+    private static String[] lines(String body) {
+        return body == null ? new String[0] : body.split("\r?\n", -1);
+    }
+
+    private static int firstNonBlank(String[] lines) {
+        for (int i = 0; i < lines.length; i++) {
+            if (!lines[i].isBlank()) return i;
+        }
+        return -1;
+    }
+
+    private static List<String> parseCsvLine(String line, int lineNumber) {
+        List<String> fields = new ArrayList<>();
+        var field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Line " + lineNumber + " has an unterminated quote");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -4,11 +4,11 @@ import com.agroapp.platform.iam.domain.model.commands.SignInCommand;
 import com.agroapp.platform.iam.interfaces.rest.resources.SignInUserResource;
 
 public class SignInCommandFromResourceAssembler {
-    public static SignInCommand toCommandFromResource(SignInUserResource resource) {
+    public static SignInCommand toCommandFromResource(SignInUserResource resource, String clientAddress) {
         return new SignInCommand(
                 resource.email(),
-                resource.password()
+                resource.password(),
+                clientAddress
         );
     }
 }
-
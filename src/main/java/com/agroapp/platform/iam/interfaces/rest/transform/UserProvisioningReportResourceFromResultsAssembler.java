@@ -0,0 +1,26 @@
+package com.agroapp.platform.iam.interfaces.rest.transform;
+
+import com.agroapp.platform.iam.domain.model.valueobjects.UserProvisioningResult;
+import com.agroapp.platform.iam.domain.model.valueobjects.UserProvisioningStatus;
+import com.agroapp.platform.iam.interfaces.rest.resources.UserProvisioningReportResource;
+import com.agroapp.platform.iam.interfaces.rest.resources.UserProvisioningResultResource;
+
+import java.util.List;
+
+public class UserProvisioningReportResourceFromResultsAssembler {
+    public static UserProvisioningReportResource toResourceFromResults(List<UserProvisioningResult> results) {
+        int created = (int) results.stream().filter(result -> result.status() == UserProvisioningStatus.Created).count();
+        return new UserProvisioningReportResource(
+                created,
+                results.size() - created,
+                results.stream()
+                        .map(result -> new UserProvisioningResultResource(
+                                result.row(),
+                                result.email(),
+                                result.status().name(),
+                                result.userId(),
+                                result.error()))
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.agroapp.platform.iam.interfaces.rest.transform;
+
+import com.agroapp.platform.iam.domain.model.valueobjects.UserProfile;
+import com.agroapp.platform.iam.interfaces.rest.resources.UserResource;
+
+public class UserResourceFromValueAssembler {
+    public static UserResource toResourceFromValue(UserProfile profile) {
+        return new UserResource(
+                profile.id(),
+                profile.userName(),
+                profile.email(),
+                profile.phoneNumber(),
+                profile.identificator(),
+                profile.location(),
+                profile.isLocationPublic()
+        );
+    }
+}
@@ -0,0 +1,175 @@
+package com.agroapp.platform.plants.application.internal.analytics;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropCycleAnalytics;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropCycleRow;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropCycleStatistics;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+import com.agroapp.platform.plants.domain.model.valueobjects.FieldArea;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Mutable crop-cycle aggregate.
+ * Rows can be added and removed again, so the aggregate is kept up to date from single crop-field changes
+ * instead of being recomputed; partial aggregates built in parallel are combined with {@link #merge}.
+ * Areas are kept as whole square meters so that removing a row restores the exact previous total.
+ * Not thread-safe.
+ */
+final class CropCycleAccumulator {
+
+    static final String UNSPECIFIED = "Unspecified";
+
+    private static final CropFieldStatus[] STATUSES = CropFieldStatus.values();
+
+    private final Map<String, CropStats> byCrop = new HashMap<>();
+    private long total;
+
+    void add(CropCycleRow row) {
+        apply(row, 1);
+    }
+
+    void remove(CropCycleRow row) {
+        apply(row, -1);
+    }
+
+    /**
+     * Folds another accumulator into this one.
+     *
+     * @param other the accumulator to merge, left untouched
+     * @return this accumulator
+     */
+    CropCycleAccumulator merge(CropCycleAccumulator other) {
+        total += other.total;
+        other.byCrop.forEach((crop, stats) -> byCrop.computeIfAbsent(crop, key -> new CropStats()).merge(stats));
+        return this;
+    }
+
+    long total() {
+        return total;
+    }
+
+    /**
+     * Produces an immutable snapshot of the current aggregate.
+     *
+     * @param computedAt the snapshot timestamp
+     * @return the analytics snapshot
+     */
+    CropCycleAnalytics toAnalytics(Instant computedAt) {
+        var crops = new ArrayList<CropCycleStatistics>(byCrop.size());
+        var cropsPerSoilType = new TreeMap<String, Map<String, Long>>();
+        byCrop.forEach((crop, stats) -> {
+            crops.add(stats.toStatistics(crop));
+            stats.soilTypes.forEach((soilType, count) ->
+                    cropsPerSoilType.computeIfAbsent(soilType, key -> new TreeMap<>()).put(crop, count));
+        });
+        crops.sort(Comparator.comparingLong(CropCycleStatistics::cropFields).reversed()
+                .thenComparing(CropCycleStatistics::crop));
+
+        var soilTypes = new LinkedHashMap<String, Map<String, Long>>();
+        cropsPerSoilType.forEach((soilType, counts) -> soilTypes.put(soilType, Collections.unmodifiableMap(counts)));
+        return new CropCycleAnalytics(total, List.copyOf(crops), Collections.unmodifiableMap(soilTypes), computedAt);
+    }
+
+    private void apply(CropCycleRow row, int sign) {
+        var crop = label(row.crop());
+        var stats = byCrop.computeIfAbsent(crop, key -> new CropStats());
+        stats.apply(row, sign);
+        total += sign;
+        if (stats.count == 0) {
+            byCrop.remove(crop);
+        }
+    }
+
+    static String label(String value) {
+        return value == null || value.isBlank() ? UNSPECIFIED : value.trim();
+    }
+
+    /**
+     * Per-crop counters.
+     */
+    private static final class CropStats {
+        private long count;
+        private final long[] statusCounts = new long[STATUSES.length];
+        private long areaSquareMeters;
+        private long fieldsWithArea;
+        private long durationSumDays;
+        private long cyclesWithDates;
+        private final TreeMap<Long, Long> durationHistogram = new TreeMap<>();
+        private final Map<String, Long> soilTypes = new HashMap<>();
+
+        void apply(CropCycleRow row, int sign) {
+            count += sign;
+            if (row.status() != null) {
+                statusCounts[row.status().ordinal()] += sign;
+            }
+            FieldArea.parse(row.fieldSize()).ifPresent(area -> {
+                areaSquareMeters += sign * Math.round(area.hectares() * 10_000);
+                fieldsWithArea += sign;
+            });
+            if (row.plantingDate() != null && row.harvestDate() != null && !row.harvestDate().isBefore(row.plantingDate())) {
+                long days = Duration.between(row.plantingDate(), row.harvestDate()).toDays();
+                durationSumDays += sign * days;
+                cyclesWithDates += sign;
+                adjust(durationHistogram, days, sign);
+            }
+            adjust(soilTypes, label(row.soilType()), sign);
+        }
+
+        void merge(CropStats other) {
+            count += other.count;
+            for (int i = 0; i < statusCounts.length; i++) {
+                statusCounts[i] += other.statusCounts[i];
+            }
+            areaSquareMeters += other.areaSquareMeters;
+            fieldsWithArea += other.fieldsWithArea;
+            durationSumDays += other.durationSumDays;
+            cyclesWithDates += other.cyclesWithDates;
+            other.durationHistogram.forEach((days, n) -> durationHistogram.merge(days, n, Long::sum));
+            other.soilTypes.forEach((soilType, n) -> soilTypes.merge(soilType, n, Long::sum));
+        }
+
+        CropCycleStatistics toStatistics(String crop) {
+            var statuses = new EnumMap<CropFieldStatus, Long>(CropFieldStatus.class);
+            for (var status : STATUSES) {
+                statuses.put(status, statusCounts[status.ordinal()]);
+            }
+            long critical = statusCounts[CropFieldStatus.Critical.ordinal()];
+            boolean hasDurations = cyclesWithDates > 0;
+            return new CropCycleStatistics(
+                    crop,
+                    count,
+                    Collections.unmodifiableMap(statuses),
+                    count == 0 ? 0.0 : (double) critical / count,
+                    areaSquareMeters / 10_000.0,
+                    fieldsWithArea,
+                    cyclesWithDates,
+                    hasDurations ? durationHistogram.firstKey() : null,
+                    hasDurations ? percentile(0.5) : null,
+                    hasDurations ? percentile(0.9) : null,
+                    hasDurations ? durationHistogram.lastKey() : null,
+                    hasDurations ? (double) durationSumDays / cyclesWithDates : null
+            );
+        }
+
+        /**
+         * Nearest-rank percentile over the duration histogram.
+         */
+        private long percentile(double p) {
+            long rank = Math.max(1, (long) Math.ceil(p * cyclesWithDates));
+            long seen = 0;
+            for (var entry : durationHistogram.entrySet()) {
+                seen += entry.getValue();
+                if (seen >= rank) {
+                    return entry.getKey();
+                }
+            }
+            return durationHistogram.lastKey();
+        }
+
+        private static <K> void adjust(Map<K, Long> counts, K key, int sign) {
+            counts.merge(key, (long) sign, (current, delta) -> current + delta == 0 ? null : current + delta);
+        }
+    }
+}
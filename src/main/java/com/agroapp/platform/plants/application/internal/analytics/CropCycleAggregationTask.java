@@ -0,0 +1,41 @@
+package com.agroapp.platform.plants.application.internal.analytics;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropCycleRow;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork-join task that aggregates a slice of crop-cycle rows.
+ * Slices above the threshold are split in half; leaves are aggregated sequentially and merged on the way up.
+ */
+final class CropCycleAggregationTask extends RecursiveTask<CropCycleAccumulator> {
+
+    static final int THRESHOLD = 2_048;
+
+    private final List<CropCycleRow> rows;
+    private final int from;
+    private final int to;
+
+    CropCycleAggregationTask(List<CropCycleRow> rows, int from, int to) {
+        this.rows = rows;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected CropCycleAccumulator compute() {
+        if (to - from <= THRESHOLD) {
+            var accumulator = new CropCycleAccumulator();
+            for (int i = from; i < to; i++) {
+                accumulator.add(rows.get(i));
+            }
+            return accumulator;
+        }
+        int middle = (from + to) >>> 1;
+        var left = new CropCycleAggregationTask(rows, from, middle);
+        left.fork();
+        var right = new CropCycleAggregationTask(rows, middle, to).compute();
+        return left.join().merge(right);
+    }
+}
@@ -0,0 +1,130 @@
+package com.agroapp.platform.plants.application.internal.analytics;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropCycleAnalytics;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropCycleRow;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.CropFieldRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Cached crop-cycle analytics.
+ * The first request streams all crop fields and aggregates them chunk by chunk as they are read: each chunk
+ * is aggregated on the common fork-join pool while the next one is fetched, so the rows are never collected
+ * into one list.
+ * Afterwards only crop fields reported as changed are reloaded and swapped in the aggregate,
+ * and requests without pending changes return the cached snapshot without touching the database.
+ */
+@Component
+public class CropCycleAnalyticsCache {
+
+    private static final int RELOAD_CHUNK_SIZE = 500;
+    private static final int AGGREGATION_CHUNK_SIZE = 10_000;
+
+    private final CropFieldRepository cropFieldRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Set<Long> changedCropFieldIds = ConcurrentHashMap.newKeySet();
+    private final Map<Long, CropCycleRow> rows = new HashMap<>();
+    private CropCycleAccumulator accumulator;
+    private volatile CropCycleAnalytics snapshot;
+
+    public CropCycleAnalyticsCache(CropFieldRepository cropFieldRepository, PlatformTransactionManager transactionManager) {
+        this.cropFieldRepository = cropFieldRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Returns the current analytics, applying pending crop-field changes first.
+     *
+     * @return the up-to-date analytics snapshot
+     */
+    public CropCycleAnalytics current() {
+        var cached = snapshot;
+        if (cached != null && changedCropFieldIds.isEmpty()) {
+            return cached;
+        }
+        return refresh();
+    }
+
+    /**
+     * Records that a crop field was created, updated or deleted.
+     * Must only be called once the change is committed.
+     *
+     * @param cropFieldId the changed crop field
+     */
+    public void markChanged(Long cropFieldId) {
+        if (cropFieldId != null) {
+            changedCropFieldIds.add(cropFieldId);
+        }
+    }
+
+    private synchronized CropCycleAnalytics refresh() {
+        if (snapshot != null && changedCropFieldIds.isEmpty()) {
+            return snapshot;
+        }
+        if (accumulator == null) {
+            rebuild();
+        } else {
+            applyChanges();
+        }
+        snapshot = accumulator.toAnalytics(Instant.now());
+        return snapshot;
+    }
+
+    private void rebuild() {
+        // Changes reported from here on are reapplied on the next request
+        changedCropFieldIds.clear();
+        rows.clear();
+        accumulator = readOnlyTransaction.execute(status -> {
+            try (var stream = cropFieldRepository.streamCropCycleRows()) {
+                var aggregate = new CropCycleAccumulator();
+                ForkJoinTask<CropCycleAccumulator> previousChunk = null;
+                var chunk = new ArrayList<CropCycleRow>(AGGREGATION_CHUNK_SIZE);
+                for (var iterator = stream.iterator(); iterator.hasNext(); ) {
+                    var row = iterator.next();
+                    rows.put(row.cropFieldId(), row);
+                    chunk.add(row);
+                    if (chunk.size() == AGGREGATION_CHUNK_SIZE || !iterator.hasNext()) {
+                        if (previousChunk != null) {
+                            aggregate.merge(previousChunk.join());
+                        }
+                        previousChunk = ForkJoinPool.commonPool().submit(new CropCycleAggregationTask(chunk, 0, chunk.size()));
+                        chunk = new ArrayList<>(AGGREGATION_CHUNK_SIZE);
+                    }
+                }
+                if (previousChunk != null) {
+                    aggregate.merge(previousChunk.join());
+                }
+                return aggregate;
+            }
+        });
+    }
+
+    private void applyChanges() {
+        var pending = new ArrayList<>(changedCropFieldIds);
+        pending.forEach(changedCropFieldIds::remove);
+
+        for (int start = 0; start < pending.size(); start += RELOAD_CHUNK_SIZE) {
+            var chunk = pending.subList(start, Math.min(start + RELOAD_CHUNK_SIZE, pending.size()));
+            var reloaded = cropFieldRepository.findCropCycleRowsByIds(chunk);
+            for (Long cropFieldId : chunk) {
+                var previous = rows.remove(cropFieldId);
+                if (previous != null) {
+                    accumulator.remove(previous);
+                }
+            }
+            for (var row : reloaded) {
+                rows.put(row.cropFieldId(), row);
+                accumulator.add(row);
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.agroapp.platform.plants.application.internal.commandservices;
+
+import com.agroapp.platform.plants.domain.model.commands.BatchCommand;
+import com.agroapp.platform.plants.domain.model.commands.BatchOperation;
+import com.agroapp.platform.plants.domain.model.commands.CreateCropFieldCommand;
+import com.agroapp.platform.plants.domain.model.commands.CreateTaskCommand;
+import com.agroapp.platform.plants.domain.model.valueobjects.BatchOperationResult;
+import com.agroapp.platform.plants.domain.services.BatchCommandService;
+import com.agroapp.platform.plants.domain.services.CropFieldCommandService;
+import com.agroapp.platform.plants.domain.services.FieldCommandService;
+import com.agroapp.platform.plants.domain.services.TaskCommandService;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.FieldRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Executes batches of Plants commands in a single transaction.
+ * Delegates every operation to the regular command services, which join this transaction,
+ * so a failure in any operation rolls back the whole batch.
+ * Malformed batches are refused with IllegalArgumentException; an operation that fails while executing is
+ * reported with a {@link BatchOperationFailedException} naming it.
+ */
+@Service
+public class BatchCommandServiceImpl implements BatchCommandService {
+
+    private final FieldCommandService fieldCommandService;
+    private final CropFieldCommandService cropFieldCommandService;
+    private final TaskCommandService taskCommandService;
+    private final FieldRepository fieldRepository;
+
+    public BatchCommandServiceImpl(FieldCommandService fieldCommandService,
+                                   CropFieldCommandService cropFieldCommandService,
+                                   TaskCommandService taskCommandService,
+                                   FieldRepository fieldRepository) {
+        this.fieldCommandService = fieldCommandService;
+        this.cropFieldCommandService = cropFieldCommandService;
+        this.taskCommandService = taskCommandService;
+        this.fieldRepository = fieldRepository;
+    }
+
+    @Override
+    @Transactional
+    public List<BatchOperationResult> handle(BatchCommand command) {
+        List<BatchOperationResult> results = new ArrayList<>(command.operations().size());
+        Map<String, Long> fieldIdsByRef = new HashMap<>();
+        Set<String> refs = new HashSet<>();
+
+        for (int index = 0; index < command.operations().size(); index++) {
+            BatchOperation operation = command.operations().get(index);
+            if (operation.ref() != null && !refs.add(operation.ref())) {
+                throw new IllegalArgumentException("Duplicate ref '" + operation.ref() + "' at operation " + index);
+            }
+
+            final int operationIndex = index;
+            Object entity = switch (operation) {
+                case BatchOperation.CreateField op -> {
+                    var field = execute(index, op.ref(), () -> fieldCommandService.handle(op.command()))
+                            .orElseThrow(() -> new BatchOperationFailedException(operationIndex, op.ref(),
+                                    "Field could not be created", false));
+                    if (op.ref() != null) {
+                        fieldIdsByRef.put(op.ref(), field.getId());
+                    }
+                    yield field;
+                }
+                case BatchOperation.CreateCropField op -> {
+                    var source = op.command();
+                    var resolved = new CreateCropFieldCommand(
+                            resolveFieldId(op.ref(), op.fieldRef(), source.fieldId(), fieldIdsByRef, index),
+                            source.crop(),
+                            source.soilType(),
+                            source.sunlight(),
+                            source.watering(),
+                            source.plantingDate(),
+                            source.harvestDate(),
+                            source.status()
+                    );
+                    yield execute(index, op.ref(), () -> cropFieldCommandService.handle(resolved))
+                            .orElseThrow(() -> new BatchOperationFailedException(operationIndex, op.ref(),
+                                    "CropField could not be created", false));
+                }
+                case BatchOperation.CreateTask op -> {
+                    var source = op.command();
+                    var resolved = new CreateTaskCommand(
+                            resolveFieldId(op.ref(), op.fieldRef(), source.fieldId(), fieldIdsByRef, index),
+                            source.description(),
+                            source.dueDate()
+                    );
+                    yield execute(index, op.ref(), () -> taskCommandService.handle(resolved))
+                            .orElseThrow(() -> new BatchOperationFailedException(operationIndex, op.ref(),
+                                    "Task could not be created", false));
+                }
+            };
+            results.add(new BatchOperationResult(index, operation.ref(), entity));
+        }
+        return results;
+    }
+
+    /**
+     * Runs one delegated command, reporting its failure as a failure of the operation.
+     */
+    private <T> T execute(int index, String ref, Supplier<T> command) {
+        try {
+            return command.get();
+        } catch (BatchOperationFailedException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new BatchOperationFailedException(index, ref, e.getMessage(),
+                    String.valueOf(e.getMessage()).endsWith("not found"));
+        }
+    }
+
+    /**
+     * Resolves the field targeted by an operation: a fieldRef to a field created earlier
+     * in the batch takes precedence over an explicit fieldId, which must name an existing field.
+     */
+    private Long resolveFieldId(String ref, String fieldRef, Long fieldId, Map<String, Long> fieldIdsByRef, int index) {
+        if (fieldRef == null) {
+            if (fieldId == null) {
+                throw new IllegalArgumentException("Operation " + index + " needs a fieldId or a fieldRef");
+            }
+            if (!fieldRepository.existsById(fieldId)) {
+                throw new BatchOperationFailedException(index, ref, "Field with id " + fieldId + " not found", true);
+            }
+            return fieldId;
+        }
+        Long resolved = fieldIdsByRef.get(fieldRef);
+        if (resolved == null) {
+            throw new IllegalArgumentException("Operation " + index + " refers to unknown field ref '" + fieldRef
+                    + "' (it must be created earlier in the batch)");
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,28 @@
+package com.agroapp.platform.plants.application.internal.commandservices;
+
+import lombok.Getter;
+
+/**
+ * Thrown when one operation of a batch fails, rolling the whole batch back.
+ * Identifies the failed operation so the client knows which one to fix.
+ */
+@Getter
+public class BatchOperationFailedException extends RuntimeException {
+
+    private final int index;
+    private final String ref;
+    private final boolean targetNotFound;
+
+    /**
+     * @param index position of the failed operation in the batch
+     * @param ref client-chosen reference of the failed operation (nullable)
+     * @param message why the operation failed
+     * @param targetNotFound true when the operation refers to an entity that does not exist
+     */
+    public BatchOperationFailedException(int index, String ref, String message, boolean targetNotFound) {
+        super(message);
+        this.index = index;
+        this.ref = ref;
+        this.targetNotFound = targetNotFound;
+    }
+}
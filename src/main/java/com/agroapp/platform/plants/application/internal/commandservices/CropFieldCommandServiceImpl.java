@@ -1,12 +1,19 @@
 package com.agroapp.platform.plants.application.internal.commandservices;
 
+import com.agroapp.platform.plants.application.internal.workingset.FarmWorkingSetCache;
 import com.agroapp.platform.plants.domain.model.commands.CreateCropFieldCommand;
 import com.agroapp.platform.plants.domain.model.commands.UpdateCropFieldCommand;
 import com.agroapp.platform.plants.domain.model.commands.DeleteCropFieldCommand;
 import com.agroapp.platform.plants.domain.model.entities.CropField;
+import com.agroapp.platform.plants.domain.model.events.CropFieldDeletedEvent;
+import com.agroapp.platform.plants.domain.model.events.CropFieldSavedEvent;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropAttributeKind;
 import com.agroapp.platform.plants.domain.services.CropFieldCommandService;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.dictionary.CropAttributeDictionary;
 import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.CropFieldRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -14,25 +21,36 @@ import java.util.Optional;
 public class CropFieldCommandServiceImpl implements CropFieldCommandService {
 
     private final CropFieldRepository cropFieldRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CropAttributeDictionary cropAttributeDictionary;
+    private final FarmWorkingSetCache farmWorkingSetCache;
 
-    public CropFieldCommandServiceImpl(CropFieldRepository cropFieldRepository) {
+    public CropFieldCommandServiceImpl(CropFieldRepository cropFieldRepository, ApplicationEventPublisher eventPublisher,
+                                       CropAttributeDictionary cropAttributeDictionary,
+                                       FarmWorkingSetCache farmWorkingSetCache) {
         this.cropFieldRepository = cropFieldRepository;
+        this.eventPublisher = eventPublisher;
+        this.cropAttributeDictionary = cropAttributeDictionary;
+        this.farmWorkingSetCache = farmWorkingSetCache;
     }
 
     @Override
     public Optional<CropField> handle(CreateCropFieldCommand command) {
+        // Catalog values are matched ignoring case and accents, so "maíz" and "Maiz" share one entry
         CropField cropField = new CropField(
                 command.fieldId(),
-                command.crop(),
-                command.soilType(),
-                command.sunlight(),
-                command.watering(),
+                cropAttributeDictionary.canonicalize(CropAttributeKind.Crop, command.crop()),
+                cropAttributeDictionary.canonicalize(CropAttributeKind.SoilType, command.soilType()),
+                cropAttributeDictionary.canonicalize(CropAttributeKind.Sunlight, command.sunlight()),
+                cropAttributeDictionary.canonicalize(CropAttributeKind.Watering, command.watering()),
                 command.plantingDate(),
                 command.harvestDate(),
                 command.status()
         );
 
         CropField savedCropField = cropFieldRepository.save(cropField);
+        farmWorkingSetCache.invalidateField(savedCropField.getFieldId());
+        eventPublisher.publishEvent(new CropFieldSavedEvent(this, savedCropField.getId(), savedCropField.getFieldId()));
         return Optional.of(savedCropField);
     }
 
@@ -47,7 +65,7 @@ public class CropFieldCommandServiceImpl implements CropFieldCommandService {
         CropField cropField = cropFieldOptional.get();
 
         // Update crop name
-        cropField.updateCrop(command.crop());
+        cropField.updateCrop(cropAttributeDictionary.canonicalize(CropAttributeKind.Crop, command.crop()));
 
         // Update status if provided
         if (command.status() != null) {
@@ -55,15 +73,21 @@ public class CropFieldCommandServiceImpl implements CropFieldCommandService {
         }
 
         CropField updatedCropField = cropFieldRepository.save(cropField);
+        farmWorkingSetCache.invalidateField(updatedCropField.getFieldId());
+        eventPublisher.publishEvent(new CropFieldSavedEvent(this, updatedCropField.getId(), updatedCropField.getFieldId()));
         return Optional.of(updatedCropField);
     }
 
     @Override
+    @Transactional
     public void handle(DeleteCropFieldCommand command) {
-        if (!cropFieldRepository.existsById(command.id())) {
-            throw new RuntimeException("CropField with id " + command.id() + " not found");
-        }
-        cropFieldRepository.deleteById(command.id());
+        CropField cropField = cropFieldRepository.findById(command.id())
+                .orElseThrow(() -> new RuntimeException("CropField with id " + command.id() + " not found"));
+        cropFieldRepository.delete(cropField);
+        farmWorkingSetCache.invalidateField(cropField.getFieldId());
+
+        // Publish event so offline clients can be told about the deletion
+        eventPublisher.publishEvent(new CropFieldDeletedEvent(this, cropField.getId(), cropField.getFieldId()));
     }
 }
 
@@ -1,5 +1,6 @@
 package com.agroapp.platform.plants.application.internal.commandservices;
 
+import com.agroapp.platform.plants.application.internal.workingset.FarmWorkingSetCache;
 import com.agroapp.platform.plants.domain.model.aggregates.Field;
 import com.agroapp.platform.plants.domain.model.commands.CreateFieldCommand;
 import com.agroapp.platform.plants.domain.model.entities.ProgressHistory;
@@ -16,10 +17,13 @@ public class FieldCommandServiceImpl implements FieldCommandService {
 
     private final FieldRepository fieldRepository;
     private final ProgressHistoryRepository progressHistoryRepository;
+    private final FarmWorkingSetCache farmWorkingSetCache;
 
-    public FieldCommandServiceImpl(FieldRepository fieldRepository, ProgressHistoryRepository progressHistoryRepository) {
+    public FieldCommandServiceImpl(FieldRepository fieldRepository, ProgressHistoryRepository progressHistoryRepository,
+                                   FarmWorkingSetCache farmWorkingSetCache) {
         this.fieldRepository = fieldRepository;
         this.progressHistoryRepository = progressHistoryRepository;
+        this.farmWorkingSetCache = farmWorkingSetCache;
     }
 
     @Override
@@ -38,6 +42,7 @@ public class FieldCommandServiceImpl implements FieldCommandService {
         // Automatically create ProgressHistory for this Field
         ProgressHistory progressHistory = new ProgressHistory(savedField.getId());
         progressHistoryRepository.save(progressHistory);
+        farmWorkingSetCache.invalidate(savedField.getUserId());
 
         return Optional.of(savedField);
     }
@@ -1,5 +1,6 @@
 package com.agroapp.platform.plants.application.internal.commandservices;
 
+import com.agroapp.platform.plants.application.internal.workingset.FarmWorkingSetCache;
 import com.agroapp.platform.plants.domain.model.commands.CreateProgressHistoryCommand;
 import com.agroapp.platform.plants.domain.model.commands.UpdateProgressHistoryCommand;
 import com.agroapp.platform.plants.domain.model.entities.ProgressHistory;
@@ -13,9 +14,12 @@ import java.util.Optional;
 public class ProgressHistoryCommandServiceImpl implements ProgressHistoryCommandService {
 
     private final ProgressHistoryRepository progressHistoryRepository;
+    private final FarmWorkingSetCache farmWorkingSetCache;
 
-    public ProgressHistoryCommandServiceImpl(ProgressHistoryRepository progressHistoryRepository) {
+    public ProgressHistoryCommandServiceImpl(ProgressHistoryRepository progressHistoryRepository,
+                                             FarmWorkingSetCache farmWorkingSetCache) {
         this.progressHistoryRepository = progressHistoryRepository;
+        this.farmWorkingSetCache = farmWorkingSetCache;
     }
 
     @Override
@@ -28,6 +32,7 @@ public class ProgressHistoryCommandServiceImpl implements ProgressHistoryCommand
         );
 
         ProgressHistory savedProgressHistory = progressHistoryRepository.save(progressHistory);
+        farmWorkingSetCache.invalidateField(savedProgressHistory.getFieldId());
         return Optional.of(savedProgressHistory);
     }
 
@@ -42,6 +47,7 @@ public class ProgressHistoryCommandServiceImpl implements ProgressHistoryCommand
         ProgressHistory progressHistory = progressHistoryOptional.get();
         progressHistory.update(command.watered(), command.fertilized(), command.pests());
         ProgressHistory updatedProgressHistory = progressHistoryRepository.save(progressHistory);
+        farmWorkingSetCache.invalidateField(updatedProgressHistory.getFieldId());
         return Optional.of(updatedProgressHistory);
     }
 }
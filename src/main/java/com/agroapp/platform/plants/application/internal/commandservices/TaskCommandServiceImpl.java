@@ -1,13 +1,17 @@
 package com.agroapp.platform.plants.application.internal.commandservices;
 
+import com.agroapp.platform.plants.application.internal.workingset.FarmWorkingSetCache;
 import com.agroapp.platform.plants.domain.model.aggregates.Task;
 import com.agroapp.platform.plants.domain.model.commands.*;
 import com.agroapp.platform.plants.domain.model.commands.CreateTaskCommand;
 import com.agroapp.platform.plants.domain.model.commands.DeleteTaskCommand;
 import com.agroapp.platform.plants.domain.model.commands.UpdateTaskCommand;
+import com.agroapp.platform.plants.domain.model.events.TaskDeletedEvent;
 import com.agroapp.platform.plants.domain.services.TaskCommandService;
 import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.TaskRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -15,9 +19,14 @@ import java.util.Optional;
 public class TaskCommandServiceImpl implements TaskCommandService {
 
     private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FarmWorkingSetCache farmWorkingSetCache;
 
-    public TaskCommandServiceImpl(TaskRepository taskRepository) {
+    public TaskCommandServiceImpl(TaskRepository taskRepository, ApplicationEventPublisher eventPublisher,
+                                  FarmWorkingSetCache farmWorkingSetCache) {
         this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        this.farmWorkingSetCache = farmWorkingSetCache;
     }
 
     @Override
@@ -29,6 +38,7 @@ public class TaskCommandServiceImpl implements TaskCommandService {
         );
 
         Task savedTask = taskRepository.save(task);
+        farmWorkingSetCache.invalidateField(savedTask.getFieldId());
         return Optional.of(savedTask);
     }
 
@@ -41,17 +51,26 @@ public class TaskCommandServiceImpl implements TaskCommandService {
         }
 
         Task task = taskOptional.get();
+        Long previousFieldId = task.getFieldId();
         task.update(command.fieldId(), command.description(), command.dueDate());
         Task updatedTask = taskRepository.save(task);
+        farmWorkingSetCache.invalidateField(previousFieldId);
+        if (!previousFieldId.equals(updatedTask.getFieldId())) {
+            farmWorkingSetCache.invalidateField(updatedTask.getFieldId());
+        }
         return Optional.of(updatedTask);
     }
 
     @Override
+    @Transactional
     public void handle(DeleteTaskCommand command) {
-        if (!taskRepository.existsById(command.taskId())) {
-            throw new RuntimeException("Task not found");
-        }
-        taskRepository.deleteById(command.taskId());
+        Task task = taskRepository.findById(command.taskId())
+                .orElseThrow(() -> new RuntimeException("Task not found"));
+        taskRepository.delete(task);
+        farmWorkingSetCache.invalidateField(task.getFieldId());
+
+        // Publish event so offline clients can be told about the deletion
+        eventPublisher.publishEvent(new TaskDeletedEvent(this, task.getId(), task.getFieldId()));
     }
 }
 
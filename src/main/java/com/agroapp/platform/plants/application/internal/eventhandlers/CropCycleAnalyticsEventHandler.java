@@ -0,0 +1,41 @@
+package com.agroapp.platform.plants.application.internal.eventhandlers;
+
+import com.agroapp.platform.plants.application.internal.analytics.CropCycleAnalyticsCache;
+import com.agroapp.platform.plants.domain.model.events.CropFieldDeletedEvent;
+import com.agroapp.platform.plants.domain.model.events.CropFieldSavedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Event handler that keeps the crop-cycle analytics cache in step with crop-field changes.
+ * Runs after commit so the cache never reloads a change that is later rolled back.
+ */
+@Component
+public class CropCycleAnalyticsEventHandler {
+
+    private final CropCycleAnalyticsCache cropCycleAnalyticsCache;
+
+    public CropCycleAnalyticsEventHandler(CropCycleAnalyticsCache cropCycleAnalyticsCache) {
+        this.cropCycleAnalyticsCache = cropCycleAnalyticsCache;
+    }
+
+    /**
+     * Handles CropFieldSavedEvent.
+     *
+     * @param event the CropFieldSavedEvent containing the cropFieldId
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(CropFieldSavedEvent event) {
+        cropCycleAnalyticsCache.markChanged(event.getCropFieldId());
+    }
+
+    /**
+     * Handles CropFieldDeletedEvent.
+     *
+     * @param event the CropFieldDeletedEvent containing the cropFieldId
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(CropFieldDeletedEvent event) {
+        cropCycleAnalyticsCache.markChanged(event.getCropFieldId());
+    }
+}
@@ -0,0 +1,30 @@
+package com.agroapp.platform.plants.application.internal.eventhandlers;
+
+import com.agroapp.platform.iam.domain.model.events.UserSignedInEvent;
+import com.agroapp.platform.plants.application.internal.workingset.FarmWorkingSetCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Event handler that prefetches the farm working set of users signing in through the IAM bounded context.
+ * The prefetch runs in the background, so it never delays the sign-in response.
+ */
+@Component
+public class FarmWorkingSetEventHandler {
+
+    private final FarmWorkingSetCache farmWorkingSetCache;
+
+    public FarmWorkingSetEventHandler(FarmWorkingSetCache farmWorkingSetCache) {
+        this.farmWorkingSetCache = farmWorkingSetCache;
+    }
+
+    /**
+     * Handles UserSignedInEvent from IAM context.
+     *
+     * @param event the UserSignedInEvent containing userId
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(UserSignedInEvent event) {
+        farmWorkingSetCache.prefetch(event.getUserId());
+    }
+}
@@ -0,0 +1,31 @@
+package com.agroapp.platform.plants.application.internal.eventhandlers;
+
+import com.agroapp.platform.iam.domain.model.events.UserDeletedEvent;
+import com.agroapp.platform.plants.application.internal.purge.PlantsUserDataPurger;
+import com.agroapp.platform.shared.application.internal.purge.UserDataPurgeWorker;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Event handler that removes the plants data of users deleted in the IAM bounded context.
+ * Runs after commit and only schedules the purge, so deleting a user returns without waiting on it.
+ */
+@Component("plantsUserDataPurgeEventHandler")
+public class UserDataPurgeEventHandler {
+
+    private final UserDataPurgeWorker userDataPurgeWorker;
+
+    public UserDataPurgeEventHandler(UserDataPurgeWorker userDataPurgeWorker) {
+        this.userDataPurgeWorker = userDataPurgeWorker;
+    }
+
+    /**
+     * Handles UserDeletedEvent from IAM context.
+     *
+     * @param event the UserDeletedEvent containing userId
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(UserDeletedEvent event) {
+        userDataPurgeWorker.schedule(PlantsUserDataPurger.SCOPE, event.getUserId());
+    }
+}
@@ -0,0 +1,66 @@
+package com.agroapp.platform.plants.application.internal.irrigation;
+
+/**
+ * Structure-of-arrays layout of an irrigation calculation.
+ * Inputs and outputs are kept in parallel primitive arrays so calculators run over contiguous memory
+ * without boxing; index i of every array describes the same field.
+ */
+public final class IrrigationBatch {
+
+    private final int size;
+    final double[] areaHectares;
+    final double[] cropCoefficients;
+    final double[] daysSinceWatering;
+    final double[] dailyRequirements;
+    final double[] accumulatedDeficits;
+
+    public IrrigationBatch(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Batch size cannot be negative");
+        }
+        this.size = size;
+        this.areaHectares = new double[size];
+        this.cropCoefficients = new double[size];
+        this.daysSinceWatering = new double[size];
+        this.dailyRequirements = new double[size];
+        this.accumulatedDeficits = new double[size];
+    }
+
+    /**
+     * Sets the inputs of one field.
+     *
+     * @param index the position in the batch
+     * @param areaHectares the field area in hectares
+     * @param cropCoefficient the crop coefficient (Kc)
+     * @param daysSinceWatering days since the last watering
+     */
+    public void set(int index, double areaHectares, double cropCoefficient, double daysSinceWatering) {
+        this.areaHectares[index] = areaHectares;
+        this.cropCoefficients[index] = cropCoefficient;
+        this.daysSinceWatering[index] = daysSinceWatering;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double areaHectares(int index) {
+        return areaHectares[index];
+    }
+
+    public double cropCoefficient(int index) {
+        return cropCoefficients[index];
+    }
+
+    public double daysSinceWatering(int index) {
+        return daysSinceWatering[index];
+    }
+
+    public double dailyRequirement(int index) {
+        return dailyRequirements[index];
+    }
+
+    public double accumulatedDeficit(int index) {
+        return accumulatedDeficits[index];
+    }
+}
@@ -0,0 +1,24 @@
+package com.agroapp.platform.plants.application.internal.irrigation;
+
+/**
+ * Batch irrigation requirement calculator.
+ * For every field i of the batch:
+ * dailyRequirement = ET0 (mm/day) x 10 m3/(mm ha) x area (ha) x Kc, and
+ * accumulatedDeficit = dailyRequirement x daysSinceWatering.
+ * Implementations must produce identical results; they only differ in how the loop is executed.
+ */
+public interface IrrigationCalculator {
+
+    /**
+     * One millimeter of water over one hectare, in cubic meters.
+     */
+    double CUBIC_METERS_PER_MM_HECTARE = 10.0;
+
+    /**
+     * Fills the output arrays of the batch.
+     *
+     * @param batch the batch with its inputs set
+     * @param referenceEvapotranspirationMm the reference evapotranspiration (ET0) in mm per day
+     */
+    void calculate(IrrigationBatch batch, double referenceEvapotranspirationMm);
+}
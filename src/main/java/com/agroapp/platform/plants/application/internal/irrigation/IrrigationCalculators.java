@@ -0,0 +1,48 @@
+package com.agroapp.platform.plants.application.internal.irrigation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Factory of irrigation calculators.
+ * The vectorized calculator needs the JVM to be started with --add-modules jdk.incubator.vector;
+ * without it the scalar calculator is used, so the application runs on any JVM.
+ */
+public final class IrrigationCalculators {
+
+    private static final Logger logger = LoggerFactory.getLogger(IrrigationCalculators.class);
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private IrrigationCalculators() {
+    }
+
+    /**
+     * Returns the fastest calculator available on this JVM.
+     *
+     * @return the vectorized calculator if the Vector API is available, the scalar one otherwise
+     */
+    public static IrrigationCalculator preferred() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                // Loaded reflectively so the Vector API classes are never linked when the module is absent
+                return (IrrigationCalculator) Class
+                        .forName(IrrigationCalculators.class.getPackageName() + ".VectorIrrigationCalculator")
+                        .getDeclaredConstructor()
+                        .newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                logger.warn("Vector API present but unusable, falling back to scalar irrigation calculator: {}", e.toString());
+            }
+        }
+        return scalar();
+    }
+
+    /**
+     * Returns the scalar calculator.
+     *
+     * @return the scalar calculator
+     */
+    public static IrrigationCalculator scalar() {
+        return new ScalarIrrigationCalculator();
+    }
+}
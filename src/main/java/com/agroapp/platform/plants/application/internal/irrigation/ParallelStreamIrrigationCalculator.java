@@ -0,0 +1,19 @@
+package com.agroapp.platform.plants.application.internal.irrigation;
+
+import java.util.stream.IntStream;
+
+/**
+ * Parallel-stream implementation, kept as a benchmark baseline.
+ */
+final class ParallelStreamIrrigationCalculator implements IrrigationCalculator {
+
+    @Override
+    public void calculate(IrrigationBatch batch, double referenceEvapotranspirationMm) {
+        double factor = referenceEvapotranspirationMm * CUBIC_METERS_PER_MM_HECTARE;
+        IntStream.range(0, batch.size()).parallel().forEach(i -> {
+            double daily = batch.areaHectares[i] * batch.cropCoefficients[i] * factor;
+            batch.dailyRequirements[i] = daily;
+            batch.accumulatedDeficits[i] = daily * batch.daysSinceWatering[i];
+        });
+    }
+}
@@ -0,0 +1,20 @@
+package com.agroapp.platform.plants.application.internal.irrigation;
+
+/**
+ * Plain loop implementation; the fallback when the Vector API is not available.
+ */
+final class ScalarIrrigationCalculator implements IrrigationCalculator {
+
+    @Override
+    public void calculate(IrrigationBatch batch, double referenceEvapotranspirationMm) {
+        calculateRange(batch, referenceEvapotranspirationMm * CUBIC_METERS_PER_MM_HECTARE, 0, batch.size());
+    }
+
+    static void calculateRange(IrrigationBatch batch, double factor, int from, int to) {
+        for (int i = from; i < to; i++) {
+            double daily = batch.areaHectares[i] * batch.cropCoefficients[i] * factor;
+            batch.dailyRequirements[i] = daily;
+            batch.accumulatedDeficits[i] = daily * batch.daysSinceWatering[i];
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.agroapp.platform.plants.application.internal.irrigation;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementation on the jdk.incubator.vector API.
+ * Processes as many fields per instruction as the preferred vector species holds and finishes the tail
+ * with the scalar loop. Only loaded through {@link IrrigationCalculators} when the incubator module is present.
+ */
+final class VectorIrrigationCalculator implements IrrigationCalculator {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void calculate(IrrigationBatch batch, double referenceEvapotranspirationMm) {
+        double factor = referenceEvapotranspirationMm * CUBIC_METERS_PER_MM_HECTARE;
+        int upperBound = SPECIES.loopBound(batch.size());
+        int i = 0;
+        for (; i < upperBound; i += SPECIES.length()) {
+            var area = DoubleVector.fromArray(SPECIES, batch.areaHectares, i);
+            var cropCoefficient = DoubleVector.fromArray(SPECIES, batch.cropCoefficients, i);
+            var days = DoubleVector.fromArray(SPECIES, batch.daysSinceWatering, i);
+            var daily = area.mul(cropCoefficient).mul(factor);
+            daily.intoArray(batch.dailyRequirements, i);
+            daily.mul(days).intoArray(batch.accumulatedDeficits, i);
+        }
+        ScalarIrrigationCalculator.calculateRange(batch, factor, i, batch.size());
+    }
+}
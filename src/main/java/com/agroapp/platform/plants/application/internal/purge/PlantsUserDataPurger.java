@@ -0,0 +1,98 @@
+package com.agroapp.platform.plants.application.internal.purge;
+
+import com.agroapp.platform.plants.application.internal.analytics.CropCycleAnalyticsCache;
+import com.agroapp.platform.plants.application.internal.workingset.FarmWorkingSetCache;
+import com.agroapp.platform.plants.domain.model.events.PlantsDataPurgedEvent;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.CropFieldRepository;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.FieldRepository;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.ProgressHistoryRepository;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.TaskRepository;
+import com.agroapp.platform.shared.application.internal.purge.UserDataPurger;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Removes a deleted user's fields with their tasks, crop fields and progress histories.
+ * Each chunk deletes at most {@link #CHUNK_SIZE} rows of one table with one set-based statement, children
+ * first: tasks, then progress histories, then crop fields, then the fields themselves, so a field with many
+ * tasks never makes a chunk unbounded. Every chunk publishes a {@link PlantsDataPurgedEvent} in its
+ * transaction, so offline clients are told about the deleted rows like about any other deletion.
+ */
+@Component
+public class PlantsUserDataPurger implements UserDataPurger {
+
+    public static final String SCOPE = "plants";
+    static final int CHUNK_SIZE = 500;
+
+    private final FieldRepository fieldRepository;
+    private final TaskRepository taskRepository;
+    private final CropFieldRepository cropFieldRepository;
+    private final ProgressHistoryRepository progressHistoryRepository;
+    private final CropCycleAnalyticsCache cropCycleAnalyticsCache;
+    private final FarmWorkingSetCache farmWorkingSetCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PlantsUserDataPurger(FieldRepository fieldRepository, TaskRepository taskRepository,
+                                CropFieldRepository cropFieldRepository,
+                                ProgressHistoryRepository progressHistoryRepository,
+                                CropCycleAnalyticsCache cropCycleAnalyticsCache,
+                                FarmWorkingSetCache farmWorkingSetCache,
+                                ApplicationEventPublisher eventPublisher) {
+        this.fieldRepository = fieldRepository;
+        this.taskRepository = taskRepository;
+        this.cropFieldRepository = cropFieldRepository;
+        this.progressHistoryRepository = progressHistoryRepository;
+        this.cropCycleAnalyticsCache = cropCycleAnalyticsCache;
+        this.farmWorkingSetCache = farmWorkingSetCache;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public String scope() {
+        return SCOPE;
+    }
+
+    @Override
+    public int purgeChunk(Long userId) {
+        var chunk = PageRequest.of(0, CHUNK_SIZE);
+        List<Long> taskIds = taskRepository.findIdsByOwnerUserId(userId, chunk);
+        if (!taskIds.isEmpty()) {
+            return purged(userId, taskRepository.deleteByIds(taskIds), List.of(), List.of(), List.of(), taskIds);
+        }
+        List<Long> progressHistoryIds = progressHistoryRepository.findIdsByOwnerUserId(userId, chunk);
+        if (!progressHistoryIds.isEmpty()) {
+            return purged(userId, progressHistoryRepository.deleteByIds(progressHistoryIds),
+                    List.of(), List.of(), progressHistoryIds, List.of());
+        }
+        List<Long> cropFieldIds = cropFieldRepository.findIdsByOwnerUserId(userId, chunk);
+        if (!cropFieldIds.isEmpty()) {
+            // The analytics re-read changed crop fields, so they must only learn about committed deletions
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cropFieldIds.forEach(cropCycleAnalyticsCache::markChanged);
+                }
+            });
+            return purged(userId, cropFieldRepository.deleteByIds(cropFieldIds),
+                    List.of(), cropFieldIds, List.of(), List.of());
+        }
+        List<Long> fieldIds = fieldRepository.findIdsByUserId(userId, chunk);
+        if (!fieldIds.isEmpty()) {
+            return purged(userId, fieldRepository.deleteByIds(fieldIds), fieldIds, List.of(), List.of(), List.of());
+        }
+        return 0;
+    }
+
+    private int purged(Long userId, int deleted, List<Long> fieldIds, List<Long> cropFieldIds,
+                       List<Long> progressHistoryIds, List<Long> taskIds) {
+        farmWorkingSetCache.invalidate(userId);
+        eventPublisher.publishEvent(new PlantsDataPurgedEvent(this, userId, fieldIds, cropFieldIds,
+                progressHistoryIds, taskIds));
+        return deleted;
+    }
+}
@@ -0,0 +1,22 @@
+package com.agroapp.platform.plants.application.internal.queryservices;
+
+import com.agroapp.platform.plants.application.internal.analytics.CropCycleAnalyticsCache;
+import com.agroapp.platform.plants.domain.model.queries.GetCropCycleAnalyticsQuery;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropCycleAnalytics;
+import com.agroapp.platform.plants.domain.services.CropAnalyticsQueryService;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CropAnalyticsQueryServiceImpl implements CropAnalyticsQueryService {
+
+    private final CropCycleAnalyticsCache cropCycleAnalyticsCache;
+
+    public CropAnalyticsQueryServiceImpl(CropCycleAnalyticsCache cropCycleAnalyticsCache) {
+        this.cropCycleAnalyticsCache = cropCycleAnalyticsCache;
+    }
+
+    @Override
+    public CropCycleAnalytics handle(GetCropCycleAnalyticsQuery query) {
+        return cropCycleAnalyticsCache.current();
+    }
+}
@@ -0,0 +1,95 @@
+package com.agroapp.platform.plants.application.internal.queryservices;
+
+import com.agroapp.platform.plants.application.internal.irrigation.IrrigationBatch;
+import com.agroapp.platform.plants.application.internal.irrigation.IrrigationCalculator;
+import com.agroapp.platform.plants.application.internal.irrigation.IrrigationCalculators;
+import com.agroapp.platform.plants.domain.model.queries.GetIrrigationRequirementsQuery;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropCoefficient;
+import com.agroapp.platform.plants.domain.model.valueobjects.IrrigationInputRow;
+import com.agroapp.platform.plants.domain.model.valueobjects.IrrigationPlan;
+import com.agroapp.platform.plants.domain.model.valueobjects.IrrigationRequirement;
+import com.agroapp.platform.plants.domain.services.IrrigationQueryService;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.FieldRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@Service
+public class IrrigationQueryServiceImpl implements IrrigationQueryService {
+
+    /**
+     * Deficit window: a field never watered, or not watered for longer, counts this many days.
+     */
+    static final double MAX_DEFICIT_DAYS = 14.0;
+
+    private final FieldRepository fieldRepository;
+    private final IrrigationCalculator irrigationCalculator = IrrigationCalculators.preferred();
+
+    public IrrigationQueryServiceImpl(FieldRepository fieldRepository) {
+        this.fieldRepository = fieldRepository;
+    }
+
+    @Override
+    public IrrigationPlan handle(GetIrrigationRequirementsQuery query) {
+        // One extra row tells whether another page follows
+        long afterFieldId = query.afterFieldId() == null ? 0L : query.afterFieldId();
+        List<IrrigationInputRow> rows = fieldRepository.findIrrigationInputs(toLocationPattern(query.region()),
+                afterFieldId, PageRequest.of(0, query.limit() + 1));
+        Long nextAfterFieldId = null;
+        if (rows.size() > query.limit()) {
+            rows = rows.subList(0, query.limit());
+            nextAfterFieldId = rows.getLast().fieldId();
+        }
+
+        // Lay the inputs out in primitive arrays for the batch calculator
+        var now = LocalDateTime.now();
+        var batch = new IrrigationBatch(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            var row = rows.get(i);
+            batch.set(i, row.areaHectares(), CropCoefficient.forCrop(row.crop()).value(), daysSince(row.lastWatered(), now));
+        }
+        irrigationCalculator.calculate(batch, query.referenceEvapotranspirationMm());
+
+        var requirements = new ArrayList<IrrigationRequirement>(rows.size());
+        double totalDaily = 0;
+        double totalDeficit = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            totalDaily += batch.dailyRequirement(i);
+            totalDeficit += batch.accumulatedDeficit(i);
+            requirements.add(new IrrigationRequirement(
+                    rows.get(i).fieldId(),
+                    batch.areaHectares(i),
+                    batch.cropCoefficient(i),
+                    batch.daysSinceWatering(i),
+                    batch.dailyRequirement(i),
+                    batch.accumulatedDeficit(i)
+            ));
+        }
+        return new IrrigationPlan(query.referenceEvapotranspirationMm(), totalDaily, totalDeficit, requirements,
+                nextAfterFieldId);
+    }
+
+    private static double daysSince(LocalDateTime lastWatered, LocalDateTime now) {
+        if (lastWatered == null) {
+            return MAX_DEFICIT_DAYS;
+        }
+        double days = Duration.between(lastWatered, now).toMinutes() / (24.0 * 60);
+        return Math.clamp(days, 0.0, MAX_DEFICIT_DAYS);
+    }
+
+    private static String toLocationPattern(String region) {
+        if (region == null || region.isBlank()) {
+            return null;
+        }
+        String escaped = region.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,194 @@
+package com.agroapp.platform.plants.application.internal.workingset;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.FarmWorkingSet;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.CropFieldRepository;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.FieldRepository;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.ProgressHistoryRepository;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.TaskRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Short-lived per-user cache of the farm working set, the fields, crop fields, progress histories and tasks
+ * the first screen requests right after sign-in (published as the "plants.working-sets" cache metrics).
+ * A sign-in starts loading the user's set on a virtual thread with four set-based queries in one read-only
+ * transaction, so the burst of first-screen requests that follows is served from memory instead of one
+ * query per field each. Requests arriving while the set is still loading wait for it briefly, then fall back
+ * to the database.
+ * Plants commands invalidate the set of the field's owner once they commit; the owner of a field is known
+ * from the cached sets, and a change to a field no cached set knows about drops the sets still loading.
+ */
+@Component
+public class FarmWorkingSetCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(FarmWorkingSetCache.class);
+
+    private static final long WORKING_SET_CACHE_SIZE = 5_000;
+
+    private final FieldRepository fieldRepository;
+    private final CropFieldRepository cropFieldRepository;
+    private final ProgressHistoryRepository progressHistoryRepository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration maxWait;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("plants-working-set-", 0).factory());
+    private final AsyncCache<Long, FarmWorkingSet> workingSets;
+    private final Cache<Long, Long> ownersByFieldId;
+    private final Set<Long> loadingUserIds = ConcurrentHashMap.newKeySet();
+
+    public FarmWorkingSetCache(FieldRepository fieldRepository, CropFieldRepository cropFieldRepository,
+                               ProgressHistoryRepository progressHistoryRepository, TaskRepository taskRepository,
+                               PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                               @Value("${plants.working-set.ttl-seconds:60}") long ttlSeconds,
+                               @Value("${plants.working-set.max-wait-ms:250}") long maxWaitMillis) {
+        this.fieldRepository = fieldRepository;
+        this.cropFieldRepository = cropFieldRepository;
+        this.progressHistoryRepository = progressHistoryRepository;
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.maxWait = Duration.ofMillis(maxWaitMillis);
+        this.workingSets = Caffeine.newBuilder()
+                .maximumSize(WORKING_SET_CACHE_SIZE)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .executor(executor)
+                .recordStats()
+                .buildAsync();
+        // Owners outlive the sets they were read from, so a change is never missed while its set is cached
+        this.ownersByFieldId = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds * 2))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, workingSets.synchronous(), "plants.working-sets");
+    }
+
+    /**
+     * Starts loading a user's working set in the background unless it is cached or loading already.
+     * Returns immediately.
+     *
+     * @param userId the user who signed in
+     */
+    public void prefetch(Long userId) {
+        if (userId != null) {
+            workingSets.get(userId, this::load);
+        }
+    }
+
+    /**
+     * Gets a user's working set if it was prefetched, waiting briefly for one still loading.
+     *
+     * @param userId the owner of the fields
+     * @return the working set, or empty if the caller should query the database
+     */
+    public Optional<FarmWorkingSet> find(Long userId) {
+        CompletableFuture<FarmWorkingSet> future = userId == null ? null : workingSets.getIfPresent(userId);
+        if (future == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (ExecutionException | TimeoutException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Gets the working set holding a field, if its owner's set was prefetched.
+     *
+     * @param fieldId the field ID
+     * @return the working set of the field's owner, or empty if the caller should query the database
+     */
+    public Optional<FarmWorkingSet> findByFieldId(Long fieldId) {
+        Long userId = fieldId == null ? null : ownersByFieldId.getIfPresent(fieldId);
+        return userId == null ? Optional.empty() : find(userId).filter(workingSet -> workingSet.field(fieldId).isPresent());
+    }
+
+    /**
+     * Drops a user's working set once the current transaction commits, or right away outside of one.
+     * Called when a field is added to the user.
+     *
+     * @param userId the owner of the fields
+     */
+    public void invalidate(Long userId) {
+        afterCommit(() -> workingSets.synchronous().invalidate(userId));
+    }
+
+    /**
+     * Drops the working set holding a field once the current transaction commits, or right away outside of one.
+     * Called when a crop field, progress history or task of the field changes.
+     *
+     * @param fieldId the field ID
+     */
+    public void invalidateField(Long fieldId) {
+        afterCommit(() -> {
+            Long userId = ownersByFieldId.getIfPresent(fieldId);
+            if (userId != null) {
+                workingSets.synchronous().invalidate(userId);
+            } else {
+                // Only a set still loading can miss the field; it may have read the state before this change
+                workingSets.synchronous().invalidateAll(Set.copyOf(loadingUserIds));
+            }
+        });
+    }
+
+    private FarmWorkingSet load(Long userId) {
+        loadingUserIds.add(userId);
+        try {
+            var workingSet = transactionTemplate.execute(status -> FarmWorkingSet.of(
+                    userId,
+                    fieldRepository.findByUserId(userId),
+                    cropFieldRepository.findByOwnerUserId(userId),
+                    progressHistoryRepository.findByOwnerUserId(userId),
+                    taskRepository.findByOwnerUserId(userId)));
+            workingSet.fields().forEach(field -> ownersByFieldId.put(field.getId(), userId));
+            logger.debug("Prefetched {} fields of user {}", workingSet.fields().size(), userId);
+            return workingSet;
+        } finally {
+            loadingUserIds.remove(userId);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,5 +1,6 @@
 package com.agroapp.platform.plants.domain.model.aggregates;
 
+import com.agroapp.platform.plants.domain.model.valueobjects.FieldArea;
 import com.agroapp.platform.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -12,6 +13,9 @@ import lombok.Getter;
  */
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_fields_user_id_updated_at", columnList = "userId, updatedAt, id")
+})
 public class Field extends AuditableAbstractAggregateRoot<Field> {
 
     @Column(nullable = false)
@@ -30,6 +34,11 @@ public class Field extends AuditableAbstractAggregateRoot<Field> {
     private String location;
     private String fieldSize;
 
+    /**
+     * Area in hectares parsed from fieldSize; null when the size text holds no recognizable number.
+     */
+    private Double areaHectares;
+
     /**
      * Default constructor required by JPA.
      */
@@ -55,6 +64,7 @@ public class Field extends AuditableAbstractAggregateRoot<Field> {
         this.name = name;
         this.location = location;
         this.fieldSize = fieldSize;
+        this.areaHectares = parseArea(fieldSize);
     }
 
     /**
@@ -70,6 +80,7 @@ public class Field extends AuditableAbstractAggregateRoot<Field> {
         this.name = name;
         this.location = location;
         this.fieldSize = fieldSize;
+        this.areaHectares = parseArea(fieldSize);
         return this;
     }
 
@@ -94,5 +105,8 @@ public class Field extends AuditableAbstractAggregateRoot<Field> {
     public boolean belongsToUser(Long userId) {
         return this.userId.equals(userId);
     }
-}
 
+    private static Double parseArea(String fieldSize) {
+        return FieldArea.parse(fieldSize).map(FieldArea::hectares).orElse(null);
+    }
+}
@@ -13,6 +13,10 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_tasks_field_id", columnList = "fieldId"),
+        @Index(name = "idx_tasks_updated_at", columnList = "updatedAt, id")
+})
 public class Task extends AuditableAbstractAggregateRoot<Task> {
 
     @Column(nullable = false)
@@ -0,0 +1,17 @@
+package com.agroapp.platform.plants.domain.model.commands;
+
+import java.util.List;
+
+/**
+ * Command to execute an ordered list of operations atomically.
+ * Part of CQRS pattern - all operations commit or roll back together.
+ */
+public record BatchCommand(List<BatchOperation> operations) {
+
+    public BatchCommand {
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one operation");
+        }
+        operations = List.copyOf(operations);
+    }
+}
@@ -0,0 +1,29 @@
+package com.agroapp.platform.plants.domain.model.commands;
+
+/**
+ * One step of a BatchCommand.
+ * Every operation may declare a client-chosen ref; operations that need a field may point
+ * at a field created earlier in the same batch through its fieldRef instead of a fieldId.
+ */
+public sealed interface BatchOperation {
+
+    String ref();
+
+    /**
+     * Creates a Field (and its ProgressHistory).
+     */
+    record CreateField(String ref, CreateFieldCommand command) implements BatchOperation {
+    }
+
+    /**
+     * Creates a CropField, optionally for a field created earlier in the batch.
+     */
+    record CreateCropField(String ref, String fieldRef, CreateCropFieldCommand command) implements BatchOperation {
+    }
+
+    /**
+     * Creates a Task, optionally for a field created earlier in the batch.
+     */
+    record CreateTask(String ref, String fieldRef, CreateTaskCommand command) implements BatchOperation {
+    }
+}
@@ -0,0 +1,87 @@
+package com.agroapp.platform.plants.domain.model.entities;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropAttributeKind;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * CropAttribute Entity
+ * One entry of the crop attribute catalog: a distinct crop name, soil type, sunlight or watering value.
+ * CropField rows store the small integer id of the entry instead of repeating the text.
+ * Entries are matched case- and accent-insensitively through their normalized value and are never updated.
+ */
+@Entity
+@Getter
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_crop_attributes_kind_normalized_value", columnNames = {"kind", "normalized_value"})
+})
+public class CropAttribute {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CropAttributeKind kind;
+
+    /**
+     * Value as first written, with surrounding and repeated whitespace removed.
+     */
+    @Column(nullable = false)
+    private String displayName;
+
+    @Column(name = "normalized_value", nullable = false)
+    private String normalizedValue;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public CropAttribute() {
+    }
+
+    /**
+     * Creates a new catalog entry.
+     *
+     * @param kind The attribute kind
+     * @param value The value as written by the user
+     */
+    public CropAttribute(CropAttributeKind kind, String value) {
+        if (kind == null) {
+            throw new IllegalArgumentException("Crop attribute kind cannot be null");
+        }
+        String normalized = normalize(value);
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("Crop attribute value cannot be blank");
+        }
+        this.kind = kind;
+        this.displayName = collapseWhitespace(value);
+        this.normalizedValue = normalized;
+    }
+
+    /**
+     * Normalizes a value for matching: trimmed, whitespace collapsed, lower case and without accents.
+     * "  Maíz  Amarillo" and "maiz amarillo" normalize to the same value.
+     *
+     * @param value The raw value (nullable)
+     * @return The normalized value, empty for null or blank input
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(collapseWhitespace(value), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static String collapseWhitespace(String value) {
+        return WHITESPACE.matcher(value.strip()).replaceAll(" ");
+    }
+}
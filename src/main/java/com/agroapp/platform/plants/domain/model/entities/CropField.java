@@ -1,6 +1,10 @@
 package com.agroapp.platform.plants.domain.model.entities;
 
 import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.dictionary.CropNameAttributeConverter;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.dictionary.SoilTypeAttributeConverter;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.dictionary.SunlightAttributeConverter;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.dictionary.WateringAttributeConverter;
 import com.agroapp.platform.shared.domain.model.entities.AuditableModel;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -11,9 +15,16 @@ import java.time.LocalDateTime;
  * CropField Entity (1:1 relationship with Field)
  * Represents the agricultural details of a field including crop type, soil conditions, and status.
  * Domain-driven design: encapsulates crop management business logic.
+ * Crop, soil type, sunlight and watering are stored as codes of the crop attribute catalog.
  */
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_crop_fields_field_id", columnList = "fieldId"),
+        @Index(name = "idx_crop_fields_updated_at", columnList = "updatedAt, id"),
+        @Index(name = "idx_crop_fields_crop_code", columnList = "crop_code"),
+        @Index(name = "idx_crop_fields_soil_type_code", columnList = "soil_type_code")
+})
 public class CropField extends AuditableModel {
 
     @Id
@@ -23,10 +34,22 @@ public class CropField extends AuditableModel {
     @Column(nullable = false)
     private Long fieldId;
 
+    @Convert(converter = CropNameAttributeConverter.class)
+    @Column(name = "crop_code")
     private String crop;
+
+    @Convert(converter = SoilTypeAttributeConverter.class)
+    @Column(name = "soil_type_code")
     private String soilType;
+
+    @Convert(converter = SunlightAttributeConverter.class)
+    @Column(name = "sunlight_code")
     private String sunlight;
+
+    @Convert(converter = WateringAttributeConverter.class)
+    @Column(name = "watering_code")
     private String watering;
+
     private LocalDateTime plantingDate;
     private LocalDateTime harvestDate;
 
@@ -14,6 +14,9 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_progress_histories_updated_at", columnList = "updatedAt, id")
+})
 public class ProgressHistory extends AuditableModel {
 
     @Id
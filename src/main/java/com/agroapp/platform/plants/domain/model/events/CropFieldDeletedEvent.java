@@ -0,0 +1,21 @@
+package com.agroapp.platform.plants.domain.model.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event triggered when a crop field is deleted.
+ * Contains the cropFieldId and its fieldId so other bounded contexts can record the deletion.
+ */
+@Getter
+public class CropFieldDeletedEvent extends ApplicationEvent {
+
+    private final Long cropFieldId;
+    private final Long fieldId;
+
+    public CropFieldDeletedEvent(Object source, Long cropFieldId, Long fieldId) {
+        super(source);
+        this.cropFieldId = cropFieldId;
+        this.fieldId = fieldId;
+    }
+}
@@ -0,0 +1,21 @@
+package com.agroapp.platform.plants.domain.model.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event triggered when a crop field is created or updated.
+ * Contains the cropFieldId and its fieldId so read models can refresh that single crop field.
+ */
+@Getter
+public class CropFieldSavedEvent extends ApplicationEvent {
+
+    private final Long cropFieldId;
+    private final Long fieldId;
+
+    public CropFieldSavedEvent(Object source, Long cropFieldId, Long fieldId) {
+        super(source);
+        this.cropFieldId = cropFieldId;
+        this.fieldId = fieldId;
+    }
+}
@@ -0,0 +1,30 @@
+package com.agroapp.platform.plants.domain.model.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * Event triggered when a chunk of a deleted user's plants data is purged.
+ * Contains the owner and the ids of the purged rows by kind, so other bounded contexts can record the deletions.
+ */
+@Getter
+public class PlantsDataPurgedEvent extends ApplicationEvent {
+
+    private final Long userId;
+    private final List<Long> fieldIds;
+    private final List<Long> cropFieldIds;
+    private final List<Long> progressHistoryIds;
+    private final List<Long> taskIds;
+
+    public PlantsDataPurgedEvent(Object source, Long userId, List<Long> fieldIds, List<Long> cropFieldIds,
+                                 List<Long> progressHistoryIds, List<Long> taskIds) {
+        super(source);
+        this.userId = userId;
+        this.fieldIds = List.copyOf(fieldIds);
+        this.cropFieldIds = List.copyOf(cropFieldIds);
+        this.progressHistoryIds = List.copyOf(progressHistoryIds);
+        this.taskIds = List.copyOf(taskIds);
+    }
+}
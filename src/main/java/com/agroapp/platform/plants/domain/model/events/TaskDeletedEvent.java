@@ -0,0 +1,21 @@
+package com.agroapp.platform.plants.domain.model.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event triggered when a task is deleted.
+ * Contains the taskId and its fieldId so other bounded contexts can record the deletion.
+ */
+@Getter
+public class TaskDeletedEvent extends ApplicationEvent {
+
+    private final Long taskId;
+    private final Long fieldId;
+
+    public TaskDeletedEvent(Object source, Long taskId, Long fieldId) {
+        super(source);
+        this.taskId = taskId;
+        this.fieldId = fieldId;
+    }
+}
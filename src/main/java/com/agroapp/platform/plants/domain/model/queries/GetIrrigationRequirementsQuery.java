@@ -0,0 +1,22 @@
+package com.agroapp.platform.plants.domain.model.queries;
+
+/**
+ * Query for one page of the irrigation requirements of the fields of a region, in field id order.
+ *
+ * @param region text matched against the field location, case-insensitively (null for all fields)
+ * @param referenceEvapotranspirationMm reference evapotranspiration (ET0) in mm per day
+ * @param afterFieldId id of the last field of the previous page (null for the first page)
+ * @param limit maximum number of fields
+ */
+public record GetIrrigationRequirementsQuery(String region, double referenceEvapotranspirationMm, Long afterFieldId,
+                                             int limit) {
+    public GetIrrigationRequirementsQuery {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Irrigation page limit must be positive");
+        }
+        if (referenceEvapotranspirationMm < 0 || Double.isNaN(referenceEvapotranspirationMm)
+                || Double.isInfinite(referenceEvapotranspirationMm)) {
+            throw new IllegalArgumentException("Reference evapotranspiration must be a non-negative number");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.agroapp.platform.plants.domain.model.valueobjects;
+
+/**
+ * Outcome of one operation of a batch.
+ *
+ * @param index Position of the operation in the batch
+ * @param ref Client-chosen reference of the operation (nullable)
+ * @param entity The Field, CropField or Task created by the operation
+ */
+public record BatchOperationResult(int index, String ref, Object entity) {
+}
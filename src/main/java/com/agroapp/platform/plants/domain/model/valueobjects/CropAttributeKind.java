@@ -0,0 +1,11 @@
+package com.agroapp.platform.plants.domain.model.valueobjects;
+
+/**
+ * Kinds of descriptive crop-field attributes kept in the crop attribute catalog.
+ */
+public enum CropAttributeKind {
+    Crop,
+    SoilType,
+    Sunlight,
+    Watering
+}
@@ -0,0 +1,49 @@
+package com.agroapp.platform.plants.domain.model.valueobjects;
+
+import com.agroapp.platform.plants.domain.model.entities.CropAttribute;
+
+import java.util.Map;
+
+/**
+ * CropCoefficient Value Object
+ * FAO-56 mid-season crop coefficient (Kc) used to scale reference evapotranspiration to a crop's water use.
+ * Crops are matched by their normalized catalog value; unknown crops use a neutral coefficient of 1.0.
+ */
+public record CropCoefficient(double value) {
+
+    public static final CropCoefficient DEFAULT = new CropCoefficient(1.0);
+
+    private static final Map<String, Double> MID_SEASON = Map.ofEntries(
+            Map.entry("maiz", 1.20), Map.entry("maize", 1.20), Map.entry("corn", 1.20),
+            Map.entry("papa", 1.15), Map.entry("potato", 1.15),
+            Map.entry("trigo", 1.15), Map.entry("wheat", 1.15),
+            Map.entry("arroz", 1.20), Map.entry("rice", 1.20),
+            Map.entry("quinua", 1.00), Map.entry("quinoa", 1.00),
+            Map.entry("tomate", 1.15), Map.entry("tomato", 1.15),
+            Map.entry("frijol", 1.15), Map.entry("bean", 1.15), Map.entry("beans", 1.15),
+            Map.entry("cebolla", 1.05), Map.entry("onion", 1.05),
+            Map.entry("lechuga", 1.00), Map.entry("lettuce", 1.00),
+            Map.entry("zanahoria", 1.05), Map.entry("carrot", 1.05),
+            Map.entry("cafe", 0.95), Map.entry("coffee", 0.95),
+            Map.entry("cana de azucar", 1.25), Map.entry("sugarcane", 1.25),
+            Map.entry("palta", 0.85), Map.entry("avocado", 0.85),
+            Map.entry("uva", 0.85), Map.entry("grape", 0.85)
+    );
+
+    public CropCoefficient {
+        if (value <= 0 || Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Crop coefficient must be a positive number");
+        }
+    }
+
+    /**
+     * Returns the coefficient of a crop.
+     *
+     * @param crop The crop name (nullable)
+     * @return The crop coefficient, DEFAULT when the crop is unknown
+     */
+    public static CropCoefficient forCrop(String crop) {
+        Double value = MID_SEASON.get(CropAttribute.normalize(crop));
+        return value == null ? DEFAULT : new CropCoefficient(value);
+    }
+}
@@ -0,0 +1,22 @@
+package com.agroapp.platform.plants.domain.model.valueobjects;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CropCycleAnalytics Value Object
+ * Snapshot of crop-cycle statistics over all crop fields.
+ *
+ * @param totalCropFields number of crop fields included
+ * @param crops per-crop statistics, most common crop first
+ * @param cropsPerSoilType soil type to crop to number of crop fields
+ * @param computedAt when this snapshot was produced
+ */
+public record CropCycleAnalytics(
+        long totalCropFields,
+        List<CropCycleStatistics> crops,
+        Map<String, Map<String, Long>> cropsPerSoilType,
+        Instant computedAt
+) {
+}
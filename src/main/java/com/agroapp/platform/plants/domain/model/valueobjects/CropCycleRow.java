@@ -0,0 +1,19 @@
+package com.agroapp.platform.plants.domain.model.valueobjects;
+
+import java.time.LocalDateTime;
+
+/**
+ * CropCycleRow Value Object
+ * Flat read model of one crop field and the size of its field, used as input for crop-cycle analytics.
+ * Built directly by a JPQL constructor expression so the analytics scan never hydrates entities.
+ */
+public record CropCycleRow(
+        Long cropFieldId,
+        String crop,
+        String soilType,
+        CropFieldStatus status,
+        LocalDateTime plantingDate,
+        LocalDateTime harvestDate,
+        String fieldSize
+) {
+}
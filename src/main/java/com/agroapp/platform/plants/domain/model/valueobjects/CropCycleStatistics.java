@@ -0,0 +1,24 @@
+package com.agroapp.platform.plants.domain.model.valueobjects;
+
+import java.util.Map;
+
+/**
+ * CropCycleStatistics Value Object
+ * Aggregated statistics of all crop fields growing the same crop.
+ * Duration figures are planting-to-harvest days and are null when no crop field has both dates.
+ */
+public record CropCycleStatistics(
+        String crop,
+        long cropFields,
+        Map<CropFieldStatus, Long> statusCounts,
+        double criticalShare,
+        double totalAreaHectares,
+        long fieldsWithKnownArea,
+        long cyclesWithDates,
+        Long minDurationDays,
+        Long medianDurationDays,
+        Long p90DurationDays,
+        Long maxDurationDays,
+        Double meanDurationDays
+) {
+}
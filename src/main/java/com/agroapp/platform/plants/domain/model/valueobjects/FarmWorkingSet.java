@@ -0,0 +1,63 @@
+package com.agroapp.platform.plants.domain.model.valueobjects;
+
+import com.agroapp.platform.plants.domain.model.aggregates.Field;
+import com.agroapp.platform.plants.domain.model.aggregates.Task;
+import com.agroapp.platform.plants.domain.model.entities.CropField;
+import com.agroapp.platform.plants.domain.model.entities.ProgressHistory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * FarmWorkingSet Value Object
+ * Everything the first screen shows for one user: their fields with each field's crop field,
+ * progress history and tasks, indexed by field.
+ *
+ * @param userId the owner of the fields
+ * @param fields the user's fields
+ * @param cropFieldsByFieldId the crop field of each field that has one
+ * @param progressHistoriesByFieldId the progress history of each field that has one
+ * @param tasksByFieldId the tasks of each field that has any
+ */
+public record FarmWorkingSet(
+        Long userId,
+        List<Field> fields,
+        Map<Long, CropField> cropFieldsByFieldId,
+        Map<Long, ProgressHistory> progressHistoriesByFieldId,
+        Map<Long, List<Task>> tasksByFieldId
+) {
+
+    public static FarmWorkingSet of(Long userId, List<Field> fields, Collection<CropField> cropFields,
+                                    Collection<ProgressHistory> progressHistories, Collection<Task> tasks) {
+        return new FarmWorkingSet(
+                userId,
+                List.copyOf(fields),
+                cropFields.stream().collect(Collectors.toUnmodifiableMap(
+                        CropField::getFieldId, Function.identity(), (first, second) -> first)),
+                progressHistories.stream().collect(Collectors.toUnmodifiableMap(
+                        ProgressHistory::getFieldId, Function.identity(), (first, second) -> first)),
+                tasks.stream().collect(Collectors.collectingAndThen(
+                        Collectors.groupingBy(Task::getFieldId, Collectors.toUnmodifiableList()), Map::copyOf))
+        );
+    }
+
+    public Optional<Field> field(Long fieldId) {
+        return fields.stream().filter(field -> field.getId().equals(fieldId)).findFirst();
+    }
+
+    public Optional<CropField> cropField(Long fieldId) {
+        return Optional.ofNullable(cropFieldsByFieldId.get(fieldId));
+    }
+
+    public Optional<ProgressHistory> progressHistory(Long fieldId) {
+        return Optional.ofNullable(progressHistoriesByFieldId.get(fieldId));
+    }
+
+    public List<Task> tasks(Long fieldId) {
+        return tasksByFieldId.getOrDefault(fieldId, List.of());
+    }
+}
@@ -0,0 +1,121 @@
+package com.agroapp.platform.plants.domain.model.valueobjects;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * FieldArea Value Object
+ * Numeric area of a field in hectares, parsed from the free-text field size entered by users
+ * (e.g. "5 ha", "2,5 hectáreas", "3000 m2", "1.500,75 m2", "10 acres"). A number without unit is read as hectares.
+ * Either '.' or ',' may be the decimal separator and the other one groups thousands. A single separator
+ * followed by exactly three digits ("1,000", "2.500") could be either, so such sizes are not parsed.
+ */
+public record FieldArea(double hectares) {
+
+    private static final Pattern SIZE_PATTERN = Pattern.compile(
+            "(\\d+(?:[.,]\\d+)*)\\s*(ha|hect[aá]reas?|hectares?|m2|m²|mts2|metros?(?:\\s+cuadrados)?|km2|km²|ac|acres?)?",
+            Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+
+    private static final double SQUARE_METERS_PER_HECTARE = 10_000.0;
+    private static final double HECTARES_PER_SQUARE_KILOMETER = 100.0;
+    private static final double HECTARES_PER_ACRE = 0.40468564224;
+
+    public FieldArea {
+        if (hectares < 0 || Double.isNaN(hectares) || Double.isInfinite(hectares)) {
+            throw new IllegalArgumentException("Field area must be a finite, non-negative number of hectares");
+        }
+    }
+
+    /**
+     * Parses a free-text field size into a FieldArea.
+     *
+     * @param fieldSize the size as typed by the user
+     * @return the parsed area, or empty when the text holds no recognizable or unambiguous number
+     */
+    public static Optional<FieldArea> parse(String fieldSize) {
+        if (fieldSize == null || fieldSize.isBlank()) {
+            return Optional.empty();
+        }
+        var matcher = SIZE_PATTERN.matcher(fieldSize.trim());
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        var number = parseNumber(matcher.group(1));
+        if (number.isEmpty()) {
+            return Optional.empty();
+        }
+        double value = number.get();
+        String unit = matcher.group(2) == null ? "ha" : matcher.group(2).toLowerCase(Locale.ROOT);
+
+        double hectares;
+        if (unit.startsWith("k")) {
+            hectares = value * HECTARES_PER_SQUARE_KILOMETER;
+        } else if (unit.startsWith("m")) {
+            hectares = value / SQUARE_METERS_PER_HECTARE;
+        } else if (unit.startsWith("ac")) {
+            hectares = value * HECTARES_PER_ACRE;
+        } else {
+            hectares = value;
+        }
+        return Optional.of(new FieldArea(hectares));
+    }
+
+    /**
+     * Reads a number whose decimal and thousands separators may each be '.' or ','.
+     *
+     * @return the number, or empty when its separators are malformed or ambiguous
+     */
+    private static Optional<Double> parseNumber(String number) {
+        int lastDot = number.lastIndexOf('.');
+        int lastComma = number.lastIndexOf(',');
+        if (lastDot < 0 && lastComma < 0) {
+            return Optional.of(Double.parseDouble(number));
+        }
+        char decimalSeparator;
+        char groupingSeparator;
+        if (lastDot >= 0 && lastComma >= 0) {
+            decimalSeparator = lastDot > lastComma ? '.' : ',';
+            groupingSeparator = lastDot > lastComma ? ',' : '.';
+        } else {
+            char separator = lastDot >= 0 ? '.' : ',';
+            int last = Math.max(lastDot, lastComma);
+            boolean grouped = number.indexOf(separator) != last;
+            if (!grouped && number.length() - last - 1 == 3 && !number.startsWith("0")) {
+                return Optional.empty();
+            }
+            decimalSeparator = grouped ? 0 : separator;
+            groupingSeparator = grouped ? separator : 0;
+        }
+        int decimalIndex = decimalSeparator == 0 ? -1 : number.lastIndexOf(decimalSeparator);
+        if (decimalIndex >= 0 && number.indexOf(decimalSeparator) != decimalIndex) {
+            return Optional.empty();
+        }
+        String integerPart = decimalIndex < 0 ? number : number.substring(0, decimalIndex);
+        if (groupingSeparator != 0 && integerPart.indexOf(groupingSeparator) >= 0) {
+            if (!isGroupedByThousands(integerPart, groupingSeparator)) {
+                return Optional.empty();
+            }
+            integerPart = integerPart.replace(String.valueOf(groupingSeparator), "");
+        }
+        String fraction = decimalIndex < 0 ? "" : "." + number.substring(decimalIndex + 1);
+        return Optional.of(Double.parseDouble(integerPart + fraction));
+    }
+
+    /**
+     * @return true when the digits are grouped like "1,234,567": one to three leading digits without a leading
+     * zero, then groups of exactly three digits
+     */
+    private static boolean isGroupedByThousands(String integerPart, char separator) {
+        int first = integerPart.indexOf(separator);
+        if (first < 1 || first > 3 || integerPart.charAt(0) == '0' || (integerPart.length() - first) % 4 != 0) {
+            return false;
+        }
+        for (int i = first; i < integerPart.length(); i++) {
+            if ((integerPart.charAt(i) == separator) != ((i - first) % 4 == 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,16 @@
+package com.agroapp.platform.plants.domain.model.valueobjects;
+
+import java.time.LocalDateTime;
+
+/**
+ * IrrigationInputRow Value Object
+ * Flat read model of one field with the inputs of the irrigation calculation.
+ * Built directly by a JPQL constructor expression so large scans never hydrate entities.
+ */
+public record IrrigationInputRow(
+        Long fieldId,
+        Double areaHectares,
+        String crop,
+        LocalDateTime lastWatered
+) {
+}
@@ -0,0 +1,22 @@
+package com.agroapp.platform.plants.domain.model.valueobjects;
+
+import java.util.List;
+
+/**
+ * IrrigationPlan Value Object
+ * Water requirements of one page of the fields of a region with their totals.
+ *
+ * @param referenceEvapotranspirationMm the reference evapotranspiration (ET0) used, in mm per day
+ * @param totalDailyRequirementCubicMeters sum of the daily requirements of the page
+ * @param totalAccumulatedDeficitCubicMeters sum of the accumulated deficits of the page
+ * @param requirements per-field requirements
+ * @param nextAfterFieldId id to pass as afterFieldId for the next page, or null on the last page
+ */
+public record IrrigationPlan(
+        double referenceEvapotranspirationMm,
+        double totalDailyRequirementCubicMeters,
+        double totalAccumulatedDeficitCubicMeters,
+        List<IrrigationRequirement> requirements,
+        Long nextAfterFieldId
+) {
+}
@@ -0,0 +1,22 @@
+package com.agroapp.platform.plants.domain.model.valueobjects;
+
+/**
+ * IrrigationRequirement Value Object
+ * Water requirement of one field.
+ *
+ * @param fieldId the field
+ * @param areaHectares the field area in hectares
+ * @param cropCoefficient the Kc used for the field's crop
+ * @param daysSinceWatering days since the last recorded watering, capped at the deficit window
+ * @param dailyRequirementCubicMeters water used by the crop per day (ET0 x Kc x area)
+ * @param accumulatedDeficitCubicMeters water used since the last watering
+ */
+public record IrrigationRequirement(
+        Long fieldId,
+        double areaHectares,
+        double cropCoefficient,
+        double daysSinceWatering,
+        double dailyRequirementCubicMeters,
+        double accumulatedDeficitCubicMeters
+) {
+}
@@ -0,0 +1,10 @@
+package com.agroapp.platform.plants.domain.services;
+
+import com.agroapp.platform.plants.domain.model.commands.BatchCommand;
+import com.agroapp.platform.plants.domain.model.valueobjects.BatchOperationResult;
+
+import java.util.List;
+
+public interface BatchCommandService {
+    List<BatchOperationResult> handle(BatchCommand command);
+}
@@ -0,0 +1,8 @@
+package com.agroapp.platform.plants.domain.services;
+
+import com.agroapp.platform.plants.domain.model.queries.GetCropCycleAnalyticsQuery;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropCycleAnalytics;
+
+public interface CropAnalyticsQueryService {
+    CropCycleAnalytics handle(GetCropCycleAnalyticsQuery query);
+}
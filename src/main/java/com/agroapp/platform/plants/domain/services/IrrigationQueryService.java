@@ -0,0 +1,8 @@
+package com.agroapp.platform.plants.domain.services;
+
+import com.agroapp.platform.plants.domain.model.queries.GetIrrigationRequirementsQuery;
+import com.agroapp.platform.plants.domain.model.valueobjects.IrrigationPlan;
+
+public interface IrrigationQueryService {
+    IrrigationPlan handle(GetIrrigationRequirementsQuery query);
+}
@@ -0,0 +1,31 @@
+package com.agroapp.platform.plants.infrastructure.persistence.jpa.dictionary;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropAttributeKind;
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * Stores a crop attribute as its catalog code and hydrates it as the shared catalog string.
+ * One subclass per attribute kind; instances are created by Spring so the dictionary is injected.
+ * Conversion is an in-memory lookup: values are registered in the catalog before the entity is persisted
+ * (see {@link CropAttributeDictionary#canonicalize}).
+ */
+public abstract class CropAttributeConverter implements AttributeConverter<String, Integer> {
+
+    private final CropAttributeDictionary dictionary;
+    private final CropAttributeKind kind;
+
+    protected CropAttributeConverter(CropAttributeDictionary dictionary, CropAttributeKind kind) {
+        this.dictionary = dictionary;
+        this.kind = kind;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(String attribute) {
+        return dictionary.codeOf(kind, attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer code) {
+        return dictionary.valueOf(code);
+    }
+}
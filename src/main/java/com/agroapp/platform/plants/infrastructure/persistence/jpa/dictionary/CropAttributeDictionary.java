@@ -0,0 +1,149 @@
+package com.agroapp.platform.plants.infrastructure.persistence.jpa.dictionary;
+
+import com.agroapp.platform.plants.domain.model.entities.CropAttribute;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropAttributeKind;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide dictionary of the crop attribute catalog.
+ * Maps catalog codes to a single shared String instance per entry, so every hydrated CropField
+ * references the same strings, and maps (kind, normalized value) back to codes for writes.
+ * New entries are registered by the command services before they persist a CropField, each with a single
+ * INSERT ... ON DUPLICATE KEY statement, so concurrent writers of the same value on any instance end up with
+ * the same entry without a lock. The converters only look codes up: nothing is written while a CropField is
+ * flushed. The catalog is append-only, so an entry whose CropField is never saved is merely unused.
+ */
+@Component
+public class CropAttributeDictionary {
+
+    private static final String SELECT_COLUMNS = "SELECT id, kind, display_name, normalized_value FROM crop_attributes";
+    private static final String INSERT_ENTRY =
+            "INSERT INTO crop_attributes (kind, display_name, normalized_value) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE id = id";
+
+    private record Key(CropAttributeKind kind, String normalizedValue) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Integer, String> valuesByCode = new ConcurrentHashMap<>();
+    private final Map<Key, Integer> codesByKey = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * The converters using this dictionary are created while the entity manager factory is built,
+     * so the JdbcTemplate is injected lazily.
+     */
+    public CropAttributeDictionary(@Lazy JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Returns the canonical catalog value matching the given value, registering it when new.
+     * Matching ignores case, accents and repeated whitespace.
+     * Called before the CropField holding the value is persisted, outside its transaction.
+     *
+     * @param kind The attribute kind
+     * @param value The value as written by the user (nullable)
+     * @return The shared canonical value, or null for null or blank input
+     */
+    public String canonicalize(CropAttributeKind kind, String value) {
+        Integer code = register(kind, value);
+        return code == null ? null : valueOf(code);
+    }
+
+    /**
+     * Returns the catalog code of the given value, registering it when new.
+     *
+     * @param kind The attribute kind
+     * @param value The value (nullable)
+     * @return The code, or null for null or blank input
+     */
+    public Integer register(CropAttributeKind kind, String value) {
+        String normalized = CropAttribute.normalize(value);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        ensureLoaded();
+        var key = new Key(kind, normalized);
+        Integer code = codesByKey.get(key);
+        if (code != null) {
+            return code;
+        }
+        var attribute = new CropAttribute(kind, value);
+        jdbcTemplate.update(INSERT_ENTRY, kind.name(), attribute.getDisplayName(), normalized);
+        // Reads the entry back, which may have been inserted first by another writer with another display name
+        jdbcTemplate.query(SELECT_COLUMNS + " WHERE kind = ? AND normalized_value = ?",
+                this::put, kind.name(), normalized);
+        return codesByKey.get(key);
+    }
+
+    /**
+     * Returns the catalog code of an already registered value, without touching the database.
+     *
+     * @param kind The attribute kind
+     * @param value The value (nullable)
+     * @return The code, or null for null or blank input
+     * @throws IllegalStateException if the value was not registered
+     */
+    public Integer codeOf(CropAttributeKind kind, String value) {
+        String normalized = CropAttribute.normalize(value);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        Integer code = codesByKey.get(new Key(kind, normalized));
+        if (code == null) {
+            throw new IllegalStateException("Crop attribute " + kind + " '" + value + "' was not registered before persisting");
+        }
+        return code;
+    }
+
+    /**
+     * Returns the shared value of a catalog code.
+     *
+     * @param code The catalog code (nullable)
+     * @return The shared value, or null for a null code
+     * @throws IllegalStateException if the code is not in the catalog
+     */
+    public String valueOf(Integer code) {
+        if (code == null) {
+            return null;
+        }
+        ensureLoaded();
+        String value = valuesByCode.get(code);
+        if (value == null) {
+            // Entry written by another instance since the catalog was loaded
+            jdbcTemplate.query(SELECT_COLUMNS + " WHERE id = ?", this::put, code);
+            value = valuesByCode.get(code);
+        }
+        if (value == null) {
+            throw new IllegalStateException("Unknown crop attribute code " + code);
+        }
+        return value;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (!loaded) {
+                jdbcTemplate.query(SELECT_COLUMNS, this::put);
+                loaded = true;
+            }
+        }
+    }
+
+    private void put(ResultSet row) throws SQLException {
+        int code = row.getInt("id");
+        valuesByCode.putIfAbsent(code, row.getString("display_name"));
+        codesByKey.putIfAbsent(new Key(CropAttributeKind.valueOf(row.getString("kind")), row.getString("normalized_value")), code);
+    }
+}
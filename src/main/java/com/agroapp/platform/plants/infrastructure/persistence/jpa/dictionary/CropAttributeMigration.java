@@ -0,0 +1,114 @@
+package com.agroapp.platform.plants.infrastructure.persistence.jpa.dictionary;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropAttributeKind;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One-off migration of the legacy free-text crop_fields columns to catalog codes.
+ * Before the catalog, crop, soil_type, sunlight and watering were VARCHAR columns. Schema update adds the
+ * *_code columns next to them; on startup every row without a code gets one, in id-range chunks so a large
+ * table is never locked by a single statement. The migration is idempotent and resumes where it stopped.
+ * Once no row is left to migrate, the legacy columns are dropped if plants.crop-attributes.drop-legacy-columns is set.
+ */
+@Component
+public class CropAttributeMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(CropAttributeMigration.class);
+
+    private static final String TABLE = "crop_fields";
+    private static final int CHUNK_SIZE = 10_000;
+
+    private static final Map<CropAttributeKind, String> LEGACY_COLUMNS = Map.of(
+            CropAttributeKind.Crop, "crop",
+            CropAttributeKind.SoilType, "soil_type",
+            CropAttributeKind.Sunlight, "sunlight",
+            CropAttributeKind.Watering, "watering"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CropAttributeDictionary cropAttributeDictionary;
+    private final boolean dropLegacyColumns;
+
+    public CropAttributeMigration(JdbcTemplate jdbcTemplate,
+                                  CropAttributeDictionary cropAttributeDictionary,
+                                  @Value("${plants.crop-attributes.drop-legacy-columns:false}") boolean dropLegacyColumns) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cropAttributeDictionary = cropAttributeDictionary;
+        this.dropLegacyColumns = dropLegacyColumns;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyColumns() {
+        LEGACY_COLUMNS.forEach((kind, legacyColumn) -> {
+            if (hasColumn(legacyColumn)) {
+                migrate(kind, legacyColumn, legacyColumn + "_code");
+            }
+        });
+    }
+
+    private void migrate(CropAttributeKind kind, String legacyColumn, String codeColumn) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + TABLE, Long.class);
+        long migrated = 0;
+        if (maxId != null) {
+            for (long from = 0; from < maxId; from += CHUNK_SIZE) {
+                long to = from + CHUNK_SIZE;
+                var values = jdbcTemplate.queryForList(
+                        "SELECT DISTINCT " + legacyColumn + " FROM " + TABLE +
+                                " WHERE id > ? AND id <= ? AND " + codeColumn + " IS NULL AND " + legacyColumn + " IS NOT NULL",
+                        String.class, from, to);
+                for (String value : values) {
+                    Integer code = cropAttributeDictionary.register(kind, value);
+                    if (code != null) {
+                        migrated += jdbcTemplate.update(
+                                "UPDATE " + TABLE + " SET " + codeColumn + " = ? WHERE id > ? AND id <= ? AND " +
+                                        codeColumn + " IS NULL AND " + legacyColumn + " = ?",
+                                code, from, to, value);
+                    }
+                }
+            }
+        }
+        if (migrated > 0) {
+            logger.info("Migrated {} crop_fields.{} values to catalog codes", migrated, legacyColumn);
+        }
+
+        if (dropLegacyColumns) {
+            Long pending = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + TABLE + " WHERE " + codeColumn + " IS NULL AND " +
+                            legacyColumn + " IS NOT NULL AND TRIM(" + legacyColumn + ") <> ''",
+                    Long.class);
+            if (pending != null && pending == 0) {
+                jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP COLUMN " + legacyColumn);
+                logger.info("Dropped legacy column crop_fields.{}", legacyColumn);
+            }
+        }
+    }
+
+    private boolean hasColumn(String column) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((Connection connection) -> {
+            var metaData = connection.getMetaData();
+            for (String table : new String[]{TABLE, TABLE.toUpperCase(Locale.ROOT)}) {
+                try (var columns = metaData.getColumns(connection.getCatalog(), null, table, null)) {
+                    while (columns.next()) {
+                        if (column.equalsIgnoreCase(columns.getString("COLUMN_NAME"))) {
+                            return true;
+                        }
+                    }
+                } catch (SQLException e) {
+                    logger.warn("Could not inspect columns of {}: {}", table, e.getMessage());
+                }
+            }
+            return false;
+        }));
+    }
+}
@@ -0,0 +1,12 @@
+package com.agroapp.platform.plants.infrastructure.persistence.jpa.dictionary;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropAttributeKind;
+import jakarta.persistence.Converter;
+
+@Converter
+public class SunlightAttributeConverter extends CropAttributeConverter {
+
+    public SunlightAttributeConverter(CropAttributeDictionary dictionary) {
+        super(dictionary, CropAttributeKind.Sunlight);
+    }
+}
@@ -0,0 +1,70 @@
+package com.agroapp.platform.plants.infrastructure.persistence.jpa.migration;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.FieldArea;
+import com.agroapp.platform.shared.domain.model.entities.CompletedBackfill;
+import com.agroapp.platform.shared.infrastructure.persistence.jpa.repositories.CompletedBackfillRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+
+/**
+ * Backfills fields.area_hectares for fields created before the column existed.
+ * Scans fields without an area in id order, parses their free-text size and updates them in JDBC batches.
+ * Sizes that cannot be parsed stay null. Idempotent: fields that already have an area are skipped.
+ * Once a scan completes, the backfill is marked completed and never runs again, so later startups do not rescan
+ * the sizes it could not parse; fields saved since get their area when written.
+ */
+@Component
+public class FieldAreaBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(FieldAreaBackfill.class);
+
+    static final String NAME = "plants-field-areas";
+    private static final int CHUNK_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompletedBackfillRepository completedBackfillRepository;
+
+    public FieldAreaBackfill(JdbcTemplate jdbcTemplate, CompletedBackfillRepository completedBackfillRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.completedBackfillRepository = completedBackfillRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillAreas() {
+        if (completedBackfillRepository.existsById(NAME)) {
+            return;
+        }
+        long lastId = 0;
+        long updated = 0;
+        while (true) {
+            var rows = jdbcTemplate.queryForList(
+                    "SELECT id, field_size FROM fields WHERE area_hectares IS NULL AND field_size IS NOT NULL AND id > ? " +
+                            "ORDER BY id LIMIT " + CHUNK_SIZE,
+                    lastId);
+            if (rows.isEmpty()) {
+                break;
+            }
+            var updates = new ArrayList<Object[]>(rows.size());
+            for (var row : rows) {
+                long id = ((Number) row.get("id")).longValue();
+                FieldArea.parse((String) row.get("field_size"))
+                        .ifPresent(area -> updates.add(new Object[]{area.hectares(), id}));
+                lastId = id;
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE fields SET area_hectares = ? WHERE id = ?", updates);
+                updated += updates.size();
+            }
+        }
+        completedBackfillRepository.save(new CompletedBackfill(NAME));
+        if (updated > 0) {
+            logger.info("Backfilled area_hectares of {} fields", updated);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories;
+
+import com.agroapp.platform.plants.domain.model.entities.CropAttribute;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropAttributeKind;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CropAttributeRepository extends JpaRepository<CropAttribute, Integer> {
+    Optional<CropAttribute> findByKindAndNormalizedValue(CropAttributeKind kind, String normalizedValue);
+}
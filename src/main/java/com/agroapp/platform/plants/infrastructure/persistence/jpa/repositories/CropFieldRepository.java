@@ -1,13 +1,84 @@
 package com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories;
 
 import com.agroapp.platform.plants.domain.model.entities.CropField;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropCycleRow;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CropFieldRepository extends JpaRepository<CropField, Long> {
     Optional<CropField> findByFieldId(Long fieldId);
-}
 
+    /**
+     * Finds the crop fields of a user's fields.
+     *
+     * @param userId the owner of the fields
+     * @return the user's crop fields
+     */
+    @Query("SELECT c FROM CropField c WHERE c.fieldId IN (SELECT f.id FROM Field f WHERE f.userId = :userId)")
+    List<CropField> findByOwnerUserId(@Param("userId") Long userId);
+
+    /**
+     * Finds the crop fields of a user's fields changed after the given (updatedAt, id) watermark.
+     *
+     * @param userId the owner of the fields
+     * @param since the updatedAt of the last row already delivered
+     * @param lastId the id of the last row already delivered
+     * @param pageable the page size (always the first page)
+     * @return the changed crop fields in watermark order
+     */
+    @Query("SELECT c FROM CropField c WHERE c.fieldId IN (SELECT f.id FROM Field f WHERE f.userId = :userId) " +
+            "AND (c.updatedAt > :since OR (c.updatedAt = :since AND c.id > :lastId)) " +
+            "ORDER BY c.updatedAt, c.id")
+    List<CropField> findChangedSince(@Param("userId") Long userId, @Param("since") Date since,
+                                     @Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * Streams every crop field with the size of its field as flat analytics rows.
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @return the rows of all crop fields
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT new com.agroapp.platform.plants.domain.model.valueobjects.CropCycleRow(" +
+            "c.id, c.crop, c.soilType, c.status, c.plantingDate, c.harvestDate, f.fieldSize) " +
+            "FROM CropField c LEFT JOIN Field f ON f.id = c.fieldId")
+    Stream<CropCycleRow> streamCropCycleRows();
+
+    /**
+     * Finds the analytics rows of the given crop fields.
+     *
+     * @param cropFieldIds the crop fields to load
+     * @return the rows of the crop fields that still exist
+     */
+    @Query("SELECT new com.agroapp.platform.plants.domain.model.valueobjects.CropCycleRow(" +
+            "c.id, c.crop, c.soilType, c.status, c.plantingDate, c.harvestDate, f.fieldSize) " +
+            "FROM CropField c LEFT JOIN Field f ON f.id = c.fieldId WHERE c.id IN :cropFieldIds")
+    List<CropCycleRow> findCropCycleRowsByIds(@Param("cropFieldIds") Collection<Long> cropFieldIds);
+
+    /**
+     * Finds the next crop fields of a user's fields, to purge them in bounded chunks.
+     *
+     * @param userId the owner
+     * @param pageable the chunk size (always the first page)
+     * @return the ids in id order
+     */
+    @Query("SELECT c.id FROM CropField c WHERE c.fieldId IN (SELECT f.id FROM Field f WHERE f.userId = :userId) ORDER BY c.id")
+    List<Long> findIdsByOwnerUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM CropField c WHERE c.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -1,13 +1,76 @@
 package com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories;
 
 import com.agroapp.platform.plants.domain.model.aggregates.Field;
+import com.agroapp.platform.plants.domain.model.valueobjects.IrrigationInputRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface FieldRepository extends JpaRepository<Field, Long> {
     List<Field> findByUserId(Long userId);
-}
 
+    /**
+     * Resolves the owner of a field without loading the whole aggregate.
+     *
+     * @param fieldId the field ID
+     * @return the owner's user ID if the field exists
+     */
+    @Query("SELECT f.userId FROM Field f WHERE f.id = :fieldId")
+    Optional<Long> findUserIdById(@Param("fieldId") Long fieldId);
+
+    /**
+     * Finds the fields of a user changed after the given (updatedAt, id) watermark.
+     * Keyset-ordered by (updatedAt, id) so it can be paginated without offsets.
+     *
+     * @param userId the owner of the fields
+     * @param since the updatedAt of the last row already delivered
+     * @param lastId the id of the last row already delivered
+     * @param pageable the page size (always the first page)
+     * @return the changed fields in watermark order
+     */
+    @Query("SELECT f FROM Field f WHERE f.userId = :userId " +
+            "AND (f.updatedAt > :since OR (f.updatedAt = :since AND f.id > :lastId)) " +
+            "ORDER BY f.updatedAt, f.id")
+    List<Field> findChangedSince(@Param("userId") Long userId, @Param("since") Date since,
+                                 @Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * Finds the irrigation inputs of every field with a known area, optionally restricted by location.
+     * The crop is that of the field's latest crop field and the last watering that of its progress history,
+     * each picked by a correlated subquery, so a field with several crop fields still yields exactly one row
+     * and a page never splits a field.
+     *
+     * @param locationPattern lower-case LIKE pattern matched against the field location (null for all fields)
+     * @return one row per field, in id order
+     */
+    @Query("SELECT new com.agroapp.platform.plants.domain.model.valueobjects.IrrigationInputRow(f.id, f.areaHectares, " +
+            "(SELECT c.crop FROM CropField c WHERE c.id = (SELECT MAX(c2.id) FROM CropField c2 WHERE c2.fieldId = f.id)), " +
+            "(SELECT p.watered FROM ProgressHistory p WHERE p.fieldId = f.id)) " +
+            "FROM Field f " +
+            "WHERE f.areaHectares IS NOT NULL " +
+            "AND (:locationPattern IS NULL OR LOWER(f.location) LIKE :locationPattern) " +
+            "AND f.id > :afterFieldId " +
+            "ORDER BY f.id")
+    List<IrrigationInputRow> findIrrigationInputs(@Param("locationPattern") String locationPattern,
+                                                  @Param("afterFieldId") Long afterFieldId, Pageable pageable);
+
+    /**
+     * Finds the ids of a user's fields in id order, a page at a time.
+     * Used to remove a deleted user's fields in bounded chunks.
+     */
+    @Query("SELECT f.id FROM Field f WHERE f.userId = :userId ORDER BY f.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Field f WHERE f.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -1,13 +1,57 @@
 package com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories;
 
 import com.agroapp.platform.plants.domain.model.entities.ProgressHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProgressHistoryRepository extends JpaRepository<ProgressHistory, Long> {
     Optional<ProgressHistory> findByFieldId(Long fieldId);
-}
 
+    /**
+     * Finds the progress histories of a user's fields.
+     *
+     * @param userId the owner of the fields
+     * @return the user's progress histories
+     */
+    @Query("SELECT p FROM ProgressHistory p WHERE p.fieldId IN (SELECT f.id FROM Field f WHERE f.userId = :userId)")
+    List<ProgressHistory> findByOwnerUserId(@Param("userId") Long userId);
+
+    /**
+     * Finds the progress histories of a user's fields changed after the given (updatedAt, id) watermark.
+     *
+     * @param userId the owner of the fields
+     * @param since the updatedAt of the last row already delivered
+     * @param lastId the id of the last row already delivered
+     * @param pageable the page size (always the first page)
+     * @return the changed progress histories in watermark order
+     */
+    @Query("SELECT p FROM ProgressHistory p WHERE p.fieldId IN (SELECT f.id FROM Field f WHERE f.userId = :userId) " +
+            "AND (p.updatedAt > :since OR (p.updatedAt = :since AND p.id > :lastId)) " +
+            "ORDER BY p.updatedAt, p.id")
+    List<ProgressHistory> findChangedSince(@Param("userId") Long userId, @Param("since") Date since,
+                                           @Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * Finds the next progress histories of a user's fields, to purge them in bounded chunks.
+     *
+     * @param userId the owner
+     * @param pageable the chunk size (always the first page)
+     * @return the ids in id order
+     */
+    @Query("SELECT p.id FROM ProgressHistory p WHERE p.fieldId IN (SELECT f.id FROM Field f WHERE f.userId = :userId) ORDER BY p.id")
+    List<Long> findIdsByOwnerUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ProgressHistory p WHERE p.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -1,13 +1,56 @@
 package com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories;
 
 import com.agroapp.platform.plants.domain.model.aggregates.Task;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByFieldId(Long fieldId);
-}
 
+    /**
+     * Finds the tasks of a user's fields.
+     *
+     * @param userId the owner of the fields
+     * @return the user's tasks in id order
+     */
+    @Query("SELECT t FROM Task t WHERE t.fieldId IN (SELECT f.id FROM Field f WHERE f.userId = :userId) ORDER BY t.id")
+    List<Task> findByOwnerUserId(@Param("userId") Long userId);
+
+    /**
+     * Finds the tasks of a user's fields changed after the given (updatedAt, id) watermark.
+     *
+     * @param userId the owner of the fields
+     * @param since the updatedAt of the last row already delivered
+     * @param lastId the id of the last row already delivered
+     * @param pageable the page size (always the first page)
+     * @return the changed tasks in watermark order
+     */
+    @Query("SELECT t FROM Task t WHERE t.fieldId IN (SELECT f.id FROM Field f WHERE f.userId = :userId) " +
+            "AND (t.updatedAt > :since OR (t.updatedAt = :since AND t.id > :lastId)) " +
+            "ORDER BY t.updatedAt, t.id")
+    List<Task> findChangedSince(@Param("userId") Long userId, @Param("since") Date since,
+                                @Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * Finds the next tasks of a user's fields, to purge them in bounded chunks.
+     *
+     * @param userId the owner
+     * @param pageable the chunk size (always the first page)
+     * @return the ids in id order
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.fieldId IN (SELECT f.id FROM Field f WHERE f.userId = :userId) ORDER BY t.id")
+    List<Long> findIdsByOwnerUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
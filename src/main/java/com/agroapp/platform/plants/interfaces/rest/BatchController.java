@@ -0,0 +1,143 @@
+package com.agroapp.platform.plants.interfaces.rest;
+
+import com.agroapp.platform.plants.application.internal.commandservices.BatchOperationFailedException;
+import com.agroapp.platform.plants.domain.model.aggregates.Field;
+import com.agroapp.platform.plants.domain.model.aggregates.Task;
+import com.agroapp.platform.plants.domain.model.entities.CropField;
+import com.agroapp.platform.plants.domain.model.queries.GetProgressHistoryByFieldIdQuery;
+import com.agroapp.platform.plants.domain.model.valueobjects.BatchOperationResult;
+import com.agroapp.platform.plants.domain.services.BatchCommandService;
+import com.agroapp.platform.plants.domain.services.ProgressHistoryQueryService;
+import com.agroapp.platform.plants.interfaces.rest.resources.BatchErrorResource;
+import com.agroapp.platform.plants.interfaces.rest.resources.BatchRequestResource;
+import com.agroapp.platform.plants.interfaces.rest.resources.BatchResultResource;
+import com.agroapp.platform.plants.interfaces.rest.resources.CreateFieldBatchOperationResource;
+import com.agroapp.platform.plants.interfaces.rest.transform.BatchCommandFromResourceAssembler;
+import com.agroapp.platform.plants.interfaces.rest.transform.BatchOperationResultResourceFromResultAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * REST Controller for atomic command batches.
+ * Lets clients create a field together with its crop field and tasks in a single round trip.
+ * Follows hexagonal architecture: delegates to services and uses assemblers for transformations.
+ */
+@RestController
+@RequestMapping("/api/v1/batch")
+@Tag(name = "Batch", description = "Atomic Multi-Command Endpoints")
+public class BatchController {
+
+    private static final int MAX_OPERATIONS = 100;
+
+    private final BatchCommandService batchCommandService;
+    private final ProgressHistoryQueryService progressHistoryQueryService;
+
+    public BatchController(BatchCommandService batchCommandService,
+                           ProgressHistoryQueryService progressHistoryQueryService) {
+        this.batchCommandService = batchCommandService;
+        this.progressHistoryQueryService = progressHistoryQueryService;
+    }
+
+    /**
+     * Executes an ordered list of operations in one transaction.
+     * POST /api/v1/batch
+     */
+    @Operation(
+            summary = "Execute a batch of commands atomically",
+            description = "Runs up to " + MAX_OPERATIONS + " operations in order, in a single transaction. " +
+                    "Allowed operation types: CreateField, CreateCropField, CreateTask. " +
+                    "Each operation may declare a 'ref'; CreateCropField and CreateTask may use 'fieldRef' " +
+                    "to target a field created earlier in the same batch. Fields are created for the authenticated user; " +
+                    "a CreateField 'userId' naming anyone else is refused. If any operation fails, nothing is saved " +
+                    "and the error names the failed operation by index and ref."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "All operations executed",
+                    content = @Content(schema = @Schema(implementation = BatchResultResource.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid batch - empty, too large, duplicate ref, unknown fieldRef or invalid operation"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "A CreateField userId is not the authenticated user"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "An operation targets a field that does not exist",
+                    content = @Content(schema = @Schema(implementation = BatchErrorResource.class))
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "An operation could not be executed",
+                    content = @Content(schema = @Schema(implementation = BatchErrorResource.class))
+            )
+    })
+    @PostMapping
+    public ResponseEntity<?> executeBatch(@RequestBody BatchRequestResource resource,
+                                                            @AuthenticationPrincipal(expression = "userId()") Long authenticatedUserId) {
+        if (resource.operations() != null && resource.operations().size() > MAX_OPERATIONS) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (resource.operations() != null && resource.operations().stream()
+                .anyMatch(operation -> operation instanceof CreateFieldBatchOperationResource op
+                        && op.userId() != null && !op.userId().equals(authenticatedUserId))) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        List<BatchOperationResult> results;
+        try {
+            // Transform Resource to Command using Assembler and execute it atomically
+            var command = BatchCommandFromResourceAssembler.toCommandFromResource(authenticatedUserId, resource);
+            results = batchCommandService.handle(command);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (BatchOperationFailedException e) {
+            return ResponseEntity.status(e.isTargetNotFound() ? HttpStatus.NOT_FOUND : HttpStatus.UNPROCESSABLE_CONTENT)
+                    .body(new BatchErrorResource(e.getIndex(), e.getRef(), e.getMessage()));
+        }
+
+        // Transform results, resolving the relations of created fields from the batch itself
+        var resultResources = results.stream()
+                .map(result -> {
+                    if (!(result.entity() instanceof Field field)) {
+                        return BatchOperationResultResourceFromResultAssembler.toResourceFromResult(result, null, null, List.of());
+                    }
+                    var progressHistory = progressHistoryQueryService.handle(new GetProgressHistoryByFieldIdQuery(field.getId()));
+                    var cropFieldId = results.stream()
+                            .map(BatchOperationResult::entity)
+                            .filter(entity -> entity instanceof CropField cropField && Objects.equals(cropField.getFieldId(), field.getId()))
+                            .map(entity -> ((CropField) entity).getId())
+                            .findFirst()
+                            .orElse(null);
+                    var taskIds = results.stream()
+                            .map(BatchOperationResult::entity)
+                            .filter(entity -> entity instanceof Task task && Objects.equals(task.getFieldId(), field.getId()))
+                            .map(entity -> ((Task) entity).getId())
+                            .toList();
+                    return BatchOperationResultResourceFromResultAssembler.toResourceFromResult(
+                            result,
+                            progressHistory.map(ph -> ph.getId()).orElse(null),
+                            cropFieldId,
+                            taskIds
+                    );
+                })
+                .toList();
+
+        return new ResponseEntity<>(new BatchResultResource(resultResources), HttpStatus.CREATED);
+    }
+}
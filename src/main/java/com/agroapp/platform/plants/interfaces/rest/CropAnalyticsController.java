@@ -0,0 +1,57 @@
+package com.agroapp.platform.plants.interfaces.rest;
+
+import com.agroapp.platform.plants.domain.model.queries.GetCropCycleAnalyticsQuery;
+import com.agroapp.platform.plants.domain.services.CropAnalyticsQueryService;
+import com.agroapp.platform.plants.interfaces.rest.resources.CropCycleAnalyticsResource;
+import com.agroapp.platform.plants.interfaces.rest.transform.CropCycleAnalyticsResourceFromAnalyticsAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for crop-cycle analytics.
+ * Exposes aggregated statistics over all crop fields for the agronomy team.
+ * Follows hexagonal architecture: delegates to services and uses assemblers for transformations.
+ */
+@RestController
+@RequestMapping("/api/v1/analytics")
+@Tag(name = "Analytics", description = "Crop Analytics Endpoints")
+public class CropAnalyticsController {
+
+    private final CropAnalyticsQueryService cropAnalyticsQueryService;
+
+    public CropAnalyticsController(CropAnalyticsQueryService cropAnalyticsQueryService) {
+        this.cropAnalyticsQueryService = cropAnalyticsQueryService;
+    }
+
+    /**
+     * Gets crop-cycle statistics over all crop fields.
+     * GET /api/v1/analytics/crop-cycles
+     */
+    @Operation(
+            summary = "Get crop-cycle analytics",
+            description = "Returns per-crop statistics: planting-to-harvest duration distribution (days), " +
+                    "status counts and share of fields in Critical, and total area in hectares parsed from the field size. " +
+                    "Also returns the number of crop fields per crop for each soil type. " +
+                    "Results are cached and refreshed from crop-field changes."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Analytics computed",
+                    content = @Content(schema = @Schema(implementation = CropCycleAnalyticsResource.class))
+            )
+    })
+    @GetMapping("/crop-cycles")
+    public ResponseEntity<CropCycleAnalyticsResource> getCropCycleAnalytics() {
+        var analytics = cropAnalyticsQueryService.handle(new GetCropCycleAnalyticsQuery());
+        return ResponseEntity.ok(CropCycleAnalyticsResourceFromAnalyticsAssembler.toResourceFromAnalytics(analytics));
+    }
+}
@@ -1,5 +1,6 @@
 package com.agroapp.platform.plants.interfaces.rest;
 
+import com.agroapp.platform.plants.application.internal.workingset.FarmWorkingSetCache;
 import com.agroapp.platform.plants.domain.model.commands.DeleteCropFieldCommand;
 import com.agroapp.platform.plants.domain.model.queries.*;
 import com.agroapp.platform.plants.domain.services.*;
@@ -31,11 +32,14 @@ public class CropFieldsController {
 
     private final CropFieldCommandService cropFieldCommandService;
     private final CropFieldQueryService cropFieldQueryService;
+    private final FarmWorkingSetCache farmWorkingSetCache;
 
     public CropFieldsController(CropFieldCommandService cropFieldCommandService,
-                                CropFieldQueryService cropFieldQueryService) {
+                                CropFieldQueryService cropFieldQueryService,
+                                FarmWorkingSetCache farmWorkingSetCache) {
         this.cropFieldCommandService = cropFieldCommandService;
         this.cropFieldQueryService = cropFieldQueryService;
+        this.farmWorkingSetCache = farmWorkingSetCache;
     }
 
     /**
@@ -181,8 +185,11 @@ public class CropFieldsController {
      */
     @GetMapping("/field/{fieldId}")
     public ResponseEntity<CropFieldResource> getCropFieldByFieldId(@PathVariable Long fieldId) {
-        var query = new GetCropFieldByFieldIdQuery(fieldId);
-        var cropField = cropFieldQueryService.handle(query);
+        // Right after sign-in the owner's prefetched working set answers without a query
+        var workingSet = farmWorkingSetCache.findByFieldId(fieldId);
+        var cropField = workingSet.isPresent()
+                ? workingSet.get().cropField(fieldId)
+                : cropFieldQueryService.handle(new GetCropFieldByFieldIdQuery(fieldId));
 
         if (cropField.isEmpty()) {
             return ResponseEntity.notFound().build();
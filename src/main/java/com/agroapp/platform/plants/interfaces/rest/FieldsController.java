@@ -1,12 +1,16 @@
 package com.agroapp.platform.plants.interfaces.rest;
 
+import com.agroapp.platform.plants.application.internal.workingset.FarmWorkingSetCache;
+import com.agroapp.platform.plants.domain.model.aggregates.Field;
 import com.agroapp.platform.plants.domain.model.queries.*;
+import com.agroapp.platform.plants.domain.model.valueobjects.FarmWorkingSet;
 import com.agroapp.platform.plants.domain.services.*;
 import com.agroapp.platform.plants.interfaces.rest.resources.*;
 import com.agroapp.platform.plants.interfaces.rest.transform.*;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -27,27 +31,35 @@ public class FieldsController {
     private final ProgressHistoryQueryService progressHistoryQueryService;
     private final CropFieldQueryService cropFieldQueryService;
     private final TaskQueryService taskQueryService;
+    private final FarmWorkingSetCache farmWorkingSetCache;
 
     public FieldsController(FieldCommandService fieldCommandService,
                             FieldQueryService fieldQueryService,
                             ProgressHistoryQueryService progressHistoryQueryService,
                             CropFieldQueryService cropFieldQueryService,
-                            TaskQueryService taskQueryService) {
+                            TaskQueryService taskQueryService,
+                            FarmWorkingSetCache farmWorkingSetCache) {
         this.fieldCommandService = fieldCommandService;
         this.fieldQueryService = fieldQueryService;
         this.progressHistoryQueryService = progressHistoryQueryService;
         this.cropFieldQueryService = cropFieldQueryService;
         this.taskQueryService = taskQueryService;
+        this.farmWorkingSetCache = farmWorkingSetCache;
     }
 
     /**
-     * Creates a new Field and automatically creates its associated ProgressHistory.
+     * Creates a new Field for the authenticated user and automatically creates its associated ProgressHistory.
      * POST /api/v1/fields
      */
     @PostMapping
-    public ResponseEntity<FieldResource> createField(@RequestBody CreateFieldResource resource) {
+    public ResponseEntity<FieldResource> createField(@RequestBody CreateFieldResource resource,
+                                                     @AuthenticationPrincipal(expression = "userId()") Long authenticatedUserId) {
+        if (resource.userId() != null && !resource.userId().equals(authenticatedUserId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
         // Transform Resource to Command using Assembler
-        var command = CreateFieldCommandFromResourceAssembler.toCommandFromResource(resource);
+        var command = CreateFieldCommandFromResourceAssembler.toCommandFromResource(authenticatedUserId, resource);
 
         // Execute command through service
         var field = fieldCommandService.handle(command);
@@ -73,11 +85,24 @@ public class FieldsController {
     }
 
     /**
-     * Gets all Fields by user ID.
+     * Gets all Fields by user ID. Users may only list their own fields.
      * GET /api/v1/Fields/user/{userId}
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<FieldResource>> getFieldsByUserId(@PathVariable Long userId) {
+    public ResponseEntity<List<FieldResource>> getFieldsByUserId(@PathVariable Long userId,
+                                                                 @AuthenticationPrincipal(expression = "userId()") Long authenticatedUserId) {
+        if (!userId.equals(authenticatedUserId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        // Right after sign-in the prefetched working set answers without a query per field
+        var workingSet = farmWorkingSetCache.find(userId);
+        if (workingSet.isPresent()) {
+            return ResponseEntity.ok(workingSet.get().fields().stream()
+                    .map(field -> toResourceFromWorkingSet(field, workingSet.get()))
+                    .collect(Collectors.toList()));
+        }
+
         var query = new GetFieldsByUserIdQuery(userId);
         var fields = fieldQueryService.handle(query);
 
@@ -107,6 +132,11 @@ public class FieldsController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<FieldResource> getFieldById(@PathVariable Long id) {
+        var workingSet = farmWorkingSetCache.findByFieldId(id);
+        if (workingSet.isPresent()) {
+            return ResponseEntity.ok(toResourceFromWorkingSet(workingSet.get().field(id).orElseThrow(), workingSet.get()));
+        }
+
         var query = new GetFieldByIdQuery(id);
         var field = fieldQueryService.handle(query);
 
@@ -130,5 +160,13 @@ public class FieldsController {
 
         return ResponseEntity.ok(fieldResource);
     }
-}
 
+    private static FieldResource toResourceFromWorkingSet(Field field, FarmWorkingSet workingSet) {
+        return FieldResourceFromEntityAssembler.toResourceFromEntity(
+                field,
+                workingSet.progressHistory(field.getId()).map(ph -> ph.getId()).orElse(null),
+                workingSet.cropField(field.getId()).map(cf -> cf.getId()).orElse(null),
+                workingSet.tasks(field.getId()).stream().map(task -> task.getId()).collect(Collectors.toList())
+        );
+    }
+}
@@ -0,0 +1,77 @@
+package com.agroapp.platform.plants.interfaces.rest;
+
+import com.agroapp.platform.plants.domain.model.queries.GetIrrigationRequirementsQuery;
+import com.agroapp.platform.plants.domain.services.IrrigationQueryService;
+import com.agroapp.platform.plants.interfaces.rest.resources.IrrigationPlanResource;
+import com.agroapp.platform.plants.interfaces.rest.transform.IrrigationPlanResourceFromPlanAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for irrigation planning.
+ * Computes the daily water requirement of fields from their area, crop and last watering.
+ * Follows hexagonal architecture: delegates to services and uses assemblers for transformations.
+ */
+@RestController
+@RequestMapping("/api/v1/irrigation")
+@Tag(name = "Irrigation", description = "Irrigation Planning Endpoints")
+public class IrrigationController {
+
+    private static final int DEFAULT_PAGE_LIMIT = 500;
+    private static final int MAX_PAGE_LIMIT = 2_000;
+
+    private final IrrigationQueryService irrigationQueryService;
+
+    public IrrigationController(IrrigationQueryService irrigationQueryService) {
+        this.irrigationQueryService = irrigationQueryService;
+    }
+
+    /**
+     * Gets the water requirements of one page of the fields of a region.
+     * GET /api/v1/irrigation/requirements?region={region}&et0={et0}&afterFieldId={afterFieldId}&limit={limit}
+     */
+    @Operation(
+            summary = "Get irrigation requirements",
+            description = "Computes, for every field with a known area whose location contains 'region' " +
+                    "(all fields when omitted), the daily water requirement in cubic meters " +
+                    "(ET0 x crop coefficient x area) and the deficit accumulated since the last watering " +
+                    "recorded in the field's progress history (capped at 14 days). " +
+                    "'et0' is the reference evapotranspiration in mm per day. " +
+                    "Fields come in id order, one page at a time, and the totals cover the page: omit 'afterFieldId' " +
+                    "for the first page and pass the returned 'nextAfterFieldId' to get the next one; " +
+                    "'nextAfterFieldId' is null on the last page. " +
+                    "'limit' defaults to " + DEFAULT_PAGE_LIMIT + " and is capped at " + MAX_PAGE_LIMIT + "."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Requirements computed",
+                    content = @Content(schema = @Schema(implementation = IrrigationPlanResource.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid reference evapotranspiration"
+            )
+    })
+    @GetMapping("/requirements")
+    public ResponseEntity<IrrigationPlanResource> getIrrigationRequirements(
+            @RequestParam(required = false) String region,
+            @RequestParam(defaultValue = "5.0") double et0,
+            @RequestParam(required = false) Long afterFieldId,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_LIMIT) int limit) {
+        GetIrrigationRequirementsQuery query;
+        try {
+            query = new GetIrrigationRequirementsQuery(region, et0, afterFieldId, Math.clamp(limit, 1, MAX_PAGE_LIMIT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        var plan = irrigationQueryService.handle(query);
+        return ResponseEntity.ok(IrrigationPlanResourceFromPlanAssembler.toResourceFromPlan(plan));
+    }
+}
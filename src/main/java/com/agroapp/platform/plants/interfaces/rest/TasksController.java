@@ -1,5 +1,6 @@
 package com.agroapp.platform.plants.interfaces.rest;
 
+import com.agroapp.platform.plants.application.internal.workingset.FarmWorkingSetCache;
 import com.agroapp.platform.plants.domain.model.commands.DeleteTaskCommand;
 import com.agroapp.platform.plants.domain.model.queries.*;
 import com.agroapp.platform.plants.domain.services.*;
@@ -25,11 +26,14 @@ public class TasksController {
 
     private final TaskCommandService taskCommandService;
     private final TaskQueryService taskQueryService;
+    private final FarmWorkingSetCache farmWorkingSetCache;
 
     public TasksController(TaskCommandService taskCommandService,
-                           TaskQueryService taskQueryService) {
+                           TaskQueryService taskQueryService,
+                           FarmWorkingSetCache farmWorkingSetCache) {
         this.taskCommandService = taskCommandService;
         this.taskQueryService = taskQueryService;
+        this.farmWorkingSetCache = farmWorkingSetCache;
     }
 
     /**
@@ -122,8 +126,11 @@ public class TasksController {
      */
     @GetMapping("/field/{fieldId}")
     public ResponseEntity<List<TaskResource>> getTasksByFieldId(@PathVariable Long fieldId) {
-        var query = new GetTasksByFieldIdQuery(fieldId);
-        var tasks = taskQueryService.handle(query);
+        // Right after sign-in the owner's prefetched working set answers without a query
+        var workingSet = farmWorkingSetCache.findByFieldId(fieldId);
+        var tasks = workingSet.isPresent()
+                ? workingSet.get().tasks(fieldId)
+                : taskQueryService.handle(new GetTasksByFieldIdQuery(fieldId));
 
         var taskResources = tasks.stream()
                 .map(TaskResourceFromEntityAssembler::toResourceFromEntity)
@@ -0,0 +1,11 @@
+package com.agroapp.platform.plants.interfaces.rest.resources;
+
+/**
+ * Error of a batch, naming the operation that failed.
+ */
+public record BatchErrorResource(
+        int index,
+        String ref,
+        String message
+) {
+}
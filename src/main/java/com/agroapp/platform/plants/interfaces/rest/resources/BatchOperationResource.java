@@ -0,0 +1,19 @@
+package com.agroapp.platform.plants.interfaces.rest.resources;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * One operation of a batch request, discriminated by its "type" property.
+ * Allowed types: CreateField, CreateCropField, CreateTask.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = CreateFieldBatchOperationResource.class, name = "CreateField"),
+        @JsonSubTypes.Type(value = CreateCropFieldBatchOperationResource.class, name = "CreateCropField"),
+        @JsonSubTypes.Type(value = CreateTaskBatchOperationResource.class, name = "CreateTask")
+})
+public sealed interface BatchOperationResource
+        permits CreateFieldBatchOperationResource, CreateCropFieldBatchOperationResource, CreateTaskBatchOperationResource {
+    String ref();
+}
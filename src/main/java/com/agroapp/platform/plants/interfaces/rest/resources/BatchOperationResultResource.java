@@ -0,0 +1,16 @@
+package com.agroapp.platform.plants.interfaces.rest.resources;
+
+/**
+ * Result of one batch operation.
+ * Exactly one of field, cropField or task is set, matching the operation type.
+ */
+public record BatchOperationResultResource(
+        int index,
+        String type,
+        String ref,
+        Long id,
+        FieldResource field,
+        CropFieldResource cropField,
+        TaskResource task
+) {
+}
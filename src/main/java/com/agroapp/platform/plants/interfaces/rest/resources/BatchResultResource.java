@@ -0,0 +1,8 @@
+package com.agroapp.platform.plants.interfaces.rest.resources;
+
+import java.util.List;
+
+public record BatchResultResource(
+        List<BatchOperationResultResource> results
+) {
+}
@@ -0,0 +1,23 @@
+package com.agroapp.platform.plants.interfaces.rest.resources;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Creates a CropField inside a batch.
+ * Use fieldRef to target a field created earlier in the same batch, or fieldId for an existing one.
+ */
+public record CreateCropFieldBatchOperationResource(
+        String ref,
+        Long fieldId,
+        String fieldRef,
+        String crop,
+        String soilType,
+        String sunlight,
+        String watering,
+        LocalDateTime plantingDate,
+        LocalDateTime harvestDate,
+        CropFieldStatus status
+) implements BatchOperationResource {
+}
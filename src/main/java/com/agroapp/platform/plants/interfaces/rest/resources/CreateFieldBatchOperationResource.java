@@ -0,0 +1,11 @@
+package com.agroapp.platform.plants.interfaces.rest.resources;
+
+public record CreateFieldBatchOperationResource(
+        String ref,
+        Long userId,
+        String imageUrl,
+        String name,
+        String location,
+        String fieldSize
+) implements BatchOperationResource {
+}
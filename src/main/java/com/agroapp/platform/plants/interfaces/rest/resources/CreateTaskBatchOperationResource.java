@@ -0,0 +1,16 @@
+package com.agroapp.platform.plants.interfaces.rest.resources;
+
+import java.time.LocalDateTime;
+
+/**
+ * Creates a Task inside a batch.
+ * Use fieldRef to target a field created earlier in the same batch, or fieldId for an existing one.
+ */
+public record CreateTaskBatchOperationResource(
+        String ref,
+        Long fieldId,
+        String fieldRef,
+        String description,
+        LocalDateTime dueDate
+) implements BatchOperationResource {
+}
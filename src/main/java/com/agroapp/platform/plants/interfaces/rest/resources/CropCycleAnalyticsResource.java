@@ -0,0 +1,13 @@
+package com.agroapp.platform.plants.interfaces.rest.resources;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public record CropCycleAnalyticsResource(
+        long totalCropFields,
+        List<CropCycleStatisticsResource> crops,
+        Map<String, Map<String, Long>> cropsPerSoilType,
+        Instant computedAt
+) {
+}
@@ -0,0 +1,21 @@
+package com.agroapp.platform.plants.interfaces.rest.resources;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+
+import java.util.Map;
+
+public record CropCycleStatisticsResource(
+        String crop,
+        long cropFields,
+        Map<CropFieldStatus, Long> statusCounts,
+        double criticalShare,
+        double totalAreaHectares,
+        long fieldsWithKnownArea,
+        long cyclesWithDates,
+        Long minDurationDays,
+        Long medianDurationDays,
+        Long p90DurationDays,
+        Long maxDurationDays,
+        Double meanDurationDays
+) {
+}
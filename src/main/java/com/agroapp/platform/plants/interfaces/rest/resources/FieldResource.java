@@ -10,6 +10,7 @@ public record FieldResource(
         String name,
         String location,
         String fieldSize,
+        Double areaHectares,
         Long progressHistoryId,
         Long cropFieldId,
         List<Long> taskIds,
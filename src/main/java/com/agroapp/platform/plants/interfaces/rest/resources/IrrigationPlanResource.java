@@ -0,0 +1,13 @@
+package com.agroapp.platform.plants.interfaces.rest.resources;
+
+import java.util.List;
+
+public record IrrigationPlanResource(
+        double referenceEvapotranspirationMm,
+        int fields,
+        double totalDailyRequirementCubicMeters,
+        double totalAccumulatedDeficitCubicMeters,
+        List<IrrigationRequirementResource> requirements,
+        Long nextAfterFieldId
+) {
+}
@@ -0,0 +1,11 @@
+package com.agroapp.platform.plants.interfaces.rest.resources;
+
+public record IrrigationRequirementResource(
+        Long fieldId,
+        double areaHectares,
+        double cropCoefficient,
+        double daysSinceWatering,
+        double dailyRequirementCubicMeters,
+        double accumulatedDeficitCubicMeters
+) {
+}
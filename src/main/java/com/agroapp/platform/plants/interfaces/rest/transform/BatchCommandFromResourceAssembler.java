@@ -0,0 +1,40 @@
+package com.agroapp.platform.plants.interfaces.rest.transform;
+
+import com.agroapp.platform.plants.domain.model.commands.*;
+import com.agroapp.platform.plants.interfaces.rest.resources.*;
+
+/**
+ * Assembler class to transform BatchRequestResource (DTO) to BatchCommand.
+ * Follows the pattern: [Command]CommandFromResourceAssembler
+ * Pure transformation for write operations; field refs are resolved by the domain layer.
+ */
+public class BatchCommandFromResourceAssembler {
+
+    /**
+     * Transforms a BatchRequestResource into a BatchCommand.
+     *
+     * @param userId The authenticated owner of the fields the batch creates
+     * @param resource The incoming REST resource with the ordered operations
+     * @return BatchCommand to be processed by the domain layer
+     */
+    public static BatchCommand toCommandFromResource(Long userId, BatchRequestResource resource) {
+        if (resource.operations() == null) {
+            throw new IllegalArgumentException("Batch must contain at least one operation");
+        }
+        return new BatchCommand(resource.operations().stream()
+                .map(operation -> toOperation(userId, operation))
+                .toList());
+    }
+
+    private static BatchOperation toOperation(Long userId, BatchOperationResource resource) {
+        return switch (resource) {
+            case CreateFieldBatchOperationResource op -> new BatchOperation.CreateField(op.ref(),
+                    new CreateFieldCommand(userId, op.imageUrl(), op.name(), op.location(), op.fieldSize()));
+            case CreateCropFieldBatchOperationResource op -> new BatchOperation.CreateCropField(op.ref(), op.fieldRef(),
+                    new CreateCropFieldCommand(op.fieldId(), op.crop(), op.soilType(), op.sunlight(), op.watering(),
+                            op.plantingDate(), op.harvestDate(), op.status()));
+            case CreateTaskBatchOperationResource op -> new BatchOperation.CreateTask(op.ref(), op.fieldRef(),
+                    new CreateTaskCommand(op.fieldId(), op.description(), op.dueDate()));
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.agroapp.platform.plants.interfaces.rest.transform;
+
+import com.agroapp.platform.plants.domain.model.aggregates.Field;
+import com.agroapp.platform.plants.domain.model.aggregates.Task;
+import com.agroapp.platform.plants.domain.model.entities.CropField;
+import com.agroapp.platform.plants.domain.model.valueobjects.BatchOperationResult;
+import com.agroapp.platform.plants.interfaces.rest.resources.BatchOperationResultResource;
+
+import java.util.List;
+
+/**
+ * Assembler class to transform a BatchOperationResult into a BatchOperationResultResource (DTO).
+ * Pure transformation; relation ids of created fields are provided by the caller.
+ */
+public class BatchOperationResultResourceFromResultAssembler {
+
+    /**
+     * Transforms a BatchOperationResult into a BatchOperationResultResource.
+     *
+     * @param result The outcome of one batch operation
+     * @param progressHistoryId For created fields, the ProgressHistory ID (nullable)
+     * @param cropFieldId For created fields, the CropField ID created in the same batch (nullable)
+     * @param taskIds For created fields, the Task IDs created in the same batch
+     * @return BatchOperationResultResource for REST API response
+     */
+    public static BatchOperationResultResource toResourceFromResult(BatchOperationResult result,
+                                                                    Long progressHistoryId,
+                                                                    Long cropFieldId,
+                                                                    List<Long> taskIds) {
+        return switch (result.entity()) {
+            case Field field -> new BatchOperationResultResource(result.index(), "CreateField", result.ref(), field.getId(),
+                    FieldResourceFromEntityAssembler.toResourceFromEntity(field, progressHistoryId, cropFieldId, taskIds),
+                    null, null);
+            case CropField cropField -> new BatchOperationResultResource(result.index(), "CreateCropField", result.ref(),
+                    cropField.getId(), null, CropFieldResourceFromEntityAssembler.toResourceFromEntity(cropField), null);
+            case Task task -> new BatchOperationResultResource(result.index(), "CreateTask", result.ref(), task.getId(),
+                    null, null, TaskResourceFromEntityAssembler.toResourceFromEntity(task));
+            default -> throw new IllegalStateException("Unexpected batch result " + result.entity().getClass().getSimpleName());
+        };
+    }
+}
@@ -13,12 +13,13 @@ public class CreateFieldCommandFromResourceAssembler {
     /**
      * Transforms a CreateFieldResource into a CreateFieldCommand.
      *
+     * @param userId The authenticated owner of the field
      * @param resource The incoming REST resource
      * @return CreateFieldCommand to be processed by the domain layer
      */
-    public static CreateFieldCommand toCommandFromResource(CreateFieldResource resource) {
+    public static CreateFieldCommand toCommandFromResource(Long userId, CreateFieldResource resource) {
         return new CreateFieldCommand(
-                resource.userId(),
+                userId,
                 resource.imageUrl(),
                 resource.name(),
                 resource.location(),
@@ -0,0 +1,47 @@
+package com.agroapp.platform.plants.interfaces.rest.transform;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropCycleAnalytics;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropCycleStatistics;
+import com.agroapp.platform.plants.interfaces.rest.resources.CropCycleAnalyticsResource;
+import com.agroapp.platform.plants.interfaces.rest.resources.CropCycleStatisticsResource;
+
+/**
+ * Assembler class to transform CropCycleAnalytics into CropCycleAnalyticsResource (DTO).
+ * Pure transformation, no business logic.
+ */
+public class CropCycleAnalyticsResourceFromAnalyticsAssembler {
+
+    /**
+     * Transforms a CropCycleAnalytics snapshot into a CropCycleAnalyticsResource.
+     *
+     * @param analytics The analytics snapshot
+     * @return CropCycleAnalyticsResource for REST API response
+     */
+    public static CropCycleAnalyticsResource toResourceFromAnalytics(CropCycleAnalytics analytics) {
+        return new CropCycleAnalyticsResource(
+                analytics.totalCropFields(),
+                analytics.crops().stream()
+                        .map(CropCycleAnalyticsResourceFromAnalyticsAssembler::toResourceFromStatistics)
+                        .toList(),
+                analytics.cropsPerSoilType(),
+                analytics.computedAt()
+        );
+    }
+
+    private static CropCycleStatisticsResource toResourceFromStatistics(CropCycleStatistics statistics) {
+        return new CropCycleStatisticsResource(
+                statistics.crop(),
+                statistics.cropFields(),
+                statistics.statusCounts(),
+                statistics.criticalShare(),
+                statistics.totalAreaHectares(),
+                statistics.fieldsWithKnownArea(),
+                statistics.cyclesWithDates(),
+                statistics.minDurationDays(),
+                statistics.medianDurationDays(),
+                statistics.p90DurationDays(),
+                statistics.maxDurationDays(),
+                statistics.meanDurationDays()
+        );
+    }
+}
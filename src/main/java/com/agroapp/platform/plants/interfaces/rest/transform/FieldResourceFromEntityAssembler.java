@@ -33,6 +33,7 @@ public class FieldResourceFromEntityAssembler {
                 field.getName(),
                 field.getLocation(),
                 field.getFieldSize(),
+                field.getAreaHectares(),
                 progressHistoryId,
                 cropFieldId,
                 taskIds,
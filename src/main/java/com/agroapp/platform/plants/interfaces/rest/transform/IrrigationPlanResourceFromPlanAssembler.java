@@ -0,0 +1,39 @@
+package com.agroapp.platform.plants.interfaces.rest.transform;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.IrrigationPlan;
+import com.agroapp.platform.plants.interfaces.rest.resources.IrrigationPlanResource;
+import com.agroapp.platform.plants.interfaces.rest.resources.IrrigationRequirementResource;
+
+/**
+ * Assembler class to transform IrrigationPlan into IrrigationPlanResource (DTO).
+ * Pure transformation, no business logic.
+ */
+public class IrrigationPlanResourceFromPlanAssembler {
+
+    /**
+     * Transforms an IrrigationPlan into an IrrigationPlanResource.
+     *
+     * @param plan The irrigation plan
+     * @return IrrigationPlanResource for REST API response
+     */
+    public static IrrigationPlanResource toResourceFromPlan(IrrigationPlan plan) {
+        var requirements = plan.requirements().stream()
+                .map(requirement -> new IrrigationRequirementResource(
+                        requirement.fieldId(),
+                        requirement.areaHectares(),
+                        requirement.cropCoefficient(),
+                        requirement.daysSinceWatering(),
+                        requirement.dailyRequirementCubicMeters(),
+                        requirement.accumulatedDeficitCubicMeters()
+                ))
+                .toList();
+        return new IrrigationPlanResource(
+                plan.referenceEvapotranspirationMm(),
+                requirements.size(),
+                plan.totalDailyRequirementCubicMeters(),
+                plan.totalAccumulatedDeficitCubicMeters(),
+                requirements,
+                plan.nextAfterFieldId()
+        );
+    }
+}
@@ -0,0 +1,122 @@
+package com.agroapp.platform.shared.application.internal.purge;
+
+import com.agroapp.platform.shared.domain.model.entities.UserDataPurge;
+import com.agroapp.platform.shared.infrastructure.persistence.jpa.repositories.UserDataPurgeRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Background worker that removes the data of deleted users through the {@link UserDataPurger}s of the
+ * bounded contexts. A single virtual thread runs the purges one chunk per transaction, recording the
+ * progress with each chunk, so no purge holds locks for long and deleting a user never waits on it.
+ * Purges still incomplete at startup, because the application stopped mid-way, are resumed.
+ */
+@Component
+public class UserDataPurgeWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserDataPurgeWorker.class);
+
+    private final UserDataPurgeRepository userDataPurgeRepository;
+    private final Map<String, UserDataPurger> purgers;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("user-data-purge").factory());
+
+    public UserDataPurgeWorker(UserDataPurgeRepository userDataPurgeRepository, List<UserDataPurger> purgers,
+                               PlatformTransactionManager transactionManager) {
+        this.userDataPurgeRepository = userDataPurgeRepository;
+        this.purgers = purgers.stream().collect(Collectors.toMap(UserDataPurger::scope, Function.identity()));
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Records and queues the purge of a user's data in one scope. Scheduling a purge that already exists
+     * only queues it again if it is not complete.
+     *
+     * @param scope the scope of the purger to run
+     * @param userId the deleted user
+     */
+    public void schedule(String scope, Long userId) {
+        if (!purgers.containsKey(scope)) {
+            throw new IllegalArgumentException("Unknown purge scope " + scope);
+        }
+        UserDataPurge purge;
+        try {
+            purge = userDataPurgeRepository.findByUserIdAndScope(userId, scope)
+                    .orElseGet(() -> userDataPurgeRepository.save(new UserDataPurge(userId, scope)));
+        } catch (DataIntegrityViolationException e) {
+            // Scheduled concurrently; the other call queued it
+            return;
+        }
+        if (!purge.isCompleted()) {
+            submit(purge.getId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resume() {
+        List<UserDataPurge> incomplete = userDataPurgeRepository.findByCompletedAtIsNullOrderById();
+        if (!incomplete.isEmpty()) {
+            logger.info("Resuming {} interrupted user data purges", incomplete.size());
+            incomplete.forEach(purge -> submit(purge.getId()));
+        }
+    }
+
+    private void submit(Long purgeId) {
+        try {
+            executor.execute(() -> run(purgeId));
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the purge resumes on the next startup
+        }
+    }
+
+    /**
+     * Runs a purge chunk by chunk until its purger reports nothing left.
+     */
+    void run(Long purgeId) {
+        try {
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> runChunk(purgeId)))) {
+                if (Thread.currentThread().isInterrupted()) return;
+            }
+        } catch (RuntimeException e) {
+            logger.warn("User data purge {} failed; it resumes on the next startup", purgeId, e);
+        }
+    }
+
+    /**
+     * @return true while the purge has more to do
+     */
+    private boolean runChunk(Long purgeId) {
+        var purge = userDataPurgeRepository.findById(purgeId).orElse(null);
+        if (purge == null || purge.isCompleted()) return false;
+        int deleted = purgers.get(purge.getScope()).purgeChunk(purge.getUserId());
+        if (deleted == 0) {
+            userDataPurgeRepository.save(purge.complete());
+            logger.info("Purged {} rows of user {} in scope {} over {} chunks",
+                    purge.getDeletedRows(), purge.getUserId(), purge.getScope(), purge.getChunks());
+            return false;
+        }
+        userDataPurgeRepository.save(purge.recordChunk(deleted));
+        return true;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,24 @@
+package com.agroapp.platform.shared.application.internal.purge;
+
+/**
+ * Removes a bounded context's data of a deleted user, one bounded chunk at a time.
+ * Run by the {@link UserDataPurgeWorker}, which calls {@link #purgeChunk} in a transaction of its own
+ * until it reports nothing left. A chunk must delete with set-based statements and be safe to repeat,
+ * so a purge interrupted at any point can resume from the start of its last chunk.
+ */
+public interface UserDataPurger {
+
+    /**
+     * @return the name the purge progress is recorded under, unique among purgers
+     */
+    String scope();
+
+    /**
+     * Deletes the next chunk of the user's data. Work that must only see committed deletions, such as
+     * updating in-memory read models, is registered as a transaction synchronization.
+     *
+     * @param userId the deleted user
+     * @return the number of deleted rows, 0 when nothing is left
+     */
+    int purgeChunk(Long userId);
+}
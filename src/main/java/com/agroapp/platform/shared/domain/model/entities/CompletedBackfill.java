@@ -0,0 +1,40 @@
+package com.agroapp.platform.shared.domain.model.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * CompletedBackfill Entity
+ * Marks a one-off startup backfill as done, so later startups skip it instead of rescanning the rows it
+ * could not fill.
+ */
+@Entity
+@Getter
+public class CompletedBackfill {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false)
+    private Date completedAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public CompletedBackfill() {
+    }
+
+    /**
+     * @param name the backfill
+     */
+    public CompletedBackfill(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Backfill name is required");
+        }
+        this.name = name;
+        this.completedAt = new Date();
+    }
+}
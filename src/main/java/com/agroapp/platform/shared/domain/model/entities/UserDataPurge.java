@@ -0,0 +1,71 @@
+package com.agroapp.platform.shared.domain.model.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * UserDataPurge Entity
+ * Progress of removing one bounded context's data of a deleted user.
+ * Created when the purge is scheduled and updated after every chunk, so an interrupted purge resumes on
+ * the next startup; completedAt is set once nothing is left.
+ */
+@Entity
+@Getter
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_data_purges_user_id_scope", columnNames = {"userId", "scope"})
+})
+public class UserDataPurge extends AuditableModel {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 32)
+    private String scope;
+
+    @Column(nullable = false)
+    private long deletedRows;
+
+    @Column(nullable = false)
+    private int chunks;
+
+    private Date completedAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public UserDataPurge() {
+    }
+
+    /**
+     * @param userId the deleted user
+     * @param scope the bounded context whose data is purged
+     */
+    public UserDataPurge(Long userId, String scope) {
+        if (userId == null || scope == null || scope.isBlank()) {
+            throw new IllegalArgumentException("Purge requires userId and scope");
+        }
+        this.userId = userId;
+        this.scope = scope;
+    }
+
+    public UserDataPurge recordChunk(int rows) {
+        this.deletedRows += rows;
+        this.chunks++;
+        return this;
+    }
+
+    public UserDataPurge complete() {
+        this.completedAt = new Date();
+        return this;
+    }
+
+    public boolean isCompleted() {
+        return completedAt != null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.agroapp.platform.shared.infrastructure.persistence.jpa.repositories;
+
+import com.agroapp.platform.shared.domain.model.entities.CompletedBackfill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CompletedBackfillRepository extends JpaRepository<CompletedBackfill, String> {
+}
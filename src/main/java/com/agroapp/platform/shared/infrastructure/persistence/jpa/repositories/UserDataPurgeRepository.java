@@ -0,0 +1,14 @@
+package com.agroapp.platform.shared.infrastructure.persistence.jpa.repositories;
+
+import com.agroapp.platform.shared.domain.model.entities.UserDataPurge;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserDataPurgeRepository extends JpaRepository<UserDataPurge, Long> {
+    Optional<UserDataPurge> findByUserIdAndScope(Long userId, String scope);
+    List<UserDataPurge> findByCompletedAtIsNullOrderById();
+}
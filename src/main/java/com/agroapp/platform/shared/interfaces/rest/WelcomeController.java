@@ -30,13 +30,22 @@ public class WelcomeController {
         Map<String, String> endpoints = new HashMap<>();
         endpoints.put("API Documentation", "/swagger-ui.html");
         endpoints.put("API Docs JSON", "/v3/api-docs");
+        endpoints.put("Batch", "/api/v1/batch");
         endpoints.put("Community Recommendations", "/api/v1/community-recommendations");
+        endpoints.put("Community Feed", "/api/v1/community-recommendations/feed");
+        endpoints.put("Community Search", "/api/v1/community-recommendations/search");
+        endpoints.put("Community Stream", "/api/v1/community-recommendations/stream");
+        endpoints.put("Community Trending", "/api/v1/community-recommendations/trending");
+        endpoints.put("Community For You", "/api/v1/community-recommendations/for-you");
+        endpoints.put("Crop Analytics", "/api/v1/analytics/crop-cycles");
         endpoints.put("Crop Fields", "/api/v1/crop-fields");
         endpoints.put("Fields", "/api/v1/fields");
+        endpoints.put("Irrigation", "/api/v1/irrigation/requirements");
         endpoints.put("Progress History", "/api/v1/progress");
         endpoints.put("Tasks", "/api/v1/tasks");
         endpoints.put("Users", "/api/v1/users");
         endpoints.put("Storage", "/api/v1/storage");
+        endpoints.put("Sync", "/api/v1/sync");
         response.put("endpoints", endpoints);
 
         return response;
@@ -0,0 +1,92 @@
+package com.agroapp.platform.sync.application.internal.eventhandlers;
+
+import com.agroapp.platform.community.domain.model.events.CommunityRecommendationsPurgedEvent;
+import com.agroapp.platform.plants.domain.model.events.CropFieldDeletedEvent;
+import com.agroapp.platform.plants.domain.model.events.PlantsDataPurgedEvent;
+import com.agroapp.platform.plants.domain.model.events.TaskDeletedEvent;
+import com.agroapp.platform.sync.application.internal.outboundservices.acl.ExternalPlantsService;
+import com.agroapp.platform.sync.domain.model.entities.SyncTombstone;
+import com.agroapp.platform.sync.domain.model.valueobjects.SyncEntityType;
+import com.agroapp.platform.sync.infrastructure.persistence.jpa.repositories.SyncTombstoneRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Event handler for deletion events from the Plants and Community bounded contexts.
+ * Records a tombstone in the same transaction as the delete so offline clients learn about it on their next sync.
+ */
+@Component
+public class SyncTombstoneEventHandler {
+
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ExternalPlantsService externalPlantsService;
+
+    public SyncTombstoneEventHandler(SyncTombstoneRepository syncTombstoneRepository,
+                                     ExternalPlantsService externalPlantsService) {
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.externalPlantsService = externalPlantsService;
+    }
+
+    /**
+     * Handles TaskDeletedEvent from Plants context.
+     *
+     * @param event the TaskDeletedEvent containing taskId and fieldId
+     */
+    @EventListener
+    @Transactional
+    public void on(TaskDeletedEvent event) {
+        Long ownerId = externalPlantsService.getFieldOwnerId(event.getFieldId()).orElse(null);
+        syncTombstoneRepository.save(new SyncTombstone(SyncEntityType.Task, event.getTaskId(), ownerId));
+    }
+
+    /**
+     * Handles CropFieldDeletedEvent from Plants context.
+     *
+     * @param event the CropFieldDeletedEvent containing cropFieldId and fieldId
+     */
+    @EventListener
+    @Transactional
+    public void on(CropFieldDeletedEvent event) {
+        Long ownerId = externalPlantsService.getFieldOwnerId(event.getFieldId()).orElse(null);
+        syncTombstoneRepository.save(new SyncTombstone(SyncEntityType.CropField, event.getCropFieldId(), ownerId));
+    }
+
+    /**
+     * Handles PlantsDataPurgedEvent from Plants context.
+     *
+     * @param event the PlantsDataPurgedEvent containing the owner and the purged row ids
+     */
+    @EventListener
+    @Transactional
+    public void on(PlantsDataPurgedEvent event) {
+        var tombstones = new ArrayList<SyncTombstone>();
+        addTombstones(tombstones, SyncEntityType.Field, event.getFieldIds(), event.getUserId());
+        addTombstones(tombstones, SyncEntityType.CropField, event.getCropFieldIds(), event.getUserId());
+        addTombstones(tombstones, SyncEntityType.ProgressHistory, event.getProgressHistoryIds(), event.getUserId());
+        addTombstones(tombstones, SyncEntityType.Task, event.getTaskIds(), event.getUserId());
+        syncTombstoneRepository.saveAll(tombstones);
+    }
+
+    /**
+     * Handles CommunityRecommendationsPurgedEvent from Community context.
+     * Community posts are visible to every user, so their tombstones are too.
+     *
+     * @param event the CommunityRecommendationsPurgedEvent containing the purged recommendation ids
+     */
+    @EventListener
+    @Transactional
+    public void on(CommunityRecommendationsPurgedEvent event) {
+        var tombstones = new ArrayList<SyncTombstone>();
+        addTombstones(tombstones, SyncEntityType.CommunityRecommendation, event.getRecommendationIds(), null);
+        syncTombstoneRepository.saveAll(tombstones);
+    }
+
+    private static void addTombstones(List<SyncTombstone> tombstones, SyncEntityType entityType, List<Long> entityIds,
+                                      Long userId) {
+        entityIds.forEach(entityId -> tombstones.add(new SyncTombstone(entityType, entityId, userId)));
+    }
+}
@@ -0,0 +1,29 @@
+package com.agroapp.platform.sync.application.internal.outboundservices.acl;
+
+import com.agroapp.platform.community.domain.model.aggregates.CommunityRecommendation;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
+import com.agroapp.platform.sync.domain.model.valueobjects.SyncCursor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Anti-Corruption Layer (ACL) service to communicate with Community context.
+ * Exposes the keyset delta query the Sync context needs, translated to sync cursors.
+ */
+@Service
+public class ExternalCommunityService {
+
+    private final CommunityRecommendationRepository communityRecommendationRepository;
+
+    public ExternalCommunityService(CommunityRecommendationRepository communityRecommendationRepository) {
+        this.communityRecommendationRepository = communityRecommendationRepository;
+    }
+
+    public List<CommunityRecommendation> getRecommendationsChangedSince(SyncCursor cursor, int limit) {
+        return communityRecommendationRepository.findChangedSince(Timestamp.from(cursor.updatedAt()), cursor.id(),
+                PageRequest.of(0, limit));
+    }
+}
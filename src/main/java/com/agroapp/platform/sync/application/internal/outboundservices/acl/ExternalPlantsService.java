@@ -0,0 +1,70 @@
+package com.agroapp.platform.sync.application.internal.outboundservices.acl;
+
+import com.agroapp.platform.plants.domain.model.aggregates.Field;
+import com.agroapp.platform.plants.domain.model.aggregates.Task;
+import com.agroapp.platform.plants.domain.model.entities.CropField;
+import com.agroapp.platform.plants.domain.model.entities.ProgressHistory;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.CropFieldRepository;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.FieldRepository;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.ProgressHistoryRepository;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.TaskRepository;
+import com.agroapp.platform.sync.domain.model.valueobjects.SyncCursor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Anti-Corruption Layer (ACL) service to communicate with Plants context.
+ * Exposes the keyset delta queries the Sync context needs, translated to sync cursors.
+ */
+@Service
+public class ExternalPlantsService {
+
+    private final FieldRepository fieldRepository;
+    private final CropFieldRepository cropFieldRepository;
+    private final ProgressHistoryRepository progressHistoryRepository;
+    private final TaskRepository taskRepository;
+
+    public ExternalPlantsService(FieldRepository fieldRepository,
+                                 CropFieldRepository cropFieldRepository,
+                                 ProgressHistoryRepository progressHistoryRepository,
+                                 TaskRepository taskRepository) {
+        this.fieldRepository = fieldRepository;
+        this.cropFieldRepository = cropFieldRepository;
+        this.progressHistoryRepository = progressHistoryRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    public List<Field> getFieldsChangedSince(Long userId, SyncCursor cursor, int limit) {
+        return fieldRepository.findChangedSince(userId, Timestamp.from(cursor.updatedAt()), cursor.id(),
+                PageRequest.of(0, limit));
+    }
+
+    public List<CropField> getCropFieldsChangedSince(Long userId, SyncCursor cursor, int limit) {
+        return cropFieldRepository.findChangedSince(userId, Timestamp.from(cursor.updatedAt()), cursor.id(),
+                PageRequest.of(0, limit));
+    }
+
+    public List<ProgressHistory> getProgressHistoriesChangedSince(Long userId, SyncCursor cursor, int limit) {
+        return progressHistoryRepository.findChangedSince(userId, Timestamp.from(cursor.updatedAt()), cursor.id(),
+                PageRequest.of(0, limit));
+    }
+
+    public List<Task> getTasksChangedSince(Long userId, SyncCursor cursor, int limit) {
+        return taskRepository.findChangedSince(userId, Timestamp.from(cursor.updatedAt()), cursor.id(),
+                PageRequest.of(0, limit));
+    }
+
+    /**
+     * Resolves the owner of a field.
+     *
+     * @param fieldId The field ID
+     * @return Optional containing the owner's user ID if the field exists
+     */
+    public Optional<Long> getFieldOwnerId(Long fieldId) {
+        return fieldRepository.findUserIdById(fieldId);
+    }
+}
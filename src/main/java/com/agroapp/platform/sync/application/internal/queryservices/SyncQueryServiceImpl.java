@@ -0,0 +1,168 @@
+package com.agroapp.platform.sync.application.internal.queryservices;
+
+import com.agroapp.platform.sync.application.internal.outboundservices.acl.ExternalCommunityService;
+import com.agroapp.platform.sync.application.internal.outboundservices.acl.ExternalPlantsService;
+import com.agroapp.platform.sync.domain.model.entities.SyncTombstone;
+import com.agroapp.platform.sync.domain.model.queries.GetChangesSinceQuery;
+import com.agroapp.platform.sync.domain.model.valueobjects.SyncChangeSet;
+import com.agroapp.platform.sync.domain.model.valueobjects.SyncCursor;
+import com.agroapp.platform.sync.domain.model.valueobjects.SyncEntityType;
+import com.agroapp.platform.sync.domain.model.valueobjects.SyncToken;
+import com.agroapp.platform.sync.domain.services.SyncQueryService;
+import com.agroapp.platform.sync.infrastructure.persistence.jpa.repositories.SyncTombstoneRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Builds delta-sync pages.
+ * Each entity type is read with a keyset query on its (updatedAt, id) index starting at the
+ * cursor stored in the token, and the page is filled type by type up to the requested limit.
+ * Runs in one read-only transaction so all streams see the same snapshot.
+ * Timestamps are taken when a row is written, not when it commits, so a slow transaction can still
+ * commit a row stamped before rows already delivered. Cursors therefore never advance past the settle
+ * horizon, the start of the request minus the settle window: newer rows are delivered as usual but
+ * delivered again by the next sync, until they are older than the horizon. Clients apply rows and
+ * tombstones idempotently, so the overlap is harmless, and a late commit is never skipped.
+ */
+@Service
+public class SyncQueryServiceImpl implements SyncQueryService {
+
+    private final ExternalPlantsService externalPlantsService;
+    private final ExternalCommunityService externalCommunityService;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final Duration settleWindow;
+
+    public SyncQueryServiceImpl(ExternalPlantsService externalPlantsService,
+                                ExternalCommunityService externalCommunityService,
+                                SyncTombstoneRepository syncTombstoneRepository,
+                                @Value("${sync.settle-window-seconds:30}") long settleWindowSeconds) {
+        this.externalPlantsService = externalPlantsService;
+        this.externalCommunityService = externalCommunityService;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.settleWindow = Duration.ofSeconds(settleWindowSeconds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SyncChangeSet handle(GetChangesSinceQuery query) {
+        if (query.userId() == null) {
+            throw new IllegalArgumentException("User ID is required to synchronize");
+        }
+        Instant horizon = Instant.now().minus(settleWindow);
+        var page = new PageBuilder(query.since() != null ? query.since() : SyncToken.initial(horizon), horizon, query.limit());
+        Long userId = query.userId();
+
+        var fields = page.fill(SyncEntityType.Field,
+                (cursor, limit) -> externalPlantsService.getFieldsChangedSince(userId, cursor, limit),
+                field -> field.getUpdatedAt(), field -> field.getId());
+        var cropFields = page.fill(SyncEntityType.CropField,
+                (cursor, limit) -> externalPlantsService.getCropFieldsChangedSince(userId, cursor, limit),
+                cropField -> cropField.getUpdatedAt(), cropField -> cropField.getId());
+        var progressHistories = page.fill(SyncEntityType.ProgressHistory,
+                (cursor, limit) -> externalPlantsService.getProgressHistoriesChangedSince(userId, cursor, limit),
+                progressHistory -> progressHistory.getUpdatedAt(), progressHistory -> progressHistory.getId());
+        var tasks = page.fill(SyncEntityType.Task,
+                (cursor, limit) -> externalPlantsService.getTasksChangedSince(userId, cursor, limit),
+                task -> task.getUpdatedAt(), task -> task.getId());
+        var recommendations = page.fill(SyncEntityType.CommunityRecommendation,
+                externalCommunityService::getRecommendationsChangedSince,
+                recommendation -> recommendation.getUpdatedAt(), recommendation -> recommendation.getId());
+        var tombstones = page.fillTombstones(userId);
+
+        return new SyncChangeSet(fields, cropFields, progressHistories, tasks, recommendations, tombstones,
+                page.token, page.hasMore);
+    }
+
+    @FunctionalInterface
+    private interface DeltaFinder<T> {
+        List<T> find(SyncCursor cursor, int limit);
+    }
+
+    /**
+     * Accumulates one sync page, advancing the token cursor of every stream it reads up to the settle horizon.
+     * Only settled rows count towards the limit; the unsettled rows of a stream that has caught up are
+     * delivered on top, so re-delivering them never keeps a client paging.
+     */
+    private final class PageBuilder {
+        private SyncToken token;
+        private final Instant horizon;
+        private int remaining;
+        private boolean hasMore;
+
+        private PageBuilder(SyncToken token, Instant horizon, int limit) {
+            this.token = token;
+            this.horizon = horizon;
+            this.remaining = limit;
+        }
+
+        private <T> List<T> fill(SyncEntityType type, DeltaFinder<T> finder,
+                                 Function<T, Date> updatedAt, Function<T, Long> id) {
+            if (remaining == 0) {
+                hasMore = true;
+                return List.of();
+            }
+            List<T> rows = finder.find(token.cursorFor(type), remaining);
+            int settled = settledCount(rows, updatedAt);
+            if (settled > 0) {
+                T last = rows.get(settled - 1);
+                token = token.withCursor(type, new SyncCursor(toInstant(updatedAt.apply(last)), id.apply(last)));
+            }
+            advance(rows.size(), settled);
+            return rows;
+        }
+
+        private List<SyncTombstone> fillTombstones(Long userId) {
+            if (remaining == 0) {
+                hasMore = true;
+                return List.of();
+            }
+            SyncCursor cursor = token.tombstoneCursor();
+            List<SyncTombstone> rows = syncTombstoneRepository.findVisibleSince(userId,
+                    Timestamp.from(cursor.updatedAt()), cursor.id(), PageRequest.of(0, remaining));
+            int settled = settledCount(rows, SyncTombstone::getDeletedAt);
+            if (settled > 0) {
+                SyncTombstone last = rows.get(settled - 1);
+                token = token.withTombstoneCursor(new SyncCursor(toInstant(last.getDeletedAt()), last.getId()));
+            }
+            advance(rows.size(), settled);
+            return rows;
+        }
+
+        /**
+         * @return how many leading rows are stamped at or before the horizon (rows come in timestamp order)
+         */
+        private <T> int settledCount(List<T> rows, Function<T, Date> timestamp) {
+            int settled = 0;
+            while (settled < rows.size() && !toInstant(timestamp.apply(rows.get(settled))).isAfter(horizon)) {
+                settled++;
+            }
+            return settled;
+        }
+
+        private void advance(int read, int settled) {
+            // A full page of settled rows may be followed by more; reaching unsettled rows means the stream caught up
+            if (read == remaining && settled == read) {
+                hasMore = true;
+            }
+            remaining -= settled;
+        }
+    }
+
+    /**
+     * Converts a hydrated timestamp to an Instant.
+     * Hibernate hydrates java.util.Date columns as java.sql.Timestamp, whose toInstant() keeps the
+     * sub-millisecond precision stored by the database, so cursors never re-deliver the same row.
+     */
+    private static Instant toInstant(Date date) {
+        return date.toInstant();
+    }
+}
@@ -0,0 +1,60 @@
+package com.agroapp.platform.sync.domain.model.entities;
+
+import com.agroapp.platform.sync.domain.model.valueobjects.SyncEntityType;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * SyncTombstone Entity
+ * Compact record of a deleted row, delivered to offline clients so they can drop their local copy.
+ * Tombstones are append-only and carry the owner's userId so a sync only scans the caller's deletions
+ * (a null userId marks deletions visible to every user, such as community posts).
+ */
+@Entity
+@Getter
+@Table(indexes = {
+        @Index(name = "idx_sync_tombstones_user_id_deleted_at", columnList = "userId, deletedAt, id")
+})
+public class SyncTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private SyncEntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    private Long userId;
+
+    @Column(nullable = false)
+    private Date deletedAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public SyncTombstone() {
+    }
+
+    /**
+     * Creates a new tombstone stamped with the current time.
+     *
+     * @param entityType The kind of row that was deleted
+     * @param entityId The ID of the deleted row
+     * @param userId The owner of the deleted row (nullable for rows visible to everyone)
+     */
+    public SyncTombstone(SyncEntityType entityType, Long entityId, Long userId) {
+        if (entityType == null || entityId == null) {
+            throw new IllegalArgumentException("Tombstone requires entityType and entityId");
+        }
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.userId = userId;
+        this.deletedAt = new Date();
+    }
+}
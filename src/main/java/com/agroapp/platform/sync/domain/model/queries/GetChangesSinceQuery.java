@@ -0,0 +1,13 @@
+package com.agroapp.platform.sync.domain.model.queries;
+
+import com.agroapp.platform.sync.domain.model.valueobjects.SyncToken;
+
+/**
+ * Query for the changes visible to a user since a change token.
+ *
+ * @param userId The user whose farm data is synchronized
+ * @param since The token returned by the previous sync (null for a first full sync)
+ * @param limit Maximum number of rows (changes plus tombstones) in the page
+ */
+public record GetChangesSinceQuery(Long userId, SyncToken since, int limit) {
+}
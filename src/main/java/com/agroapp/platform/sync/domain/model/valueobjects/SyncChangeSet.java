@@ -0,0 +1,35 @@
+package com.agroapp.platform.sync.domain.model.valueobjects;
+
+import com.agroapp.platform.community.domain.model.aggregates.CommunityRecommendation;
+import com.agroapp.platform.plants.domain.model.aggregates.Field;
+import com.agroapp.platform.plants.domain.model.aggregates.Task;
+import com.agroapp.platform.plants.domain.model.entities.CropField;
+import com.agroapp.platform.plants.domain.model.entities.ProgressHistory;
+import com.agroapp.platform.sync.domain.model.entities.SyncTombstone;
+
+import java.util.List;
+
+/**
+ * One page of changes for an offline client.
+ * Changes made within the settle window are included but delivered again by the next sync.
+ *
+ * @param fields Fields changed since the token
+ * @param cropFields CropFields changed since the token
+ * @param progressHistories ProgressHistories changed since the token
+ * @param tasks Tasks changed since the token
+ * @param communityRecommendations CommunityRecommendations changed since the token
+ * @param tombstones Rows deleted since the token
+ * @param nextToken Token to send on the next request
+ * @param hasMore true if the page was filled with settled changes and more may be pending
+ */
+public record SyncChangeSet(
+        List<Field> fields,
+        List<CropField> cropFields,
+        List<ProgressHistory> progressHistories,
+        List<Task> tasks,
+        List<CommunityRecommendation> communityRecommendations,
+        List<SyncTombstone> tombstones,
+        SyncToken nextToken,
+        boolean hasMore
+) {
+}
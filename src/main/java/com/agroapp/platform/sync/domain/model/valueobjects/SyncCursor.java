@@ -0,0 +1,23 @@
+package com.agroapp.platform.sync.domain.model.valueobjects;
+
+import java.time.Instant;
+
+/**
+ * Watermark of one change stream: the (updatedAt, id) of the last row a client has received.
+ *
+ * @param updatedAt timestamp of the last delivered row (full database precision)
+ * @param id ID of the last delivered row, used to break ties between equal timestamps
+ */
+public record SyncCursor(Instant updatedAt, Long id) {
+
+    /**
+     * Cursor placed before every row, used for a first full sync.
+     */
+    public static final SyncCursor ORIGIN = new SyncCursor(Instant.EPOCH, 0L);
+
+    public SyncCursor {
+        if (updatedAt == null || id == null) {
+            throw new IllegalArgumentException("Sync cursor requires updatedAt and id");
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.agroapp.platform.sync.domain.model.valueobjects;
+
+/**
+ * Kinds of rows delivered by the delta-sync API.
+ * The declaration order is the order in which a sync page is filled.
+ */
+public enum SyncEntityType {
+    Field,
+    CropField,
+    ProgressHistory,
+    Task,
+    CommunityRecommendation
+}
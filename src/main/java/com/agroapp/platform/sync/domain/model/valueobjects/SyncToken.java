@@ -0,0 +1,116 @@
+package com.agroapp.platform.sync.domain.model.valueobjects;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Opaque, monotonic change token handed to offline clients.
+ * Holds one (updatedAt, id) cursor per synchronized entity type plus one for tombstones,
+ * so every stream resumes exactly where the previous page stopped.
+ * Serialized as URL-safe Base64 so it can travel as a query parameter.
+ */
+public record SyncToken(Map<SyncEntityType, SyncCursor> cursors, SyncCursor tombstoneCursor) {
+
+    private static final String VERSION = "1";
+
+    public SyncToken {
+        cursors = new EnumMap<>(cursors);
+        for (SyncEntityType type : SyncEntityType.values()) {
+            cursors.putIfAbsent(type, SyncCursor.ORIGIN);
+        }
+        if (tombstoneCursor == null) {
+            throw new IllegalArgumentException("Sync token requires a tombstone cursor");
+        }
+    }
+
+    /**
+     * Token for a first full sync.
+     * Entity cursors start at the origin; the tombstone cursor starts at the given instant,
+     * because rows deleted before a full sync are simply never delivered.
+     *
+     * @param since the settle horizon of the full sync, so deletions still committing are not skipped
+     * @return the initial token
+     */
+    public static SyncToken initial(Instant since) {
+        return new SyncToken(new EnumMap<>(SyncEntityType.class), new SyncCursor(since, 0L));
+    }
+
+    public SyncCursor cursorFor(SyncEntityType type) {
+        return cursors.get(type);
+    }
+
+    /**
+     * Returns a copy of this token with the cursor of one entity type advanced.
+     */
+    public SyncToken withCursor(SyncEntityType type, SyncCursor cursor) {
+        var updated = new EnumMap<>(cursors);
+        updated.put(type, cursor);
+        return new SyncToken(updated, tombstoneCursor);
+    }
+
+    /**
+     * Returns a copy of this token with the tombstone cursor advanced.
+     */
+    public SyncToken withTombstoneCursor(SyncCursor cursor) {
+        return new SyncToken(cursors, cursor);
+    }
+
+    /**
+     * Serializes the token as "1;sec:nano:id;..." encoded in URL-safe Base64.
+     *
+     * @return the opaque token string
+     */
+    public String encode() {
+        StringBuilder builder = new StringBuilder(VERSION);
+        for (SyncEntityType type : SyncEntityType.values()) {
+            appendCursor(builder, cursors.get(type));
+        }
+        appendCursor(builder, tombstoneCursor);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(builder.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Parses a token produced by {@link #encode()}.
+     *
+     * @param token the opaque token string
+     * @return the decoded token
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static SyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            String[] parts = raw.split(";");
+            SyncEntityType[] types = SyncEntityType.values();
+            if (parts.length != types.length + 2 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Unsupported sync token");
+            }
+            var cursors = new EnumMap<SyncEntityType, SyncCursor>(SyncEntityType.class);
+            for (int i = 0; i < types.length; i++) {
+                cursors.put(types[i], parseCursor(parts[i + 1]));
+            }
+            return new SyncToken(cursors, parseCursor(parts[types.length + 1]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid sync token: " + e.getMessage(), e);
+        }
+    }
+
+    private static void appendCursor(StringBuilder builder, SyncCursor cursor) {
+        builder.append(';')
+                .append(cursor.updatedAt().getEpochSecond()).append(':')
+                .append(cursor.updatedAt().getNano()).append(':')
+                .append(cursor.id());
+    }
+
+    private static SyncCursor parseCursor(String part) {
+        String[] fields = part.split(":");
+        if (fields.length != 3) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        Instant updatedAt = Instant.ofEpochSecond(Long.parseLong(fields[0]), Long.parseLong(fields[1]));
+        return new SyncCursor(updatedAt, Long.parseLong(fields[2]));
+    }
+}
@@ -0,0 +1,8 @@
+package com.agroapp.platform.sync.domain.services;
+
+import com.agroapp.platform.sync.domain.model.queries.GetChangesSinceQuery;
+import com.agroapp.platform.sync.domain.model.valueobjects.SyncChangeSet;
+
+public interface SyncQueryService {
+    SyncChangeSet handle(GetChangesSinceQuery query);
+}
@@ -0,0 +1,30 @@
+package com.agroapp.platform.sync.infrastructure.persistence.jpa.repositories;
+
+import com.agroapp.platform.sync.domain.model.entities.SyncTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+    /**
+     * Finds the tombstones visible to a user after the given (deletedAt, id) watermark.
+     *
+     * @param userId the user being synchronized
+     * @param since the deletedAt of the last tombstone already delivered
+     * @param lastId the id of the last tombstone already delivered
+     * @param pageable the page size (always the first page)
+     * @return the tombstones in watermark order
+     */
+    @Query("SELECT t FROM SyncTombstone t WHERE (t.userId = :userId OR t.userId IS NULL) " +
+            "AND (t.deletedAt > :since OR (t.deletedAt = :since AND t.id > :lastId)) " +
+            "ORDER BY t.deletedAt, t.id")
+    List<SyncTombstone> findVisibleSince(@Param("userId") Long userId, @Param("since") Date since,
+                                         @Param("lastId") Long lastId, Pageable pageable);
+}
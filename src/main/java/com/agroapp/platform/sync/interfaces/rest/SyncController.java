@@ -0,0 +1,81 @@
+package com.agroapp.platform.sync.interfaces.rest;
+
+import com.agroapp.platform.sync.domain.model.queries.GetChangesSinceQuery;
+import com.agroapp.platform.sync.domain.model.valueobjects.SyncToken;
+import com.agroapp.platform.sync.domain.services.SyncQueryService;
+import com.agroapp.platform.sync.interfaces.rest.resources.SyncChangesResource;
+import com.agroapp.platform.sync.interfaces.rest.transform.SyncChangesResourceFromChangeSetAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for delta synchronization.
+ * Lets offline-first clients download only the rows changed since their last sync.
+ */
+@RestController
+@RequestMapping("/api/v1/sync")
+@Tag(name = "Sync", description = "Delta Synchronization Endpoints")
+public class SyncController {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final SyncQueryService syncQueryService;
+
+    public SyncController(SyncQueryService syncQueryService) {
+        this.syncQueryService = syncQueryService;
+    }
+
+    /**
+     * Gets the changes visible to the authenticated user since a change token.
+     * GET /api/v1/sync?userId={userId}&since={token}
+     */
+    @Operation(
+            summary = "Get changes since a token",
+            description = "Returns the user's Fields, CropFields, ProgressHistories and Tasks, plus CommunityRecommendations, " +
+                    "changed since the given token, and tombstones for deleted rows. " +
+                    "Omit 'since' for a first full sync. Keep requesting with 'nextToken' while 'hasMore' is true, " +
+                    "then store 'nextToken' for the next reconnect. 'userId' defaults to the authenticated user " +
+                    "and may not name anyone else."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Page of changes",
+                    content = @Content(schema = @Schema(implementation = SyncChangesResource.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid or unsupported sync token"
+            ),
+            @ApiResponse(responseCode = "403", description = "userId is not the authenticated user")
+    })
+    @GetMapping
+    public ResponseEntity<SyncChangesResource> getChanges(@RequestParam(required = false) Long userId,
+                                                          @RequestParam(required = false) String since,
+                                                          @RequestParam(defaultValue = "500") int limit,
+                                                          @AuthenticationPrincipal(expression = "userId()") Long authenticatedUserId) {
+        if (userId != null && !userId.equals(authenticatedUserId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        SyncToken token;
+        try {
+            token = since == null || since.isBlank() ? null : SyncToken.decode(since);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        var query = new GetChangesSinceQuery(authenticatedUserId, token, Math.clamp(limit, 1, MAX_PAGE_SIZE));
+        var changeSet = syncQueryService.handle(query);
+
+        var changesResource = SyncChangesResourceFromChangeSetAssembler.toResourceFromChangeSet(changeSet);
+        return ResponseEntity.ok(changesResource);
+    }
+}
@@ -0,0 +1,26 @@
+package com.agroapp.platform.sync.interfaces.rest.resources;
+
+import com.agroapp.platform.community.interfaces.rest.resources.CommunityRecommendationResource;
+import com.agroapp.platform.plants.interfaces.rest.resources.CropFieldResource;
+import com.agroapp.platform.plants.interfaces.rest.resources.FieldResource;
+import com.agroapp.platform.plants.interfaces.rest.resources.ProgressHistoryResource;
+import com.agroapp.platform.plants.interfaces.rest.resources.TaskResource;
+
+import java.util.List;
+
+/**
+ * Delta-sync page returned to offline clients.
+ * Field relation ids (progressHistoryId, cropFieldId, taskIds) are not resolved here;
+ * clients rebuild them from the fieldId of the child rows they already hold.
+ */
+public record SyncChangesResource(
+        List<FieldResource> fields,
+        List<CropFieldResource> cropFields,
+        List<ProgressHistoryResource> progressHistories,
+        List<TaskResource> tasks,
+        List<CommunityRecommendationResource> communityRecommendations,
+        List<SyncTombstoneResource> tombstones,
+        String nextToken,
+        boolean hasMore
+) {
+}
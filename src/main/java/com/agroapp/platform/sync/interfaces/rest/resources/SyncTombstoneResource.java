@@ -0,0 +1,10 @@
+package com.agroapp.platform.sync.interfaces.rest.resources;
+
+/**
+ * Compact deletion marker: the client drops its local row with this type and id.
+ */
+public record SyncTombstoneResource(
+        String entityType,
+        Long entityId
+) {
+}
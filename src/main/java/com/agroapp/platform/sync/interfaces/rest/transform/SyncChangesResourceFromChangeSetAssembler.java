@@ -0,0 +1,44 @@
+package com.agroapp.platform.sync.interfaces.rest.transform;
+
+import com.agroapp.platform.community.interfaces.rest.transform.CommunityRecommendationResourceFromEntityAssembler;
+import com.agroapp.platform.plants.interfaces.rest.transform.CropFieldResourceFromEntityAssembler;
+import com.agroapp.platform.plants.interfaces.rest.transform.FieldResourceFromEntityAssembler;
+import com.agroapp.platform.plants.interfaces.rest.transform.ProgressHistoryResourceFromEntityAssembler;
+import com.agroapp.platform.plants.interfaces.rest.transform.TaskResourceFromEntityAssembler;
+import com.agroapp.platform.sync.domain.model.valueobjects.SyncChangeSet;
+import com.agroapp.platform.sync.interfaces.rest.resources.SyncChangesResource;
+import com.agroapp.platform.sync.interfaces.rest.resources.SyncTombstoneResource;
+
+import java.util.List;
+
+/**
+ * Assembler class to transform a SyncChangeSet into a SyncChangesResource (DTO).
+ * Reuses the resource assemblers of each bounded context.
+ */
+public class SyncChangesResourceFromChangeSetAssembler {
+
+    /**
+     * Transforms a SyncChangeSet into a SyncChangesResource.
+     *
+     * @param changeSet The page of changes built by the sync query service
+     * @return SyncChangesResource for REST API response
+     */
+    public static SyncChangesResource toResourceFromChangeSet(SyncChangeSet changeSet) {
+        return new SyncChangesResource(
+                changeSet.fields().stream()
+                        .map(field -> FieldResourceFromEntityAssembler.toResourceFromEntity(field, null, null, List.of()))
+                        .toList(),
+                changeSet.cropFields().stream().map(CropFieldResourceFromEntityAssembler::toResourceFromEntity).toList(),
+                changeSet.progressHistories().stream().map(ProgressHistoryResourceFromEntityAssembler::toResourceFromEntity).toList(),
+                changeSet.tasks().stream().map(TaskResourceFromEntityAssembler::toResourceFromEntity).toList(),
+                changeSet.communityRecommendations().stream()
+                        .map(CommunityRecommendationResourceFromEntityAssembler::toResourceFromEntity)
+                        .toList(),
+                changeSet.tombstones().stream()
+                        .map(tombstone -> new SyncTombstoneResource(tombstone.getEntityType().name(), tombstone.getEntityId()))
+                        .toList(),
+                changeSet.nextToken().encode(),
+                changeSet.hasMore()
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package com.agroapp.platform.community.application.internal.commandservices;
+
+import com.agroapp.platform.community.application.internal.outboundservices.acl.ExternalUserService;
+import com.agroapp.platform.community.domain.model.aggregates.CommunityRecommendation;
+import com.agroapp.platform.community.domain.model.commands.CreateReplyCommand;
+import com.agroapp.platform.community.domain.model.entities.CommunityRecommendationReply;
+import com.agroapp.platform.community.domain.services.RecommendationReplyCommandService;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class RecommendationReplyCommandServiceImplTest {
+
+    @Autowired
+    private RecommendationReplyCommandService replyCommandService;
+
+    @Autowired
+    private CommunityRecommendationRepository communityRecommendationRepository;
+
+    @MockitoBean
+    private ExternalUserService externalUserService;
+
+    @Test
+    void updateLoadedBeforeAReplyDoesNotRewindTheReplyCount() {
+        when(externalUserService.getUserNameById(8L)).thenReturn("Luis");
+        var recommendationId = communityRecommendationRepository
+                .save(new CommunityRecommendation(7L, "Ana", "Water at dawn")).getId();
+        var loadedBeforeReply = communityRecommendationRepository.findById(recommendationId).orElseThrow();
+
+        var first = replyCommandService.handle(new CreateReplyCommand(recommendationId, null, 8L, "Agreed"));
+        communityRecommendationRepository.save(loadedBeforeReply.update("Water at dawn, not at noon"));
+        var second = replyCommandService.handle(new CreateReplyCommand(recommendationId, null, 8L, "Thanks"));
+
+        assertThat(first.map(CommunityRecommendationReply::getPath)).isPresent();
+        assertThat(second.map(CommunityRecommendationReply::getPath)).isPresent().isNotEqualTo(first.map(CommunityRecommendationReply::getPath));
+        var stored = communityRecommendationRepository.findById(recommendationId).orElseThrow();
+        assertThat(stored.getReplyCount()).isEqualTo(2);
+        assertThat(stored.getComment()).isEqualTo("Water at dawn, not at noon");
+    }
+}
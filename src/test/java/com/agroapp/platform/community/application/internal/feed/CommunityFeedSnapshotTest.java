@@ -0,0 +1,88 @@
+package com.agroapp.platform.community.application.internal.feed;
+
+import com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem;
+import com.agroapp.platform.community.domain.model.valueobjects.FeedCursor;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CommunityFeedSnapshotTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Test
+    void pagesThroughACompleteSnapshotWithoutFurtherQueries() {
+        var repository = mock(CommunityRecommendationRepository.class);
+        when(repository.findFeedFirstPage(any())).thenReturn(List.of(
+                new CommunityFeedItem(3L, 7L, "user", NOW, "comment 3", null),
+                new CommunityFeedItem(2L, 7L, "user", NOW, "comment 2", null),
+                new CommunityFeedItem(1L, 7L, "user", NOW.minusMinutes(1), "comment 1", null)));
+        var snapshot = new CommunityFeedSnapshot(repository);
+
+        var first = snapshot.page(null, 2).orElseThrow();
+        assertEquals(List.of(3L, 2L), ids(first.items()));
+
+        var cursor = FeedCursor.decode(first.nextCursor().encode());
+        var second = snapshot.page(cursor, 2).orElseThrow();
+        assertEquals(List.of(1L), ids(second.items()));
+        assertNull(second.nextCursor());
+        verify(repository, times(1)).findFeedFirstPage(any());
+    }
+
+    @Test
+    void appliesNewAndUpdatedItemsAndFallsBackBeyondTheWindow() {
+        var repository = mock(CommunityRecommendationRepository.class);
+        var rows = new ArrayList<CommunityFeedItem>();
+        for (int i = CommunityFeedSnapshot.CAPACITY + 1; i > 0; i--) {
+            rows.add(new CommunityFeedItem((long) i, 7L, "user", NOW.plusMinutes(i - CommunityFeedSnapshot.CAPACITY),
+                    "comment " + i, null));
+        }
+        when(repository.findFeedFirstPage(any())).thenReturn(rows);
+        var snapshot = new CommunityFeedSnapshot(repository);
+        snapshot.page(null, 1);
+
+        snapshot.apply(new CommunityFeedItem(1_000L, 7L, "user", NOW.plusMinutes(5), "comment 1000", null));
+        snapshot.apply(new CommunityFeedItem(150L, 7L, "renamed", rows.get(51).commentDate(), "edited", null));
+
+        var head = snapshot.page(null, 1).orElseThrow();
+        assertEquals(List.of(1_000L), ids(head.items()));
+        var oldest = snapshot.page(null, CommunityFeedSnapshot.CAPACITY).orElseThrow().items().getLast();
+        assertTrue(snapshot.page(oldest.cursor(), 1).isEmpty());
+    }
+
+    @Test
+    void servesRegionsFromTheirOwnPartitions() {
+        var repository = mock(CommunityRecommendationRepository.class);
+        when(repository.findRegionFeedFirstPage(eq("cusco, peru"), any()))
+                .thenReturn(List.of(
+                        new CommunityFeedItem(2L, 7L, "user", NOW, "comment 2", "cusco, peru"),
+                        new CommunityFeedItem(1L, 7L, "user", NOW.minusMinutes(1), "comment 1", "cusco, peru")));
+        var snapshot = new CommunityFeedSnapshot(repository);
+
+        snapshot.page("cusco, peru", null, 10);
+        snapshot.apply(new CommunityFeedItem(3L, 7L, "user", NOW.plusMinutes(1), "comment 3", "cusco, peru"));
+        snapshot.apply(new CommunityFeedItem(4L, 7L, "user", NOW.plusMinutes(2), "comment 4", "lima, peru"));
+
+        var page = snapshot.page("cusco, peru", null, 10).orElseThrow();
+        assertEquals(List.of(3L, 2L, 1L), ids(page.items()));
+        assertNull(page.nextCursor());
+        verify(repository, times(1)).findRegionFeedFirstPage(eq("cusco, peru"), any());
+        verify(repository, never()).findFeedFirstPage(any());
+
+        snapshot.relocateUser(7L, "lima, peru");
+        snapshot.page("cusco, peru", null, 10);
+        verify(repository, times(2)).findRegionFeedFirstPage(eq("cusco, peru"), any());
+    }
+
+    private static List<Long> ids(List<CommunityFeedItem> items) {
+        return items.stream().map(CommunityFeedItem::id).toList();
+    }
+}
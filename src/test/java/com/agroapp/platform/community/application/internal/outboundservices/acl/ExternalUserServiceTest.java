@@ -0,0 +1,44 @@
+package com.agroapp.platform.community.application.internal.outboundservices.acl;
+
+import com.agroapp.platform.iam.domain.model.valueobjects.UserPublicProfile;
+import com.agroapp.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class ExternalUserServiceTest {
+
+    @Test
+    void findsUsersThatSignUpAfterAMissAboveTheHighestKnownId() {
+        var userRepository = mock(UserRepository.class);
+        when(userRepository.findPublicProfileById(5L)).thenReturn(Optional.of(new UserPublicProfile("Ana", null)));
+        when(userRepository.findPublicProfileById(8L)).thenReturn(Optional.empty(),
+                Optional.of(new UserPublicProfile("Luis", "Ica")));
+        var users = new ExternalUserService(userRepository, new SimpleMeterRegistry());
+
+        assertEquals("Ana", users.getUserNameById(5L));
+        assertEquals("Anonymous", users.getUserNameById(8L));
+        assertEquals("Luis", users.getUserNameById(8L));
+        assertEquals(Optional.of("Ica"), users.getPublicLocationById(8L));
+
+        verify(userRepository, times(2)).findPublicProfileById(8L);
+    }
+
+    @Test
+    void cachesUsersMissingBelowTheHighestKnownId() {
+        var userRepository = mock(UserRepository.class);
+        when(userRepository.findPublicProfileById(5L)).thenReturn(Optional.of(new UserPublicProfile("Ana", null)));
+        when(userRepository.findPublicProfileById(3L)).thenReturn(Optional.empty());
+        var users = new ExternalUserService(userRepository, new SimpleMeterRegistry());
+
+        users.getUserNameById(5L);
+        assertEquals("Anonymous", users.getUserNameById(3L));
+        assertEquals(Optional.empty(), users.getPublicLocationById(3L));
+
+        verify(userRepository, times(1)).findPublicProfileById(3L);
+    }
+}
@@ -0,0 +1,54 @@
+package com.agroapp.platform.community.application.internal.propagation;
+
+import com.agroapp.platform.community.application.internal.feed.CommunityFeedSnapshot;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationReplyRepository;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AuthorProfilePropagatorTest {
+
+    @Test
+    void appliesProfileChangesInIdRangeChunks() {
+        var repository = mock(CommunityRecommendationRepository.class);
+        var fullChunk = LongStream.rangeClosed(1, AuthorProfilePropagator.CHUNK_SIZE).boxed().toList();
+        when(repository.findIdsByUserIdAfter(eq(7L), eq(0L), any())).thenReturn(fullChunk);
+        when(repository.findIdsByUserIdAfter(eq(7L), eq((long) AuthorProfilePropagator.CHUNK_SIZE), any()))
+                .thenReturn(List.of(900L, 901L));
+        when(repository.updateAuthorByUserIdInRange(eq(7L), eq("ana"), eq("cusco, peru"), anyLong(), anyLong(), any()))
+                .thenReturn(AuthorProfilePropagator.CHUNK_SIZE, 2);
+        var propagator = new AuthorProfilePropagator(repository, mock(CommunityRecommendationReplyRepository.class),
+                mock(CommunityFeedSnapshot.class), mock(PlatformTransactionManager.class));
+
+        assertEquals(AuthorProfilePropagator.CHUNK_SIZE + 2, propagator.propagate(7L, "ana", "cusco, peru"));
+        verify(repository).updateAuthorByUserIdInRange(eq(7L), eq("ana"), eq("cusco, peru"), eq(0L),
+                eq((long) AuthorProfilePropagator.CHUNK_SIZE), any());
+        verify(repository).updateAuthorByUserIdInRange(eq(7L), eq("ana"), eq("cusco, peru"),
+                eq((long) AuthorProfilePropagator.CHUNK_SIZE), eq(901L), any());
+    }
+
+    @Test
+    void coalescesRepeatedChangesToTheLatestAndRelocatesTheFeed() {
+        var repository = mock(CommunityRecommendationRepository.class);
+        var snapshot = mock(CommunityFeedSnapshot.class);
+        when(repository.findIdsByUserIdAfter(anyLong(), anyLong(), any())).thenReturn(List.of(1L));
+        when(repository.updateAuthorByUserIdInRange(anyLong(), any(), any(), anyLong(), anyLong(), any())).thenReturn(1);
+        var propagator = new AuthorProfilePropagator(repository, mock(CommunityRecommendationReplyRepository.class),
+                snapshot, mock(PlatformTransactionManager.class));
+
+        propagator.submit(7L, "ana", "cusco, peru");
+        propagator.submit(7L, "ana maria", null);
+        propagator.drain();
+
+        verify(repository).updateAuthorByUserIdInRange(eq(7L), eq("ana maria"), isNull(), eq(0L), eq(1L), any());
+        verify(repository, never()).updateAuthorByUserIdInRange(anyLong(), eq("ana"), any(), anyLong(), anyLong(), any());
+        verify(snapshot).relocateUser(7L, null);
+    }
+}
@@ -0,0 +1,74 @@
+package com.agroapp.platform.community.application.internal.reactions;
+
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationReactionRepository;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReactionCountersTest {
+
+    @Test
+    void countsEachUserOnceAndFlushesOnlyTheNetChanges() {
+        var recommendations = mock(CommunityRecommendationRepository.class);
+        var reactions = mock(CommunityRecommendationReactionRepository.class);
+        var jdbcTemplate = mock(JdbcTemplate.class);
+        when(recommendations.existsById(1L)).thenReturn(true);
+        when(reactions.findUserIdsByRecommendationId(1L)).thenReturn(List.of(7L));
+        var counters = new ReactionCounters(recommendations, reactions, jdbcTemplate,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
+        assertEquals(Optional.of(true), counters.add(1, 8));
+        assertEquals(Optional.of(false), counters.add(1, 8));
+        assertEquals(Optional.of(true), counters.add(1, 9));
+        assertEquals(Optional.of(true), counters.remove(1, 9));
+        assertEquals(Optional.of(true), counters.remove(1, 7));
+        assertEquals(Optional.empty(), counters.add(2, 8));
+
+        var summary = counters.summary(1, 8L).orElseThrow();
+        assertEquals(1, summary.usefulCount());
+        assertTrue(summary.reactedByUser());
+        assertFalse(counters.summary(1, 7L).orElseThrow().reactedByUser());
+        verify(reactions).findUserIdsByRecommendationId(1L);
+
+        counters.flush();
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT"), argThat((List<Object[]> rows) -> rows.size() == 1 && rows.getFirst()[1].equals(8L)));
+        verify(jdbcTemplate).batchUpdate(startsWith("DELETE"), argThat((List<Object[]> rows) -> rows.size() == 2));
+
+        counters.flush();
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void reloadsTheUsersFromTheTablePlusTheQueuedChanges() {
+        var recommendations = mock(CommunityRecommendationRepository.class);
+        var reactions = mock(CommunityRecommendationReactionRepository.class);
+        when(recommendations.existsById(1L)).thenReturn(true);
+        when(reactions.findUserIdsByRecommendationId(1L)).thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+        var nanos = new AtomicLong();
+        Ticker ticker = nanos::get;
+        var counters = new ReactionCounters(recommendations, reactions, mock(JdbcTemplate.class),
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), ticker);
+
+        assertEquals(Optional.of(true), counters.add(1, 8));
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertEquals(6, counters.summary(1, null).orElseThrow().usefulCount());
+
+        // Another node saved three reactions meanwhile, and this node's reaction is saved by the flush
+        when(reactions.findUserIdsByRecommendationId(1L)).thenReturn(List.of(1L, 2L, 3L, 4L, 5L, 8L, 10L, 11L, 12L));
+        counters.flush();
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertEquals(9, counters.summary(1, null).orElseThrow().usefulCount());
+    }
+}
@@ -0,0 +1,37 @@
+package com.agroapp.platform.community.application.internal.relevance;
+
+import com.agroapp.platform.community.application.internal.outboundservices.acl.ExternalCropFieldService;
+import com.agroapp.platform.community.application.internal.outboundservices.acl.ExternalCropFieldService.GrownCrop;
+import com.agroapp.platform.community.application.internal.search.SpanishAnalyzer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InterestProfilesTest {
+
+    @Test
+    void weighsCropsAboveSoilsAndCachesUntilEvicted() {
+        var plants = mock(ExternalCropFieldService.class);
+        when(plants.getGrownCropsByUserId(7L)).thenReturn(List.of(
+                new GrownCrop("Café", "Arcilloso"),
+                new GrownCrop("café", null),
+                new GrownCrop(null, "arcillosos")));
+        var profiles = new InterestProfiles(plants, new SimpleMeterRegistry());
+
+        var profile = profiles.get(7L);
+        var expected = new String[]{SpanishAnalyzer.analyze("café").getFirst(), SpanishAnalyzer.analyze("arcilloso").getFirst()};
+        assertArrayEquals(expected, profile.terms());
+        assertEquals((float) Math.sqrt(2), profile.weights()[0], 1e-6);
+        assertEquals(1f, profile.weights()[1], 1e-6);
+
+        profiles.get(7L);
+        verify(plants, times(1)).getGrownCropsByUserId(7L);
+        profiles.evict(7L);
+        profiles.get(7L);
+        verify(plants, times(2)).getGrownCropsByUserId(7L);
+    }
+}
@@ -0,0 +1,70 @@
+package com.agroapp.platform.community.application.internal.search;
+
+import com.agroapp.platform.community.domain.model.valueobjects.SearchCursor;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    @Test
+    void foldsAccentsStopWordsAndPlurals() {
+        assertEquals(SpanishAnalyzer.analyze("roya del café"), SpanishAnalyzer.analyze("Royas en los CAFÉS"));
+        assertEquals(List.of("luz"), SpanishAnalyzer.analyze("las luces"));
+    }
+
+    @Test
+    void ranksByBm25AndPagesByCursor() {
+        var index = new InvertedIndex();
+        index.put(1, SpanishAnalyzer.analyze("Riego por goteo para el café"));
+        index.put(2, SpanishAnalyzer.analyze("Roya del café: aplicar fungicida cúprico"));
+        index.put(3, SpanishAnalyzer.analyze("Roya, roya y más roya en los cafetales"));
+        index.put(4, SpanishAnalyzer.analyze("Abonar el maíz en floración"));
+
+        var first = index.search(SpanishAnalyzer.analyze("roya café"), null, 2);
+        assertEquals(List.of(2L, 3L), first.stream().map(ScoredRecommendation::recommendationId).toList());
+
+        var last = first.getLast();
+        var second = index.search(SpanishAnalyzer.analyze("roya café"), new SearchCursor(last.score(), last.recommendationId()), 2);
+        assertEquals(List.of(1L), second.stream().map(ScoredRecommendation::recommendationId).toList());
+    }
+
+    @Test
+    void weightsQueryTerms() {
+        var index = new InvertedIndex();
+        index.put(1, SpanishAnalyzer.analyze("Café en suelo arcilloso"));
+        index.put(2, SpanishAnalyzer.analyze("Cacao en suelo arenoso"));
+        index.put(3, SpanishAnalyzer.analyze("Maíz en suelo franco"));
+
+        var terms = new String[]{SpanishAnalyzer.analyze("café").getFirst(), SpanishAnalyzer.analyze("cacao").getFirst()};
+        assertEquals(List.of(1L, 2L), index.search(terms, new float[]{2f, 1f}, null, 3).stream()
+                .map(ScoredRecommendation::recommendationId).toList());
+        assertEquals(List.of(2L, 1L), index.search(terms, new float[]{1f, 2f}, null, 3).stream()
+                .map(ScoredRecommendation::recommendationId).toList());
+    }
+
+    @Test
+    void replacesUpdatedDocumentsAndSurvivesASnapshot() throws IOException {
+        var index = new InvertedIndex();
+        index.put(1, SpanishAnalyzer.analyze("riego por aspersión"));
+        index.put(2, SpanishAnalyzer.analyze("riego por goteo"));
+        index.put(1, SpanishAnalyzer.analyze("poda de cacao"));
+
+        var bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        var restored = InvertedIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(2, restored.size());
+        assertEquals(List.of(2L), restored.search(SpanishAnalyzer.analyze("riego"), null, 10).stream()
+                .map(ScoredRecommendation::recommendationId).toList());
+        assertEquals(List.of(1L), restored.search(SpanishAnalyzer.analyze("cacao"), null, 10).stream()
+                .map(ScoredRecommendation::recommendationId).toList());
+    }
+}
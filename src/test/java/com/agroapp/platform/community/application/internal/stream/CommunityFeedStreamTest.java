@@ -0,0 +1,115 @@
+package com.agroapp.platform.community.application.internal.stream;
+
+import com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommunityFeedStreamTest {
+
+    private static final CommunityFeedItem RECOMMENDATION =
+            new CommunityFeedItem(1L, 1L, "ana", LocalDateTime.of(2026, 1, 1, 12, 0), "riego", null);
+
+    private static class RecordingSubscriber implements FeedStreamSubscriber {
+        final List<Long> sequences = new CopyOnWriteArrayList<>();
+        final List<String> ids = new CopyOnWriteArrayList<>();
+        final CountDownLatch closed = new CountDownLatch(1);
+        final CountDownLatch received;
+        volatile boolean resynced;
+
+        RecordingSubscriber(int expected) {
+            received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onEvent(FeedStreamEvent event) {
+            sequences.add(event.sequence());
+            ids.add(event.id());
+            received.countDown();
+        }
+
+        @Override
+        public void onHeartbeat() {
+        }
+
+        @Override
+        public void onResync() {
+            resynced = true;
+        }
+
+        @Override
+        public void onClose() {
+            closed.countDown();
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed.getCount() == 0;
+        }
+    }
+
+    @Test
+    void deliversNewEventsAndResumesFromLastEventId() throws InterruptedException {
+        var stream = new CommunityFeedStream(10);
+        var live = new RecordingSubscriber(3);
+        assertTrue(stream.subscribe(null, live));
+        stream.publish(RECOMMENDATION, true);
+        stream.publish(RECOMMENDATION, true);
+        stream.publish(RECOMMENDATION, false);
+        assertTrue(live.received.await(5, TimeUnit.SECONDS));
+
+        var resumed = new RecordingSubscriber(2);
+        assertTrue(stream.subscribe(live.ids.getFirst(), resumed));
+
+        assertTrue(resumed.received.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(0L, 1L, 2L), live.sequences);
+        assertEquals(List.of(1L, 2L), resumed.sequences);
+        assertEquals(live.ids.subList(1, 3), resumed.ids);
+    }
+
+    @Test
+    void asksOverrunSubscribersToResyncAndEnforcesTheLimit() throws InterruptedException {
+        var stream = new CommunityFeedStream(1);
+        assertTrue(stream.subscribe(null, new RecordingSubscriber(0)));
+        assertFalse(stream.subscribe(null, new RecordingSubscriber(0)));
+
+        stream = new CommunityFeedStream(10);
+        var first = new RecordingSubscriber(1);
+        assertTrue(stream.subscribe(null, first));
+        stream.publish(RECOMMENDATION, true);
+        assertTrue(first.received.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < CommunityFeedStream.RING_CAPACITY + 2; i++) {
+            stream.publish(RECOMMENDATION, true);
+        }
+
+        var behind = new RecordingSubscriber(0);
+        assertTrue(stream.subscribe(first.ids.getFirst(), behind));
+
+        assertTrue(behind.closed.await(5, TimeUnit.SECONDS));
+        assertTrue(behind.resynced);
+        assertTrue(behind.sequences.isEmpty());
+    }
+
+    @Test
+    void asksSubscribersResumingFromAnotherEpochOrAnUnpublishedEventToResync() throws InterruptedException {
+        var stream = new CommunityFeedStream(10);
+        var live = new RecordingSubscriber(1);
+        assertTrue(stream.subscribe(null, live));
+        stream.publish(RECOMMENDATION, true);
+        assertTrue(live.received.await(5, TimeUnit.SECONDS));
+        String epoch = live.ids.getFirst().substring(0, live.ids.getFirst().indexOf('-'));
+
+        for (String lastEventId : List.of("0", "0-0", "feedbeef-0", epoch + "-1", epoch + "-x")) {
+            var restarted = new RecordingSubscriber(0);
+            assertTrue(stream.subscribe(lastEventId, restarted));
+            assertTrue(restarted.closed.await(5, TimeUnit.SECONDS));
+            assertTrue(restarted.resynced, lastEventId);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.agroapp.platform.community.application.internal.trending;
+
+import com.agroapp.platform.community.domain.model.entities.CommunityRecommendationScore;
+import com.agroapp.platform.community.domain.model.valueobjects.EngagementKind;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationScoreRepository;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class TrendingScoreBoardTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T12:00:00Z");
+
+    @Test
+    void decaysOldEngagementAndKeepsOnlyTheHottest() {
+        var board = new TrendingScoreBoard(mock(CommunityRecommendationScoreRepository.class), mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+        // Four creations two half-lives ago are worth 1 now, less than 2 fresh views (0.5) plus a creation (1)
+        for (int i = 0; i < 4; i++) {
+            board.record(1, EngagementKind.Created, NOW.minus(TrendingScoreBoard.HALF_LIFE.multipliedBy(2)));
+        }
+        board.record(2, EngagementKind.Created, NOW);
+        board.record(2, EngagementKind.Viewed, NOW);
+        board.record(2, EngagementKind.Viewed, NOW);
+        for (long id = 100; id < 100 + TrendingScoreBoard.CAPACITY; id++) {
+            board.record(id, EngagementKind.Viewed, NOW.minus(Duration.ofDays(30)));
+        }
+
+        var hottest = board.hottest(TrendingScoreBoard.CAPACITY + 50);
+        assertEquals(TrendingScoreBoard.CAPACITY, hottest.size());
+        assertEquals(List.of(2L, 1L), hottest.subList(0, 2).stream().map(TrendingScoreBoard.Entry::recommendationId).toList());
+        assertEquals(1.5, hottest.get(0).scoreAt(NOW), 1e-9);
+        assertEquals(1.0, hottest.get(1).scoreAt(NOW), 1e-9);
+    }
+
+    @Test
+    void flushesOnlyChangedScores() {
+        var repository = mock(CommunityRecommendationScoreRepository.class);
+        var board = new TrendingScoreBoard(repository, mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+        board.record(1, EngagementKind.Created, NOW);
+
+        board.flush();
+        board.flush();
+
+        verify(repository, times(1)).saveAll(anyList());
+        assertEquals(4.0, TrendingScoreBoard.logSum(3.0, 3.0), 1e-12);
+    }
+
+    @Test
+    void movesTheNextScoreUpWhenARankedRecommendationIsDeleted() {
+        var board = new TrendingScoreBoard(mock(CommunityRecommendationScoreRepository.class), mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+        for (long id = 1; id <= TrendingScoreBoard.CAPACITY + 1; id++) {
+            board.record(id, EngagementKind.Viewed, NOW.plus(Duration.ofMinutes(id)));
+        }
+
+        board.forget(List.of((long) TrendingScoreBoard.CAPACITY + 1));
+
+        var hottest = board.hottest(TrendingScoreBoard.CAPACITY);
+        assertEquals(TrendingScoreBoard.CAPACITY, hottest.size());
+        assertEquals(TrendingScoreBoard.CAPACITY, hottest.getFirst().recommendationId());
+        assertEquals(1, hottest.getLast().recommendationId());
+    }
+
+    @Test
+    void prunesScoresFarBelowTheRankingInMemoryAndInTheTable() {
+        var repository = mock(CommunityRecommendationScoreRepository.class);
+        var board = new TrendingScoreBoard(repository, mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+        board.record(1, EngagementKind.Viewed, NOW.minus(TrendingScoreBoard.HALF_LIFE.multipliedBy(20)));
+        for (long id = 100; id < 100 + TrendingScoreBoard.CAPACITY; id++) {
+            board.record(id, EngagementKind.Viewed, NOW);
+        }
+        double floor = board.hottest(TrendingScoreBoard.CAPACITY).getLast().logScore() - TrendingScoreBoard.PRUNE_MARGIN;
+
+        board.flush();
+
+        verify(repository).deleteByLogScoreBelow(floor);
+        verify(repository).saveAll(argThat((List<CommunityRecommendationScore> saved) ->
+                saved.size() == TrendingScoreBoard.CAPACITY
+                        && saved.stream().noneMatch(score -> score.getRecommendationId() == 1L)));
+    }
+
+    @Test
+    void countsAViewOncePerViewerWithinTheViewWindow() {
+        var nanos = new AtomicLong();
+        Ticker ticker = nanos::get;
+        var board = new TrendingScoreBoard(mock(CommunityRecommendationScoreRepository.class),
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), ticker);
+
+        board.recordView(1, 7, NOW);
+        board.recordView(1, 7, NOW);
+        board.recordView(1, 8, NOW);
+        assertEquals(0.5, board.hottest(1).getFirst().scoreAt(NOW), 1e-9);
+
+        nanos.addAndGet(TrendingScoreBoard.VIEW_WINDOW.plusSeconds(1).toNanos());
+        board.recordView(1, 7, NOW);
+        assertEquals(0.75, board.hottest(1).getFirst().scoreAt(NOW), 1e-9);
+    }
+}
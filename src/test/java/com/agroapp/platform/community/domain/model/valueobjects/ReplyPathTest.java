@@ -0,0 +1,47 @@
+package com.agroapp.platform.community.domain.model.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplyPathTest {
+
+    @Test
+    void sortsThreadsDepthFirstWithSiblingsInOrder() {
+        var first = ReplyPath.of(null, 1);
+        var second = ReplyPath.of(null, 2);
+        var answerToFirst = ReplyPath.of(first, 3);
+        var late = ReplyPath.of(null, 36);
+        var nested = ReplyPath.of(answerToFirst, 37);
+
+        var paths = new ArrayList<>(List.of(late.value(), nested.value(), second.value(), answerToFirst.value(), first.value()));
+        paths.sort(null);
+
+        assertEquals(List.of(first.value(), answerToFirst.value(), nested.value(), second.value(), late.value()), paths);
+        assertEquals(3, nested.depth());
+    }
+
+    @Test
+    void boundsSubtreesBeforeTheNextSibling() {
+        var parent = ReplyPath.of(null, 35);
+        var child = ReplyPath.of(parent, 40);
+        var sibling = ReplyPath.of(null, 36);
+
+        assertTrue(child.value().compareTo(parent.value()) > 0);
+        assertTrue(child.value().compareTo(parent.subtreeEnd()) < 0);
+        assertTrue(sibling.value().compareTo(parent.subtreeEnd()) >= 0);
+    }
+
+    @Test
+    void rejectsThreadsNestedTooDeep() {
+        ReplyPath path = null;
+        for (int depth = 1; depth <= ReplyPath.MAX_DEPTH; depth++) {
+            path = ReplyPath.of(path, depth);
+        }
+        var deepest = path;
+        assertThrows(IllegalArgumentException.class, () -> ReplyPath.of(deepest, ReplyPath.MAX_DEPTH + 1));
+    }
+}
@@ -0,0 +1,111 @@
+package com.agroapp.platform.community.interfaces.rest;
+
+import com.agroapp.platform.community.application.internal.stream.CommunityFeedStream;
+import com.agroapp.platform.community.application.internal.trending.TrendingScoreBoard;
+import com.agroapp.platform.community.domain.model.valueobjects.CommunityFeedItem;
+import com.agroapp.platform.community.domain.services.CommunityRecommendationCommandService;
+import com.agroapp.platform.community.domain.services.CommunityRecommendationQueryService;
+import com.agroapp.platform.iam.application.internal.outboundservices.tokens.TokenClaims;
+import com.agroapp.platform.iam.application.internal.outboundservices.tokens.TokenService;
+import com.agroapp.platform.iam.infrastructure.authorization.sfs.configuration.WebSecurityConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CommunityRecommendationController.class)
+@Import({WebSecurityConfiguration.class, CommunityFeedStream.class})
+class CommunityRecommendationControllerTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("^id:(.+)$", Pattern.MULTILINE);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CommunityFeedStream communityFeedStream;
+
+    @MockitoBean
+    private TokenService tokenService;
+
+    @MockitoBean
+    private CommunityRecommendationCommandService communityRecommendationCommandService;
+
+    @MockitoBean
+    private CommunityRecommendationQueryService communityRecommendationQueryService;
+
+    @MockitoBean
+    private TrendingScoreBoard trendingScoreBoard;
+
+    @MockitoBean
+    private JpaMetamodelMappingContext jpaMetamodelMappingContext;
+
+    @BeforeEach
+    void signIn() {
+        when(tokenService.verify("token")).thenReturn(Optional.of(
+                new TokenClaims(7L, "ana@x.com", UUID.randomUUID(), Instant.now(), Instant.now().plusSeconds(60))));
+    }
+
+    @Test
+    void resumesTheStreamAfterTheLastEventId() throws Exception {
+        var live = mockMvc.perform(get("/api/v1/community-recommendations/stream")
+                        .header("Authorization", "Bearer token"))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+        communityFeedStream.publish(new CommunityFeedItem(1L, 7L, "ana", LocalDateTime.of(2026, 1, 1, 12, 0), "riego", null), true);
+        communityFeedStream.publish(new CommunityFeedItem(1L, 7L, "ana", LocalDateTime.of(2026, 1, 1, 12, 0), "riego corto", null), false);
+        var ids = EVENT_ID.matcher(awaitContaining(live, "riego corto")).results().map(id -> id.group(1)).toList();
+        assertEquals(2, ids.size());
+
+        var resumed = mockMvc.perform(get("/api/v1/community-recommendations/stream")
+                        .header("Authorization", "Bearer token")
+                        .header("Last-Event-ID", ids.getFirst()))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+
+        String content = awaitContaining(resumed, "riego corto");
+        assertTrue(content.contains("id:" + ids.get(1) + "\nevent:updated"), content);
+        assertFalse(content.contains("id:" + ids.getFirst() + "\n"), content);
+    }
+
+    @Test
+    void asksClientsResumingFromBeforeARestartToResync() throws Exception {
+        var restarted = mockMvc.perform(get("/api/v1/community-recommendations/stream")
+                        .header("Authorization", "Bearer token")
+                        .header("Last-Event-ID", "feedbeef-41"))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+
+        assertTrue(awaitContaining(restarted, "event:resync").contains("Missed events"));
+    }
+
+    private static String awaitContaining(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = response.getContentAsString();
+        }
+        assertTrue(content.contains(expected), content);
+        return content;
+    }
+}
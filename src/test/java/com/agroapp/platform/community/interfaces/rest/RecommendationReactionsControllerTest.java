@@ -0,0 +1,77 @@
+package com.agroapp.platform.community.interfaces.rest;
+
+import com.agroapp.platform.community.domain.model.commands.AddUsefulReactionCommand;
+import com.agroapp.platform.community.domain.model.valueobjects.ReactionSummary;
+import com.agroapp.platform.community.domain.services.RecommendationReactionCommandService;
+import com.agroapp.platform.community.domain.services.RecommendationReactionQueryService;
+import com.agroapp.platform.iam.application.internal.outboundservices.tokens.TokenClaims;
+import com.agroapp.platform.iam.application.internal.outboundservices.tokens.TokenService;
+import com.agroapp.platform.iam.infrastructure.authorization.sfs.configuration.WebSecurityConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(RecommendationReactionsController.class)
+@Import(WebSecurityConfiguration.class)
+class RecommendationReactionsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TokenService tokenService;
+
+    @MockitoBean
+    private RecommendationReactionCommandService recommendationReactionCommandService;
+
+    @MockitoBean
+    private RecommendationReactionQueryService recommendationReactionQueryService;
+
+    @MockitoBean
+    private JpaMetamodelMappingContext jpaMetamodelMappingContext;
+
+    @BeforeEach
+    void signIn() {
+        when(tokenService.verify("token")).thenReturn(Optional.of(
+                new TokenClaims(7L, "ana@x.com", UUID.randomUUID(), Instant.now(), Instant.now().plusSeconds(60))));
+    }
+
+    @Test
+    void reactsAsTheAuthenticatedUser() throws Exception {
+        when(recommendationReactionCommandService.handle(any(AddUsefulReactionCommand.class)))
+                .thenReturn(Optional.of(new ReactionSummary(3L, 1, true)));
+
+        mockMvc.perform(put("/api/v1/community-recommendations/3/reactions/useful")
+                        .header("Authorization", "Bearer token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usefulCount").value(1));
+
+        verify(recommendationReactionCommandService).handle(new AddUsefulReactionCommand(3L, 7L));
+    }
+
+    @Test
+    void refusesToReactOnBehalfOfAnotherUser() throws Exception {
+        mockMvc.perform(put("/api/v1/community-recommendations/3/reactions/useful?userId=8")
+                        .header("Authorization", "Bearer token"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put("/api/v1/community-recommendations/3/reactions/useful?userId=7"))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(recommendationReactionCommandService);
+    }
+}
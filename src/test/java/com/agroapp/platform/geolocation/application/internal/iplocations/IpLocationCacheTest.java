@@ -0,0 +1,74 @@
+package com.agroapp.platform.geolocation.application.internal.iplocations;
+
+import com.agroapp.platform.geolocation.infrastructure.external.IpApiService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class IpLocationCacheTest {
+
+    private final IpApiService ipApiService = mock(IpApiService.class);
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    void keepsUnresolvedAddressesOnlyForTheNegativeTtl() {
+        when(ipApiService.lookUpLocation("200.1.2.3")).thenReturn(Optional.of("Cusco, Peru"));
+        when(ipApiService.lookUpLocation("10.0.0.1")).thenReturn(Optional.empty());
+        var cache = new IpLocationCache(ipApiService, new SimpleMeterRegistry(), Duration.ofMinutes(60),
+                Duration.ofSeconds(30), false, nanos::get);
+
+        cache.getLocation("200.1.2.3");
+        cache.getLocation("10.0.0.1");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(31));
+
+        assertEquals(Optional.of("Cusco, Peru"), cache.getLocation("200.1.2.3"));
+        assertEquals(Optional.empty(), cache.getLocation("10.0.0.1"));
+        verify(ipApiService, times(1)).lookUpLocation("200.1.2.3");
+        verify(ipApiService, times(2)).lookUpLocation("10.0.0.1");
+    }
+
+    @Test
+    void sharesOneLookupBetweenConcurrentCallersAndPrefixNeighbours() throws Exception {
+        var release = new CountDownLatch(1);
+        when(ipApiService.lookUpLocation(anyString())).thenAnswer(invocation -> {
+            release.await();
+            return Optional.of("Lima, Peru");
+        });
+        var cache = new IpLocationCache(ipApiService, new SimpleMeterRegistry(), Duration.ofMinutes(60),
+                Duration.ofSeconds(30), true, nanos::get);
+
+        try (var callers = Executors.newFixedThreadPool(8)) {
+            var results = IntStream.range(0, 8)
+                    .mapToObj(i -> callers.submit(() -> cache.getLocation("200.1.2." + (i + 1))))
+                    .toList();
+            Thread.sleep(100);
+            release.countDown();
+            for (var result : results) {
+                assertEquals(Optional.of("Lima, Peru"), result.get());
+            }
+        }
+        verify(ipApiService, times(1)).lookUpLocation(anyString());
+        assertEquals("200.1.3.0/24", cache.keyOf("200.1.3.9"));
+        assertEquals("2001:db8::1", cache.keyOf("2001:DB8::1"));
+    }
+
+    @Test
+    void neverLooksUpAnythingButAnIpAddress() {
+        var cache = new IpLocationCache(ipApiService, new SimpleMeterRegistry(), Duration.ofMinutes(60),
+                Duration.ofSeconds(30), false, nanos::get);
+
+        assertTrue(cache.getLocation("evil.example/?x").isEmpty());
+        assertTrue(cache.getLocation("127.0.0.1").isEmpty());
+        verifyNoInteractions(ipApiService);
+    }
+}
@@ -0,0 +1,47 @@
+package com.agroapp.platform.iam.application.internal.profiles;
+
+import com.agroapp.platform.iam.domain.model.valueobjects.UserProfile;
+import com.agroapp.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class UserProfileCacheTest {
+
+    @Test
+    void servesRepeatedLookupsByIdAndEmailFromOneLoad() {
+        var repository = mock(UserRepository.class);
+        when(repository.findIdByEmail("Ana@X.com")).thenReturn(Optional.of(7L));
+        when(repository.findProfileById(7L)).thenReturn(Optional.of(
+                new UserProfile(7L, "Ana", "ana@x.com", "+51987654321", "12345678", "Cusco, Peru", true)));
+        var cache = new UserProfileCache(repository, new SimpleMeterRegistry());
+
+        assertEquals(7L, cache.getByEmail("Ana@X.com").orElseThrow().id());
+        assertEquals(7L, cache.getByEmail(" ana@x.com").orElseThrow().id());
+        assertEquals("ana@x.com", cache.getById(7L).orElseThrow().email());
+
+        verify(repository, times(1)).findIdByEmail(any());
+        verify(repository, times(1)).findProfileById(7L);
+    }
+
+    @Test
+    void neverResolvesAChangedEmailToItsFormerOwner() {
+        var repository = mock(UserRepository.class);
+        when(repository.findIdByEmail("ana@x.com")).thenReturn(Optional.of(7L), Optional.empty());
+        when(repository.findProfileById(7L)).thenReturn(
+                Optional.of(new UserProfile(7L, "Ana", "ana@x.com", "+51987654321", "12345678", "Cusco, Peru", true)),
+                Optional.of(new UserProfile(7L, "Ana", "ana@y.com", "+51987654321", "12345678", "Cusco, Peru", true)));
+        var cache = new UserProfileCache(repository, new SimpleMeterRegistry());
+        assertTrue(cache.getByEmail("ana@x.com").isPresent());
+
+        cache.invalidate(7L);
+
+        assertTrue(cache.getByEmail("ana@x.com").isEmpty());
+        assertEquals("ana@y.com", cache.getById(7L).orElseThrow().email());
+    }
+}
@@ -0,0 +1,70 @@
+package com.agroapp.platform.iam.application.internal.provisioning;
+
+import com.agroapp.platform.iam.application.internal.outboundservices.hashing.HashingService;
+import com.agroapp.platform.iam.application.internal.signup.KnownSignUpKeys;
+import com.agroapp.platform.iam.domain.model.commands.ProvisionUsersCommand;
+import com.agroapp.platform.iam.domain.model.commands.SignUpCommand;
+import com.agroapp.platform.iam.domain.model.valueobjects.UserProvisioningResult;
+import com.agroapp.platform.iam.domain.model.valueobjects.UserSignUpKeys;
+import com.agroapp.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static com.agroapp.platform.iam.domain.model.valueobjects.UserProvisioningStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserProvisionerTest {
+
+    @Test
+    void reportsEveryMemberInOrderAndInsertsOnlyTheValidNewOnes() {
+        var repository = mock(UserRepository.class);
+        when(repository.findSignUpKeysByEmails(any()))
+                .thenReturn(List.of(new UserSignUpKeys(1L, "taken@x.com", "11111111")))
+                .thenReturn(List.of(new UserSignUpKeys(9L, "ana@x.com", "12345678")));
+        var hashing = mock(HashingService.class);
+        when(hashing.encodeAll(anyList())).thenReturn(List.of("hash"));
+        var jdbc = mock(JdbcTemplate.class);
+        when(jdbc.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1});
+        var provisioner = new UserProvisioner(repository, hashing, mock(KnownSignUpKeys.class), jdbc,
+                mock(PlatformTransactionManager.class));
+
+        var results = provisioner.provision(new ProvisionUsersCommand(List.of(
+                new SignUpCommand("Ana", "Ana@X.com", "secret1", "+51987654321", "12345678", "Cusco, Peru"),
+                new SignUpCommand("Ana", "not-an-email", "secret1", "+51987654321", "22222222", "Cusco, Peru"),
+                new SignUpCommand("Ana", "ana@x.com", "secret1", "+51987654321", "33333333", "Cusco, Peru"),
+                new SignUpCommand("Ana", "taken@x.com", "secret1", "+51987654321", "44444444", "Cusco, Peru"),
+                new SignUpCommand("Ana", "long@x.com", "secret1", "+51987654321", "55555555", "x".repeat(256)))));
+
+        assertEquals(List.of(Created, Invalid, Duplicate, Duplicate, Invalid),
+                results.stream().map(UserProvisioningResult::status).toList());
+        assertEquals(List.of(1, 2, 3, 4, 5), results.stream().map(UserProvisioningResult::row).toList());
+        assertEquals(9L, results.getFirst().userId());
+        assertEquals("Email already exists", results.get(3).error());
+        assertEquals("Location is too long (max 255 characters)", results.get(4).error());
+        verify(hashing).encodeAll(List.of("secret1"));
+    }
+
+    @Test
+    void reportsRowsTakenByAConcurrentSignUpAsDuplicates() {
+        var repository = mock(UserRepository.class);
+        var hashing = mock(HashingService.class);
+        when(hashing.encodeAll(anyList())).thenReturn(List.of("hash"));
+        var jdbc = mock(JdbcTemplate.class);
+        when(jdbc.batchUpdate(anyString(), anyList())).thenThrow(new DuplicateKeyException("uk_users_email"));
+        var provisioner = new UserProvisioner(repository, hashing, mock(KnownSignUpKeys.class), jdbc,
+                mock(PlatformTransactionManager.class));
+
+        var results = provisioner.provision(new ProvisionUsersCommand(List.of(
+                new SignUpCommand("Ana", "ana@x.com", "secret1", "+51987654321", "12345678", "Cusco, Peru"))));
+
+        assertEquals(Duplicate, results.getFirst().status());
+        assertNull(results.getFirst().userId());
+        verify(jdbc, times(2)).batchUpdate(anyString(), anyList());
+    }
+}
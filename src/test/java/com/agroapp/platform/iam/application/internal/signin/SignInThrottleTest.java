@@ -0,0 +1,64 @@
+package com.agroapp.platform.iam.application.internal.signin;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SignInThrottleTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+
+    @Test
+    void slowsDownAnAccountWithADoublingDelayInsteadOfLockingIt() {
+        var throttle = new SignInThrottle(3, Duration.ofSeconds(1), Duration.ofSeconds(60), 100,
+                Duration.ofMinutes(15), ticker);
+        for (int i = 0; i < 3; i++) {
+            throttle.checkAllowed("Ana@x.com", "10.0.0." + i);
+            throttle.recordFailure("Ana@x.com", "10.0.0." + i);
+        }
+
+        var refused = assertThrows(SignInThrottledException.class, () -> throttle.checkAllowed(" ana@X.com", "10.0.0.9"));
+        assertEquals(Duration.ofSeconds(1), refused.getRetryAfter());
+        assertDoesNotThrow(() -> throttle.checkAllowed("luis@x.com", "10.0.0.9"));
+
+        nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertDoesNotThrow(() -> throttle.checkAllowed("ana@x.com", "10.0.0.9"));
+        throttle.recordFailure("ana@x.com", "10.0.0.9");
+        refused = assertThrows(SignInThrottledException.class, () -> throttle.checkAllowed("ana@x.com", "10.0.0.9"));
+        assertEquals(Duration.ofSeconds(2), refused.getRetryAfter());
+
+        for (int i = 0; i < 100; i++) {
+            throttle.recordFailure("ana@x.com", null);
+        }
+        refused = assertThrows(SignInThrottledException.class, () -> throttle.checkAllowed("ana@x.com", "10.0.0.9"));
+        assertEquals(Duration.ofSeconds(60), refused.getRetryAfter());
+        nanos.addAndGet(Duration.ofSeconds(60).toNanos());
+        assertDoesNotThrow(() -> throttle.checkAllowed("ana@x.com", "10.0.0.9"));
+
+        throttle.recordFailure("ana@x.com", null);
+        throttle.recordSuccess("ana@x.com");
+        assertDoesNotThrow(() -> throttle.checkAllowed("ana@x.com", "10.0.0.9"));
+    }
+
+    @Test
+    void refusesAnAddressSprayingManyAccounts() {
+        var throttle = new SignInThrottle(10, Duration.ofSeconds(1), Duration.ofSeconds(60), 5,
+                Duration.ofMinutes(15), ticker);
+        for (int i = 0; i < 5; i++) {
+            throttle.recordFailure("user" + i + "@x.com", "10.0.0.1");
+        }
+
+        var refused = assertThrows(SignInThrottledException.class, () -> throttle.checkAllowed("new@x.com", "10.0.0.1"));
+        assertEquals(Duration.ofMinutes(15), refused.getRetryAfter());
+        assertDoesNotThrow(() -> throttle.checkAllowed("new@x.com", "10.0.0.2"));
+        assertDoesNotThrow(() -> throttle.checkAllowed("new@x.com", null));
+
+        nanos.addAndGet(Duration.ofMinutes(15).toNanos());
+        assertDoesNotThrow(() -> throttle.checkAllowed("new@x.com", "10.0.0.1"));
+    }
+}
@@ -0,0 +1,20 @@
+package com.agroapp.platform.iam.application.internal.signup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void neverMissesAKeyAndRarelyClaimsOthers() {
+        var filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i + "@x.com"));
+
+        assertTrue(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("user" + i + "@x.com")));
+        long falsePositives = IntStream.range(0, 10_000).filter(i -> filter.mightContain("other" + i + "@x.com")).count();
+        assertTrue(falsePositives < 200, "false positives: " + falsePositives);
+    }
+}
@@ -0,0 +1,29 @@
+package com.agroapp.platform.iam.infrastructure.hashing.bcrypt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalibratedBCryptPasswordEncoderTest {
+
+    @Test
+    void asksToRehashHashesOfAnyOtherCost() {
+        var encoder = new CalibratedBCryptPasswordEncoder(6);
+
+        assertFalse(encoder.upgradeEncoding(encoder.encode("secret1")));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret1")));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(7).encode("secret1")));
+        assertTrue(encoder.matches("secret1", new BCryptPasswordEncoder(7).encode("secret1")));
+    }
+
+    @Test
+    void calibratesWithinItsBounds() {
+        assertEquals(4, CalibratedBCryptPasswordEncoder.calibrate(Duration.ZERO, 4, 8).getStrength());
+        assertEquals(8, CalibratedBCryptPasswordEncoder.calibrate(Duration.ofHours(1), 4, 8).getStrength());
+        assertThrows(IllegalArgumentException.class,
+                () -> CalibratedBCryptPasswordEncoder.calibrate(Duration.ofMillis(250), 12, 10));
+    }
+}
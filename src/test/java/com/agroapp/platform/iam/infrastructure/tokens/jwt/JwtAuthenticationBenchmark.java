@@ -0,0 +1,75 @@
+package com.agroapp.platform.iam.infrastructure.tokens.jwt;
+
+import com.agroapp.platform.iam.infrastructure.authorization.sfs.pipeline.BearerAuthorizationRequestFilter;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the per-request authentication overhead: verifying the way the token service used to
+ * (new key and parser per call), verifying with the prebuilt parser, verifying through the claims cache
+ * and the revocation denylist, and the whole bearer filter.
+ * Run after mvn test-compile with the main method below (e.g. from the IDE with the test classpath).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private JwtTokenService tokenService;
+    private BearerAuthorizationRequestFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new JwtTokenService(JwtTokenServiceTest.SECRET, 7, new SimpleMeterRegistry(), JwtTokenServiceTest.denylist());
+        filter = new BearerAuthorizationRequestFilter(tokenService);
+        token = tokenService.generateToken(42L, "ana@x.com");
+    }
+
+    @Benchmark
+    public String perCallParser() {
+        var key = Keys.hmacShaKeyFor(JwtTokenServiceTest.SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public Object prebuiltParser() {
+        return tokenService.parse(token);
+    }
+
+    @Benchmark
+    public Object cachedClaims() {
+        return tokenService.verify(token);
+    }
+
+    @Benchmark
+    public Object filter() throws ServletException, IOException {
+        var request = new MockHttpServletRequest("GET", "/api/v1/fields");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtAuthenticationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
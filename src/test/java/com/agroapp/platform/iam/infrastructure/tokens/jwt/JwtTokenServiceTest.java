@@ -0,0 +1,91 @@
+package com.agroapp.platform.iam.infrastructure.tokens.jwt;
+
+import com.agroapp.platform.iam.infrastructure.persistence.jpa.repositories.RevokedTokenRepository;
+import com.agroapp.platform.iam.infrastructure.persistence.jpa.repositories.SessionRevocationRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class JwtTokenServiceTest {
+
+    static final String SECRET = "MyVerySecureSecretKeyForJWTTokenSigningThatMustBeAtLeast256BitsLongForHS256Algorithm2025";
+
+    private final JwtTokenService tokenService = new JwtTokenService(SECRET, 7, new SimpleMeterRegistry(), denylist());
+
+    static TokenDenylist denylist() {
+        return new TokenDenylist(mock(RevokedTokenRepository.class), mock(SessionRevocationRepository.class),
+                mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void verifiesTheUserIdAndEmailOfItsOwnTokens() {
+        var token = tokenService.generateToken(42L, "ana@x.com");
+
+        var claims = tokenService.verify(token).orElseThrow();
+        assertEquals(42L, claims.userId());
+        assertEquals("ana@x.com", claims.email());
+        assertEquals(claims, tokenService.verify(token).orElseThrow());
+        assertEquals("ana@x.com", tokenService.getUsernameFromToken(token));
+    }
+
+    @Test
+    void rejectsTamperedForeignAndUserIdlessTokens() {
+        var token = tokenService.generateToken(42L, "ana@x.com");
+        var signature = token.substring(token.lastIndexOf('.') + 1);
+        var tampered = token.substring(0, token.lastIndexOf('.') + 1)
+                + (signature.charAt(0) == 'A' ? 'B' : 'A') + signature.substring(1);
+        var foreign = new JwtTokenService(SECRET.replace('M', 'N'), 7, new SimpleMeterRegistry(), denylist())
+                .generateToken(42L, "ana@x.com");
+        var withoutUserId = Jwts.builder()
+                .subject("ana@x.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertTrue(tokenService.verify(tampered).isEmpty());
+        assertTrue(tokenService.verify(foreign).isEmpty());
+        assertTrue(tokenService.verify(withoutUserId).isEmpty());
+        assertFalse(tokenService.validateToken("not-a-token"));
+    }
+
+    @Test
+    void rejectsRevokedTokensEvenWhenCached() {
+        var token = tokenService.generateToken(42L, "ana@x.com");
+        var other = tokenService.generateToken(42L, "ana@x.com");
+        var claims = tokenService.verify(token).orElseThrow();
+
+        tokenService.revoke(claims.tokenId(), claims.expiresAt());
+        assertTrue(tokenService.verify(token).isEmpty());
+        assertTrue(tokenService.verify(other).isPresent());
+
+        // Revocations have millisecond precision, and only cover tokens issued in an earlier millisecond
+        while (System.currentTimeMillis() <= tokenService.verify(other).orElseThrow().issuedAt().toEpochMilli()) {
+            Thread.onSpinWait();
+        }
+        tokenService.revokeAll(42L);
+        assertTrue(tokenService.verify(other).isEmpty());
+        assertTrue(tokenService.verify(tokenService.generateToken(7L, "luis@x.com")).isPresent());
+    }
+
+    @Test
+    void keepsTokensIssuedRightAfterSigningOutEverywhere() {
+        var before = tokenService.generateToken(42L, "ana@x.com");
+        while (System.currentTimeMillis() <= tokenService.verify(before).orElseThrow().issuedAt().toEpochMilli()) {
+            Thread.onSpinWait();
+        }
+
+        tokenService.revokeAll(42L);
+        var signedInAgain = tokenService.generateToken(42L, "ana@x.com");
+
+        assertTrue(tokenService.verify(before).isEmpty());
+        assertTrue(tokenService.verify(signedInAgain).isPresent());
+    }
+}
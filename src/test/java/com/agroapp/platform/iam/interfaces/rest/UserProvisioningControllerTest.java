@@ -0,0 +1,93 @@
+package com.agroapp.platform.iam.interfaces.rest;
+
+import com.agroapp.platform.iam.application.internal.outboundservices.tokens.TokenService;
+import com.agroapp.platform.iam.domain.model.commands.ProvisionUsersCommand;
+import com.agroapp.platform.iam.domain.model.valueobjects.UserProvisioningResult;
+import com.agroapp.platform.iam.domain.model.valueobjects.UserProvisioningStatus;
+import com.agroapp.platform.iam.domain.services.UserCommandService;
+import com.agroapp.platform.iam.infrastructure.authorization.sfs.configuration.WebSecurityConfiguration;
+import com.agroapp.platform.shared.infrastructure.configuration.HttpClientConfig;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = UserProvisioningController.class, properties = "iam.provisioning.api-key=s3cret")
+@Import({WebSecurityConfiguration.class, HttpClientConfig.class})
+class UserProvisioningControllerTest {
+
+    private static final String CSV = """
+            userName,email,phoneNumber,identificator,password
+            Ana Quispe,ana@x.com,987654321,12345678,Secret123
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TokenService tokenService;
+
+    @MockitoBean
+    private UserCommandService userCommandService;
+
+    @MockitoBean
+    private JpaMetamodelMappingContext jpaMetamodelMappingContext;
+
+    @Test
+    void provisionsWithTheConfiguredKey() throws Exception {
+        when(userCommandService.handle(any(ProvisionUsersCommand.class))).thenReturn(List.of(
+                new UserProvisioningResult(1, "ana@x.com", UserProvisioningStatus.Created, 12L, null)));
+
+        mockMvc.perform(post("/api/v1/users/provisioning")
+                        .header(UserProvisioningController.PROVISIONING_KEY_HEADER, "s3cret")
+                        .contentType("text/csv")
+                        .content(CSV))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.results[0].userId").value(12));
+    }
+
+    @Test
+    void refusesAMissingOrWrongKey() throws Exception {
+        mockMvc.perform(post("/api/v1/users/provisioning")
+                        .contentType("text/csv")
+                        .content(CSV))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/v1/users/provisioning")
+                        .header(UserProvisioningController.PROVISIONING_KEY_HEADER, "s3cre")
+                        .contentType("text/csv")
+                        .content(CSV))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(userCommandService);
+    }
+
+    @Nested
+    @TestPropertySource(properties = "iam.provisioning.api-key=")
+    class WithoutAConfiguredKey {
+
+        @Test
+        void hidesTheEndpoint() throws Exception {
+            mockMvc.perform(post("/api/v1/users/provisioning")
+                            .header(UserProvisioningController.PROVISIONING_KEY_HEADER, "")
+                            .contentType("text/csv")
+                            .content(CSV))
+                    .andExpect(status().isNotFound());
+
+            verifyNoInteractions(userCommandService);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.agroapp.platform.iam.interfaces.rest;
+
+import com.agroapp.platform.geolocation.domain.services.LocationService;
+import com.agroapp.platform.iam.application.internal.outboundservices.tokens.TokenService;
+import com.agroapp.platform.iam.domain.model.commands.SignOutCommand;
+import com.agroapp.platform.iam.domain.model.commands.SignOutEverywhereCommand;
+import com.agroapp.platform.iam.domain.services.UserCommandService;
+import com.agroapp.platform.iam.domain.services.UserQueryService;
+import com.agroapp.platform.iam.infrastructure.authorization.sfs.configuration.WebSecurityConfiguration;
+import com.agroapp.platform.iam.infrastructure.persistence.jpa.repositories.RevokedTokenRepository;
+import com.agroapp.platform.iam.infrastructure.persistence.jpa.repositories.SessionRevocationRepository;
+import com.agroapp.platform.iam.infrastructure.tokens.jwt.JwtTokenService;
+import com.agroapp.platform.iam.infrastructure.tokens.jwt.TokenDenylist;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(UsersController.class)
+@Import({WebSecurityConfiguration.class, JwtTokenService.class, TokenDenylist.class})
+class UsersControllerSignOutTest {
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @MockitoBean
+    private UserCommandService userCommandService;
+
+    @MockitoBean
+    private UserQueryService userQueryService;
+
+    @MockitoBean
+    private LocationService locationService;
+
+    @MockitoBean
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @MockitoBean
+    private SessionRevocationRepository sessionRevocationRepository;
+
+    @MockitoBean
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private JpaMetamodelMappingContext jpaMetamodelMappingContext;
+
+    @BeforeEach
+    void revokeThroughTheTokenService() {
+        doAnswer(invocation -> {
+            SignOutCommand command = invocation.getArgument(0);
+            tokenService.revoke(command.tokenId(), command.tokenExpiresAt());
+            return null;
+        }).when(userCommandService).handle(any(SignOutCommand.class));
+        doAnswer(invocation -> {
+            SignOutEverywhereCommand command = invocation.getArgument(0);
+            tokenService.revokeAll(command.userId());
+            return null;
+        }).when(userCommandService).handle(any(SignOutEverywhereCommand.class));
+    }
+
+    @Test
+    void refusesATokenOnceItIsSignedOut() throws Exception {
+        String token = tokenService.generateToken(7L, "ana@x.com");
+        String otherSession = tokenService.generateToken(7L, "ana@x.com");
+
+        mockMvc.perform(post("/api/v1/users/sign-out").header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(post("/api/v1/users/sign-out").header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/v1/users/sign-out").header("Authorization", "Bearer " + otherSession))
+                .andExpect(status().isNoContent());
+
+        verify(revokedTokenRepository, times(2)).save(any());
+    }
+
+    @Test
+    void refusesEveryEarlierTokenAfterSigningOutEverywhere() throws Exception {
+        String token = tokenService.generateToken(8L, "luis@x.com");
+        String otherSession = tokenService.generateToken(8L, "luis@x.com");
+
+        mockMvc.perform(post("/api/v1/users/sign-out-everywhere").header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(post("/api/v1/users/sign-out").header("Authorization", "Bearer " + otherSession))
+                .andExpect(status().isUnauthorized());
+
+        verify(sessionRevocationRepository).save(any());
+    }
+}
@@ -0,0 +1,100 @@
+package com.agroapp.platform.iam.interfaces.rest;
+
+import com.agroapp.platform.geolocation.domain.services.LocationService;
+import com.agroapp.platform.iam.application.internal.outboundservices.tokens.TokenClaims;
+import com.agroapp.platform.iam.application.internal.outboundservices.tokens.TokenService;
+import com.agroapp.platform.iam.application.internal.signin.SignInThrottledException;
+import com.agroapp.platform.iam.domain.model.commands.DeleteUserCommand;
+import com.agroapp.platform.iam.domain.model.commands.SignInCommand;
+import com.agroapp.platform.iam.domain.services.UserCommandService;
+import com.agroapp.platform.iam.domain.services.UserQueryService;
+import com.agroapp.platform.iam.infrastructure.authorization.sfs.configuration.WebSecurityConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(UsersController.class)
+@Import(WebSecurityConfiguration.class)
+class UsersControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TokenService tokenService;
+
+    @MockitoBean
+    private UserCommandService userCommandService;
+
+    @MockitoBean
+    private UserQueryService userQueryService;
+
+    @MockitoBean
+    private LocationService locationService;
+
+    @MockitoBean
+    private JpaMetamodelMappingContext jpaMetamodelMappingContext;
+
+    @BeforeEach
+    void signIn() {
+        when(tokenService.verify("token")).thenReturn(Optional.of(
+                new TokenClaims(7L, "ana@x.com", UUID.randomUUID(), Instant.now(), Instant.now().plusSeconds(60))));
+    }
+
+    @Test
+    void deletesOnlyTheAuthenticatedUser() throws Exception {
+        mockMvc.perform(delete("/api/v1/users/8").header("Authorization", "Bearer token"))
+                .andExpect(status().isForbidden());
+        verify(userCommandService, never()).handle(any(DeleteUserCommand.class));
+
+        mockMvc.perform(delete("/api/v1/users/7").header("Authorization", "Bearer token"))
+                .andExpect(status().isNoContent());
+        verify(userCommandService).handle(new DeleteUserCommand(7L));
+    }
+
+    @Test
+    void refusesToChangeAnotherUsersProfileOrPassword() throws Exception {
+        mockMvc.perform(put("/api/v1/users/8/profile").header("Authorization", "Bearer token")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"userName\":\"Eve\",\"isLocationPublic\":true}"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put("/api/v1/users/8/password").header("Authorization", "Bearer token")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"currentPassword\":\"secret1\",\"newPassword\":\"secret2\"}"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(userCommandService);
+    }
+
+    @Test
+    void answersAThrottledSignInWithRetryAfterKeyedOnTheSocketAddress() throws Exception {
+        when(userCommandService.handle(any(SignInCommand.class))).thenThrow(new SignInThrottledException(Duration.ofSeconds(4)));
+
+        mockMvc.perform(post("/api/v1/users/sign-in").header("X-Forwarded-For", "203.0.113.9")
+                        .with(request -> {
+                            request.setRemoteAddr("198.51.100.7");
+                            return request;
+                        })
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"email\":\"ana@x.com\",\"password\":\"wrong\"}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "4"));
+        verify(userCommandService).handle(argThat((SignInCommand command) -> "198.51.100.7".equals(command.clientAddress())));
+    }
+}
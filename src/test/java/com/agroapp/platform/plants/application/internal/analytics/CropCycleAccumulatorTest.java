@@ -0,0 +1,55 @@
+package com.agroapp.platform.plants.application.internal.analytics;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropCycleRow;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CropCycleAccumulatorTest {
+
+    private static final LocalDateTime PLANTED = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+    @Test
+    void parallelAggregationMatchesSequentialAggregation() {
+        var rows = new ArrayList<CropCycleRow>();
+        for (int i = 0; i < 10_000; i++) {
+            rows.add(new CropCycleRow((long) i, i % 3 == 0 ? "Maize" : "Potato", i % 2 == 0 ? "Loam" : "Clay",
+                    CropFieldStatus.values()[i % 3], PLANTED, PLANTED.plusDays(90 + i % 40), (i % 7) + " ha"));
+        }
+        var sequential = new CropCycleAccumulator();
+        rows.forEach(sequential::add);
+
+        var parallel = ForkJoinPool.commonPool().invoke(new CropCycleAggregationTask(rows, 0, rows.size()));
+
+        var now = Instant.now();
+        assertEquals(sequential.toAnalytics(now), parallel.toAnalytics(now));
+    }
+
+    @Test
+    void removingARowRestoresThePreviousAggregate() {
+        var accumulator = new CropCycleAccumulator();
+        accumulator.add(new CropCycleRow(1L, "Maize", "Loam", CropFieldStatus.Healthy, PLANTED, PLANTED.plusDays(100), "2,5 ha"));
+        accumulator.add(new CropCycleRow(2L, "Maize", "Clay", CropFieldStatus.Critical, PLANTED, PLANTED.plusDays(120), "3000 m2"));
+        var now = Instant.now();
+        var before = accumulator.toAnalytics(now);
+
+        var extra = new CropCycleRow(3L, " Maize ", null, CropFieldStatus.Critical, PLANTED, PLANTED.plusDays(200), "1 ha");
+        accumulator.add(extra);
+        var maize = accumulator.toAnalytics(now).crops().getFirst();
+        assertEquals(3, maize.cropFields());
+        assertEquals(2.0 / 3, maize.criticalShare(), 1e-9);
+        assertEquals(3.8, maize.totalAreaHectares(), 1e-9);
+        assertEquals(120L, maize.medianDurationDays());
+
+        accumulator.remove(extra);
+        assertEquals(before, accumulator.toAnalytics(now));
+        assertEquals(List.of("Clay", "Loam"), List.copyOf(before.cropsPerSoilType().keySet()));
+    }
+}
@@ -0,0 +1,59 @@
+package com.agroapp.platform.plants.application.internal.irrigation;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the irrigation calculators over a region-sized batch.
+ * Run after mvn test-compile with the main method below (e.g. from the IDE with the test classpath).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class IrrigationCalculatorBenchmark {
+
+    @Param({"10000", "250000"})
+    public int fields;
+
+    private IrrigationBatch batch;
+    private IrrigationCalculator scalar;
+    private IrrigationCalculator parallelStream;
+    private IrrigationCalculator vectorized;
+
+    @Setup
+    public void setUp() {
+        batch = IrrigationCalculatorTest.randomBatch(fields);
+        scalar = new ScalarIrrigationCalculator();
+        parallelStream = new ParallelStreamIrrigationCalculator();
+        vectorized = new VectorIrrigationCalculator();
+    }
+
+    @Benchmark
+    public IrrigationBatch scalar() {
+        scalar.calculate(batch, 5.0);
+        return batch;
+    }
+
+    @Benchmark
+    public IrrigationBatch parallelStream() {
+        parallelStream.calculate(batch, 5.0);
+        return batch;
+    }
+
+    @Benchmark
+    public IrrigationBatch vectorized() {
+        vectorized.calculate(batch, 5.0);
+        return batch;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(IrrigationCalculatorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,48 @@
+package com.agroapp.platform.plants.application.internal.irrigation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IrrigationCalculatorTest {
+
+    @Test
+    void everyCalculatorProducesTheScalarResult() {
+        // Odd size so vectorized loops also run their scalar tail
+        var expected = randomBatch(1_003);
+        IrrigationCalculators.scalar().calculate(expected, 5.5);
+
+        for (var calculator : new IrrigationCalculator[]{
+                IrrigationCalculators.preferred(), new ParallelStreamIrrigationCalculator()}) {
+            var batch = randomBatch(1_003);
+            calculator.calculate(batch, 5.5);
+            for (int i = 0; i < batch.size(); i++) {
+                assertEquals(expected.dailyRequirement(i), batch.dailyRequirement(i), 1e-9, calculator.getClass().getSimpleName());
+                assertEquals(expected.accumulatedDeficit(i), batch.accumulatedDeficit(i), 1e-9, calculator.getClass().getSimpleName());
+            }
+        }
+    }
+
+    @Test
+    void dailyRequirementIsEvapotranspirationTimesCoefficientTimesArea() {
+        var batch = new IrrigationBatch(1);
+        batch.set(0, 2.0, 1.2, 3.0);
+
+        IrrigationCalculators.preferred().calculate(batch, 5.0);
+
+        // 5 mm x 1.2 over 2 ha = 12 mm.ha = 120 m3 per day
+        assertEquals(120.0, batch.dailyRequirement(0), 1e-9);
+        assertEquals(360.0, batch.accumulatedDeficit(0), 1e-9);
+    }
+
+    static IrrigationBatch randomBatch(int size) {
+        var random = new Random(42);
+        var batch = new IrrigationBatch(size);
+        for (int i = 0; i < size; i++) {
+            batch.set(i, random.nextDouble() * 50, 0.8 + random.nextDouble() * 0.5, random.nextDouble() * 14);
+        }
+        return batch;
+    }
+}
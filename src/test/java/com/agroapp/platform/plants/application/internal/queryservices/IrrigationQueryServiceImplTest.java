@@ -0,0 +1,59 @@
+package com.agroapp.platform.plants.application.internal.queryservices;
+
+import com.agroapp.platform.plants.domain.model.aggregates.Field;
+import com.agroapp.platform.plants.domain.model.commands.CreateCropFieldCommand;
+import com.agroapp.platform.plants.domain.model.entities.ProgressHistory;
+import com.agroapp.platform.plants.domain.model.queries.GetIrrigationRequirementsQuery;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+import com.agroapp.platform.plants.domain.services.CropFieldCommandService;
+import com.agroapp.platform.plants.domain.services.IrrigationQueryService;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.FieldRepository;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.ProgressHistoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class IrrigationQueryServiceImplTest {
+
+    @Autowired
+    private IrrigationQueryService irrigationQueryService;
+
+    @Autowired
+    private CropFieldCommandService cropFieldCommandService;
+
+    @Autowired
+    private FieldRepository fieldRepository;
+
+    @Autowired
+    private ProgressHistoryRepository progressHistoryRepository;
+
+    @Test
+    void yieldsOneRowPerFieldWithItsLatestCrop() {
+        var now = LocalDateTime.now();
+        var fieldId = fieldRepository.save(new Field(7L, null, "Lote norte", "Valle de Tarma", "2 ha")).getId();
+        var nextFieldId = fieldRepository.save(new Field(7L, null, "Lote sur", "Valle de Tarma", "1 ha")).getId();
+        cropFieldCommandService.handle(new CreateCropFieldCommand(fieldId, "Quinua", null, null, null,
+                now.minusMonths(8), now.minusMonths(2), CropFieldStatus.Healthy));
+        cropFieldCommandService.handle(new CreateCropFieldCommand(fieldId, "Maíz", null, null, null,
+                now.minusMonths(1), null, CropFieldStatus.Healthy));
+        progressHistoryRepository.save(new ProgressHistory(fieldId, now.minusDays(2), now, now));
+
+        var firstPage = irrigationQueryService.handle(new GetIrrigationRequirementsQuery("valle de tarma", 5.0, null, 1));
+        var secondPage = irrigationQueryService.handle(
+                new GetIrrigationRequirementsQuery("valle de tarma", 5.0, firstPage.nextAfterFieldId(), 1));
+
+        assertEquals(1, firstPage.requirements().size());
+        var requirement = firstPage.requirements().getFirst();
+        assertEquals(fieldId, requirement.fieldId());
+        assertEquals(1.20, requirement.cropCoefficient(), 1e-9);
+        assertEquals(2.0, requirement.daysSinceWatering(), 0.01);
+        assertEquals(fieldId, firstPage.nextAfterFieldId());
+        assertEquals(nextFieldId, secondPage.requirements().getFirst().fieldId());
+        assertNull(secondPage.nextAfterFieldId());
+    }
+}
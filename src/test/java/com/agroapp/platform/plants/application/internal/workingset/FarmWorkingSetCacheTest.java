@@ -0,0 +1,58 @@
+package com.agroapp.platform.plants.application.internal.workingset;
+
+import com.agroapp.platform.plants.domain.model.aggregates.Field;
+import com.agroapp.platform.plants.domain.model.aggregates.Task;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.CropFieldRepository;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.FieldRepository;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.ProgressHistoryRepository;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FarmWorkingSetCacheTest {
+
+    private final FieldRepository fieldRepository = mock(FieldRepository.class);
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final FarmWorkingSetCache cache = new FarmWorkingSetCache(fieldRepository, mock(CropFieldRepository.class),
+            mock(ProgressHistoryRepository.class), taskRepository, mock(PlatformTransactionManager.class),
+            new SimpleMeterRegistry(), 60, 5_000);
+
+    FarmWorkingSetCacheTest() {
+        var field = mock(Field.class);
+        when(field.getId()).thenReturn(3L);
+        var task = mock(Task.class);
+        when(task.getFieldId()).thenReturn(3L);
+        when(fieldRepository.findByUserId(7L)).thenReturn(List.of(field));
+        when(taskRepository.findByOwnerUserId(7L)).thenReturn(List.of(task));
+    }
+
+    @Test
+    void servesThePrefetchedWorkingSetByUserAndByField() {
+        assertTrue(cache.find(7L).isEmpty());
+
+        cache.prefetch(7L);
+
+        assertEquals(1, cache.find(7L).orElseThrow().fields().size());
+        assertEquals(1, cache.findByFieldId(3L).orElseThrow().tasks(3L).size());
+        assertTrue(cache.findByFieldId(4L).isEmpty());
+        cache.prefetch(7L);
+        verify(fieldRepository, times(1)).findByUserId(7L);
+    }
+
+    @Test
+    void dropsTheWorkingSetWhenOneOfItsFieldsChanges() {
+        cache.prefetch(7L);
+        assertTrue(cache.find(7L).isPresent());
+
+        cache.invalidateField(3L);
+
+        assertTrue(cache.find(7L).isEmpty());
+        assertTrue(cache.findByFieldId(3L).isEmpty());
+    }
+}
@@ -0,0 +1,26 @@
+package com.agroapp.platform.plants.domain.model.entities;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropAttributeKind;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CropAttributeTest {
+
+    @Test
+    void normalizeIgnoresCaseAccentsAndRepeatedWhitespace() {
+        assertEquals("maiz amarillo", CropAttribute.normalize("  Maíz   AMARILLO "));
+        assertEquals(CropAttribute.normalize("Franco Arcilloso"), CropAttribute.normalize("franco arcillóso"));
+        assertEquals("", CropAttribute.normalize(null));
+        assertEquals("", CropAttribute.normalize("   "));
+    }
+
+    @Test
+    void newEntryKeepsTheWrittenFormAsDisplayName() {
+        var attribute = new CropAttribute(CropAttributeKind.Crop, "  Maíz  Amarillo ");
+
+        assertEquals("Maíz Amarillo", attribute.getDisplayName());
+        assertEquals("maiz amarillo", attribute.getNormalizedValue());
+        assertThrows(IllegalArgumentException.class, () -> new CropAttribute(CropAttributeKind.Crop, " "));
+    }
+}
@@ -0,0 +1,30 @@
+package com.agroapp.platform.plants.domain.model.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldAreaTest {
+
+    @Test
+    void readsEitherSeparatorAsDecimalAndTheOtherAsThousands() {
+        assertEquals(2.5, FieldArea.parse("2,5 hectáreas").orElseThrow().hectares(), 1e-9);
+        assertEquals(0.3, FieldArea.parse("3000 m2").orElseThrow().hectares(), 1e-9);
+        assertEquals(0.150075, FieldArea.parse("1.500,75 m2").orElseThrow().hectares(), 1e-9);
+        assertEquals(0.150075, FieldArea.parse("1,500.75 m2").orElseThrow().hectares(), 1e-9);
+        assertEquals(100.0, FieldArea.parse("1.000.000 m2").orElseThrow().hectares(), 1e-9);
+        assertEquals(0.5, FieldArea.parse("0,500 ha").orElseThrow().hectares(), 1e-9);
+    }
+
+    @Test
+    void refusesAmbiguousOrMalformedNumbers() {
+        assertEquals(Optional.empty(), FieldArea.parse("1,000 m2"));
+        assertEquals(Optional.empty(), FieldArea.parse("2.500 ha"));
+        assertEquals(Optional.empty(), FieldArea.parse("1,00,000 m2"));
+        assertEquals(Optional.empty(), FieldArea.parse("1,234,5,6 m2"));
+        assertEquals(Optional.empty(), FieldArea.parse("1.000,5,3 ha"));
+        assertEquals(Optional.empty(), FieldArea.parse("grande"));
+    }
+}
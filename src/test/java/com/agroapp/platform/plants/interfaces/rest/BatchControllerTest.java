@@ -0,0 +1,89 @@
+package com.agroapp.platform.plants.interfaces.rest;
+
+import com.agroapp.platform.iam.application.internal.outboundservices.tokens.TokenClaims;
+import com.agroapp.platform.iam.application.internal.outboundservices.tokens.TokenService;
+import com.agroapp.platform.iam.infrastructure.authorization.sfs.configuration.WebSecurityConfiguration;
+import com.agroapp.platform.plants.application.internal.commandservices.BatchOperationFailedException;
+import com.agroapp.platform.plants.domain.model.commands.BatchCommand;
+import com.agroapp.platform.plants.domain.services.BatchCommandService;
+import com.agroapp.platform.plants.domain.services.ProgressHistoryQueryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BatchController.class)
+@Import(WebSecurityConfiguration.class)
+class BatchControllerTest {
+
+    private static final String BATCH = """
+            {"operations": [
+              {"type": "CreateTask", "ref": "water", "fieldId": 3, "description": "Riego", "dueDate": "2026-03-01T08:00:00"},
+              {"type": "CreateTask", "ref": "weed", "fieldId": 4, "description": "Deshierbe", "dueDate": "2026-03-02T08:00:00"}
+            ]}""";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TokenService tokenService;
+
+    @MockitoBean
+    private BatchCommandService batchCommandService;
+
+    @MockitoBean
+    private ProgressHistoryQueryService progressHistoryQueryService;
+
+    @MockitoBean
+    private JpaMetamodelMappingContext jpaMetamodelMappingContext;
+
+    @BeforeEach
+    void signIn() {
+        when(tokenService.verify("token")).thenReturn(Optional.of(
+                new TokenClaims(7L, "ana@x.com", UUID.randomUUID(), Instant.now(), Instant.now().plusSeconds(60))));
+    }
+
+    @Test
+    void namesTheOperationTargetingAMissingField() throws Exception {
+        when(batchCommandService.handle(any(BatchCommand.class)))
+                .thenThrow(new BatchOperationFailedException(1, "weed", "Field with id 4 not found", true));
+
+        mockMvc.perform(post("/api/v1/batch")
+                        .header("Authorization", "Bearer token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BATCH))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.index").value(1))
+                .andExpect(jsonPath("$.ref").value("weed"))
+                .andExpect(jsonPath("$.message").value("Field with id 4 not found"));
+    }
+
+    @Test
+    void namesTheOperationThatCouldNotBeCreated() throws Exception {
+        when(batchCommandService.handle(any(BatchCommand.class)))
+                .thenThrow(new BatchOperationFailedException(0, "water", "Task could not be created", false));
+
+        mockMvc.perform(post("/api/v1/batch")
+                        .header("Authorization", "Bearer token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BATCH))
+                .andExpect(status().isUnprocessableContent())
+                .andExpect(jsonPath("$.index").value(0))
+                .andExpect(jsonPath("$.ref").value("water"));
+    }
+}
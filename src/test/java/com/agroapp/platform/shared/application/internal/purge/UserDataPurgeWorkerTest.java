@@ -0,0 +1,49 @@
+package com.agroapp.platform.shared.application.internal.purge;
+
+import com.agroapp.platform.shared.domain.model.entities.UserDataPurge;
+import com.agroapp.platform.shared.infrastructure.persistence.jpa.repositories.UserDataPurgeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class UserDataPurgeWorkerTest {
+
+    @Test
+    void purgesChunkByChunkAndRecordsProgressUntilNothingIsLeft() {
+        var repository = mock(UserDataPurgeRepository.class);
+        var purge = new UserDataPurge(7L, "plants");
+        when(repository.findById(1L)).thenReturn(Optional.of(purge));
+        when(repository.save(purge)).thenReturn(purge);
+        var purger = mock(UserDataPurger.class);
+        when(purger.scope()).thenReturn("plants");
+        when(purger.purgeChunk(7L)).thenReturn(100, 40, 0);
+        var worker = new UserDataPurgeWorker(repository, List.of(purger), mock(PlatformTransactionManager.class));
+
+        worker.run(1L);
+
+        assertTrue(purge.isCompleted());
+        assertEquals(140, purge.getDeletedRows());
+        assertEquals(2, purge.getChunks());
+        verify(purger, times(3)).purgeChunk(7L);
+    }
+
+    @Test
+    void leavesCompletedPurgesAlone() {
+        var repository = mock(UserDataPurgeRepository.class);
+        var purge = new UserDataPurge(7L, "plants").complete();
+        when(repository.findById(1L)).thenReturn(Optional.of(purge));
+        var purger = mock(UserDataPurger.class);
+        when(purger.scope()).thenReturn("plants");
+        var worker = new UserDataPurgeWorker(repository, List.of(purger), mock(PlatformTransactionManager.class));
+
+        worker.run(1L);
+
+        verify(purger, never()).purgeChunk(any());
+    }
+}
@@ -0,0 +1,63 @@
+package com.agroapp.platform.sync.application.internal.queryservices;
+
+import com.agroapp.platform.plants.domain.model.aggregates.Field;
+import com.agroapp.platform.sync.application.internal.outboundservices.acl.ExternalCommunityService;
+import com.agroapp.platform.sync.application.internal.outboundservices.acl.ExternalPlantsService;
+import com.agroapp.platform.sync.domain.model.queries.GetChangesSinceQuery;
+import com.agroapp.platform.sync.domain.model.valueobjects.SyncCursor;
+import com.agroapp.platform.sync.domain.model.valueobjects.SyncEntityType;
+import com.agroapp.platform.sync.infrastructure.persistence.jpa.repositories.SyncTombstoneRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SyncQueryServiceImplTest {
+
+    private final ExternalPlantsService externalPlantsService = mock(ExternalPlantsService.class);
+    private final SyncQueryServiceImpl syncQueryService = new SyncQueryServiceImpl(externalPlantsService,
+            mock(ExternalCommunityService.class), mock(SyncTombstoneRepository.class), 30);
+
+    @Test
+    void holdsTheCursorBackAtChangesStillWithinTheSettleWindow() {
+        var settled = mock(Field.class);
+        when(settled.getId()).thenReturn(1L);
+        when(settled.getUpdatedAt()).thenReturn(Date.from(Instant.now().minusSeconds(60)));
+        var recent = mock(Field.class);
+        when(recent.getId()).thenReturn(2L);
+        when(recent.getUpdatedAt()).thenReturn(Date.from(Instant.now().minusSeconds(1)));
+        when(externalPlantsService.getFieldsChangedSince(eq(7L), any(), anyInt())).thenReturn(List.of(settled, recent));
+
+        var changeSet = syncQueryService.handle(new GetChangesSinceQuery(7L, null, 10));
+
+        assertEquals(List.of(settled, recent), changeSet.fields());
+        assertEquals(new SyncCursor(settled.getUpdatedAt().toInstant(), 1L),
+                changeSet.nextToken().cursorFor(SyncEntityType.Field));
+        assertFalse(changeSet.hasMore());
+    }
+
+    @Test
+    void keepsPagingOnlyWhileFullPagesOfSettledChangesArrive() {
+        var recent = mock(Field.class);
+        when(recent.getId()).thenReturn(2L);
+        when(recent.getUpdatedAt()).thenReturn(Date.from(Instant.now().minusSeconds(1)));
+        when(externalPlantsService.getFieldsChangedSince(eq(7L), any(), anyInt())).thenReturn(List.of(recent));
+
+        var caughtUp = syncQueryService.handle(new GetChangesSinceQuery(7L, null, 1));
+
+        assertEquals(SyncCursor.ORIGIN, caughtUp.nextToken().cursorFor(SyncEntityType.Field));
+        assertFalse(caughtUp.hasMore());
+
+        var settled = mock(Field.class);
+        when(settled.getId()).thenReturn(1L);
+        when(settled.getUpdatedAt()).thenReturn(Date.from(Instant.now().minusSeconds(60)));
+        when(externalPlantsService.getFieldsChangedSince(eq(7L), any(), anyInt())).thenReturn(List.of(settled));
+
+        assertTrue(syncQueryService.handle(new GetChangesSinceQuery(7L, null, 1)).hasMore());
+    }
+}
@@ -0,0 +1,29 @@
+package com.agroapp.platform.sync.domain.model.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyncTokenTest {
+
+    @Test
+    void encodeAndDecodeKeepsEveryCursorWithNanosecondPrecision() {
+        var updatedAt = Instant.ofEpochSecond(1_760_000_000L, 123_456_789);
+        var token = SyncToken.initial(Instant.ofEpochSecond(1_760_000_100L))
+                .withCursor(SyncEntityType.Task, new SyncCursor(updatedAt, 42L));
+
+        var decoded = SyncToken.decode(token.encode());
+
+        assertEquals(new SyncCursor(updatedAt, 42L), decoded.cursorFor(SyncEntityType.Task));
+        assertEquals(SyncCursor.ORIGIN, decoded.cursorFor(SyncEntityType.Field));
+        assertEquals(token.tombstoneCursor(), decoded.tombstoneCursor());
+    }
+
+    @Test
+    void decodeRejectsMalformedTokens() {
+        assertThrows(IllegalArgumentException.class, () -> SyncToken.decode("not-a-token"));
+        assertThrows(IllegalArgumentException.class, () -> SyncToken.decode("%%%"));
+    }
+}